@@ -15,10 +15,14 @@
  ******************************************************************************/
 package com.badlogic.gdx.backends.jogamp;
 
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3NativesLoader;
 import com.badlogic.gdx.backends.lwjgl3.audio.OpenALLwjgl3Audio;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.jogamp.opengl.GLAutoDrawable;
 
@@ -139,9 +143,18 @@ public abstract class JoglApplicationBase implements Application {
         return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
     }
 
+    /**
+     * @return the bytes of the direct and mapped NIO buffers the JVM allocated plus the unsafe buffers allocated through
+     *         {@link BufferUtils}, which hold most vertex and index data. Native allocations made elsewhere, e.g. the pixels of
+     *         pixmaps, aren't included. The video memory of the GL objects is estimated by {@link JoglResourceTrackingGL}.
+     */
     @Override
     public long getNativeHeap() {
-        return getJavaHeap();
+        long used = BufferUtils.getAllocatedBytesUnsafe();
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            used += Math.max(pool.getMemoryUsed(), 0);
+        }
+        return used;
     }
 
     /**
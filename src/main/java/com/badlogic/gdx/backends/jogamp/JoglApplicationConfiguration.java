@@ -26,6 +26,68 @@ public abstract class JoglApplicationConfiguration {
 	public static boolean disableAudio;
 	/** whether to attempt use OpenGL ES 3.0. **/
 	public boolean useGL30 = false;
+	/** whether to emulate client side vertex and index arrays with internal buffers, see {@link JoglClientArrayEmulationGL}. This
+	 * lets the GL20 path run on a core profile context, which is requested instead of a GL2 or GLES2 one then. **/
+	public boolean emulateClientArrays = false;
+	/** whether to mirror the GL state on the Java side and drop redundant state changes, see {@link JoglStateShadowingGL} **/
+	public boolean shadowGLState = false;
+	/** the maximum number of vertex array objects the attribute layouts of the meshes are cached in with GL30, see
+	 * {@link JoglVertexArrayCachingGL}. 0 disables the cache. **/
+	public int vertexArrayCacheSize = 0;
+	/** the maximum number of sampler objects the filter and wrap parameters of the textures are interned in with GL30, see
+	 * {@link JoglSamplerCachingGL}. 0 disables the cache. **/
+	public int samplerCacheSize = 0;
+	/** whether to compile identical shaders and link identical programs only once and share them, see
+	 * {@link JoglProgramSharingGL}. Each program keeps its own uniform values, which are put into the shared object when it's
+	 * used. **/
+	public boolean sharePrograms = false;
+	/** whether to remember the uniform values of each program and drop uploads of unchanged values, see
+	 * {@link JoglUniformCachingGL} **/
+	public boolean cacheUniforms = false;
+	/** whether to introspect each linked program once and answer the attribute and uniform queries from a table, see
+	 * {@link JoglProgramReflectionGL} **/
+	public boolean cacheProgramReflection = false;
+	/** whether to keep a registry of the live textures, buffers and renderbuffers with their estimated sizes, see
+	 * {@link JoglResourceTrackingGL} **/
+	public boolean trackGLResources = false;
+	/** whether the registry of {@link #trackGLResources} records where each object was generated, to find leaked ones **/
+	public boolean traceGLResources = false;
+	/** the local directory the binaries of the linked programs are stored in and loaded from on later runs, see
+	 * {@link JoglProgramBinaryCachingGL}. Null disables the cache. **/
+	public String programBinaryCachePath = null;
+	/** the local file the extensions and limits of the context are stored in, for the next run to load them before its context
+	 * is created, see {@link JoglGLCapabilities#load(com.badlogic.gdx.files.FileHandle)}. Null disables storing them. **/
+	public String glCapabilitiesPath = null;
+	/** whether to run the application on a logic thread which records the GL calls of a frame while the GL thread replays the
+	 * previous one, see {@link JoglRecordingGL}. Calls returning a value stall until the GL thread caught up. **/
+	public boolean deferredRendering = false;
+	/** initial size in bytes of the buffers the frames are recorded into with {@link #deferredRendering}, they grow as needed **/
+	public int commandBufferSize = 256 * 1024;
+	/** number of background contexts sharing their objects with the main one, to create resources without blocking the render
+	 * loop, see {@link JoglGLWorkerPool}. 0 disables the pool. **/
+	public int glWorkers = 0;
+	/** whether to start with the per frame GL counters enabled, see {@link JoglGraphicsBase#setGLProfilingEnabled(boolean)} **/
+	public boolean profileGL = false;
+	/** the number of occlusion query objects the backend pools, see {@link JoglOcclusionQueryPool} **/
+	public int maxOcclusionQueries = 256;
+	/** the size in bytes of the uniform blocks shared by all programs with GL30, see {@link JoglUniformBufferManager}. 0
+	 * disables the manager, which is also left out on contexts without sync objects (GL 3.2, GLES 3.0 or GL_ARB_sync). **/
+	public int uniformBufferSize = 0;
+	/** whether to measure the GPU time of each frame and of the passes the application marks, see {@link JoglGPUTimer}.
+	 * Ignored if the context doesn't support timer queries. **/
+	public boolean gpuTimers = false;
+	/** whether to create a debug context and route the messages of its debug output, including the performance warnings of the
+	 * driver, to the application logger, see {@link JoglGLDebugRouter} **/
+	public boolean debugGL = false;
+	/** the maximum number of GL debug messages logged per second with {@link #debugGL}, 0 for no limit **/
+	public int debugGLMessagesPerSecond = 20;
+	/** how the GL calls are checked for errors, one of the LEVEL constants of {@link JoglValidatingGL}. The sampled level is cheap
+	 * enough to be left on, the full one calls glGetError after every call. **/
+	public int glValidation = JoglValidatingGL.LEVEL_OFF;
+	/** the number of calls between two checks of the sampled {@link #glValidation} **/
+	public int glValidationCallInterval = 256;
+	/** the number of frames between two frames checked in full by the sampled {@link #glValidation}, 0 for none **/
+	public int glValidationFrameInterval = 0;
 	/** number of bits per color channel **/
 	public int r = 8, g = 8, b = 8, a = 8;
 	/** number of bits for depth and stencil buffer **/
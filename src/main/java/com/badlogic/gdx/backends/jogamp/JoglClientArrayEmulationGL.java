@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL2ES3;
+
+/** Emulates client side vertex and index arrays, which core profile contexts don't support, so the GL20 path can run on them.
+ * The arrays passed to {@link #glVertexAttribPointer(int, int, int, boolean, int, Buffer)} are remembered and streamed into an
+ * internal vertex buffer right before a draw call, {@link #glDrawElements(int, int, int, Buffer)} streams the indices into an
+ * internal index buffer. Attributes sharing the same interleaved buffer are uploaded once per draw. On core contexts a vertex
+ * array object is bound as well, as core profiles don't have a default one.
+ * <p>
+ * The application's buffer bindings are restored after each emulated draw. The shaders and texture formats still have to be
+ * valid on the context, core profiles neither accept the GLSL versions of GL2 and GLES2 nor luminance and alpha textures. */
+public class JoglClientArrayEmulationGL extends JoglGLDelegate {
+	/** the initial size in bytes of the internal buffers, they grow as needed **/
+	private static final int INITIAL_SIZE = 64 * 1024;
+	/** the maximum number of vertex attributes emulated **/
+	private static final int MAX_ATTRIBUTES = 32;
+
+	/** The state of a vertex attribute sourced from a client side array. */
+	static class ClientArray {
+		int size;
+		int type;
+		boolean normalized;
+		int stride;
+		Buffer buffer;
+		/** the position of the buffer when the pointer was set, in elements of the buffer **/
+		int position;
+		boolean uploaded;
+		/** the range of the buffer uploaded for the draw, in bytes, set on the first attribute sourced from the buffer **/
+		int start, end;
+	}
+
+	/** A region of the internal vertex or index buffer, written once per draw and orphaned when it's full. */
+	static class StreamBuffer {
+		int buffer;
+		int capacity;
+		int offset;
+	}
+
+	private final JoglGL20 backend;
+	private final ClientArray[] arrays = new ClientArray[MAX_ATTRIBUTES];
+	/** the attributes which are enabled and sourced from a client side array **/
+	private long clientMask;
+	private long enabledMask;
+	private final StreamBuffer vertices = new StreamBuffer();
+	private final StreamBuffer indices = new StreamBuffer();
+	private int arrayBuffer;
+	/** the element array buffer bound by the application, -1 if unknown after it bound a vertex array object **/
+	private int elementBuffer;
+	/** the vertex array object bound in place of 0 on core contexts **/
+	private int vertexArray;
+	private final IntBuffer params = Buffers.newDirectIntBuffer(1);
+	private long uploadBytes;
+	private int emulatedDraws;
+
+	/** @param gl the instance the calls are forwarded to
+	 * @param backend the backend instance behind it, to create the vertex array object */
+	public JoglClientArrayEmulationGL (GL20 gl, JoglGL20 backend) {
+		super(gl);
+		this.backend = backend;
+		for (int i = 0; i < MAX_ATTRIBUTES; i++)
+			arrays[i] = new ClientArray();
+	}
+
+	/** Forgets the internal buffers and the tracked bindings, to be called after the backend has been bound to a new context. */
+	public void invalidate () {
+		vertices.buffer = 0;
+		vertices.capacity = 0;
+		indices.buffer = 0;
+		indices.capacity = 0;
+		vertexArray = 0;
+		arrayBuffer = 0;
+		elementBuffer = 0;
+		clientMask = 0;
+		enabledMask = 0;
+		for (int i = 0; i < MAX_ATTRIBUTES; i++)
+			arrays[i].buffer = null;
+	}
+
+	/** @return the bytes of client side arrays uploaded into the internal buffers */
+	public long getUploadBytes () {
+		return uploadBytes;
+	}
+
+	/** @return the number of draw calls which sourced client side arrays */
+	public int getEmulatedDraws () {
+		return emulatedDraws;
+	}
+
+	public void resetCounters () {
+		uploadBytes = 0;
+		emulatedDraws = 0;
+	}
+
+	/** Binds the vertex array object core profiles need before any vertex state is set. */
+	private void ensureVertexArray () {
+		if (vertexArray != 0 || !backend.gl.isGLcore()) return;
+		final GL2ES3 gl2es3 = backend.gl.getGL2ES3();
+		params.clear();
+		gl2es3.glGenVertexArrays(1, params);
+		vertexArray = params.get(0);
+		gl2es3.glBindVertexArray(vertexArray);
+	}
+
+	@Override
+	public void prepareDraw () {
+		ensureVertexArray();
+		super.prepareDraw();
+	}
+
+	private static int elementSize (Buffer buffer) {
+		if (buffer instanceof ByteBuffer) return 1;
+		if (buffer instanceof ShortBuffer) return 2;
+		if (buffer instanceof LongBuffer || buffer instanceof DoubleBuffer) return 8;
+		// int, float
+		return 4;
+	}
+
+	private static int typeSize (int type) {
+		switch (type) {
+		case GL_BYTE:
+		case GL_UNSIGNED_BYTE:
+			return 1;
+		case GL_SHORT:
+		case GL_UNSIGNED_SHORT:
+		case GL_HALF_FLOAT:
+			return 2;
+		default:
+			return 4;
+		}
+	}
+
+	/** @return the size rounded up to 16 bytes, which keeps the attribute offsets aligned for every type */
+	private static int align (int size) {
+		return (size + 15) & ~15;
+	}
+
+	/** Reserves size bytes in the stream buffer, orphaning it if it's full, and leaves it bound to the target.
+	 * @return the offset of the reserved bytes */
+	private int reserve (StreamBuffer stream, int target, int size) {
+		if (stream.buffer == 0) stream.buffer = gl20.glGenBuffer();
+		gl20.glBindBuffer(target, stream.buffer);
+		final int offset = align(stream.offset);
+		if (offset + size <= stream.capacity) {
+			stream.offset = offset + size;
+			return offset;
+		}
+		stream.capacity = Math.max(stream.capacity, Math.max(size, INITIAL_SIZE));
+		if (stream.capacity < size * 4) stream.capacity = Integer.highestOneBit(size * 4 - 1) << 1;
+		gl20.glBufferData(target, stream.capacity, null, GL_STREAM_DRAW);
+		stream.offset = size;
+		return 0;
+	}
+
+	/** Uploads the enabled client side arrays and points the attributes at their copies. The space for all of them is reserved
+	 * at once, as orphaning the vertex buffer between two arrays would leave the earlier ones pointing at the dropped store.
+	 * @param vertexCount the number of vertices the draw call sources, -1 to upload the arrays up to their limit
+	 * @return false if no enabled attribute is sourced from a client side array */
+	private boolean uploadArrays (int vertexCount) {
+		final long mask = clientMask & enabledMask;
+		if (mask == 0) return false;
+		for (int i = 0; i < MAX_ATTRIBUTES; i++) {
+			arrays[i].uploaded = false;
+			arrays[i].start = arrays[i].end = 0;
+		}
+		int size = 0;
+		for (int i = 0; i < MAX_ATTRIBUTES; i++) {
+			if ((mask & (1L << i)) == 0 || arrays[i].uploaded) continue;
+			final Buffer buffer = arrays[i].buffer;
+			final int elementSize = elementSize(buffer);
+			// the range of the buffer covered by all attributes interleaved in it
+			int start = Integer.MAX_VALUE, end = 0;
+			for (int j = i; j < MAX_ATTRIBUTES; j++) {
+				final ClientArray array = arrays[j];
+				if ((mask & (1L << j)) == 0 || array.buffer != buffer) continue;
+				array.uploaded = true;
+				final int attributeBytes = array.size * typeSize(array.type);
+				final int stride = array.stride != 0 ? array.stride : attributeBytes;
+				final int first = array.position * elementSize;
+				final int last = vertexCount < 0 ? buffer.limit() * elementSize
+					: first + (vertexCount - 1) * stride + attributeBytes;
+				start = Math.min(start, first);
+				end = Math.max(end, Math.min(last, buffer.limit() * elementSize));
+			}
+			if (end <= start) continue;
+			arrays[i].start = start;
+			arrays[i].end = end;
+			size += align(end - start);
+		}
+		if (size > 0) {
+			int offset = reserve(vertices, GL_ARRAY_BUFFER, size);
+			for (int i = 0; i < MAX_ATTRIBUTES; i++) {
+				final int start = arrays[i].start, end = arrays[i].end;
+				if (end <= start) continue;
+				final Buffer buffer = arrays[i].buffer;
+				final int elementSize = elementSize(buffer);
+				final int position = buffer.position();
+				buffer.position(start / elementSize);
+				gl20.glBufferSubData(GL_ARRAY_BUFFER, offset, end - start, buffer);
+				buffer.position(position);
+				uploadBytes += end - start;
+				for (int j = i; j < MAX_ATTRIBUTES; j++) {
+					final ClientArray array = arrays[j];
+					if ((mask & (1L << j)) == 0 || array.buffer != buffer) continue;
+					gl20.glVertexAttribPointer(j, array.size, array.type, array.normalized, array.stride,
+						offset + array.position * elementSize - start);
+				}
+				offset += align(end - start);
+			}
+		}
+		gl20.glBindBuffer(GL_ARRAY_BUFFER, arrayBuffer);
+		return true;
+	}
+
+	/** Uploads the indices and leaves the internal index buffer bound.
+	 * @return the offset of the indices in the index buffer */
+	private int uploadIndices (int count, int type, Buffer indices) {
+		if (elementBuffer < 0) {
+			params.clear();
+			gl20.glGetIntegerv(GL_ELEMENT_ARRAY_BUFFER_BINDING, params);
+			elementBuffer = params.get(0);
+		}
+		final int size = count * typeSize(type);
+		final int offset = reserve(this.indices, GL_ELEMENT_ARRAY_BUFFER, size);
+		gl20.glBufferSubData(GL_ELEMENT_ARRAY_BUFFER, offset, size, indices);
+		uploadBytes += size;
+		return offset;
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		ensureVertexArray();
+		if (target == GL_ARRAY_BUFFER)
+			arrayBuffer = buffer;
+		else if (target == GL_ELEMENT_ARRAY_BUFFER) elementBuffer = buffer;
+		gl20.glBindBuffer(target, buffer);
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		// the element array buffer binding is part of the vertex array object
+		elementBuffer = -1;
+		if (array == 0 && backend.gl.isGLcore()) {
+			vertexArray = 0;
+			ensureVertexArray();
+			return;
+		}
+		gl30.glBindVertexArray(array);
+	}
+
+	@Override
+	public void glEnableVertexAttribArray (int index) {
+		ensureVertexArray();
+		if (index < MAX_ATTRIBUTES) enabledMask |= 1L << index;
+		gl20.glEnableVertexAttribArray(index);
+	}
+
+	@Override
+	public void glDisableVertexAttribArray (int index) {
+		ensureVertexArray();
+		if (index < MAX_ATTRIBUTES) enabledMask &= ~(1L << index);
+		gl20.glDisableVertexAttribArray(index);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		ensureVertexArray();
+		if (indx >= MAX_ATTRIBUTES) throw new GdxRuntimeException("Client side arrays are emulated up to attribute " + MAX_ATTRIBUTES);
+		final ClientArray array = arrays[indx];
+		array.size = size;
+		array.type = type;
+		array.normalized = normalized;
+		array.stride = stride;
+		array.buffer = ptr;
+		array.position = ptr.position();
+		clientMask |= 1L << indx;
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		ensureVertexArray();
+		if (indx < MAX_ATTRIBUTES) {
+			clientMask &= ~(1L << indx);
+			arrays[indx].buffer = null;
+		}
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		ensureVertexArray();
+		if (uploadArrays(first + count)) emulatedDraws++;
+		gl20.glDrawArrays(mode, first, count);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		ensureVertexArray();
+		if (uploadArrays(-1)) emulatedDraws++;
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		ensureVertexArray();
+		uploadArrays(-1);
+		emulatedDraws++;
+		final int offset = uploadIndices(count, type, indices);
+		gl20.glDrawElements(mode, count, type, offset);
+		gl20.glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, elementBuffer);
+	}
+}
@@ -0,0 +1,401 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL31;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL4ES3;
+
+/** The GL 3.1 instance, available on contexts implementing desktop GL 4.3 or OpenGL ES 3.1, which are the contexts JoGL exposes
+ * as GL4ES3. Adds compute shaders, indirect draws, shader storage buffers, separate program objects and the vertex attribute
+ * binding points to {@link JoglGL30}. */
+public class JoglGL31 extends JoglGL30 implements GL31 {
+	GL4ES3 gl4es3;
+
+	public JoglGL31 () {
+		super();
+	}
+
+	public JoglGL31 (GL gl) {
+		super(gl);
+	}
+
+	@Override
+	public void bind (GL gl) {
+		super.bind(gl);
+		gl4es3 = gl.getGL4ES3();
+	}
+
+	@Override
+	public void glDispatchCompute (int num_groups_x, int num_groups_y, int num_groups_z) {
+		gl4es3.glDispatchCompute(num_groups_x, num_groups_y, num_groups_z);
+	}
+
+	@Override
+	public void glDispatchComputeIndirect (long indirect) {
+		gl4es3.glDispatchComputeIndirect(indirect);
+	}
+
+	@Override
+	public void glDrawArraysIndirect (int mode, long indirect) {
+		gl4es3.glDrawArraysIndirect(mode, indirect);
+	}
+
+	@Override
+	public void glDrawElementsIndirect (int mode, int type, long indirect) {
+		gl4es3.glDrawElementsIndirect(mode, type, indirect);
+	}
+
+	@Override
+	public void glFramebufferParameteri (int target, int pname, int param) {
+		gl4es3.glFramebufferParameteri(target, pname, param);
+	}
+
+	@Override
+	public void glGetFramebufferParameteriv (int target, int pname, IntBuffer params) {
+		gl4es3.glGetFramebufferParameteriv(target, pname, params);
+	}
+
+	@Override
+	public void glGetProgramInterfaceiv (int program, int programInterface, int pname, IntBuffer params) {
+		gl4es3.glGetProgramInterfaceiv(program, programInterface, pname, params);
+	}
+
+	@Override
+	public int glGetProgramResourceIndex (int program, int programInterface, String name) {
+		return gl4es3.glGetProgramResourceIndex(program, programInterface, name);
+	}
+
+	@Override
+	public String glGetProgramResourceName (int program, int programInterface, int index) {
+		final IntBuffer length = scratch.ints(1);
+		gl4es3.glGetProgramInterfaceiv(program, programInterface, GL_MAX_NAME_LENGTH, length);
+		final ByteBuffer name = scratch.bytes(Math.max(length.get(0), 1));
+
+		gl4es3.glGetProgramResourceName(program, programInterface, index, name.capacity(), length, name);
+		return scratch.string(name, length.get(0));
+	}
+
+	@Override
+	public void glGetProgramResourceiv (int program, int programInterface, int index, IntBuffer props,
+		IntBuffer length, IntBuffer params) {
+		gl4es3.glGetProgramResourceiv(program, programInterface, index, props.remaining(), props, params.remaining(), length, params);
+	}
+
+	@Override
+	public int glGetProgramResourceLocation (int program, int programInterface, String name) {
+		return gl4es3.glGetProgramResourceLocation(program, programInterface, name);
+	}
+
+	@Override
+	public void glUseProgramStages (int pipeline, int stages, int program) {
+		gl4es3.glUseProgramStages(pipeline, stages, program);
+	}
+
+	@Override
+	public void glActiveShaderProgram (int pipeline, int program) {
+		gl4es3.glActiveShaderProgram(pipeline, program);
+	}
+
+	@Override
+	public int glCreateShaderProgramv (int type, String[] strings) {
+		return gl4es3.glCreateShaderProgramv(type, strings.length, strings);
+	}
+
+	@Override
+	public void glBindProgramPipeline (int pipeline) {
+		gl4es3.glBindProgramPipeline(pipeline);
+	}
+
+	@Override
+	public void glDeleteProgramPipelines (int count, IntBuffer pipelines) {
+		gl4es3.glDeleteProgramPipelines(count, pipelines);
+	}
+
+	@Override
+	public void glGenProgramPipelines (int count, IntBuffer pipelines) {
+		gl4es3.glGenProgramPipelines(count, pipelines);
+	}
+
+	@Override
+	public boolean glIsProgramPipeline (int pipeline) {
+		return gl4es3.glIsProgramPipeline(pipeline);
+	}
+
+	@Override
+	public void glGetProgramPipelineiv (int pipeline, int pname, IntBuffer params) {
+		gl4es3.glGetProgramPipelineiv(pipeline, pname, params);
+	}
+
+	@Override
+	public void glProgramUniform1i (int program, int location, int v0) {
+		gl4es3.glProgramUniform1i(program, location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2i (int program, int location, int v0, int v1) {
+		gl4es3.glProgramUniform2i(program, location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3i (int program, int location, int v0, int v1, int v2) {
+		gl4es3.glProgramUniform3i(program, location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4i (int program, int location, int v0, int v1, int v2, int v3) {
+		gl4es3.glProgramUniform4i(program, location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1ui (int program, int location, int v0) {
+		gl4es3.glProgramUniform1ui(program, location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2ui (int program, int location, int v0, int v1) {
+		gl4es3.glProgramUniform2ui(program, location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3ui (int program, int location, int v0, int v1, int v2) {
+		gl4es3.glProgramUniform3ui(program, location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4ui (int program, int location, int v0, int v1, int v2, int v3) {
+		gl4es3.glProgramUniform4ui(program, location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1f (int program, int location, float v0) {
+		gl4es3.glProgramUniform1f(program, location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2f (int program, int location, float v0, float v1) {
+		gl4es3.glProgramUniform2f(program, location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3f (int program, int location, float v0, float v1, float v2) {
+		gl4es3.glProgramUniform3f(program, location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4f (int program, int location, float v0, float v1, float v2, float v3) {
+		gl4es3.glProgramUniform4f(program, location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1iv (int program, int location, IntBuffer value) {
+		gl4es3.glProgramUniform1iv(program, location, value.remaining() / 1, value);
+	}
+
+	@Override
+	public void glProgramUniform2iv (int program, int location, IntBuffer value) {
+		gl4es3.glProgramUniform2iv(program, location, value.remaining() / 2, value);
+	}
+
+	@Override
+	public void glProgramUniform3iv (int program, int location, IntBuffer value) {
+		gl4es3.glProgramUniform3iv(program, location, value.remaining() / 3, value);
+	}
+
+	@Override
+	public void glProgramUniform4iv (int program, int location, IntBuffer value) {
+		gl4es3.glProgramUniform4iv(program, location, value.remaining() / 4, value);
+	}
+
+	@Override
+	public void glProgramUniform1uiv (int program, int location, IntBuffer value) {
+		gl4es3.glProgramUniform1uiv(program, location, value.remaining() / 1, value);
+	}
+
+	@Override
+	public void glProgramUniform2uiv (int program, int location, IntBuffer value) {
+		gl4es3.glProgramUniform2uiv(program, location, value.remaining() / 2, value);
+	}
+
+	@Override
+	public void glProgramUniform3uiv (int program, int location, IntBuffer value) {
+		gl4es3.glProgramUniform3uiv(program, location, value.remaining() / 3, value);
+	}
+
+	@Override
+	public void glProgramUniform4uiv (int program, int location, IntBuffer value) {
+		gl4es3.glProgramUniform4uiv(program, location, value.remaining() / 4, value);
+	}
+
+	@Override
+	public void glProgramUniform1fv (int program, int location, FloatBuffer value) {
+		gl4es3.glProgramUniform1fv(program, location, value.remaining() / 1, value);
+	}
+
+	@Override
+	public void glProgramUniform2fv (int program, int location, FloatBuffer value) {
+		gl4es3.glProgramUniform2fv(program, location, value.remaining() / 2, value);
+	}
+
+	@Override
+	public void glProgramUniform3fv (int program, int location, FloatBuffer value) {
+		gl4es3.glProgramUniform3fv(program, location, value.remaining() / 3, value);
+	}
+
+	@Override
+	public void glProgramUniform4fv (int program, int location, FloatBuffer value) {
+		gl4es3.glProgramUniform4fv(program, location, value.remaining() / 4, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl4es3.glProgramUniformMatrix2fv(program, location, value.remaining() / 4, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl4es3.glProgramUniformMatrix3fv(program, location, value.remaining() / 9, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl4es3.glProgramUniformMatrix4fv(program, location, value.remaining() / 16, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl4es3.glProgramUniformMatrix2x3fv(program, location, value.remaining() / 6, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl4es3.glProgramUniformMatrix3x2fv(program, location, value.remaining() / 6, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl4es3.glProgramUniformMatrix2x4fv(program, location, value.remaining() / 8, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl4es3.glProgramUniformMatrix4x2fv(program, location, value.remaining() / 8, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl4es3.glProgramUniformMatrix3x4fv(program, location, value.remaining() / 12, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl4es3.glProgramUniformMatrix4x3fv(program, location, value.remaining() / 12, transpose, value);
+	}
+
+	@Override
+	public void glValidateProgramPipeline (int pipeline) {
+		gl4es3.glValidateProgramPipeline(pipeline);
+	}
+
+	@Override
+	public String glGetProgramPipelineInfoLog (int program) {
+		final IntBuffer intBuffer = scratch.ints(1);
+		gl4es3.glGetProgramPipelineiv(program, GL_INFO_LOG_LENGTH, intBuffer);
+		final ByteBuffer buffer = scratch.bytes(Math.max(intBuffer.get(0), 1));
+
+		gl4es3.glGetProgramPipelineInfoLog(program, buffer.capacity(), intBuffer, buffer);
+		return scratch.string(buffer, intBuffer.get(0));
+	}
+
+	@Override
+	public void glBindImageTexture (int unit, int texture, int level, boolean layered, int layer, int access, int format) {
+		gl4es3.glBindImageTexture(unit, texture, level, layered, layer, access, format);
+	}
+
+	@Override
+	public void glGetBooleani_v (int target, int index, IntBuffer data) {
+		// JoGL writes GLbooleans, the interface hands out ints like glGetBooleanv
+		final ByteBuffer values = scratch.bytes(data.remaining());
+		gl4es3.glGetBooleani_v(target, index, values);
+		for (int i = 0, n = values.limit(); i < n; i++)
+			data.put(data.position() + i, values.get(i));
+	}
+
+	@Override
+	public void glMemoryBarrier (int barriers) {
+		gl4es3.glMemoryBarrier(barriers);
+	}
+
+	@Override
+	public void glMemoryBarrierByRegion (int barriers) {
+		gl4es3.glMemoryBarrierByRegion(barriers);
+	}
+
+	@Override
+	public void glTexStorage2DMultisample (int target, int samples, int internalformat, int width, int height,
+		boolean fixedsamplelocations) {
+		gl4es3.glTexStorage2DMultisample(target, samples, internalformat, width, height, fixedsamplelocations);
+	}
+
+	@Override
+	public void glGetMultisamplefv (int pname, int index, FloatBuffer val) {
+		gl4es3.glGetMultisamplefv(pname, index, val);
+	}
+
+	@Override
+	public void glSampleMaski (int maskNumber, int mask) {
+		gl4es3.glSampleMaski(maskNumber, mask);
+	}
+
+	@Override
+	public void glGetTexLevelParameteriv (int target, int level, int pname, IntBuffer params) {
+		gl4es3.glGetTexLevelParameteriv(target, level, pname, params);
+	}
+
+	@Override
+	public void glGetTexLevelParameterfv (int target, int level, int pname, FloatBuffer params) {
+		gl4es3.glGetTexLevelParameterfv(target, level, pname, params);
+	}
+
+	@Override
+	public void glBindVertexBuffer (int bindingindex, int buffer, long offset, int stride) {
+		gl4es3.glBindVertexBuffer(bindingindex, buffer, offset, stride);
+	}
+
+	@Override
+	public void glVertexAttribFormat (int attribindex, int size, int type, boolean normalized, int relativeoffset) {
+		gl4es3.glVertexAttribFormat(attribindex, size, type, normalized, relativeoffset);
+	}
+
+	@Override
+	public void glVertexAttribIFormat (int attribindex, int size, int type, int relativeoffset) {
+		gl4es3.glVertexAttribIFormat(attribindex, size, type, relativeoffset);
+	}
+
+	@Override
+	public void glVertexAttribBinding (int attribindex, int bindingindex) {
+		gl4es3.glVertexAttribBinding(attribindex, bindingindex);
+	}
+
+	@Override
+	public void glVertexBindingDivisor (int bindingindex, int divisor) {
+		gl4es3.glVertexBindingDivisor(bindingindex, divisor);
+	}
+}
@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL32;
+import com.jogamp.common.nio.PointerBuffer;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL4;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDebugListener;
+import com.jogamp.opengl.GLDebugMessage;
+
+/** The GL 3.2 instance. OpenGL ES 3.2 corresponds to desktop GL 4.5, so this is only used on desktop contexts of version 4.5 or
+ * later, where JoGL exposes the entry points through GL4. The debug callback is routed through the debug listeners of the
+ * context, JoGL only delivers messages if the context has been created with debugging enabled. */
+public class JoglGL32 extends JoglGL31 implements GL32 {
+	GL4 gl4;
+	private final PointerBuffer pointer = PointerBuffer.allocateDirect(1);
+	/** the listener forwarding to the callback set by {@link #glDebugMessageCallback(DebugProc)}, null if none is set **/
+	private GLDebugListener debugListener;
+
+	public JoglGL32 () {
+		super();
+	}
+
+	public JoglGL32 (GL gl) {
+		super(gl);
+	}
+
+	@Override
+	public void bind (GL gl) {
+		final GLContext previous = this.gl != null ? this.gl.getContext() : null;
+		super.bind(gl);
+		gl4 = gl.getGL4();
+		// the listener belongs to the context, carry it over to the new one
+		if (debugListener != null && previous != gl.getContext()) {
+			if (previous != null) previous.removeGLDebugListener(debugListener);
+			gl.getContext().addGLDebugListener(debugListener);
+		}
+	}
+
+	@Override
+	public void glBlendBarrier () {
+		gl4.glBlendBarrier();
+	}
+
+	@Override
+	public void glCopyImageSubData (int srcName, int srcTarget, int srcLevel, int srcX, int srcY, int srcZ,
+		int dstName, int dstTarget, int dstLevel, int dstX, int dstY, int dstZ, int srcWidth, int srcHeight, int srcDepth) {
+		gl4.glCopyImageSubData(srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, srcWidth,
+			srcHeight, srcDepth);
+	}
+
+	@Override
+	public void glDebugMessageControl (int source, int type, int severity, IntBuffer ids, boolean enabled) {
+		gl4.glDebugMessageControl(source, type, severity, ids.remaining(), ids, enabled);
+	}
+
+	@Override
+	public void glDebugMessageInsert (int source, int type, int id, int severity, String buf) {
+		gl4.glDebugMessageInsert(source, type, id, severity, buf.length(), buf);
+	}
+
+	@Override
+	public void glDebugMessageCallback (final DebugProc callback) {
+		// JoGL owns the native callback, the messages reach the application through a listener of the context
+		final GLContext context = gl.getContext();
+		if (debugListener != null) context.removeGLDebugListener(debugListener);
+		debugListener = null;
+		if (callback == null) return;
+		debugListener = new GLDebugListener() {
+			@Override
+			public void messageSent (GLDebugMessage event) {
+				callback.onMessage(event.getDbgSource(), event.getDbgType(), event.getDbgId(), event.getDbgSeverity(),
+					event.getDbgMsg());
+			}
+		};
+		context.addGLDebugListener(debugListener);
+	}
+
+	@Override
+	public int glGetDebugMessageLog (int count, IntBuffer sources, IntBuffer types, IntBuffer ids,
+		IntBuffer severities, IntBuffer lengths, ByteBuffer messageLog) {
+		return gl4.glGetDebugMessageLog(count, messageLog.remaining(), sources, types, ids, severities, lengths, messageLog);
+	}
+
+	@Override
+	public void glPushDebugGroup (int source, int id, String message) {
+		final ByteBuffer bytes = scratch.bytes(message);
+		gl4.glPushDebugGroup(source, id, bytes.limit(), bytes);
+	}
+
+	@Override
+	public void glPopDebugGroup () {
+		gl4.glPopDebugGroup();
+	}
+
+	@Override
+	public void glObjectLabel (int identifier, int name, String label) {
+		final ByteBuffer bytes = scratch.bytes(label);
+		gl4.glObjectLabel(identifier, name, bytes.limit(), bytes);
+	}
+
+	@Override
+	public String glGetObjectLabel (int identifier, int name) {
+		final IntBuffer length = scratch.ints(1);
+		gl.glGetIntegerv(GL_MAX_LABEL_LENGTH, length);
+		final ByteBuffer label = scratch.bytes(Math.max(length.get(0), 1));
+
+		gl4.glGetObjectLabel(identifier, name, label.capacity(), length, label);
+		return scratch.string(label, length.get(0));
+	}
+
+	@Override
+	public long glGetPointerv (int pname) {
+		pointer.clear();
+		gl4.glGetPointerv(pname, pointer);
+		return pointer.get(0);
+	}
+
+	@Override
+	public void glEnablei (int target, int index) {
+		gl4.glEnablei(target, index);
+	}
+
+	@Override
+	public void glDisablei (int target, int index) {
+		gl4.glDisablei(target, index);
+	}
+
+	@Override
+	public void glBlendEquationi (int buf, int mode) {
+		gl4.glBlendEquationi(buf, mode);
+	}
+
+	@Override
+	public void glBlendEquationSeparatei (int buf, int modeRGB, int modeAlpha) {
+		gl4.glBlendEquationSeparatei(buf, modeRGB, modeAlpha);
+	}
+
+	@Override
+	public void glBlendFunci (int buf, int src, int dst) {
+		gl4.glBlendFunci(buf, src, dst);
+	}
+
+	@Override
+	public void glBlendFuncSeparatei (int buf, int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		gl4.glBlendFuncSeparatei(buf, srcRGB, dstRGB, srcAlpha, dstAlpha);
+	}
+
+	@Override
+	public void glColorMaski (int index, boolean red, boolean green, boolean blue, boolean alpha) {
+		gl4.glColorMaski(index, red, green, blue, alpha);
+	}
+
+	@Override
+	public boolean glIsEnabledi (int target, int index) {
+		return gl4.glIsEnabledi(target, index);
+	}
+
+	@Override
+	public void glDrawElementsBaseVertex (int mode, int count, int type, Buffer indices, int basevertex) {
+		gl4.glDrawElementsBaseVertex(mode, count, type, indices, basevertex);
+	}
+
+	@Override
+	public void glDrawRangeElementsBaseVertex (int mode, int start, int end, int count, int type, Buffer indices, int basevertex) {
+		gl4.glDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, Buffer indices,
+		int instanceCount, int basevertex) {
+		gl4.glDrawElementsInstancedBaseVertex(mode, count, type, indices, instanceCount, basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, int indicesOffset,
+		int instanceCount, int basevertex) {
+		gl4.glDrawElementsInstancedBaseVertex(mode, count, type, (long)indicesOffset, instanceCount, basevertex);
+	}
+
+	@Override
+	public void glFramebufferTexture (int target, int attachment, int texture, int level) {
+		gl4.glFramebufferTexture(target, attachment, texture, level);
+	}
+
+	@Override
+	public int glGetGraphicsResetStatus () {
+		return gl4.glGetGraphicsResetStatus();
+	}
+
+	@Override
+	public void glReadnPixels (int x, int y, int width, int height, int format, int type, int bufSize, Buffer data) {
+		gl4.glReadnPixels(x, y, width, height, format, type, bufSize, data);
+	}
+
+	@Override
+	public void glGetnUniformfv (int program, int location, FloatBuffer params) {
+		gl4.glGetnUniformfv(program, location, params.remaining() * 4, params);
+	}
+
+	@Override
+	public void glGetnUniformiv (int program, int location, IntBuffer params) {
+		gl4.glGetnUniformiv(program, location, params.remaining() * 4, params);
+	}
+
+	@Override
+	public void glGetnUniformuiv (int program, int location, IntBuffer params) {
+		gl4.glGetnUniformuiv(program, location, params.remaining() * 4, params);
+	}
+
+	@Override
+	public void glMinSampleShading (float value) {
+		gl4.glMinSampleShading(value);
+	}
+
+	@Override
+	public void glPatchParameteri (int pname, int value) {
+		gl4.glPatchParameteri(pname, value);
+	}
+
+	@Override
+	public void glTexParameterIiv (int target, int pname, IntBuffer params) {
+		gl4.glTexParameterIiv(target, pname, params);
+	}
+
+	@Override
+	public void glTexParameterIuiv (int target, int pname, IntBuffer params) {
+		gl4.glTexParameterIuiv(target, pname, params);
+	}
+
+	@Override
+	public void glGetTexParameterIiv (int target, int pname, IntBuffer params) {
+		gl4.glGetTexParameterIiv(target, pname, params);
+	}
+
+	@Override
+	public void glGetTexParameterIuiv (int target, int pname, IntBuffer params) {
+		gl4.glGetTexParameterIuiv(target, pname, params);
+	}
+
+	@Override
+	public void glSamplerParameterIiv (int sampler, int pname, IntBuffer param) {
+		gl4.glSamplerParameterIiv(sampler, pname, param);
+	}
+
+	@Override
+	public void glSamplerParameterIuiv (int sampler, int pname, IntBuffer param) {
+		gl4.glSamplerParameterIuiv(sampler, pname, param);
+	}
+
+	@Override
+	public void glGetSamplerParameterIiv (int sampler, int pname, IntBuffer params) {
+		gl4.glGetSamplerParameterIiv(sampler, pname, params);
+	}
+
+	@Override
+	public void glGetSamplerParameterIuiv (int sampler, int pname, IntBuffer params) {
+		gl4.glGetSamplerParameterIuiv(sampler, pname, params);
+	}
+
+	@Override
+	public void glTexBuffer (int target, int internalformat, int buffer) {
+		gl4.glTexBuffer(target, internalformat, buffer);
+	}
+
+	@Override
+	public void glTexBufferRange (int target, int internalformat, int buffer, int offset, int size) {
+		gl4.glTexBufferRange(target, internalformat, buffer, offset, size);
+	}
+
+	@Override
+	public void glTexStorage3DMultisample (int target, int samples, int internalformat, int width, int height,
+		int depth, boolean fixedsamplelocations) {
+		gl4.glTexStorage3DMultisample(target, samples, internalformat, width, height, depth, fixedsamplelocations);
+	}
+}
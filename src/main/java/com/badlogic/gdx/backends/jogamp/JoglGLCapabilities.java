@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.glutils.GLVersion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+
+/** The extensions and the implementation limits of a context, queried once when the context is created. The extensions are
+ * listed through glGetStringi on GL 3 contexts, where GL_EXTENSIONS isn't a valid glGetString name on core profiles, and held in
+ * a hash set so {@link #supportsExtension(String)} only matches whole names. The limits, e.g. GL_MAX_TEXTURE_SIZE, can't change
+ * during the lifetime of the context and are answered from a table by {@link JoglGL20#glGetIntegerv(int, IntBuffer)}.
+ * <p>
+ * With {@link JoglApplicationConfiguration#glCapabilitiesPath} set, the capabilities are stored along with the version, vendor
+ * and renderer strings, so the next run can {@link #load(FileHandle)} them to pick its settings before its context exists. */
+public class JoglGLCapabilities {
+	/** the limits queried by default, each followed by its number of values **/
+	private static final int[] GL20_LIMITS = {GL20.GL_MAX_TEXTURE_SIZE, 1, GL20.GL_MAX_CUBE_MAP_TEXTURE_SIZE, 1,
+		GL20.GL_MAX_RENDERBUFFER_SIZE, 1, GL20.GL_MAX_VIEWPORT_DIMS, 2, GL20.GL_MAX_VERTEX_ATTRIBS, 1,
+		GL20.GL_MAX_VERTEX_UNIFORM_VECTORS, 1, GL20.GL_MAX_FRAGMENT_UNIFORM_VECTORS, 1, GL20.GL_MAX_VARYING_VECTORS, 1,
+		GL20.GL_MAX_TEXTURE_IMAGE_UNITS, 1, GL20.GL_MAX_VERTEX_TEXTURE_IMAGE_UNITS, 1, GL20.GL_MAX_COMBINED_TEXTURE_IMAGE_UNITS, 1};
+	private static final int[] GL30_LIMITS = {GL30.GL_MAX_3D_TEXTURE_SIZE, 1, GL30.GL_MAX_ARRAY_TEXTURE_LAYERS, 1,
+		GL30.GL_MAX_SAMPLES, 1, GL30.GL_MAX_DRAW_BUFFERS, 1, GL30.GL_MAX_COLOR_ATTACHMENTS, 1, GL30.GL_MAX_ELEMENTS_VERTICES, 1,
+		GL30.GL_MAX_ELEMENTS_INDICES, 1, GL30.GL_MAX_UNIFORM_BLOCK_SIZE, 1, GL30.GL_MAX_UNIFORM_BUFFER_BINDINGS, 1,
+		GL30.GL_MAX_VERTEX_UNIFORM_BLOCKS, 1, GL30.GL_MAX_FRAGMENT_UNIFORM_BLOCKS, 1, GL30.GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT, 1,
+		GL30.GL_MAX_VERTEX_OUTPUT_COMPONENTS, 1, GL30.GL_MAX_FRAGMENT_INPUT_COMPONENTS, 1};
+
+	private final String version;
+	private final String vendor;
+	private final String renderer;
+	private final GLVersion glVersion;
+	private final ObjectSet<String> extensions;
+	/** pname -> values **/
+	private final IntMap<int[]> limits;
+
+	JoglGLCapabilities (String version, String vendor, String renderer, ObjectSet<String> extensions, IntMap<int[]> limits) {
+		this.version = version;
+		this.vendor = vendor;
+		this.renderer = renderer;
+		this.extensions = extensions;
+		this.limits = limits;
+		glVersion = new GLVersion(Application.ApplicationType.Desktop, version, vendor, renderer);
+	}
+
+	/** Queries the capabilities of the context of the GL, which must be current. */
+	public static JoglGLCapabilities query (GL gl) {
+		final int major = gl.getContext().getGLVersionNumber().getMajor();
+		final ObjectSet<String> extensions = new ObjectSet<String>();
+		if (major >= 3 && gl.isGL2ES3()) {
+			final IntBuffer count = Buffers.newDirectIntBuffer(1);
+			gl.glGetIntegerv(GL30.GL_NUM_EXTENSIONS, count);
+			for (int i = 0, n = count.get(0); i < n; i++)
+				extensions.add(gl.getGL2ES3().glGetStringi(GL20.GL_EXTENSIONS, i));
+		} else {
+			final String string = gl.glGetString(GL20.GL_EXTENSIONS);
+			if (string != null) {
+				for (String extension : string.trim().split("\\s+"))
+					if (extension.length() > 0) extensions.add(extension);
+			}
+		}
+
+		// limits the context doesn't know are skipped, the errors they raise are swallowed
+		for (int i = 0; i < 16; i++)
+			if (gl.glGetError() == GL.GL_NO_ERROR) break;
+		final IntMap<int[]> limits = new IntMap<int[]>();
+		query(gl, GL20_LIMITS, limits);
+		if (major >= 3) query(gl, GL30_LIMITS, limits);
+
+		final String vendor = gl.glGetString(GL.GL_VENDOR), renderer = gl.glGetString(GL.GL_RENDERER);
+		return new JoglGLCapabilities(gl.getContext().getGLVersionNumber().toString(), vendor != null ? vendor : "",
+			renderer != null ? renderer : "", extensions, limits);
+	}
+
+	private static void query (GL gl, int[] pnames, IntMap<int[]> limits) {
+		final IntBuffer values = Buffers.newDirectIntBuffer(4);
+		for (int i = 0; i < pnames.length; i += 2) {
+			values.clear();
+			gl.glGetIntegerv(pnames[i], values);
+			if (gl.glGetError() != GL.GL_NO_ERROR) continue;
+			final int[] limit = new int[pnames[i + 1]];
+			for (int j = 0; j < limit.length; j++)
+				limit[j] = values.get(j);
+			limits.put(pnames[i], limit);
+		}
+	}
+
+	/** @return the capabilities stored by a previous run or null if there are none or they can't be read */
+	public static JoglGLCapabilities load (FileHandle file) {
+		if (!file.exists()) return null;
+		final String[] lines;
+		try {
+			lines = file.readString("UTF-8").split("\n");
+		} catch (RuntimeException e) {
+			return null;
+		}
+		String version = null, vendor = "", renderer = "";
+		final ObjectSet<String> extensions = new ObjectSet<String>();
+		final IntMap<int[]> limits = new IntMap<int[]>();
+		try {
+			for (String line : lines) {
+				final int space = line.indexOf(' ');
+				if (space < 0) continue;
+				final String key = line.substring(0, space), value = line.substring(space + 1);
+				if (key.equals("version"))
+					version = value;
+				else if (key.equals("vendor"))
+					vendor = value;
+				else if (key.equals("renderer"))
+					renderer = value;
+				else if (key.equals("extension"))
+					extensions.add(value);
+				else if (key.equals("limit")) {
+					final String[] values = value.split(" ");
+					final int[] limit = new int[values.length - 1];
+					for (int i = 0; i < limit.length; i++)
+						limit[i] = Integer.parseInt(values[i + 1]);
+					limits.put(Integer.parseInt(values[0]), limit);
+				}
+			}
+		} catch (RuntimeException e) {
+			return null;
+		}
+		return version != null ? new JoglGLCapabilities(version, vendor, renderer, extensions, limits) : null;
+	}
+
+	/** Stores the capabilities, to be loaded by the next run. */
+	public void save (FileHandle file) {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("version ").append(version).append('\n');
+		builder.append("vendor ").append(vendor).append('\n');
+		builder.append("renderer ").append(renderer).append('\n');
+		final Array<String> sorted = new Array<String>(extensions.size);
+		for (String extension : extensions)
+			sorted.add(extension);
+		sorted.sort();
+		for (int i = 0; i < sorted.size; i++)
+			builder.append("extension ").append(sorted.get(i)).append('\n');
+		for (IntMap.Entry<int[]> limit : limits.entries()) {
+			builder.append("limit ").append(limit.key);
+			for (int value : limit.value)
+				builder.append(' ').append(value);
+			builder.append('\n');
+		}
+		file.writeString(builder.toString(), false, "UTF-8");
+	}
+
+	/** @return whether the context supports the extension, only whole names match */
+	public boolean supportsExtension (String extension) {
+		return extensions.contains(extension);
+	}
+
+	/** @return the names of the extensions the context supports */
+	public ObjectSet<String> getExtensions () {
+		return extensions;
+	}
+
+	/** @return the values of the limit or null if it wasn't queried, must not be modified */
+	public int[] getLimits (int pname) {
+		return limits.get(pname);
+	}
+
+	/** @return the first value of the limit or the default value if it wasn't queried */
+	public int getLimit (int pname, int defaultValue) {
+		final int[] limit = limits.get(pname);
+		return limit != null ? limit[0] : defaultValue;
+	}
+
+	/** @return the version, vendor and renderer of the context */
+	public GLVersion getGLVersion () {
+		return glVersion;
+	}
+
+	/** @return whether the capabilities belong to the same driver and device as the given ones, e.g. to check whether the
+	 *         capabilities loaded from a previous run are still valid */
+	public boolean isSameDevice (JoglGLCapabilities other) {
+		return other != null && version.equals(other.version) && vendor.equals(other.vendor) && renderer.equals(other.renderer);
+	}
+}
@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+
+/** A compact stream of GL commands recorded by {@link JoglRecordingGL}, stored in a direct buffer which grows as needed.
+ * <p>
+ * Primitive arguments are written inline. The contents of buffers and arrays are copied into the stream at record time, so the
+ * caller may reuse them as soon as the call returns, and are handed to GL as views of the stream on replay. Objects which are
+ * either immutable (strings) or only referenced while the recording thread waits for a synchronous replay (output buffers) are
+ * pinned in a side table instead. */
+public class JoglGLCommandBuffer {
+	private static final int KIND_NULL = 0, KIND_BYTE = 1, KIND_SHORT = 2, KIND_INT = 3, KIND_FLOAT = 4, KIND_LONG = 5,
+		KIND_DOUBLE = 6;
+
+	private ByteBuffer data;
+	private ByteBuffer byteView;
+	private ShortBuffer shortView;
+	private IntBuffer intView;
+	private FloatBuffer floatView;
+	private LongBuffer longView;
+	private DoubleBuffer doubleView;
+	private int readPosition;
+	private final Array<ByteBuffer> retired = new Array<ByteBuffer>();
+
+	private Object[] objects = new Object[16];
+	private int objectCount, readObject;
+	private int commandCount;
+
+	/** arrays handed to GL on replay, one per length so that the replayed call sees exactly the recorded elements **/
+	private final IntMap<int[]> intArrays = new IntMap<int[]>();
+	private final IntMap<float[]> floatArrays = new IntMap<float[]>();
+
+	/** results of the last synchronous command **/
+	int intResult;
+	long longResult;
+	boolean booleanResult;
+	Object objectResult;
+
+	public JoglGLCommandBuffer (int capacity) {
+		allocate(Math.max(capacity, 64));
+	}
+
+	private void allocate (int capacity) {
+		final ByteBuffer old = data;
+		data = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+		byteView = data.duplicate().order(ByteOrder.nativeOrder());
+		shortView = data.asShortBuffer();
+		intView = data.asIntBuffer();
+		floatView = data.asFloatBuffer();
+		longView = data.asLongBuffer();
+		doubleView = data.asDoubleBuffer();
+		if (old != null) {
+			// client side arrays of already replayed commands may still point into the old storage
+			retired.add(old);
+			final ByteBuffer contents = old.duplicate();
+			contents.flip();
+			data.put(contents);
+		}
+	}
+
+	private void ensure (int bytes) {
+		if (data.remaining() < bytes) allocate(Math.max(data.capacity() * 2, data.position() + bytes));
+	}
+
+	/** Starts a new command. */
+	JoglGLCommandBuffer op (int op) {
+		ensure(4);
+		data.putInt(op);
+		commandCount++;
+		return this;
+	}
+
+	JoglGLCommandBuffer putInt (int value) {
+		ensure(4);
+		data.putInt(value);
+		return this;
+	}
+
+	JoglGLCommandBuffer putFloat (float value) {
+		ensure(4);
+		data.putFloat(value);
+		return this;
+	}
+
+	/** Writes the value unaligned, like the ints it's interleaved with. */
+	JoglGLCommandBuffer putLong (long value) {
+		ensure(8);
+		data.putLong(value);
+		return this;
+	}
+
+	JoglGLCommandBuffer putBoolean (boolean value) {
+		return putInt(value ? 1 : 0);
+	}
+
+	/** Pins the object in the side table, it has to stay unchanged until the command got replayed. */
+	JoglGLCommandBuffer putObject (Object value) {
+		if (objectCount == objects.length) {
+			final Object[] newObjects = new Object[objects.length * 2];
+			System.arraycopy(objects, 0, newObjects, 0, objectCount);
+			objects = newObjects;
+		}
+		objects[objectCount++] = value;
+		return this;
+	}
+
+	/** Writes the kind and element count and aligns the stream for the payload which follows. */
+	private int beginPayload (int kind, int count, int elementSize) {
+		ensure(8 + 8 + count * elementSize);
+		data.putInt(kind);
+		data.putInt(count);
+		while ((data.position() & 7) != 0)
+			data.put((byte)0);
+		return data.position();
+	}
+
+	private void endPayload (int start, int bytes) {
+		data.position(start + bytes);
+		while ((data.position() & 3) != 0)
+			data.put((byte)0);
+	}
+
+	/** Copies the remaining elements of the buffer into the stream, the buffer position is left untouched. */
+	JoglGLCommandBuffer putBuffer (Buffer buffer) {
+		if (buffer == null) {
+			putInt(KIND_NULL);
+			return putInt(0);
+		}
+		final int position = buffer.position();
+		final int count = buffer.remaining();
+		if (buffer instanceof ByteBuffer) {
+			final int start = beginPayload(KIND_BYTE, count, 1);
+			data.put((ByteBuffer)buffer);
+			endPayload(start, count);
+		} else if (buffer instanceof FloatBuffer) {
+			final int start = beginPayload(KIND_FLOAT, count, 4);
+			floatView.clear();
+			floatView.position(start >> 2);
+			floatView.put((FloatBuffer)buffer);
+			endPayload(start, count << 2);
+		} else if (buffer instanceof IntBuffer) {
+			final int start = beginPayload(KIND_INT, count, 4);
+			intView.clear();
+			intView.position(start >> 2);
+			intView.put((IntBuffer)buffer);
+			endPayload(start, count << 2);
+		} else if (buffer instanceof ShortBuffer) {
+			final int start = beginPayload(KIND_SHORT, count, 2);
+			shortView.clear();
+			shortView.position(start >> 1);
+			shortView.put((ShortBuffer)buffer);
+			endPayload(start, count << 1);
+		} else if (buffer instanceof LongBuffer) {
+			final int start = beginPayload(KIND_LONG, count, 8);
+			longView.clear();
+			longView.position(start >> 3);
+			longView.put((LongBuffer)buffer);
+			endPayload(start, count << 3);
+		} else if (buffer instanceof DoubleBuffer) {
+			final int start = beginPayload(KIND_DOUBLE, count, 8);
+			doubleView.clear();
+			doubleView.position(start >> 3);
+			doubleView.put((DoubleBuffer)buffer);
+			endPayload(start, count << 3);
+		} else {
+			throw new GdxRuntimeException("Can't record buffers of type " + buffer.getClass().getName());
+		}
+		buffer.position(position);
+		return this;
+	}
+
+	/** Copies the given number of elements of the array starting at offset into the stream, as many as the call reads, or the
+	 * elements up to the end of the array if there are fewer, leaving the error to GL. */
+	JoglGLCommandBuffer putArray (float[] array, int offset, int length) {
+		final int count = Math.max(0, Math.min(length, array.length - offset));
+		final int start = beginPayload(KIND_FLOAT, count, 4);
+		floatView.clear();
+		floatView.position(start >> 2);
+		floatView.put(array, offset, count);
+		endPayload(start, count << 2);
+		return this;
+	}
+
+	/** Copies the given number of elements of the array starting at offset into the stream, as many as the call reads, or the
+	 * elements up to the end of the array if there are fewer, leaving the error to GL. */
+	JoglGLCommandBuffer putArray (int[] array, int offset, int length) {
+		final int count = Math.max(0, Math.min(length, array.length - offset));
+		final int start = beginPayload(KIND_INT, count, 4);
+		intView.clear();
+		intView.position(start >> 2);
+		intView.put(array, offset, count);
+		endPayload(start, count << 2);
+		return this;
+	}
+
+	boolean hasNext () {
+		return readPosition < data.position();
+	}
+
+	int readInt () {
+		final int value = data.getInt(readPosition);
+		readPosition += 4;
+		return value;
+	}
+
+	float readFloat () {
+		final float value = data.getFloat(readPosition);
+		readPosition += 4;
+		return value;
+	}
+
+	long readLong () {
+		final long value = data.getLong(readPosition);
+		readPosition += 8;
+		return value;
+	}
+
+	boolean readBoolean () {
+		return readInt() != 0;
+	}
+
+	Object readObject () {
+		return objects[readObject++];
+	}
+
+	/** @return a view of the stream positioned on the payload, only valid until the next payload is read */
+	Buffer readBuffer () {
+		final int kind = readInt();
+		final int count = readInt();
+		if (kind == KIND_NULL) return null;
+		readPosition = (readPosition + 7) & ~7;
+		final int start = readPosition;
+		final Buffer view;
+		switch (kind) {
+		case KIND_BYTE:
+			byteView.limit(start + count).position(start);
+			view = byteView;
+			readPosition += count;
+			break;
+		case KIND_SHORT:
+			shortView.limit((start >> 1) + count).position(start >> 1);
+			view = shortView;
+			readPosition += count << 1;
+			break;
+		case KIND_INT:
+			intView.limit((start >> 2) + count).position(start >> 2);
+			view = intView;
+			readPosition += count << 2;
+			break;
+		case KIND_FLOAT:
+			floatView.limit((start >> 2) + count).position(start >> 2);
+			view = floatView;
+			readPosition += count << 2;
+			break;
+		case KIND_LONG:
+			longView.limit((start >> 3) + count).position(start >> 3);
+			view = longView;
+			readPosition += count << 3;
+			break;
+		case KIND_DOUBLE:
+			doubleView.limit((start >> 3) + count).position(start >> 3);
+			view = doubleView;
+			readPosition += count << 3;
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown payload kind " + kind);
+		}
+		readPosition = (readPosition + 3) & ~3;
+		return view;
+	}
+
+	float[] readFloatArray () {
+		final FloatBuffer view = (FloatBuffer)readBuffer();
+		final int count = view.remaining();
+		float[] array = floatArrays.get(count);
+		if (array == null) floatArrays.put(count, array = new float[count]);
+		view.get(array);
+		return array;
+	}
+
+	int[] readIntArray () {
+		final IntBuffer view = (IntBuffer)readBuffer();
+		final int count = view.remaining();
+		int[] array = intArrays.get(count);
+		if (array == null) intArrays.put(count, array = new int[count]);
+		view.get(array);
+		return array;
+	}
+
+	/** Discards all recorded commands and releases the pinned objects. The results of the last synchronous command are kept. */
+	public void clear () {
+		data.clear();
+		retired.clear();
+		readPosition = 0;
+		for (int i = 0; i < objectCount; i++)
+			objects[i] = null;
+		objectCount = 0;
+		readObject = 0;
+		commandCount = 0;
+	}
+
+	public boolean isEmpty () {
+		return commandCount == 0;
+	}
+
+	/** @return the number of recorded commands */
+	public int getCommandCount () {
+		return commandCount;
+	}
+
+	/** @return the number of bytes used by the recorded commands */
+	public int getSize () {
+		return data.position();
+	}
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Hands the frames recorded by a {@link JoglRecordingGL} from the logic thread over to the GL thread. Two command buffers are
+ * cycled, so the logic thread can record frame N+1 while the GL thread replays frame N, but never runs further ahead than that.
+ * <p>
+ * Synchronous calls recorded during frame N+1 are only serviced once frame N has been replayed, so they always see the GL state
+ * in the order the calls were made. */
+public class JoglGLCommandQueue {
+	private final int capacity;
+	private JoglGLCommandBuffer free;
+	private JoglGLCommandBuffer submitted;
+	private JoglGLCommandBuffer syncRequest;
+	private boolean closed;
+
+	private int frames, syncs;
+
+	/** @param capacity the initial size of the command buffers in bytes, they grow as needed */
+	public JoglGLCommandQueue (int capacity) {
+		this.capacity = capacity;
+		free = new JoglGLCommandBuffer(capacity);
+	}
+
+	/** @return the command buffer to record the first frame into */
+	JoglGLCommandBuffer obtain () {
+		return new JoglGLCommandBuffer(capacity);
+	}
+
+	/** Called by the logic thread to submit a recorded frame, blocks while the GL thread hasn't picked up the previous one.
+	 * @return the buffer to record the next frame into */
+	public synchronized JoglGLCommandBuffer submit (JoglGLCommandBuffer frame) {
+		while (free == null && !closed)
+			waitForGLThread();
+		if (closed) {
+			frame.clear();
+			return frame;
+		}
+		final JoglGLCommandBuffer next = free;
+		free = null;
+		submitted = frame;
+		notifyAll();
+		return next;
+	}
+
+	/** Called by the logic thread to have the GL thread replay the commands recorded so far, blocks until they have been
+	 * executed. */
+	public synchronized void sync (JoglGLCommandBuffer commands) {
+		if (closed) throw new GdxRuntimeException("Can't execute synchronous GL calls, the command queue is closed");
+		syncRequest = commands;
+		notifyAll();
+		while (syncRequest != null) {
+			if (closed) throw new GdxRuntimeException("Can't execute synchronous GL calls, the command queue is closed");
+			waitForGLThread();
+		}
+	}
+
+	private void waitForGLThread () {
+		try {
+			wait();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GdxRuntimeException("Interrupted while waiting for the GL thread", e);
+		}
+	}
+
+	/** Called by the GL thread to replay the next frame, services the synchronous calls of the logic thread while waiting for it.
+	 * @param timeoutMillis how long to wait for a frame
+	 * @return whether a frame has been replayed */
+	public boolean replay (GL20 gl, long timeoutMillis) {
+		final long deadline = System.currentTimeMillis() + timeoutMillis;
+		final JoglGLCommandBuffer frame;
+		synchronized (this) {
+			while (submitted == null) {
+				if (syncRequest != null) {
+					try {
+						JoglRecordingGL.replay(syncRequest, gl);
+						syncs++;
+					} finally {
+						syncRequest = null;
+						notifyAll();
+					}
+					continue;
+				}
+				final long remaining = deadline - System.currentTimeMillis();
+				if (closed || remaining <= 0) return false;
+				try {
+					wait(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+			frame = submitted;
+			submitted = null;
+		}
+		try {
+			JoglRecordingGL.replay(frame, gl);
+		} finally {
+			frame.clear();
+			synchronized (this) {
+				free = frame;
+				frames++;
+				notifyAll();
+			}
+		}
+		return true;
+	}
+
+	/** Makes all pending and future calls return immediately, frames submitted from now on are dropped. */
+	public synchronized void close () {
+		closed = true;
+		if (submitted != null) {
+			submitted.clear();
+			free = submitted;
+			submitted = null;
+		}
+		notifyAll();
+	}
+
+	/** Reopens a closed queue. */
+	public synchronized void open () {
+		closed = false;
+	}
+
+	public synchronized boolean isClosed () {
+		return closed;
+	}
+
+	/** @return the number of frames replayed */
+	public synchronized int getReplayedFrames () {
+		return frames;
+	}
+
+	/** @return the number of synchronous flushes serviced */
+	public synchronized int getSyncs () {
+		return syncs;
+	}
+}
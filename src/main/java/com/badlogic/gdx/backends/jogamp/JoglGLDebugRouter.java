@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.graphics.GL32;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.jogamp.opengl.GLDebugListener;
+import com.jogamp.opengl.GLDebugMessage;
+
+/** Routes the messages of the GL_KHR_debug (or GL_ARB_debug_output) output of a debug context to the logger of the
+ * application: errors and high severity messages through {@link Application#error(String, String)}, medium severity ones through
+ * {@link Application#log(String, String)} and the rest through {@link Application#debug(String, String)}, so the log level of
+ * the application filters them. Performance warnings such as pipeline stalls, shader recompiles and format conversions are
+ * reported by most drivers with the type GL_DEBUG_TYPE_PERFORMANCE.
+ * <p>
+ * A message is logged the first time it's seen only, repetitions are counted. At most the configured number of messages is
+ * logged per second, the others are only counted and logged when they're sent again. The counters per type and severity, see
+ * {@link #getTypeCount(int)} and {@link #getSeverityCount(int)}, include every message, {@link #getSummary()} puts them
+ * together for a playtest report. Messages may be delivered on any thread. */
+public class JoglGLDebugRouter implements GLDebugListener {
+	static final String TAG = "GL";
+	/** the number of distinct messages remembered to detect repetitions, further ones are treated as new **/
+	private static final int MAX_DISTINCT = 4096;
+
+	private final Application app;
+	private final int messagesPerSecond;
+	/** the number of times each distinct message has been seen since it was logged, keyed by source, type, id and text **/
+	private final ObjectIntMap<String> seen = new ObjectIntMap<String>();
+	private final IntIntMap typeCounts = new IntIntMap();
+	private final IntIntMap severityCounts = new IntIntMap();
+	private long windowStart;
+	private int windowMessages;
+	private int messages;
+	private int repeated;
+	private int dropped;
+
+	/** @param messagesPerSecond the maximum number of messages logged per second, 0 for no limit */
+	public JoglGLDebugRouter (Application app, int messagesPerSecond) {
+		this.app = app;
+		this.messagesPerSecond = messagesPerSecond;
+	}
+
+	@Override
+	public void messageSent (GLDebugMessage event) {
+		message(event.getDbgSource(), event.getDbgType(), event.getDbgId(), event.getDbgSeverity(), event.getDbgMsg());
+	}
+
+	/** Counts the message and logs it unless it's a repetition or the rate limit has been reached. */
+	public void message (int source, int type, int id, int severity, String text) {
+		synchronized (this) {
+			messages++;
+			typeCounts.getAndIncrement(type, 0, 1);
+			severityCounts.getAndIncrement(severity, 0, 1);
+			final String key = source + ":" + type + ":" + id + ":" + text;
+			final int count = seen.get(key, 0);
+			if (count > 0) {
+				seen.put(key, count + 1);
+				repeated++;
+				return;
+			}
+			if (messagesPerSecond > 0) {
+				final long now = System.nanoTime();
+				if (now - windowStart >= 1000000000L) {
+					windowStart = now;
+					windowMessages = 0;
+				}
+				if (windowMessages >= messagesPerSecond) {
+					dropped++;
+					return;
+				}
+				windowMessages++;
+			}
+			// a message dropped by the rate limit is logged the next time it's sent
+			if (seen.size < MAX_DISTINCT) seen.put(key, 1);
+		}
+		final String line = typeName(type) + " (" + severityName(severity) + ", " + sourceName(source) + ", id " + id + "): "
+			+ text;
+		if (type == GL32.GL_DEBUG_TYPE_ERROR || severity == GL32.GL_DEBUG_SEVERITY_HIGH)
+			app.error(TAG, line);
+		else if (severity == GL32.GL_DEBUG_SEVERITY_MEDIUM)
+			app.log(TAG, line);
+		else
+			app.debug(TAG, line);
+	}
+
+	/** @param type one of the GL_DEBUG_TYPE constants of {@link GL32}
+	 * @return the number of messages of the type received */
+	public synchronized int getTypeCount (int type) {
+		return typeCounts.get(type, 0);
+	}
+
+	/** @param severity one of the GL_DEBUG_SEVERITY constants of {@link GL32}
+	 * @return the number of messages of the severity received */
+	public synchronized int getSeverityCount (int severity) {
+		return severityCounts.get(severity, 0);
+	}
+
+	/** @return the number of messages received */
+	public synchronized int getMessages () {
+		return messages;
+	}
+
+	/** @return the number of messages not logged because they had been seen before */
+	public synchronized int getRepeated () {
+		return repeated;
+	}
+
+	/** @return the number of messages not logged because of the rate limit */
+	public synchronized int getDropped () {
+		return dropped;
+	}
+
+	public synchronized void resetCounters () {
+		seen.clear();
+		typeCounts.clear();
+		severityCounts.clear();
+		messages = 0;
+		repeated = 0;
+		dropped = 0;
+	}
+
+	/** @return the counters as one line, e.g. to be logged at the end of a playtest */
+	public synchronized String getSummary () {
+		final StringBuilder summary = new StringBuilder();
+		summary.append(messages).append(" debug messages");
+		final int[] types = {GL32.GL_DEBUG_TYPE_ERROR, GL32.GL_DEBUG_TYPE_PERFORMANCE, GL32.GL_DEBUG_TYPE_DEPRECATED_BEHAVIOR,
+			GL32.GL_DEBUG_TYPE_UNDEFINED_BEHAVIOR, GL32.GL_DEBUG_TYPE_PORTABILITY, GL32.GL_DEBUG_TYPE_OTHER};
+		for (int i = 0; i < types.length; i++) {
+			final int count = typeCounts.get(types[i], 0);
+			if (count > 0) summary.append(", ").append(count).append(' ').append(typeName(types[i]));
+		}
+		summary.append(", ").append(repeated).append(" repeated, ").append(dropped).append(" rate limited");
+		return summary.toString();
+	}
+
+	static String typeName (int type) {
+		switch (type) {
+		case GL32.GL_DEBUG_TYPE_ERROR:
+			return "error";
+		case GL32.GL_DEBUG_TYPE_DEPRECATED_BEHAVIOR:
+			return "deprecated";
+		case GL32.GL_DEBUG_TYPE_UNDEFINED_BEHAVIOR:
+			return "undefined behavior";
+		case GL32.GL_DEBUG_TYPE_PORTABILITY:
+			return "portability";
+		case GL32.GL_DEBUG_TYPE_PERFORMANCE:
+			return "performance";
+		case GL32.GL_DEBUG_TYPE_MARKER:
+		case GL32.GL_DEBUG_TYPE_PUSH_GROUP:
+		case GL32.GL_DEBUG_TYPE_POP_GROUP:
+			return "marker";
+		default:
+			return "other";
+		}
+	}
+
+	static String severityName (int severity) {
+		switch (severity) {
+		case GL32.GL_DEBUG_SEVERITY_HIGH:
+			return "high";
+		case GL32.GL_DEBUG_SEVERITY_MEDIUM:
+			return "medium";
+		case GL32.GL_DEBUG_SEVERITY_LOW:
+			return "low";
+		default:
+			return "notification";
+		}
+	}
+
+	static String sourceName (int source) {
+		switch (source) {
+		case GL32.GL_DEBUG_SOURCE_API:
+			return "API";
+		case GL32.GL_DEBUG_SOURCE_WINDOW_SYSTEM:
+			return "window system";
+		case GL32.GL_DEBUG_SOURCE_SHADER_COMPILER:
+			return "shader compiler";
+		case GL32.GL_DEBUG_SOURCE_THIRD_PARTY:
+			return "third party";
+		case GL32.GL_DEBUG_SOURCE_APPLICATION:
+			return "application";
+		default:
+			return "other";
+		}
+	}
+}
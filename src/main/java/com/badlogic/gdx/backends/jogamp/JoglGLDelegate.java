@@ -0,0 +1,1894 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.GL31;
+import com.badlogic.gdx.graphics.GL32;
+
+/** Forwards every {@link GL32} call to a wrapped instance. Base class of the optional GL layers the backend can put in front of
+ * {@link JoglGL20}/{@link JoglGL30}/{@link JoglGL31}/{@link JoglGL32}, subclasses only override the entry points they care
+ * about. A plain {@link GL20} can be wrapped as well, the entry points of the versions the wrapped instance doesn't implement
+ * must not be called then. */
+public class JoglGLDelegate implements GL32 {
+	protected final GL20 gl20;
+	/** the wrapped instance if it implements GL30, null otherwise **/
+	protected final GL30 gl30;
+	/** the wrapped instance if it implements GL31, null otherwise **/
+	protected final GL31 gl31;
+	/** the wrapped instance if it implements GL32, null otherwise **/
+	protected final GL32 gl32;
+
+	public JoglGLDelegate (GL20 gl20) {
+		this.gl20 = gl20;
+		this.gl30 = gl20 instanceof GL30 ? (GL30)gl20 : null;
+		this.gl31 = gl20 instanceof GL31 ? (GL31)gl20 : null;
+		this.gl32 = gl20 instanceof GL32 ? (GL32)gl20 : null;
+	}
+
+	/** @return the wrapped instance */
+	public GL20 getDelegate () {
+		return gl20;
+	}
+
+	/** Applies the state the layers defer until the next draw call, to be called before drawing with the backend's GL directly,
+	 * e.g. for the multi draw calls GL32 doesn't have. Layers deferring state override this and call the super method. */
+	public void prepareDraw () {
+		if (gl20 instanceof JoglGLDelegate) ((JoglGLDelegate)gl20).prepareDraw();
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		gl20.glActiveTexture(texture);
+	}
+
+	@Override
+	public void glAttachShader (int program, int shader) {
+		gl20.glAttachShader(program, shader);
+	}
+
+	@Override
+	public void glBindAttribLocation (int program, int index, String name) {
+		gl20.glBindAttribLocation(program, index, name);
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		gl20.glBindBuffer(target, buffer);
+	}
+
+	@Override
+	public void glBindFramebuffer (int target, int framebuffer) {
+		gl20.glBindFramebuffer(target, framebuffer);
+	}
+
+	@Override
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		gl20.glBindRenderbuffer(target, renderbuffer);
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		gl20.glBindTexture(target, texture);
+	}
+
+	@Override
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		gl20.glBlendColor(red, green, blue, alpha);
+	}
+
+	@Override
+	public void glBlendEquation (int mode) {
+		gl20.glBlendEquation(mode);
+	}
+
+	@Override
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		gl20.glBlendEquationSeparate(modeRGB, modeAlpha);
+	}
+
+	@Override
+	public void glBlendFunc (int sfactor, int dfactor) {
+		gl20.glBlendFunc(sfactor, dfactor);
+	}
+
+	@Override
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+	}
+
+	@Override
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		gl20.glBufferData(target, size, data, usage);
+	}
+
+	@Override
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		gl20.glBufferSubData(target, offset, size, data);
+	}
+
+	@Override
+	public int glCheckFramebufferStatus (int target) {
+		return gl20.glCheckFramebufferStatus(target);
+	}
+
+	@Override
+	public void glClear (int mask) {
+		gl20.glClear(mask);
+	}
+
+	@Override
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		gl20.glClearColor(red, green, blue, alpha);
+	}
+
+	@Override
+	public void glClearDepthf (float depth) {
+		gl20.glClearDepthf(depth);
+	}
+
+	@Override
+	public void glClearStencil (int s) {
+		gl20.glClearStencil(s);
+	}
+
+	@Override
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		gl20.glColorMask(red, green, blue, alpha);
+	}
+
+	@Override
+	public void glCompileShader (int shader) {
+		gl20.glCompileShader(shader);
+	}
+
+	@Override
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border, int imageSize, Buffer data) {
+		gl20.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+	}
+
+	@Override
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, Buffer data) {
+		gl20.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+	}
+
+	@Override
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		gl20.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+	}
+
+	@Override
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		gl20.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+	}
+
+	@Override
+	public int glCreateProgram () {
+		return gl20.glCreateProgram();
+	}
+
+	@Override
+	public int glCreateShader (int type) {
+		return gl20.glCreateShader(type);
+	}
+
+	@Override
+	public void glCullFace (int mode) {
+		gl20.glCullFace(mode);
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		gl20.glDeleteBuffers(n, buffers);
+	}
+
+	@Override
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		gl20.glDeleteFramebuffers(n, framebuffers);
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		gl20.glDeleteProgram(program);
+	}
+
+	@Override
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl20.glDeleteRenderbuffers(n, renderbuffers);
+	}
+
+	@Override
+	public void glDeleteShader (int shader) {
+		gl20.glDeleteShader(shader);
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		gl20.glDeleteTextures(n, textures);
+	}
+
+	@Override
+	public void glDepthFunc (int func) {
+		gl20.glDepthFunc(func);
+	}
+
+	@Override
+	public void glDepthMask (boolean flag) {
+		gl20.glDepthMask(flag);
+	}
+
+	@Override
+	public void glDepthRangef (float zNear, float zFar) {
+		gl20.glDepthRangef(zNear, zFar);
+	}
+
+	@Override
+	public void glDetachShader (int program, int shader) {
+		gl20.glDetachShader(program, shader);
+	}
+
+	@Override
+	public void glDisable (int cap) {
+		gl20.glDisable(cap);
+	}
+
+	@Override
+	public void glDisableVertexAttribArray (int index) {
+		gl20.glDisableVertexAttribArray(index);
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		gl20.glDrawArrays(mode, first, count);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	@Override
+	public void glEnable (int cap) {
+		gl20.glEnable(cap);
+	}
+
+	@Override
+	public void glEnableVertexAttribArray (int index) {
+		gl20.glEnableVertexAttribArray(index);
+	}
+
+	@Override
+	public void glFinish () {
+		gl20.glFinish();
+	}
+
+	@Override
+	public void glFlush () {
+		gl20.glFlush();
+	}
+
+	@Override
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		gl20.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+	}
+
+	@Override
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		gl20.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+	}
+
+	@Override
+	public void glFrontFace (int mode) {
+		gl20.glFrontFace(mode);
+	}
+
+	@Override
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		gl20.glGenBuffers(n, buffers);
+	}
+
+	@Override
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		gl20.glGenFramebuffers(n, framebuffers);
+	}
+
+	@Override
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl20.glGenRenderbuffers(n, renderbuffers);
+	}
+
+	@Override
+	public void glGenTextures (int n, IntBuffer textures) {
+		gl20.glGenTextures(n, textures);
+	}
+
+	@Override
+	public void glGenerateMipmap (int target) {
+		gl20.glGenerateMipmap(target);
+	}
+
+	@Override
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, IntBuffer type) {
+		return gl20.glGetActiveAttrib(program, index, size, type);
+	}
+
+	@Override
+	public String glGetActiveUniform (int program, int index, IntBuffer size, IntBuffer type) {
+		return gl20.glGetActiveUniform(program, index, size, type);
+	}
+
+	@Override
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		gl20.glGetAttachedShaders(program, maxcount, count, shaders);
+	}
+
+	@Override
+	public int glGetAttribLocation (int program, String name) {
+		return gl20.glGetAttribLocation(program, name);
+	}
+
+	@Override
+	public void glGetBooleanv (int pname, Buffer params) {
+		gl20.glGetBooleanv(pname, params);
+	}
+
+	@Override
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glGetBufferParameteriv(target, pname, params);
+	}
+
+	@Override
+	public int glGetError () {
+		return gl20.glGetError();
+	}
+
+	@Override
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		gl20.glGetFloatv(pname, params);
+	}
+
+	@Override
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		gl20.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+	}
+
+	@Override
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		gl20.glGetIntegerv(pname, params);
+	}
+
+	@Override
+	public String glGetProgramInfoLog (int program) {
+		return gl20.glGetProgramInfoLog(program);
+	}
+
+	@Override
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		gl20.glGetProgramiv(program, pname, params);
+	}
+
+	@Override
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glGetRenderbufferParameteriv(target, pname, params);
+	}
+
+	@Override
+	public String glGetShaderInfoLog (int shader) {
+		return gl20.glGetShaderInfoLog(shader);
+	}
+
+	@Override
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		gl20.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+	}
+
+	@Override
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		gl20.glGetShaderiv(shader, pname, params);
+	}
+
+	@Override
+	public String glGetString (int name) {
+		return gl20.glGetString(name);
+	}
+
+	@Override
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl20.glGetTexParameterfv(target, pname, params);
+	}
+
+	@Override
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glGetTexParameteriv(target, pname, params);
+	}
+
+	@Override
+	public int glGetUniformLocation (int program, String name) {
+		return gl20.glGetUniformLocation(program, name);
+	}
+
+	@Override
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		gl20.glGetUniformfv(program, location, params);
+	}
+
+	@Override
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		gl20.glGetUniformiv(program, location, params);
+	}
+
+	@Override
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		gl20.glGetVertexAttribPointerv(index, pname, pointer);
+	}
+
+	@Override
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		gl20.glGetVertexAttribfv(index, pname, params);
+	}
+
+	@Override
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		gl20.glGetVertexAttribiv(index, pname, params);
+	}
+
+	@Override
+	public void glHint (int target, int mode) {
+		gl20.glHint(target, mode);
+	}
+
+	@Override
+	public boolean glIsBuffer (int buffer) {
+		return gl20.glIsBuffer(buffer);
+	}
+
+	@Override
+	public boolean glIsEnabled (int cap) {
+		return gl20.glIsEnabled(cap);
+	}
+
+	@Override
+	public boolean glIsFramebuffer (int framebuffer) {
+		return gl20.glIsFramebuffer(framebuffer);
+	}
+
+	@Override
+	public boolean glIsProgram (int program) {
+		return gl20.glIsProgram(program);
+	}
+
+	@Override
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		return gl20.glIsRenderbuffer(renderbuffer);
+	}
+
+	@Override
+	public boolean glIsShader (int shader) {
+		return gl20.glIsShader(shader);
+	}
+
+	@Override
+	public boolean glIsTexture (int texture) {
+		return gl20.glIsTexture(texture);
+	}
+
+	@Override
+	public void glLineWidth (float width) {
+		gl20.glLineWidth(width);
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		gl20.glLinkProgram(program);
+	}
+
+	@Override
+	public void glPixelStorei (int pname, int param) {
+		gl20.glPixelStorei(pname, param);
+	}
+
+	@Override
+	public void glPolygonOffset (float factor, float units) {
+		gl20.glPolygonOffset(factor, units);
+	}
+
+	@Override
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		gl20.glReadPixels(x, y, width, height, format, type, pixels);
+	}
+
+	@Override
+	public void glReleaseShaderCompiler () {
+		gl20.glReleaseShaderCompiler();
+	}
+
+	@Override
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		gl20.glRenderbufferStorage(target, internalformat, width, height);
+	}
+
+	@Override
+	public void glSampleCoverage (float value, boolean invert) {
+		gl20.glSampleCoverage(value, invert);
+	}
+
+	@Override
+	public void glScissor (int x, int y, int width, int height) {
+		gl20.glScissor(x, y, width, height);
+	}
+
+	@Override
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		gl20.glShaderBinary(n, shaders, binaryformat, binary, length);
+	}
+
+	@Override
+	public void glShaderSource (int shader, String string) {
+		gl20.glShaderSource(shader, string);
+	}
+
+	@Override
+	public void glStencilFunc (int func, int ref, int mask) {
+		gl20.glStencilFunc(func, ref, mask);
+	}
+
+	@Override
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		gl20.glStencilFuncSeparate(face, func, ref, mask);
+	}
+
+	@Override
+	public void glStencilMask (int mask) {
+		gl20.glStencilMask(mask);
+	}
+
+	@Override
+	public void glStencilMaskSeparate (int face, int mask) {
+		gl20.glStencilMaskSeparate(face, mask);
+	}
+
+	@Override
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		gl20.glStencilOp(fail, zfail, zpass);
+	}
+
+	@Override
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		gl20.glStencilOpSeparate(face, fail, zfail, zpass);
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels) {
+		gl20.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+	}
+
+	@Override
+	public void glTexParameterf (int target, int pname, float param) {
+		gl20.glTexParameterf(target, pname, param);
+	}
+
+	@Override
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl20.glTexParameterfv(target, pname, params);
+	}
+
+	@Override
+	public void glTexParameteri (int target, int pname, int param) {
+		gl20.glTexParameteri(target, pname, param);
+	}
+
+	@Override
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glTexParameteriv(target, pname, params);
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, Buffer pixels) {
+		gl20.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+	}
+
+	@Override
+	public void glUniform1f (int location, float x) {
+		gl20.glUniform1f(location, x);
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform1fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform1i (int location, int x) {
+		gl20.glUniform1i(location, x);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		gl20.glUniform1iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform2f (int location, float x, float y) {
+		gl20.glUniform2f(location, x, y);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform2fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform2i (int location, int x, int y) {
+		gl20.glUniform2i(location, x, y);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		gl20.glUniform2iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform3f (int location, float x, float y, float z) {
+		gl20.glUniform3f(location, x, y, z);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform3fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform3i (int location, int x, int y, int z) {
+		gl20.glUniform3i(location, x, y, z);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		gl20.glUniform3iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		gl20.glUniform4f(location, x, y, z, w);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform4fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		gl20.glUniform4i(location, x, y, z, w);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		gl20.glUniform4iv(location, count, v);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl20.glUniformMatrix2fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl20.glUniformMatrix3fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl20.glUniformMatrix4fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		gl20.glUseProgram(program);
+	}
+
+	@Override
+	public void glValidateProgram (int program) {
+		gl20.glValidateProgram(program);
+	}
+
+	@Override
+	public void glVertexAttrib1f (int indx, float x) {
+		gl20.glVertexAttrib1f(indx, x);
+	}
+
+	@Override
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib1fv(indx, values);
+	}
+
+	@Override
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		gl20.glVertexAttrib2f(indx, x, y);
+	}
+
+	@Override
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib2fv(indx, values);
+	}
+
+	@Override
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		gl20.glVertexAttrib3f(indx, x, y, z);
+	}
+
+	@Override
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib3fv(indx, values);
+	}
+
+	@Override
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		gl20.glVertexAttrib4f(indx, x, y, z, w);
+	}
+
+	@Override
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib4fv(indx, values);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+
+	@Override
+	public void glViewport (int x, int y, int width, int height) {
+		gl20.glViewport(x, y, width, height);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		gl20.glDeleteTexture(texture);
+	}
+
+	@Override
+	public int glGenTexture () {
+		return gl20.glGenTexture();
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		gl20.glDeleteBuffer(buffer);
+	}
+
+	@Override
+	public void glDeleteFramebuffer (int framebuffer) {
+		gl20.glDeleteFramebuffer(framebuffer);
+	}
+
+	@Override
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		gl20.glDeleteRenderbuffer(renderbuffer);
+	}
+
+	@Override
+	public int glGenBuffer () {
+		return gl20.glGenBuffer();
+	}
+
+	@Override
+	public int glGenFramebuffer () {
+		return gl20.glGenFramebuffer();
+	}
+
+	@Override
+	public int glGenRenderbuffer () {
+		return gl20.glGenRenderbuffer();
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform1fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform1iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform2fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform2iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform3fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform3iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform4fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform4iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
+	}
+
+	@Override
+	public void glReadBuffer (int mode) {
+		gl30.glReadBuffer(mode);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
+		gl30.glDrawRangeElements(mode, start, end, count, type, indices);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
+		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalFormat, int width, int height, int border, int format, int type, int offset) {
+		gl30.glTexImage2D(target, level, internalFormat, width, height, border, format, type, offset);
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, Buffer pixels) {
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, int offset) {
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, offset);
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, int offset) {
+		gl30.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, offset);
+	}
+
+	@Override
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, Buffer pixels) {
+		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+	}
+
+	@Override
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, int offset) {
+		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, offset);
+	}
+
+	@Override
+	public void glCopyTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int x, int y, int width, int height) {
+		gl30.glCopyTexSubImage3D(target, level, xoffset, yoffset, zoffset, x, y, width, height);
+	}
+
+	@Override
+	public void glGenQueries (int n, int[] ids, int offset) {
+		gl30.glGenQueries(n, ids, offset);
+	}
+
+	@Override
+	public void glGenQueries (int n, IntBuffer ids) {
+		gl30.glGenQueries(n, ids);
+	}
+
+	@Override
+	public void glDeleteQueries (int n, int[] ids, int offset) {
+		gl30.glDeleteQueries(n, ids, offset);
+	}
+
+	@Override
+	public void glDeleteQueries (int n, IntBuffer ids) {
+		gl30.glDeleteQueries(n, ids);
+	}
+
+	@Override
+	public boolean glIsQuery (int id) {
+		return gl30.glIsQuery(id);
+	}
+
+	@Override
+	public void glBeginQuery (int target, int id) {
+		gl30.glBeginQuery(target, id);
+	}
+
+	@Override
+	public void glEndQuery (int target) {
+		gl30.glEndQuery(target);
+	}
+
+	@Override
+	public void glGetQueryiv (int target, int pname, IntBuffer params) {
+		gl30.glGetQueryiv(target, pname, params);
+	}
+
+	@Override
+	public void glGetQueryObjectuiv (int id, int pname, IntBuffer params) {
+		gl30.glGetQueryObjectuiv(id, pname, params);
+	}
+
+	@Override
+	public boolean glUnmapBuffer (int target) {
+		return gl30.glUnmapBuffer(target);
+	}
+
+	@Override
+	public Buffer glGetBufferPointerv (int target, int pname) {
+		return gl30.glGetBufferPointerv(target, pname);
+	}
+
+	@Override
+	public void glDrawBuffers (int n, IntBuffer bufs) {
+		gl30.glDrawBuffers(n, bufs);
+	}
+
+	@Override
+	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix2x3fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix3x2fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix2x4fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix4x2fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix3x4fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix4x3fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glBlitFramebuffer (int srcX0, int srcY0, int srcX1, int srcY1, int dstX0, int dstY0, int dstX1, int dstY1, int mask, int filter) {
+		gl30.glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
+	}
+
+	@Override
+	public void glRenderbufferStorageMultisample (int target, int samples, int internalformat, int width, int height) {
+		gl30.glRenderbufferStorageMultisample(target, samples, internalformat, width, height);
+	}
+
+	@Override
+	public void glFramebufferTextureLayer (int target, int attachment, int texture, int level, int layer) {
+		gl30.glFramebufferTextureLayer(target, attachment, texture, level, layer);
+	}
+
+	@Override
+	public Buffer glMapBufferRange (int target, int offset, int length, int access) {
+		return gl30.glMapBufferRange(target, offset, length, access);
+	}
+
+	@Override
+	public void glFlushMappedBufferRange (int target, int offset, int length) {
+		gl30.glFlushMappedBufferRange(target, offset, length);
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		gl30.glBindVertexArray(array);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		gl30.glDeleteVertexArrays(n, arrays, offset);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		gl30.glDeleteVertexArrays(n, arrays);
+	}
+
+	@Override
+	public void glGenVertexArrays (int n, int[] arrays, int offset) {
+		gl30.glGenVertexArrays(n, arrays, offset);
+	}
+
+	@Override
+	public void glGenVertexArrays (int n, IntBuffer arrays) {
+		gl30.glGenVertexArrays(n, arrays);
+	}
+
+	@Override
+	public boolean glIsVertexArray (int array) {
+		return gl30.glIsVertexArray(array);
+	}
+
+	@Override
+	public void glBeginTransformFeedback (int primitiveMode) {
+		gl30.glBeginTransformFeedback(primitiveMode);
+	}
+
+	@Override
+	public void glEndTransformFeedback () {
+		gl30.glEndTransformFeedback();
+	}
+
+	@Override
+	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
+		gl30.glBindBufferRange(target, index, buffer, offset, size);
+	}
+
+	@Override
+	public void glBindBufferBase (int target, int index, int buffer) {
+		gl30.glBindBufferBase(target, index, buffer);
+	}
+
+	@Override
+	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
+		gl30.glTransformFeedbackVaryings(program, varyings, bufferMode);
+	}
+
+	@Override
+	public void glVertexAttribIPointer (int index, int size, int type, int stride, int offset) {
+		gl30.glVertexAttribIPointer(index, size, type, stride, offset);
+	}
+
+	@Override
+	public void glGetVertexAttribIiv (int index, int pname, IntBuffer params) {
+		gl30.glGetVertexAttribIiv(index, pname, params);
+	}
+
+	@Override
+	public void glGetVertexAttribIuiv (int index, int pname, IntBuffer params) {
+		gl30.glGetVertexAttribIuiv(index, pname, params);
+	}
+
+	@Override
+	public void glVertexAttribI4i (int index, int x, int y, int z, int w) {
+		gl30.glVertexAttribI4i(index, x, y, z, w);
+	}
+
+	@Override
+	public void glVertexAttribI4ui (int index, int x, int y, int z, int w) {
+		gl30.glVertexAttribI4ui(index, x, y, z, w);
+	}
+
+	@Override
+	public void glGetUniformuiv (int program, int location, IntBuffer params) {
+		gl30.glGetUniformuiv(program, location, params);
+	}
+
+	@Override
+	public int glGetFragDataLocation (int program, String name) {
+		return gl30.glGetFragDataLocation(program, name);
+	}
+
+	@Override
+	public void glUniform1uiv (int location, int count, IntBuffer value) {
+		gl30.glUniform1uiv(location, count, value);
+	}
+
+	@Override
+	public void glUniform3uiv (int location, int count, IntBuffer value) {
+		gl30.glUniform3uiv(location, count, value);
+	}
+
+	@Override
+	public void glUniform4uiv (int location, int count, IntBuffer value) {
+		gl30.glUniform4uiv(location, count, value);
+	}
+
+	@Override
+	public void glClearBufferiv (int buffer, int drawbuffer, IntBuffer value) {
+		gl30.glClearBufferiv(buffer, drawbuffer, value);
+	}
+
+	@Override
+	public void glClearBufferuiv (int buffer, int drawbuffer, IntBuffer value) {
+		gl30.glClearBufferuiv(buffer, drawbuffer, value);
+	}
+
+	@Override
+	public void glClearBufferfv (int buffer, int drawbuffer, FloatBuffer value) {
+		gl30.glClearBufferfv(buffer, drawbuffer, value);
+	}
+
+	@Override
+	public void glClearBufferfi (int buffer, int drawbuffer, float depth, int stencil) {
+		gl30.glClearBufferfi(buffer, drawbuffer, depth, stencil);
+	}
+
+	@Override
+	public String glGetStringi (int name, int index) {
+		return gl30.glGetStringi(name, index);
+	}
+
+	@Override
+	public void glCopyBufferSubData (int readTarget, int writeTarget, int readOffset, int writeOffset, int size) {
+		gl30.glCopyBufferSubData(readTarget, writeTarget, readOffset, writeOffset, size);
+	}
+
+	@Override
+	public void glGetUniformIndices (int program, String[] uniformNames, IntBuffer uniformIndices) {
+		gl30.glGetUniformIndices(program, uniformNames, uniformIndices);
+	}
+
+	@Override
+	public void glGetActiveUniformsiv (int program, int uniformCount, IntBuffer uniformIndices, int pname, IntBuffer params) {
+		gl30.glGetActiveUniformsiv(program, uniformCount, uniformIndices, pname, params);
+	}
+
+	@Override
+	public int glGetUniformBlockIndex (int program, String uniformBlockName) {
+		return gl30.glGetUniformBlockIndex(program, uniformBlockName);
+	}
+
+	@Override
+	public void glGetActiveUniformBlockiv (int program, int uniformBlockIndex, int pname, IntBuffer params) {
+		gl30.glGetActiveUniformBlockiv(program, uniformBlockIndex, pname, params);
+	}
+
+	@Override
+	public void glGetActiveUniformBlockName (int program, int uniformBlockIndex, Buffer length, Buffer uniformBlockName) {
+		gl30.glGetActiveUniformBlockName(program, uniformBlockIndex, length, uniformBlockName);
+	}
+
+	@Override
+	public String glGetActiveUniformBlockName (int program, int uniformBlockIndex) {
+		return gl30.glGetActiveUniformBlockName(program, uniformBlockIndex);
+	}
+
+	@Override
+	public void glUniformBlockBinding (int program, int uniformBlockIndex, int uniformBlockBinding) {
+		gl30.glUniformBlockBinding(program, uniformBlockIndex, uniformBlockBinding);
+	}
+
+	@Override
+	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
+		gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
+	}
+
+	@Override
+	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
+		gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+	}
+
+	@Override
+	public void glGetInteger64v (int pname, LongBuffer params) {
+		gl30.glGetInteger64v(pname, params);
+	}
+
+	@Override
+	public void glGetBufferParameteri64v (int target, int pname, LongBuffer params) {
+		gl30.glGetBufferParameteri64v(target, pname, params);
+	}
+
+	@Override
+	public void glGenSamplers (int count, int[] samplers, int offset) {
+		gl30.glGenSamplers(count, samplers, offset);
+	}
+
+	@Override
+	public void glGenSamplers (int count, IntBuffer samplers) {
+		gl30.glGenSamplers(count, samplers);
+	}
+
+	@Override
+	public void glDeleteSamplers (int count, int[] samplers, int offset) {
+		gl30.glDeleteSamplers(count, samplers, offset);
+	}
+
+	@Override
+	public void glDeleteSamplers (int count, IntBuffer samplers) {
+		gl30.glDeleteSamplers(count, samplers);
+	}
+
+	@Override
+	public boolean glIsSampler (int sampler) {
+		return gl30.glIsSampler(sampler);
+	}
+
+	@Override
+	public void glBindSampler (int unit, int sampler) {
+		gl30.glBindSampler(unit, sampler);
+	}
+
+	@Override
+	public void glSamplerParameteri (int sampler, int pname, int param) {
+		gl30.glSamplerParameteri(sampler, pname, param);
+	}
+
+	@Override
+	public void glSamplerParameteriv (int sampler, int pname, IntBuffer param) {
+		gl30.glSamplerParameteriv(sampler, pname, param);
+	}
+
+	@Override
+	public void glSamplerParameterf (int sampler, int pname, float param) {
+		gl30.glSamplerParameterf(sampler, pname, param);
+	}
+
+	@Override
+	public void glSamplerParameterfv (int sampler, int pname, FloatBuffer param) {
+		gl30.glSamplerParameterfv(sampler, pname, param);
+	}
+
+	@Override
+	public void glGetSamplerParameteriv (int sampler, int pname, IntBuffer params) {
+		gl30.glGetSamplerParameteriv(sampler, pname, params);
+	}
+
+	@Override
+	public void glGetSamplerParameterfv (int sampler, int pname, FloatBuffer params) {
+		gl30.glGetSamplerParameterfv(sampler, pname, params);
+	}
+
+	@Override
+	public void glVertexAttribDivisor (int index, int divisor) {
+		gl30.glVertexAttribDivisor(index, divisor);
+	}
+
+	@Override
+	public void glBindTransformFeedback (int target, int id) {
+		gl30.glBindTransformFeedback(target, id);
+	}
+
+	@Override
+	public void glDeleteTransformFeedbacks (int n, int[] ids, int offset) {
+		gl30.glDeleteTransformFeedbacks(n, ids, offset);
+	}
+
+	@Override
+	public void glDeleteTransformFeedbacks (int n, IntBuffer ids) {
+		gl30.glDeleteTransformFeedbacks(n, ids);
+	}
+
+	@Override
+	public void glGenTransformFeedbacks (int n, int[] ids, int offset) {
+		gl30.glGenTransformFeedbacks(n, ids, offset);
+	}
+
+	@Override
+	public void glGenTransformFeedbacks (int n, IntBuffer ids) {
+		gl30.glGenTransformFeedbacks(n, ids);
+	}
+
+	@Override
+	public boolean glIsTransformFeedback (int id) {
+		return gl30.glIsTransformFeedback(id);
+	}
+
+	@Override
+	public void glPauseTransformFeedback () {
+		gl30.glPauseTransformFeedback();
+	}
+
+	@Override
+	public void glResumeTransformFeedback () {
+		gl30.glResumeTransformFeedback();
+	}
+
+	@Override
+	public void glProgramParameteri (int program, int pname, int value) {
+		gl30.glProgramParameteri(program, pname, value);
+	}
+
+	@Override
+	public void glInvalidateFramebuffer (int target, int numAttachments, IntBuffer attachments) {
+		gl30.glInvalidateFramebuffer(target, numAttachments, attachments);
+	}
+
+	@Override
+	public void glInvalidateSubFramebuffer (int target, int numAttachments, IntBuffer attachments, int x, int y, int width, int height) {
+		gl30.glInvalidateSubFramebuffer(target, numAttachments, attachments, x, y, width, height);
+	}
+
+	@Override
+	public void glDispatchCompute (int num_groups_x, int num_groups_y, int num_groups_z) {
+		gl31.glDispatchCompute(num_groups_x, num_groups_y, num_groups_z);
+	}
+
+	@Override
+	public void glDispatchComputeIndirect (long indirect) {
+		gl31.glDispatchComputeIndirect(indirect);
+	}
+
+	@Override
+	public void glDrawArraysIndirect (int mode, long indirect) {
+		gl31.glDrawArraysIndirect(mode, indirect);
+	}
+
+	@Override
+	public void glDrawElementsIndirect (int mode, int type, long indirect) {
+		gl31.glDrawElementsIndirect(mode, type, indirect);
+	}
+
+	@Override
+	public void glFramebufferParameteri (int target, int pname, int param) {
+		gl31.glFramebufferParameteri(target, pname, param);
+	}
+
+	@Override
+	public void glGetFramebufferParameteriv (int target, int pname, IntBuffer params) {
+		gl31.glGetFramebufferParameteriv(target, pname, params);
+	}
+
+	@Override
+	public void glGetProgramInterfaceiv (int program, int programInterface, int pname, IntBuffer params) {
+		gl31.glGetProgramInterfaceiv(program, programInterface, pname, params);
+	}
+
+	@Override
+	public int glGetProgramResourceIndex (int program, int programInterface, String name) {
+		return gl31.glGetProgramResourceIndex(program, programInterface, name);
+	}
+
+	@Override
+	public String glGetProgramResourceName (int program, int programInterface, int index) {
+		return gl31.glGetProgramResourceName(program, programInterface, index);
+	}
+
+	@Override
+	public void glGetProgramResourceiv (int program, int programInterface, int index, IntBuffer props, IntBuffer length, IntBuffer params) {
+		gl31.glGetProgramResourceiv(program, programInterface, index, props, length, params);
+	}
+
+	@Override
+	public int glGetProgramResourceLocation (int program, int programInterface, String name) {
+		return gl31.glGetProgramResourceLocation(program, programInterface, name);
+	}
+
+	@Override
+	public void glUseProgramStages (int pipeline, int stages, int program) {
+		gl31.glUseProgramStages(pipeline, stages, program);
+	}
+
+	@Override
+	public void glActiveShaderProgram (int pipeline, int program) {
+		gl31.glActiveShaderProgram(pipeline, program);
+	}
+
+	@Override
+	public int glCreateShaderProgramv (int type, String[] strings) {
+		return gl31.glCreateShaderProgramv(type, strings);
+	}
+
+	@Override
+	public void glBindProgramPipeline (int pipeline) {
+		gl31.glBindProgramPipeline(pipeline);
+	}
+
+	@Override
+	public void glDeleteProgramPipelines (int count, IntBuffer pipelines) {
+		gl31.glDeleteProgramPipelines(count, pipelines);
+	}
+
+	@Override
+	public void glGenProgramPipelines (int count, IntBuffer pipelines) {
+		gl31.glGenProgramPipelines(count, pipelines);
+	}
+
+	@Override
+	public boolean glIsProgramPipeline (int pipeline) {
+		return gl31.glIsProgramPipeline(pipeline);
+	}
+
+	@Override
+	public void glGetProgramPipelineiv (int pipeline, int pname, IntBuffer params) {
+		gl31.glGetProgramPipelineiv(pipeline, pname, params);
+	}
+
+	@Override
+	public void glProgramUniform1i (int program, int location, int v0) {
+		gl31.glProgramUniform1i(program, location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2i (int program, int location, int v0, int v1) {
+		gl31.glProgramUniform2i(program, location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3i (int program, int location, int v0, int v1, int v2) {
+		gl31.glProgramUniform3i(program, location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4i (int program, int location, int v0, int v1, int v2, int v3) {
+		gl31.glProgramUniform4i(program, location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1ui (int program, int location, int v0) {
+		gl31.glProgramUniform1ui(program, location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2ui (int program, int location, int v0, int v1) {
+		gl31.glProgramUniform2ui(program, location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3ui (int program, int location, int v0, int v1, int v2) {
+		gl31.glProgramUniform3ui(program, location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4ui (int program, int location, int v0, int v1, int v2, int v3) {
+		gl31.glProgramUniform4ui(program, location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1f (int program, int location, float v0) {
+		gl31.glProgramUniform1f(program, location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2f (int program, int location, float v0, float v1) {
+		gl31.glProgramUniform2f(program, location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3f (int program, int location, float v0, float v1, float v2) {
+		gl31.glProgramUniform3f(program, location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4f (int program, int location, float v0, float v1, float v2, float v3) {
+		gl31.glProgramUniform4f(program, location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1iv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform1iv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform2iv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform2iv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform3iv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform3iv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform4iv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform4iv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform1uiv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform1uiv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform2uiv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform2uiv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform3uiv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform3uiv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform4uiv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform4uiv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform1fv (int program, int location, FloatBuffer value) {
+		gl31.glProgramUniform1fv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform2fv (int program, int location, FloatBuffer value) {
+		gl31.glProgramUniform2fv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform3fv (int program, int location, FloatBuffer value) {
+		gl31.glProgramUniform3fv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform4fv (int program, int location, FloatBuffer value) {
+		gl31.glProgramUniform4fv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix2fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix3fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix4fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix2x3fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix3x2fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix2x4fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix4x2fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix3x4fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix4x3fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glValidateProgramPipeline (int pipeline) {
+		gl31.glValidateProgramPipeline(pipeline);
+	}
+
+	@Override
+	public String glGetProgramPipelineInfoLog (int program) {
+		return gl31.glGetProgramPipelineInfoLog(program);
+	}
+
+	@Override
+	public void glBindImageTexture (int unit, int texture, int level, boolean layered, int layer, int access, int format) {
+		gl31.glBindImageTexture(unit, texture, level, layered, layer, access, format);
+	}
+
+	@Override
+	public void glGetBooleani_v (int target, int index, IntBuffer data) {
+		gl31.glGetBooleani_v(target, index, data);
+	}
+
+	@Override
+	public void glMemoryBarrier (int barriers) {
+		gl31.glMemoryBarrier(barriers);
+	}
+
+	@Override
+	public void glMemoryBarrierByRegion (int barriers) {
+		gl31.glMemoryBarrierByRegion(barriers);
+	}
+
+	@Override
+	public void glTexStorage2DMultisample (int target, int samples, int internalformat, int width, int height, boolean fixedsamplelocations) {
+		gl31.glTexStorage2DMultisample(target, samples, internalformat, width, height, fixedsamplelocations);
+	}
+
+	@Override
+	public void glGetMultisamplefv (int pname, int index, FloatBuffer val) {
+		gl31.glGetMultisamplefv(pname, index, val);
+	}
+
+	@Override
+	public void glSampleMaski (int maskNumber, int mask) {
+		gl31.glSampleMaski(maskNumber, mask);
+	}
+
+	@Override
+	public void glGetTexLevelParameteriv (int target, int level, int pname, IntBuffer params) {
+		gl31.glGetTexLevelParameteriv(target, level, pname, params);
+	}
+
+	@Override
+	public void glGetTexLevelParameterfv (int target, int level, int pname, FloatBuffer params) {
+		gl31.glGetTexLevelParameterfv(target, level, pname, params);
+	}
+
+	@Override
+	public void glBindVertexBuffer (int bindingindex, int buffer, long offset, int stride) {
+		gl31.glBindVertexBuffer(bindingindex, buffer, offset, stride);
+	}
+
+	@Override
+	public void glVertexAttribFormat (int attribindex, int size, int type, boolean normalized, int relativeoffset) {
+		gl31.glVertexAttribFormat(attribindex, size, type, normalized, relativeoffset);
+	}
+
+	@Override
+	public void glVertexAttribIFormat (int attribindex, int size, int type, int relativeoffset) {
+		gl31.glVertexAttribIFormat(attribindex, size, type, relativeoffset);
+	}
+
+	@Override
+	public void glVertexAttribBinding (int attribindex, int bindingindex) {
+		gl31.glVertexAttribBinding(attribindex, bindingindex);
+	}
+
+	@Override
+	public void glVertexBindingDivisor (int bindingindex, int divisor) {
+		gl31.glVertexBindingDivisor(bindingindex, divisor);
+	}
+
+	@Override
+	public void glBlendBarrier () {
+		gl32.glBlendBarrier();
+	}
+
+	@Override
+	public void glCopyImageSubData (int srcName, int srcTarget, int srcLevel, int srcX, int srcY, int srcZ, int dstName, int dstTarget, int dstLevel, int dstX, int dstY, int dstZ, int srcWidth, int srcHeight, int srcDepth) {
+		gl32.glCopyImageSubData(srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, srcWidth, srcHeight, srcDepth);
+	}
+
+	@Override
+	public void glDebugMessageControl (int source, int type, int severity, IntBuffer ids, boolean enabled) {
+		gl32.glDebugMessageControl(source, type, severity, ids, enabled);
+	}
+
+	@Override
+	public void glDebugMessageInsert (int source, int type, int id, int severity, String buf) {
+		gl32.glDebugMessageInsert(source, type, id, severity, buf);
+	}
+
+	@Override
+	public void glDebugMessageCallback (DebugProc callback) {
+		gl32.glDebugMessageCallback(callback);
+	}
+
+	@Override
+	public int glGetDebugMessageLog (int count, IntBuffer sources, IntBuffer types, IntBuffer ids, IntBuffer severities, IntBuffer lengths, ByteBuffer messageLog) {
+		return gl32.glGetDebugMessageLog(count, sources, types, ids, severities, lengths, messageLog);
+	}
+
+	@Override
+	public void glPushDebugGroup (int source, int id, String message) {
+		gl32.glPushDebugGroup(source, id, message);
+	}
+
+	@Override
+	public void glPopDebugGroup () {
+		gl32.glPopDebugGroup();
+	}
+
+	@Override
+	public void glObjectLabel (int identifier, int name, String label) {
+		gl32.glObjectLabel(identifier, name, label);
+	}
+
+	@Override
+	public String glGetObjectLabel (int identifier, int name) {
+		return gl32.glGetObjectLabel(identifier, name);
+	}
+
+	@Override
+	public long glGetPointerv (int pname) {
+		return gl32.glGetPointerv(pname);
+	}
+
+	@Override
+	public void glEnablei (int target, int index) {
+		gl32.glEnablei(target, index);
+	}
+
+	@Override
+	public void glDisablei (int target, int index) {
+		gl32.glDisablei(target, index);
+	}
+
+	@Override
+	public void glBlendEquationi (int buf, int mode) {
+		gl32.glBlendEquationi(buf, mode);
+	}
+
+	@Override
+	public void glBlendEquationSeparatei (int buf, int modeRGB, int modeAlpha) {
+		gl32.glBlendEquationSeparatei(buf, modeRGB, modeAlpha);
+	}
+
+	@Override
+	public void glBlendFunci (int buf, int src, int dst) {
+		gl32.glBlendFunci(buf, src, dst);
+	}
+
+	@Override
+	public void glBlendFuncSeparatei (int buf, int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		gl32.glBlendFuncSeparatei(buf, srcRGB, dstRGB, srcAlpha, dstAlpha);
+	}
+
+	@Override
+	public void glColorMaski (int index, boolean r, boolean g, boolean b, boolean a) {
+		gl32.glColorMaski(index, r, g, b, a);
+	}
+
+	@Override
+	public boolean glIsEnabledi (int target, int index) {
+		return gl32.glIsEnabledi(target, index);
+	}
+
+	@Override
+	public void glDrawElementsBaseVertex (int mode, int count, int type, Buffer indices, int basevertex) {
+		gl32.glDrawElementsBaseVertex(mode, count, type, indices, basevertex);
+	}
+
+	@Override
+	public void glDrawRangeElementsBaseVertex (int mode, int start, int end, int count, int type, Buffer indices, int basevertex) {
+		gl32.glDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, Buffer indices, int instanceCount, int basevertex) {
+		gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indices, instanceCount, basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, int indicesOffset, int instanceCount, int basevertex) {
+		gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indicesOffset, instanceCount, basevertex);
+	}
+
+	@Override
+	public void glFramebufferTexture (int target, int attachment, int texture, int level) {
+		gl32.glFramebufferTexture(target, attachment, texture, level);
+	}
+
+	@Override
+	public int glGetGraphicsResetStatus () {
+		return gl32.glGetGraphicsResetStatus();
+	}
+
+	@Override
+	public void glReadnPixels (int x, int y, int width, int height, int format, int type, int bufSize, Buffer data) {
+		gl32.glReadnPixels(x, y, width, height, format, type, bufSize, data);
+	}
+
+	@Override
+	public void glGetnUniformfv (int program, int location, FloatBuffer params) {
+		gl32.glGetnUniformfv(program, location, params);
+	}
+
+	@Override
+	public void glGetnUniformiv (int program, int location, IntBuffer params) {
+		gl32.glGetnUniformiv(program, location, params);
+	}
+
+	@Override
+	public void glGetnUniformuiv (int program, int location, IntBuffer params) {
+		gl32.glGetnUniformuiv(program, location, params);
+	}
+
+	@Override
+	public void glMinSampleShading (float value) {
+		gl32.glMinSampleShading(value);
+	}
+
+	@Override
+	public void glPatchParameteri (int pname, int value) {
+		gl32.glPatchParameteri(pname, value);
+	}
+
+	@Override
+	public void glTexParameterIiv (int target, int pname, IntBuffer params) {
+		gl32.glTexParameterIiv(target, pname, params);
+	}
+
+	@Override
+	public void glTexParameterIuiv (int target, int pname, IntBuffer params) {
+		gl32.glTexParameterIuiv(target, pname, params);
+	}
+
+	@Override
+	public void glGetTexParameterIiv (int target, int pname, IntBuffer params) {
+		gl32.glGetTexParameterIiv(target, pname, params);
+	}
+
+	@Override
+	public void glGetTexParameterIuiv (int target, int pname, IntBuffer params) {
+		gl32.glGetTexParameterIuiv(target, pname, params);
+	}
+
+	@Override
+	public void glSamplerParameterIiv (int sampler, int pname, IntBuffer param) {
+		gl32.glSamplerParameterIiv(sampler, pname, param);
+	}
+
+	@Override
+	public void glSamplerParameterIuiv (int sampler, int pname, IntBuffer param) {
+		gl32.glSamplerParameterIuiv(sampler, pname, param);
+	}
+
+	@Override
+	public void glGetSamplerParameterIiv (int sampler, int pname, IntBuffer params) {
+		gl32.glGetSamplerParameterIiv(sampler, pname, params);
+	}
+
+	@Override
+	public void glGetSamplerParameterIuiv (int sampler, int pname, IntBuffer params) {
+		gl32.glGetSamplerParameterIuiv(sampler, pname, params);
+	}
+
+	@Override
+	public void glTexBuffer (int target, int internalformat, int buffer) {
+		gl32.glTexBuffer(target, internalformat, buffer);
+	}
+
+	@Override
+	public void glTexBufferRange (int target, int internalformat, int buffer, int offset, int size) {
+		gl32.glTexBufferRange(target, internalformat, buffer, offset, size);
+	}
+
+	@Override
+	public void glTexStorage3DMultisample (int target, int samples, int internalformat, int width, int height, int depth, boolean fixedsamplelocations) {
+		gl32.glTexStorage3DMultisample(target, samples, internalformat, width, height, depth, fixedsamplelocations);
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import com.jogamp.common.nio.Buffers;
+
+/** Temporary buffers and arrays for the {@link JoglGL20} entry points which have to pass memory to JoGL, so they don't allocate
+ * (and later clean up) a direct buffer per call. Every method hands out the same memory again, the result is only valid until
+ * the next call. Not thread safe, each instance belongs to the GL instance of one context. */
+class JoglGLScratchArena {
+	private final IntBuffer ints = Buffers.newDirectIntBuffer(16);
+	private final int[] intArray = new int[16];
+	private ByteBuffer bytes = Buffers.newDirectByteBuffer(1024);
+	private byte[] byteArray = new byte[1024];
+	private final String[] strings = new String[1];
+
+	/** @return a direct buffer holding count ints */
+	IntBuffer ints (int count) {
+		ints.clear();
+		ints.limit(count);
+		return ints;
+	}
+
+	/** @return a direct buffer holding the single value, as used to delete one object */
+	IntBuffer singleInt (int value) {
+		ints.clear();
+		ints.put(0, value);
+		ints.limit(1);
+		return ints;
+	}
+
+	/** @return an array of at least 16 ints */
+	int[] intArray () {
+		return intArray;
+	}
+
+	/** @return a direct buffer with at least the given capacity, limited to it */
+	ByteBuffer bytes (int capacity) {
+		if (bytes.capacity() < capacity) bytes = Buffers.newDirectByteBuffer(Math.max(capacity, bytes.capacity() * 2));
+		bytes.clear();
+		bytes.limit(capacity);
+		return bytes;
+	}
+
+	/** @return a direct buffer holding the encoded string without a terminator, limited to its length */
+	ByteBuffer bytes (String string) {
+		final byte[] encoded = string.getBytes();
+		final ByteBuffer buffer = bytes(encoded.length);
+		buffer.put(encoded).flip();
+		return buffer;
+	}
+
+	/** @return an array of at least the given length */
+	byte[] byteArray (int length) {
+		if (byteArray.length < length) byteArray = new byte[Math.max(length, byteArray.length * 2)];
+		return byteArray;
+	}
+
+	/** @return an array holding the single string, to be cleared with {@link #clearStrings()} once passed on */
+	String[] strings (String string) {
+		strings[0] = string;
+		return strings;
+	}
+
+	/** Drops the reference to the string handed out last, so a shader source isn't kept alive by the arena. */
+	void clearStrings () {
+		strings[0] = null;
+	}
+
+	/** @return the first length bytes of the buffer decoded, the only allocation is the returned string */
+	String string (ByteBuffer buffer, int length) {
+		final byte[] array = byteArray(length);
+		buffer.position(0);
+		buffer.get(array, 0, length);
+		return new String(array, 0, length);
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+
+/** Runs GL jobs on worker threads, each owning an offscreen context which shares its objects with the context of the main
+ * drawable. Textures, buffers and programs created by a job can be used on the main context once the future of the job is done:
+ * the worker puts a fence behind the calls of the job and waits for the GPU to pass it before it completes the future, so the
+ * main context never samples a half uploaded texture. Without sync objects the worker calls glFinish instead.
+ * <p>
+ * Container objects such as framebuffers and vertex arrays aren't shared between contexts, jobs should only create the objects
+ * they're attached to. Jobs must use the GL instance they're given, {@link com.badlogic.gdx.Gdx#gl} belongs to the main
+ * context. */
+public class JoglGLWorkerPool implements Disposable {
+	/** how long a worker waits for its fence at a time, in nanoseconds **/
+	private static final long FENCE_TIMEOUT = 1000000000L;
+
+	/** A job run on a worker thread with the worker's context current. */
+	public interface GLJob<T> {
+		T run (GL20 gl) throws Exception;
+	}
+
+	private final Array<GLOffscreenAutoDrawable> drawables = new Array<GLOffscreenAutoDrawable>();
+	/** the contexts not yet taken by a worker thread **/
+	private final LinkedBlockingQueue<GLAutoDrawable> idle = new LinkedBlockingQueue<GLAutoDrawable>();
+	private final ExecutorService executor;
+	private final boolean useGL30;
+	/** the backend instance of each worker thread, bound to its context **/
+	private final ThreadLocal<JoglGL20> workerGL = new ThreadLocal<JoglGL20>();
+	/** the context of each worker thread **/
+	private final ThreadLocal<GLAutoDrawable> workerDrawable = new ThreadLocal<GLAutoDrawable>();
+
+	/** Creates the worker contexts, sharing with the context of the given drawable which must have been realized.
+	 * @param useGL30 whether the jobs are handed a {@link GL30} instance */
+	public JoglGLWorkerPool (GLAutoDrawable shared, int workers, boolean useGL30) {
+		if (workers <= 0) throw new IllegalArgumentException("workers must be > 0: " + workers);
+		this.useGL30 = useGL30;
+		final GLDrawableFactory factory = GLDrawableFactory.getFactory(shared.getGLProfile());
+		final GLCapabilities caps = new GLCapabilities(shared.getGLProfile());
+		try {
+			for (int i = 0; i < workers; i++) {
+				final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 1, 1);
+				drawable.setSharedAutoDrawable(shared);
+				// creates the context, it's released again afterwards so the worker thread can take it
+				drawable.display();
+				drawables.add(drawable);
+				idle.add(drawable);
+			}
+		} catch (GLException e) {
+			dispose();
+			throw new GdxRuntimeException("Couldn't create the shared GL worker contexts", e);
+		}
+		executor = Executors.newFixedThreadPool(workers, new ThreadFactory() {
+			@Override
+			public Thread newThread (final Runnable runnable) {
+				// a thread replacing a dying worker is created on the dying one and takes over its context, making it current
+				// waits until the dying worker has released it
+				GLAutoDrawable taken = idle.poll();
+				if (taken == null) taken = workerDrawable.get();
+				if (taken == null) throw new GdxRuntimeException("No GL context left for a new worker thread");
+				final GLAutoDrawable drawable = taken;
+				final Thread thread = new Thread(new Runnable() {
+					@Override
+					public void run () {
+						workerDrawable.set(drawable);
+						final GLContext context = drawable.getContext();
+						context.makeCurrent();
+						try {
+							runnable.run();
+						} finally {
+							context.release();
+						}
+					}
+				}, "LibGDX GL worker");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		// start the threads up front, so none is created after the contexts have been handed out
+		for (int i = 0; i < workers; i++)
+			executor.submit(new Runnable() {
+				@Override
+				public void run () {
+				}
+			});
+	}
+
+	/** Queues the job. The future completes once the job has returned and the GPU has executed its calls, or with the exception
+	 * the job has thrown. */
+	public <T> Future<T> submit (final GLJob<T> job) {
+		return executor.submit(new Callable<T>() {
+			@Override
+			public T call () throws Exception {
+				final GL gl = GLContext.getCurrentGL();
+				final T result = job.run(workerGL(gl));
+				finish(gl);
+				return result;
+			}
+		});
+	}
+
+	/** Stops the workers after the queued jobs have run and destroys their contexts. */
+	@Override
+	public void dispose () {
+		if (executor != null) {
+			executor.shutdown();
+			try {
+				executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		for (int i = 0; i < drawables.size; i++)
+			drawables.get(i).destroy();
+		drawables.clear();
+	}
+
+	private GL20 workerGL (GL gl) {
+		JoglGL20 instance = workerGL.get();
+		if (instance == null) workerGL.set(instance = useGL30 ? new JoglGL30(gl) : new JoglGL20(gl));
+		return instance;
+	}
+
+	/** Waits until the GPU has executed the calls made so far on the current context. */
+	private static void finish (GL gl) {
+		if (!gl.isGL3ES3()) {
+			gl.glFinish();
+			return;
+		}
+		final GL3ES3 gl3 = gl.getGL3ES3();
+		final long fence = gl3.glFenceSync(GL30.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+		try {
+			int status = gl3.glClientWaitSync(fence, GL30.GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT);
+			while (status == GL30.GL_TIMEOUT_EXPIRED)
+				status = gl3.glClientWaitSync(fence, 0, FENCE_TIMEOUT);
+			if (status == GL30.GL_WAIT_FAILED) gl.glFinish();
+		} finally {
+			gl3.glDeleteSync(fence);
+		}
+	}
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.VersionNumber;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2GL3;
+
+/** Measures how long the GPU spends on each frame and on named passes within it, to tell whether a slow frame is GPU bound.
+ * Each frame and each pass between {@link #begin(String)} and {@link #end()} is bracketed by two glQueryCounter timestamp
+ * queries, which unlike GL_TIME_ELAPSED queries can be nested. The results are read a few frames later, once the GPU has
+ * written them, without ever waiting for it: the queries of the frames in flight are kept in a ring and those of a frame which
+ * is still pending when its slot comes around again are dropped.
+ * <p>
+ * The graphics calls {@link #beginFrame(long)} and {@link #endFrame()} around the rendering of each frame, the application only
+ * marks its passes, on the GL thread. With deferred rendering only the frame times are measured. {@link #getPassMillis()} holds
+ * the GPU milliseconds of each pass of the frame {@link #getResultFrameId()}, next to the GPU and CPU time of that frame.
+ * Requires desktop GL 3.3 or GL_ARB_timer_query. */
+public class JoglGPUTimer implements Disposable {
+	static final int GL_TIMESTAMP = 0x8E28;
+
+	static class Pass {
+		String name;
+		int start;
+		int end;
+	}
+
+	static class Frame {
+		/** the id of the frame the queries belong to, -1 if the slot is free **/
+		long frameId = -1;
+		int start;
+		int end;
+		long cpuNanos;
+		final Array<Pass> passes = new Array<Pass>();
+	}
+
+	private final JoglGL20 backend;
+	private final Frame[] ring;
+	private int current;
+	/** whether a frame has been begun and not yet ended **/
+	private boolean inFrame;
+	/** the thread the current frame was begun on, passes marked on other threads are ignored **/
+	private Thread glThread;
+	private long cpuStart;
+	/** the passes begun and not yet ended in the current frame **/
+	private final Array<Pass> open = new Array<Pass>();
+	private final Array<Pass> freePasses = new Array<Pass>();
+	private final IntArray freeQueries = new IntArray();
+	private final IntBuffer available = Buffers.newDirectIntBuffer(1);
+	private final LongBuffer timestamp = Buffers.newDirectLongBuffer(1);
+
+	private final ObjectFloatMap<String> passMillis = new ObjectFloatMap<String>();
+	private long resultFrameId = -1;
+	private float gpuFrameMillis;
+	private float cpuFrameMillis;
+	private int droppedFrames;
+
+	/** @param latency the number of frames the results may lag behind, 2 or 3 keep the GPU from ever being waited for */
+	public JoglGPUTimer (JoglGL20 backend, int latency) {
+		if (latency < 1) throw new IllegalArgumentException("latency must be >= 1: " + latency);
+		this.backend = backend;
+		ring = new Frame[latency + 1];
+		for (int i = 0; i < ring.length; i++)
+			ring[i] = new Frame();
+	}
+
+	/** @return whether the context of the backend supports timestamp queries */
+	public static boolean isSupported (JoglGL20 backend) {
+		final GL gl = backend.gl;
+		if (!gl.isGL2GL3()) return false;
+		final VersionNumber version = gl.getContext().getGLVersionNumber();
+		return version.getMajor() > 3 || (version.getMajor() == 3 && version.getMinor() >= 3)
+			|| gl.isExtensionAvailable("GL_ARB_timer_query");
+	}
+
+	/** Publishes the results of the frames the GPU has finished and starts timing a new frame. */
+	public void beginFrame (long frameId) {
+		if (inFrame) throw new GdxRuntimeException("endFrame() must be called before beginFrame()");
+		collect();
+		final Frame frame = ring[current];
+		if (frame.frameId >= 0) {
+			// the GPU is further behind than the ring covers, reuse the queries rather than waiting for them
+			recycle(frame);
+			droppedFrames++;
+		}
+		frame.frameId = frameId;
+		frame.start = timestamp();
+		cpuStart = System.nanoTime();
+		glThread = Thread.currentThread();
+		inFrame = true;
+	}
+
+	public void endFrame () {
+		if (!inFrame) throw new GdxRuntimeException("beginFrame() must be called before endFrame()");
+		if (open.size > 0) throw new GdxRuntimeException("GPU timer pass not ended: " + open.peek().name);
+		final Frame frame = ring[current];
+		frame.end = timestamp();
+		frame.cpuNanos = System.nanoTime() - cpuStart;
+		current = (current + 1) % ring.length;
+		inFrame = false;
+	}
+
+	/** Starts timing a pass of the current frame, passes can be nested. Passes of the same name are added up. Ignored outside of
+	 * a frame and off the GL thread, e.g. in a render() running on the logic thread with deferred rendering. */
+	public void begin (String name) {
+		if (!inFrame || Thread.currentThread() != glThread) return;
+		final Pass pass = freePasses.size > 0 ? freePasses.pop() : new Pass();
+		pass.name = name;
+		pass.start = timestamp();
+		pass.end = 0;
+		open.add(pass);
+		ring[current].passes.add(pass);
+	}
+
+	/** Ends the pass begun last, ignored where {@link #begin(String)} is. */
+	public void end () {
+		if (!inFrame || Thread.currentThread() != glThread) return;
+		if (open.size == 0) throw new GdxRuntimeException("begin() must be called before end()");
+		open.pop().end = timestamp();
+	}
+
+	/** Reads the results of the finished frames, oldest first, and stops at the first one the GPU hasn't finished. */
+	private void collect () {
+		final GL2GL3 gl = backend.gl.getGL2GL3();
+		for (int i = 1; i < ring.length; i++) {
+			final Frame frame = ring[(current + i) % ring.length];
+			if (frame.frameId < 0) continue;
+			available.clear();
+			gl.glGetQueryObjectuiv(frame.end, GL30.GL_QUERY_RESULT_AVAILABLE, available);
+			if (available.get(0) == 0) return;
+			passMillis.clear();
+			for (int j = 0; j < frame.passes.size; j++) {
+				final Pass pass = frame.passes.get(j);
+				passMillis.getAndIncrement(pass.name, 0, millis(gl, pass.start, pass.end));
+			}
+			gpuFrameMillis = millis(gl, frame.start, frame.end);
+			cpuFrameMillis = frame.cpuNanos / 1000000f;
+			resultFrameId = frame.frameId;
+			recycle(frame);
+		}
+	}
+
+	private float millis (GL2GL3 gl, int startQuery, int endQuery) {
+		timestamp.clear();
+		gl.glGetQueryObjectui64v(startQuery, GL30.GL_QUERY_RESULT, timestamp);
+		final long start = timestamp.get(0);
+		timestamp.clear();
+		gl.glGetQueryObjectui64v(endQuery, GL30.GL_QUERY_RESULT, timestamp);
+		return (timestamp.get(0) - start) / 1000000f;
+	}
+
+	/** Issues a timestamp query with a pooled query object. */
+	private int timestamp () {
+		final GL2GL3 gl = backend.gl.getGL2GL3();
+		int query;
+		if (freeQueries.size > 0) {
+			query = freeQueries.pop();
+		} else {
+			final int[] queries = freeQueries.ensureCapacity(1);
+			gl.glGenQueries(1, queries, freeQueries.size);
+			query = queries[freeQueries.size];
+		}
+		gl.glQueryCounter(query, GL_TIMESTAMP);
+		return query;
+	}
+
+	private void recycle (Frame frame) {
+		freeQueries.add(frame.start);
+		freeQueries.add(frame.end);
+		for (int i = 0; i < frame.passes.size; i++) {
+			final Pass pass = frame.passes.get(i);
+			freeQueries.add(pass.start);
+			if (pass.end != 0) freeQueries.add(pass.end);
+			pass.name = null;
+			freePasses.add(pass);
+		}
+		frame.passes.clear();
+		frame.frameId = -1;
+	}
+
+	/** @return the GPU milliseconds of each pass of the frame {@link #getResultFrameId()}, updated by {@link #beginFrame(long)} */
+	public ObjectFloatMap<String> getPassMillis () {
+		return passMillis;
+	}
+
+	/** @return the GPU milliseconds of the pass in the frame {@link #getResultFrameId()}, 0 if it had no such pass */
+	public float getPassMillis (String name) {
+		return passMillis.get(name, 0);
+	}
+
+	/** @return the milliseconds the GPU spent between the beginning and the end of the frame {@link #getResultFrameId()} */
+	public float getGpuFrameMillis () {
+		return gpuFrameMillis;
+	}
+
+	/** @return the milliseconds the CPU spent between the beginning and the end of the frame {@link #getResultFrameId()} */
+	public float getCpuFrameMillis () {
+		return cpuFrameMillis;
+	}
+
+	/** @return the id of the frame the results belong to, -1 if none are available yet */
+	public long getResultFrameId () {
+		return resultFrameId;
+	}
+
+	/** @return the number of frames whose results have been dropped because the GPU was too far behind */
+	public int getDroppedFrames () {
+		return droppedFrames;
+	}
+
+	/** Forgets the queries in flight and the pooled ones, to be called after the backend has been bound to a new context. */
+	public void invalidate () {
+		for (int i = 0; i < ring.length; i++)
+			recycle(ring[i]);
+		freeQueries.clear();
+		open.clear();
+		inFrame = false;
+		glThread = null;
+	}
+
+	@Override
+	public void dispose () {
+		for (int i = 0; i < ring.length; i++)
+			if (ring[i].frameId >= 0) recycle(ring[i]);
+		if (freeQueries.size > 0) backend.gl.getGL2GL3().glDeleteQueries(freeQueries.size, freeQueries.items, 0);
+		freeQueries.clear();
+		open.clear();
+		inFrame = false;
+		glThread = null;
+	}
+}
@@ -16,11 +16,11 @@
 
 package com.badlogic.gdx.backends.jogamp;
 
-import com.badlogic.gdx.Application;
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.backends.lwjgl3.audio.OpenALLwjgl3Audio;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.graphics.GL31;
@@ -43,7 +43,8 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 
 	ApplicationListener listener = null;
 	boolean created = false;
-	String extensions;
+	/** the extensions and limits of the current context **/
+	JoglGLCapabilities capabilities;
 	volatile boolean isContinuous = true;
 	volatile boolean requestRendering = false;
 	volatile boolean cancelRendering = false;
@@ -57,8 +58,40 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 	boolean paused = true, disposed = false;
 	JoglApplicationConfiguration config;
 	private Sync sync = new Sync();
+	/** how long the GL thread waits for the logic thread to submit a frame with deferred rendering **/
+	private static final long FRAME_TIMEOUT = 100;
 
 	long frameId = -1;
+	/** the JoGL backed instance, bound to the GL of the drawable **/
+	JoglGL20 backendGL;
+	JoglProgramBinaryCachingGL programBinaryCachingGL;
+	JoglClientArrayEmulationGL clientArrayEmulationGL;
+	JoglStateShadowingGL stateShadowingGL;
+	JoglVertexArrayCachingGL vertexArrayCachingGL;
+	JoglSamplerCachingGL samplerCachingGL;
+	JoglUniformCachingGL uniformCachingGL;
+	JoglProgramSharingGL programSharingGL;
+	JoglValidatingGL validatingGL;
+	JoglProgramReflectionGL programReflectionGL;
+	JoglResourceTrackingGL resourceTrackingGL;
+	JoglRecordingGL recordingGL;
+	/** the backend instance behind the optional layers, as handed out while profiling is disabled **/
+	GL20 layeredGL;
+	JoglProfilingGL profilingGL;
+	JoglShaderCompiler shaderCompiler;
+	JoglGLWorkerPool workerPool;
+	JoglPixelReader pixelReader;
+	JoglGPUTimer gpuTimer;
+	JoglOcclusionQueryPool occlusionQueries;
+	JoglUniformBufferManager uniformBuffers;
+	JoglGLDebugRouter debugRouter;
+	/** the context the debug router listens to **/
+	private GLContext debugContext;
+	volatile boolean glProfiling;
+	JoglGLCommandQueue commandQueue;
+	/** the thread running the application while rendering is deferred, null if it isn't running **/
+	volatile Thread logicThread;
+	volatile Throwable logicError;
 	GL20 gl20;
 	GL30 gl30;
 
@@ -71,9 +104,10 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		if (listener == null) throw new GdxRuntimeException("RenderListener must not be null");
 		this.listener = listener;
 		this.config = config;
+		this.glProfiling = config.profileGL;
 
 		GLCapabilities caps;
-		if(config.useGL30){
+		if(config.useGL30 || config.emulateClientArrays){
 			caps = new GLCapabilities(GLProfile.getMaxProgrammable(true));
 		} else {
 			// GL20 uses glDrawElements and glVertexAttribPointer
@@ -101,6 +135,7 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		caps.setDoubleBuffered(true);
 
 		canvas = createCanvas(caps);
+		if (config.debugGL) canvas.setContextCreationFlags(canvas.getContextCreationFlags() | GLContext.CTX_OPTION_DEBUG);
 
 		//canvas.setBackground(Color.BLACK);
 		canvas.addGLEventListener(this);
@@ -128,6 +163,7 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		}
 		// stop here if not yet fully initialized
 		if (!created) return;
+		stopLogicThread();
 		animator.stop();
 		if (!canvas.getContext().isCurrent()) {
 		    canvas.getContext().makeCurrent();
@@ -149,13 +185,18 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		animator.resume();
 		animator.setRunAsFastAsPossible(true);
 		animator.start();
+		startLogicThread();
 	}
 
 	@Override
 	public void init (GLAutoDrawable drawable) {
 		initializeGLInstances(drawable);
-		initGLVersion();
+		glVersion = capabilities.getGLVersion();
+		if (config.glCapabilitiesPath != null) storeCapabilities();
 		setVSync(config.vSyncEnabled);
+		if (config.glWorkers > 0 && workerPool == null)
+			workerPool = new JoglGLWorkerPool(drawable, config.glWorkers, backendGL instanceof GL30);
+		if (config.debugGL) enableDebugOutput(drawable.getContext());
 
 		if (!created) {
 			listener.create();
@@ -164,25 +205,64 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 			}
 			created = true;
 		}
+		startLogicThread();
+	}
+
+	/** Routes the debug output of the context to the application logger, the listener moves along when the context is
+	 * recreated. */
+	private void enableDebugOutput (GLContext context) {
+		if (debugRouter == null) debugRouter = new JoglGLDebugRouter(Gdx.app, config.debugGLMessagesPerSecond);
+		if (context == debugContext) return;
+		if (debugContext != null) debugContext.removeGLDebugListener(debugRouter);
+		debugContext = context;
+		context.addGLDebugListener(debugRouter);
+		context.enableGLDebugMessage(true);
+		if (!context.isGLDebugMessageEnabled())
+			Gdx.app.error(JoglGLDebugRouter.TAG, "Debug output isn't supported by the context, no GL debug messages will be logged");
 	}
 
 	@Override
 	public void reshape (GLAutoDrawable drawable, int x, int y, int width, int height) {
-		listener.resize((int) (width/getBackBufferScale()), (int) (height/getBackBufferScale()));
+		final int logicalWidth = (int) (width/getBackBufferScale());
+		final int logicalHeight = (int) (height/getBackBufferScale());
+		if (logicThread == null) {
+			listener.resize(logicalWidth, logicalHeight);
+			return;
+		}
+		Gdx.app.postRunnable(new Runnable() {
+			@Override
+			public void run () {
+				listener.resize(logicalWidth, logicalHeight);
+			}
+		});
 	}
 
 	@Override
-	public void display (GLAutoDrawable arg0) {
+	public void display (GLAutoDrawable drawable) {
+		if (logicThread != null) {
+			displayDeferred(drawable);
+			return;
+		}
 		synchronized (this) {
 			if (!paused) {
+				final GL gl = drawable.getGL();
+				if (backendGL.gl != gl) rebindGL(gl);
+				else if (stateShadowingGL != null && isGLStateShared()) stateShadowingGL.invalidate();
+				shaderCompiler.update();
+				pixelReader.update();
+				if (occlusionQueries != null) occlusionQueries.update();
 				final boolean shouldRender = ((JoglApplicationBase)Gdx.app).executeRunnables() | shouldRender();
 				int frameRate = isBackGround() ? config.backgroundFPS : config.foregroundFPS;
 
 				if (shouldRender && !cancelRendering) {
+					beginFrame();
 					updateTime();
 					((JoglInput) (Gdx.input)).processEvents();
 					frameId++;
+					if (gpuTimer != null) gpuTimer.beginFrame(frameId);
 					listener.render();
+					if (gpuTimer != null) gpuTimer.endFrame();
+					endFrame();
 					if (Gdx.audio != null) {
 					    ((OpenALLwjgl3Audio) Gdx.audio).update();
 					}
@@ -197,6 +277,95 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		}
 	}
 
+	/** Replays the frame recorded by the logic thread, see {@link JoglApplicationConfiguration#deferredRendering}. */
+	private void displayDeferred (GLAutoDrawable drawable) {
+		final Throwable error = logicError;
+		if (error != null) {
+			logicError = null;
+			throw new GdxRuntimeException("Exception on the logic thread", error);
+		}
+		final GL gl = drawable.getGL();
+		if (backendGL.gl != gl) rebindGL(gl);
+		else if (stateShadowingGL != null && isGLStateShared()) stateShadowingGL.invalidate();
+		shaderCompiler.update();
+		pixelReader.update();
+		if (occlusionQueries != null) occlusionQueries.update();
+		if (gpuTimer != null) gpuTimer.beginFrame(frameId);
+		commandQueue.replay(recordingGL.getDelegate(), FRAME_TIMEOUT);
+		if (gpuTimer != null) gpuTimer.endFrame();
+		if (validatingGL != null) validatingGL.endFrame();
+		final int frameRate = isBackGround() ? config.backgroundFPS : config.foregroundFPS;
+		if (frameRate > 0) sync.sync(frameRate);
+	}
+
+	void startLogicThread () {
+		if (recordingGL == null || logicThread != null || paused) return;
+		commandQueue.open();
+		final Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run () {
+				runLogic();
+			}
+		}, "LibGDX logic thread");
+		thread.setDaemon(true);
+		logicThread = thread;
+		recordingGL.setRecordingThread(thread);
+		thread.start();
+	}
+
+	/** Stops the logic thread after its current frame. If called on the logic thread itself the frame is cut short, the remaining
+	 * calls are executed directly. */
+	void stopLogicThread () {
+		final Thread thread = logicThread;
+		if (thread == null) return;
+		logicThread = null;
+		if (Thread.currentThread() != thread) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		recordingGL.setRecordingThread(null);
+		commandQueue.close();
+	}
+
+	/** The render loop of the logic thread, the recorded frames are handed over to the GL thread. */
+	private void runLogic () {
+		final Sync idleSync = new Sync();
+		try {
+			while (logicThread == Thread.currentThread()) {
+				final boolean shouldRender = ((JoglApplicationBase)Gdx.app).executeRunnables() | shouldRender();
+				if (shouldRender && !cancelRendering) {
+					beginFrame();
+					updateTime();
+					((JoglInput) (Gdx.input)).processEvents();
+					frameId++;
+					listener.render();
+					endFrame();
+					if (Gdx.audio != null) {
+					    ((OpenALLwjgl3Audio) Gdx.audio).update();
+					}
+					recordingGL.submit();
+				} else {
+					// Sleeps to avoid wasting CPU in an empty loop.
+					int frameRate = isBackGround() ? config.backgroundFPS : config.foregroundFPS;
+					if (frameRate <= 0) frameRate = config.backgroundFPS;
+					if (frameRate <= 0) frameRate = 30;
+					idleSync.sync(frameRate);
+				}
+			}
+		} catch (Throwable t) {
+			// rethrown by the next display on the GL thread
+			logicError = t;
+			if (logicThread == Thread.currentThread()) {
+				logicThread = null;
+				recordingGL.setRecordingThread(null);
+				commandQueue.close();
+			}
+		}
+	}
+
 	void destroy () {
 		if (!canvas.getContext().isCurrent()) {
 		    canvas.getContext().makeCurrent();
@@ -207,6 +376,16 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		animator.remove(canvas);
 		disposed = true;
 		listener.dispose();
+		pixelReader.dispose();
+		if (gpuTimer != null) gpuTimer.dispose();
+		if (occlusionQueries != null) occlusionQueries.dispose();
+		if (uniformBuffers != null) uniformBuffers.dispose();
+		if (debugRouter != null && debugRouter.getMessages() > 0) Gdx.app.log(JoglGLDebugRouter.TAG, debugRouter.getSummary());
+		if (validatingGL != null && validatingGL.getErrors() > 0) Gdx.app.log(JoglValidatingGL.TAG, validatingGL.getSummary());
+		if (workerPool != null) {
+			workerPool.dispose();
+			workerPool = null;
+		}
 		canvas.destroy();
 	}
 
@@ -226,8 +405,7 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 
 	@Override
 	public boolean supportsExtension (String extension) {
-		if (extensions == null) extensions = Gdx.gl.glGetString(GL20.GL_EXTENSIONS);
-		return extensions.contains(extension);
+		return capabilities != null && capabilities.supportsExtension(extension);
 	}
 
 	@Override
@@ -263,27 +441,52 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 	}
 
 	void initializeGLInstances (GLAutoDrawable drawable) {
-		major = drawable.getGL().getContext().getGLVersionNumber().getMajor();
-		minor = drawable.getGL().getContext().getGLVersionNumber().getMinor();
+		final GL gl = drawable.getGL();
+		major = gl.getContext().getGLVersionNumber().getMajor();
+		minor = gl.getContext().getGLVersionNumber().getMinor();
 
-		if (config.useGL30 && major >= 3) {
-			gl30 = new JoglGL30();
-			gl20 = gl30;
+		if (major <= 1)
+			throw new GdxRuntimeException("OpenGL 2.0 or higher with the FBO extension is required. OpenGL version: " + major + "." + minor);
+
+		// the fullscreen switches of the AWT and Swing graphics get here without the context being current
+		final boolean current = gl.getContext().isCurrent();
+		if (current) capabilities = JoglGLCapabilities.query(gl);
+		final boolean useGL30 = config.useGL30 && major >= 3;
+		// ES 3.1 maps to desktop GL 4.3, which JoGL exposes as GL4ES3 like ES 3.1 contexts, and ES 3.2 to desktop GL 4.5
+		final boolean useGL31 = useGL30 && gl.isGL4ES3();
+		final boolean useGL32 = useGL31 && gl.isGL4() && (major > 4 || minor >= 5);
+		if (backendGL == null || (backendGL instanceof GL30) != useGL30 || (backendGL instanceof GL31) != useGL31
+			|| (backendGL instanceof GL32) != useGL32) {
+			backendGL = useGL32 ? new JoglGL32(gl) : useGL31 ? new JoglGL31(gl) : useGL30 ? new JoglGL30(gl) : new JoglGL20(gl);
+			layeredGL = wrapGL(backendGL);
+			profilingGL = new JoglProfilingGL(layeredGL);
+			shaderCompiler = new JoglShaderCompiler(programBinaryCachingGL != null ? programBinaryCachingGL : backendGL, backendGL);
+			if (pixelReader != null) pixelReader.dispose();
+			pixelReader = new JoglPixelReader(backendGL, 3);
+			if (gpuTimer != null) gpuTimer.dispose();
+			gpuTimer = config.gpuTimers && JoglGPUTimer.isSupported(backendGL) ? new JoglGPUTimer(backendGL, 3) : null;
+			if (occlusionQueries != null) occlusionQueries.dispose();
+			occlusionQueries = JoglOcclusionQueryPool.isSupported(backendGL)
+				? new JoglOcclusionQueryPool(backendGL, config.maxOcclusionQueries) : null;
+			if (uniformBuffers != null) uniformBuffers.dispose();
+			uniformBuffers = null;
+			if (config.uniformBufferSize > 0 && JoglUniformBufferManager.isSupported(backendGL)) {
+				final GL20 gl30 = recordingGL != null ? recordingGL.getDelegate() : layeredGL;
+				uniformBuffers = new JoglUniformBufferManager((GL30)gl30, (JoglGL30)backendGL, capabilities, config.uniformBufferSize);
+				((JoglGL30)backendGL).uniformBuffers = uniformBuffers;
+			}
 		} else {
-			gl20 = new JoglGL20();
+			// the drawable got a new context, keep the instances the application already holds
+			rebindGL(gl);
 		}
+		if (current) backendGL.capabilities = capabilities;
+		publishGL();
 
-		Gdx.gl = gl20;
-		Gdx.gl20 = gl20;
-		Gdx.gl30 = gl30;
-
-		if (major <= 1)
-			throw new GdxRuntimeException("OpenGL 2.0 or higher with the FBO extension is required. OpenGL version: " + major + "." + minor);
-		if (major == 2 && !drawable.getGL().isGLES2Compatible()) {
+		if (major == 2 && !gl.isGLES2Compatible()) {
 			if (!supportsExtension("GL_EXT_framebuffer_object") && !supportsExtension("GL_ARB_framebuffer_object")) {
-				final String vendor = drawable.getGL().glGetString(GL.GL_VENDOR);
-				final String renderer = drawable.getGL().glGetString(GL.GL_RENDERER);
-				final String version = drawable.getGL().glGetString(GL.GL_VERSION);
+				final String vendor = gl.glGetString(GL.GL_VENDOR);
+				final String renderer = gl.glGetString(GL.GL_RENDERER);
+				final String version = gl.glGetString(GL.GL_VERSION);
 				final String glInfo = vendor + "\n" + renderer + "\n" + version;
 				throw new GdxRuntimeException("OpenGL 2.0 or higher with the FBO extension is required. OpenGL version: " + major + "." + minor
 					+ ", FBO extension: false" + (glInfo.isEmpty() ? "" : ("\n" + glInfo)));
@@ -291,6 +494,235 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 		}
 	}
 
+	/** Puts the optional GL layers enabled in the configuration in front of the backend instance. */
+	GL20 wrapGL (GL20 gl) {
+		programBinaryCachingGL = config.programBinaryCachePath != null
+			? new JoglProgramBinaryCachingGL((JoglGL20)gl, Gdx.files.local(config.programBinaryCachePath)) : null;
+		if (programBinaryCachingGL != null) gl = programBinaryCachingGL;
+		resourceTrackingGL = config.trackGLResources ? new JoglResourceTrackingGL(gl, config.traceGLResources) : null;
+		if (resourceTrackingGL != null) gl = resourceTrackingGL;
+		programReflectionGL = config.cacheProgramReflection ? new JoglProgramReflectionGL(gl) : null;
+		if (programReflectionGL != null) gl = programReflectionGL;
+		clientArrayEmulationGL = config.emulateClientArrays ? new JoglClientArrayEmulationGL(gl, backendGL) : null;
+		if (clientArrayEmulationGL != null) gl = clientArrayEmulationGL;
+		stateShadowingGL = config.shadowGLState ? new JoglStateShadowingGL(gl) : null;
+		if (stateShadowingGL != null) gl = stateShadowingGL;
+		vertexArrayCachingGL = config.vertexArrayCacheSize > 0 && backendGL instanceof GL30
+			? new JoglVertexArrayCachingGL((GL30)gl, config.vertexArrayCacheSize) : null;
+		if (vertexArrayCachingGL != null) gl = vertexArrayCachingGL;
+		samplerCachingGL = config.samplerCacheSize > 0 && JoglSamplerCachingGL.isSupported(backendGL)
+			? new JoglSamplerCachingGL((GL30)gl, config.samplerCacheSize) : null;
+		if (samplerCachingGL != null) gl = samplerCachingGL;
+		uniformCachingGL = config.cacheUniforms ? new JoglUniformCachingGL(gl) : null;
+		if (uniformCachingGL != null) gl = uniformCachingGL;
+		// in front of the layers keyed by program, so they only see the programs actually linked
+		programSharingGL = config.sharePrograms ? new JoglProgramSharingGL(gl) : null;
+		if (programSharingGL != null) gl = programSharingGL;
+		// outside of the other layers, so the errors are counted for the entry points the application called
+		validatingGL = config.glValidation != JoglValidatingGL.LEVEL_OFF ? new JoglValidatingGL(gl, config.glValidation,
+			config.glValidationCallInterval, config.glValidationFrameInterval) : null;
+		if (validatingGL != null) gl = validatingGL;
+		if (config.deferredRendering) {
+			final Thread recordingThread = recordingGL != null ? recordingGL.getRecordingThread() : null;
+			if (commandQueue == null) commandQueue = new JoglGLCommandQueue(config.commandBufferSize);
+			recordingGL = new JoglRecordingGL(gl, commandQueue);
+			recordingGL.setRecordingThread(recordingThread);
+			gl = recordingGL;
+		}
+		return gl;
+	}
+
+	/** Hands the GL instances out to the application, with the profiler in front of them if it's enabled. */
+	void publishGL () {
+		gl20 = glProfiling ? profilingGL : layeredGL;
+		gl30 = backendGL instanceof GL30 ? (GL30)gl20 : null;
+		gl31 = backendGL instanceof GL31 ? (GL31)gl20 : null;
+		gl32 = backendGL instanceof GL32 ? (GL32)gl20 : null;
+		Gdx.gl = gl20;
+		Gdx.gl20 = gl20;
+		Gdx.gl30 = gl30;
+		Gdx.gl31 = gl31;
+		Gdx.gl32 = gl32;
+	}
+
+	/** Swaps the profiler in or out if it has been toggled, to be called at the beginning of a frame. */
+	private void beginFrame () {
+		if (glProfiling != (gl20 == profilingGL)) publishGL();
+	}
+
+	private void endFrame () {
+		if (gl20 == profilingGL) profilingGL.endFrame(frameId);
+		// with deferred rendering the replay of the frame is checked by displayDeferred on the GL thread
+		if (validatingGL != null && logicThread == null) validatingGL.endFrame();
+	}
+
+	/** Enables or disables the per frame counters of {@link JoglProfilingGL}, starting with the next frame. The profiler is swapped
+	 * in front of the GL instances, so the application has to fetch them from {@link Gdx#gl} again instead of holding on to them,
+	 * they cost nothing while the profiler is disabled. */
+	public void setGLProfilingEnabled (boolean enabled) {
+		glProfiling = enabled;
+	}
+
+	public boolean isGLProfilingEnabled () {
+		return glProfiling;
+	}
+
+	/** @return the profiler holding the counters of the recent frames, see {@link JoglProfilingGL#getFrameStats(long, JoglProfilingGL.FrameStats)} */
+	public JoglProfilingGL getGLProfiler () {
+		return profilingGL;
+	}
+
+	void rebindGL (GL gl) {
+		backendGL.bind(gl);
+		if (programBinaryCachingGL != null) programBinaryCachingGL.invalidate();
+		if (resourceTrackingGL != null) resourceTrackingGL.invalidate();
+		if (programReflectionGL != null) programReflectionGL.invalidate();
+		if (clientArrayEmulationGL != null) clientArrayEmulationGL.invalidate();
+		if (stateShadowingGL != null) stateShadowingGL.invalidate();
+		if (vertexArrayCachingGL != null) vertexArrayCachingGL.invalidate();
+		if (samplerCachingGL != null) samplerCachingGL.invalidate();
+		if (uniformCachingGL != null) uniformCachingGL.invalidate();
+		if (programSharingGL != null) programSharingGL.invalidate();
+		shaderCompiler.invalidate();
+		pixelReader.invalidate();
+		if (gpuTimer != null) gpuTimer.invalidate();
+		if (occlusionQueries != null) occlusionQueries.invalidate();
+		if (uniformBuffers != null) uniformBuffers.invalidate();
+	}
+
+	/** @return true if code outside of the backend renders with the context between two frames, the GL state mirrored by
+	 *         {@link JoglStateShadowingGL} is then dropped at the beginning of each frame */
+	boolean isGLStateShared () {
+		return false;
+	}
+
+	/** Creates a buffer for geometry streamed every frame, see {@link JoglStreamingBuffer}. It's bound through the GL layers but
+	 * not recorded, so it must be used on the GL thread.
+	 * @throws GdxRuntimeException if the context doesn't support GL30 or has no sync objects */
+	public JoglStreamingBuffer newStreamingBuffer (int target, int regionSize, int regions) {
+		if (!(backendGL instanceof JoglGL30)) throw new GdxRuntimeException("Streaming buffers require GL30");
+		final GL20 gl = recordingGL != null ? recordingGL.getDelegate() : layeredGL;
+		return new JoglStreamingBuffer((GL30)gl, (JoglGL30)backendGL, target, regionSize, regions);
+	}
+
+	/** Creates a batch submitting many draw commands with as few calls as the context allows, see {@link JoglMultiDrawBatch}.
+	 * Like the streaming buffers it must be used on the GL thread.
+	 * @throws GdxRuntimeException if the context doesn't support GL30 */
+	public JoglMultiDrawBatch newMultiDrawBatch (int capacity) {
+		if (!(backendGL instanceof JoglGL30)) throw new GdxRuntimeException("Multi draw batches require GL30");
+		return newMultiDrawBatch(capacity, JoglMultiDrawBatch.getBestMode(backendGL));
+	}
+
+	/** Creates a batch using the given mode, one of the MODE constants of {@link JoglMultiDrawBatch}.
+	 * @throws GdxRuntimeException if the context doesn't support GL30 or the mode */
+	public JoglMultiDrawBatch newMultiDrawBatch (int capacity, int mode) {
+		if (!(backendGL instanceof JoglGL30)) throw new GdxRuntimeException("Multi draw batches require GL30");
+		final GL20 gl = recordingGL != null ? recordingGL.getDelegate() : layeredGL;
+		return new JoglMultiDrawBatch((GL30)gl, (JoglGL30)backendGL, capacity, mode);
+	}
+
+	/** @return the timer measuring the GPU time of the frames and passes or null if {@link JoglApplicationConfiguration#gpuTimers}
+	 *         is disabled or the context doesn't support timer queries */
+	public JoglGPUTimer getGPUTimer () {
+		return gpuTimer;
+	}
+
+	/** @return the pool of occlusion queries, updated before each frame, or null if the context doesn't support them */
+	public JoglOcclusionQueryPool getOcclusionQueries () {
+		return occlusionQueries;
+	}
+
+	/** @return the manager of the uniform blocks shared by all programs or null if
+	 *         {@link JoglApplicationConfiguration#uniformBufferSize} is 0 or the context doesn't support GL30 */
+	public JoglUniformBufferManager getUniformBuffers () {
+		return uniformBuffers;
+	}
+
+	/** @return the router of the GL debug messages or null if {@link JoglApplicationConfiguration#debugGL} is disabled */
+	public JoglGLDebugRouter getDebugRouter () {
+		return debugRouter;
+	}
+
+	/** @return the reader fetching pixels from the framebuffer without stalling the render loop */
+	public JoglPixelReader getPixelReader () {
+		return pixelReader;
+	}
+
+	/** @return the pool running GL jobs on background contexts or null if {@link JoglApplicationConfiguration#glWorkers} is 0 */
+	public JoglGLWorkerPool getWorkerPool () {
+		return workerPool;
+	}
+
+	/** @return the compiler to load programs without stalling the render loop */
+	public JoglShaderCompiler getShaderCompiler () {
+		return shaderCompiler;
+	}
+
+	/** @return the layer emulating client side arrays or null if {@link JoglApplicationConfiguration#emulateClientArrays} is
+	 *         disabled */
+	public JoglClientArrayEmulationGL getClientArrayEmulationGL () {
+		return clientArrayEmulationGL;
+	}
+
+	/** @return the layer storing the program binaries on disk or null if
+	 *         {@link JoglApplicationConfiguration#programBinaryCachePath} isn't set */
+	public JoglProgramBinaryCachingGL getProgramBinaryCachingGL () {
+		return programBinaryCachingGL;
+	}
+
+	/** @return the registry of the live GL objects and their estimated sizes or null if
+	 *         {@link JoglApplicationConfiguration#trackGLResources} is disabled */
+	public JoglResourceTrackingGL getResourceTrackingGL () {
+		return resourceTrackingGL;
+	}
+
+	/** @return the layer answering the attribute and uniform queries from the reflection tables of the programs or null if
+	 *         {@link JoglApplicationConfiguration#cacheProgramReflection} is disabled */
+	public JoglProgramReflectionGL getProgramReflectionGL () {
+		return programReflectionGL;
+	}
+
+	/** @return the layer dropping redundant state changes or null if {@link JoglApplicationConfiguration#shadowGLState} is
+	 *         disabled */
+	public JoglStateShadowingGL getStateShadowingGL () {
+		return stateShadowingGL;
+	}
+
+	/** @return the layer caching the attribute layouts in vertex array objects or null if
+	 *         {@link JoglApplicationConfiguration#vertexArrayCacheSize} is 0 or the context doesn't support GL30 */
+	public JoglVertexArrayCachingGL getVertexArrayCachingGL () {
+		return vertexArrayCachingGL;
+	}
+
+	/** @return the layer moving the texture parameters into sampler objects or null if
+	 *         {@link JoglApplicationConfiguration#samplerCacheSize} is 0 or the context doesn't support GL30 */
+	public JoglSamplerCachingGL getSamplerCachingGL () {
+		return samplerCachingGL;
+	}
+
+	/** @return the layer dropping redundant uniform uploads or null if {@link JoglApplicationConfiguration#cacheUniforms} is
+	 *         disabled */
+	public JoglUniformCachingGL getUniformCachingGL () {
+		return uniformCachingGL;
+	}
+
+	/** @return the layer checking the GL calls for errors or null if {@link JoglApplicationConfiguration#glValidation} is off */
+	public JoglValidatingGL getValidatingGL () {
+		return validatingGL;
+	}
+
+	/** @return the layer sharing identical shaders and programs or null if {@link JoglApplicationConfiguration#sharePrograms} is
+	 *         disabled */
+	public JoglProgramSharingGL getProgramSharingGL () {
+		return programSharingGL;
+	}
+
+	/** @return the layer recording the frames on the logic thread or null if
+	 *         {@link JoglApplicationConfiguration#deferredRendering} is disabled */
+	public JoglRecordingGL getRecordingGL () {
+		return recordingGL;
+	}
+
 	@Override
 	public boolean isGL31Available() {
 		return gl31 != null;
@@ -447,10 +879,17 @@ public abstract class JoglGraphicsBase implements Graphics, GLEventListener {
 
 	protected abstract boolean isBackGround();
 
-	private static void initGLVersion () {
-		String versionString = GLContext.getCurrent().getGLVersionNumber().toString();
-		String vendorString = GLContext.getCurrentGL().glGetString(GL.GL_VENDOR);
-		String rendererString = GLContext.getCurrentGL().glGetString(GL.GL_RENDERER);
-		glVersion = new GLVersion(Application.ApplicationType.Desktop, versionString, vendorString, rendererString);
+	private void storeCapabilities () {
+		final FileHandle file = Gdx.files.local(config.glCapabilitiesPath);
+		try {
+			capabilities.save(file);
+		} catch (RuntimeException e) {
+			Gdx.app.error("JoglGraphics", "couldn't store the GL capabilities in " + file.path(), e);
+		}
+	}
+
+	/** @return the extensions and limits of the current context */
+	public JoglGLCapabilities getCapabilities () {
+		return capabilities;
 	}
 }
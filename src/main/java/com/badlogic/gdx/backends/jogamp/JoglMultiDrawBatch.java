@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.GL31;
+import com.badlogic.gdx.graphics.GL32;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.nio.PointerBuffer;
+import com.jogamp.common.util.VersionNumber;
+import com.jogamp.opengl.GL;
+
+/** Collects indexed draw commands sourcing the same vertex and index buffers and submits them with as few GL calls as the
+ * context allows, for large scenes made of many small meshes packed into shared buffers. With GL_ARB_multi_draw_indirect (or
+ * GL 4.3) the commands are stored in an indirect buffer and drawn with a single glMultiDrawElementsIndirect, the buffer is only
+ * uploaded again after the commands changed, so a static scene costs one call per frame. Other desktop contexts use
+ * glMultiDrawElements, or glMultiDrawElementsBaseVertex if a command has a base vertex, and contexts without either fall back
+ * to one draw call per command.
+ * <p>
+ * The vertex array object the commands source must be bound through {@link com.badlogic.gdx.Gdx#gl} before
+ * {@link #draw(int, int)}. The calls GL32 doesn't have are issued on the backend's GL directly, after the optional GL layers
+ * applied the state they defer until a draw call, so the layers which count or check draw calls don't see them. Must be used on
+ * the GL thread. */
+public class JoglMultiDrawBatch implements Disposable {
+	/** one glMultiDrawElementsIndirect per draw **/
+	public static final int MODE_INDIRECT = 0;
+	/** one glMultiDrawElements or glMultiDrawElementsBaseVertex per draw, unless instances are drawn **/
+	public static final int MODE_MULTI_DRAW = 1;
+	/** one draw call per command **/
+	public static final int MODE_LOOP = 2;
+
+	/** the ints of a DrawElementsIndirectCommand: count, instance count, first index, base vertex, base instance **/
+	private static final int COMMAND_INTS = 5;
+
+	private final GL30 gl;
+	private final JoglGL30 backend;
+	private final int mode;
+	private final IntArray commands;
+	/** whether the commands changed since they were last uploaded or converted **/
+	private boolean dirty;
+	/** whether a command draws more than one instance or has a base instance, which only indirect draws support **/
+	private boolean instanced;
+	private boolean baseVertex;
+	private IntBuffer upload;
+	private int buffer;
+	private int bufferSize;
+	/** the index type the offsets of the multi draw arrays were computed for **/
+	private int offsetsType;
+	private IntBuffer counts;
+	private IntBuffer baseVertices;
+	private PointerBuffer offsets;
+	private int drawnCommands;
+	private int calls;
+
+	/** Uses the fastest mode the context supports, see {@link #getBestMode(JoglGL20)}.
+	 * @param capacity the number of commands to allocate space for, the batch grows as needed */
+	public JoglMultiDrawBatch (GL30 gl, JoglGL30 backend, int capacity) {
+		this(gl, backend, capacity, getBestMode(backend));
+	}
+
+	/** @param gl the instance to bind the indirect buffer and issue the fallback draw calls with, so they're seen by the GL layers
+	 * @param backend the backend instance behind it, for the multi draw calls
+	 * @param mode one of {@link #MODE_INDIRECT}, {@link #MODE_MULTI_DRAW} or {@link #MODE_LOOP} */
+	public JoglMultiDrawBatch (GL30 gl, JoglGL30 backend, int capacity, int mode) {
+		if (!isSupported(backend, mode)) throw new GdxRuntimeException("Multi draw mode " + mode + " isn't supported by the context");
+		this.gl = gl;
+		this.backend = backend;
+		this.mode = mode;
+		commands = new IntArray(Math.max(capacity, 1) * COMMAND_INTS);
+	}
+
+	/** @return whether the context of the backend supports the given mode */
+	public static boolean isSupported (JoglGL20 backend, int mode) {
+		final GL raw = backend.gl;
+		switch (mode) {
+		case MODE_INDIRECT:
+			if (!raw.isGL4()) return false;
+			final VersionNumber version = raw.getContext().getGLVersionNumber();
+			return version.getMajor() > 4 || version.getMinor() >= 3 || raw.isExtensionAvailable("GL_ARB_multi_draw_indirect");
+		case MODE_MULTI_DRAW:
+			return raw.isGL2GL3();
+		case MODE_LOOP:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/** @return the fastest mode the context of the backend supports */
+	public static int getBestMode (JoglGL20 backend) {
+		if (isSupported(backend, MODE_INDIRECT)) return MODE_INDIRECT;
+		if (isSupported(backend, MODE_MULTI_DRAW)) return MODE_MULTI_DRAW;
+		return MODE_LOOP;
+	}
+
+	public int getMode () {
+		return mode;
+	}
+
+	/** Adds a command drawing a single instance.
+	 * @param count the number of indices
+	 * @param firstIndex the offset of the first index in the element array buffer, in indices
+	 * @param baseVertex the value added to each index */
+	public void add (int count, int firstIndex, int baseVertex) {
+		add(count, 1, firstIndex, baseVertex, 0);
+	}
+
+	/** Adds a command. Base instances require GL 4.2 unless the commands are drawn indirectly.
+	 * @param baseInstance the instance the instanced attributes start at */
+	public void add (int count, int instanceCount, int firstIndex, int baseVertex, int baseInstance) {
+		final int[] items = commands.ensureCapacity(COMMAND_INTS);
+		final int index = commands.size;
+		items[index] = count;
+		items[index + 1] = instanceCount;
+		items[index + 2] = firstIndex;
+		items[index + 3] = baseVertex;
+		items[index + 4] = baseInstance;
+		commands.size += COMMAND_INTS;
+		if (instanceCount != 1 || baseInstance != 0) instanced = true;
+		if (baseVertex != 0) this.baseVertex = true;
+		dirty = true;
+	}
+
+	/** @return the number of commands in the batch */
+	public int size () {
+		return commands.size / COMMAND_INTS;
+	}
+
+	/** Removes all commands, a static scene keeps its commands and only calls {@link #draw(int, int)} each frame. */
+	public void clear () {
+		commands.clear();
+		instanced = false;
+		baseVertex = false;
+		dirty = true;
+	}
+
+	/** Draws the commands from the bound vertex array object.
+	 * @param primitiveType the primitive type, e.g. {@link GL30#GL_TRIANGLES}
+	 * @param indexType the type of the indices, {@link GL30#GL_UNSIGNED_BYTE}, {@link GL30#GL_UNSIGNED_SHORT} or
+	 *           {@link GL30#GL_UNSIGNED_INT} */
+	public void draw (int primitiveType, int indexType) {
+		final int size = size();
+		if (size == 0) return;
+		if (mode == MODE_INDIRECT)
+			drawIndirect(primitiveType, indexType, size);
+		else if (mode == MODE_MULTI_DRAW && !instanced)
+			drawMulti(primitiveType, indexType, size);
+		else
+			drawLoop(primitiveType, indexType, size);
+		drawnCommands += size;
+	}
+
+	private void drawIndirect (int primitiveType, int indexType, int size) {
+		if (buffer == 0) buffer = gl.glGenBuffer();
+		gl.glBindBuffer(GL31.GL_DRAW_INDIRECT_BUFFER, buffer);
+		if (dirty) {
+			if (upload == null || upload.capacity() < commands.size)
+				upload = Buffers.newDirectIntBuffer(Math.max(commands.size, commands.items.length));
+			upload.clear();
+			upload.put(commands.items, 0, commands.size).flip();
+			final int bytes = commands.size * 4;
+			if (bytes > bufferSize) {
+				gl.glBufferData(GL31.GL_DRAW_INDIRECT_BUFFER, bytes, upload, GL30.GL_STATIC_DRAW);
+				bufferSize = bytes;
+			} else {
+				gl.glBufferSubData(GL31.GL_DRAW_INDIRECT_BUFFER, 0, bytes, upload);
+			}
+			dirty = false;
+		}
+		prepareDraw();
+		backend.gl.getGL4().glMultiDrawElementsIndirect(primitiveType, indexType, 0, size, 0);
+		gl.glBindBuffer(GL31.GL_DRAW_INDIRECT_BUFFER, 0);
+		calls++;
+	}
+
+	private void drawMulti (int primitiveType, int indexType, int size) {
+		final GL raw = backend.gl;
+		if (baseVertex && !raw.isFunctionAvailable("glMultiDrawElementsBaseVertex")) {
+			drawLoop(primitiveType, indexType, size);
+			return;
+		}
+		if (dirty || offsetsType != indexType) {
+			if (counts == null || counts.capacity() < size) {
+				counts = Buffers.newDirectIntBuffer(size);
+				baseVertices = Buffers.newDirectIntBuffer(size);
+				offsets = PointerBuffer.allocateDirect(size);
+			}
+			final int[] items = commands.items;
+			final int indexSize = indexSize(indexType);
+			for (int i = 0; i < size; i++) {
+				final int command = i * COMMAND_INTS;
+				counts.put(i, items[command]);
+				offsets.put(i, (long)items[command + 2] * indexSize);
+				baseVertices.put(i, items[command + 3]);
+			}
+			offsetsType = indexType;
+			dirty = false;
+		}
+		prepareDraw();
+		if (baseVertex)
+			raw.getGL2GL3().glMultiDrawElementsBaseVertex(primitiveType, counts, indexType, offsets, size, baseVertices);
+		else
+			raw.getGL2GL3().glMultiDrawElements(primitiveType, counts, indexType, offsets, size);
+		calls++;
+	}
+
+	private void drawLoop (int primitiveType, int indexType, int size) {
+		final int[] items = commands.items;
+		final int indexSize = indexSize(indexType);
+		for (int i = 0; i < size; i++) {
+			final int command = i * COMMAND_INTS;
+			final int count = items[command];
+			final int instanceCount = items[command + 1];
+			final int offset = items[command + 2] * indexSize;
+			final int baseVertex = items[command + 3];
+			final int baseInstance = items[command + 4];
+			if (baseInstance != 0) {
+				if (!backend.gl.isFunctionAvailable("glDrawElementsInstancedBaseVertexBaseInstance"))
+					throw new GdxRuntimeException("Base instances aren't supported by the context");
+				prepareDraw();
+				backend.gl.getGL4().glDrawElementsInstancedBaseVertexBaseInstance(primitiveType, count, indexType, offset,
+					instanceCount, baseVertex, baseInstance);
+			} else if (baseVertex != 0 && backend instanceof GL32) {
+				((GL32)gl).glDrawElementsInstancedBaseVertex(primitiveType, count, indexType, offset, instanceCount, baseVertex);
+			} else if (baseVertex != 0) {
+				if (!backend.gl.isGL2GL3() || !backend.gl.isFunctionAvailable("glDrawElementsInstancedBaseVertex"))
+					throw new GdxRuntimeException("Base vertices aren't supported by the context");
+				prepareDraw();
+				backend.gl.getGL2GL3().glDrawElementsInstancedBaseVertex(primitiveType, count, indexType, offset, instanceCount,
+					baseVertex);
+			} else if (instanceCount != 1) {
+				gl.glDrawElementsInstanced(primitiveType, count, indexType, offset, instanceCount);
+			} else {
+				gl.glDrawElements(primitiveType, count, indexType, offset);
+			}
+		}
+		calls += size;
+	}
+
+	/** Lets the GL layers apply their deferred state before a call on the backend's GL. */
+	private void prepareDraw () {
+		if (gl instanceof JoglGLDelegate) ((JoglGLDelegate)gl).prepareDraw();
+	}
+
+	private static int indexSize (int indexType) {
+		switch (indexType) {
+		case GL30.GL_UNSIGNED_BYTE:
+			return 1;
+		case GL30.GL_UNSIGNED_SHORT:
+			return 2;
+		case GL30.GL_UNSIGNED_INT:
+			return 4;
+		default:
+			throw new GdxRuntimeException("Unsupported index type: " + indexType);
+		}
+	}
+
+	/** @return the number of commands drawn since the last {@link #resetCounters()} */
+	public int getDrawnCommands () {
+		return drawnCommands;
+	}
+
+	/** @return the number of GL draw calls issued since the last {@link #resetCounters()} */
+	public int getCalls () {
+		return calls;
+	}
+
+	public void resetCounters () {
+		drawnCommands = 0;
+		calls = 0;
+	}
+
+	@Override
+	public void dispose () {
+		if (buffer != 0) gl.glDeleteBuffer(buffer);
+		buffer = 0;
+		bufferSize = 0;
+	}
+}
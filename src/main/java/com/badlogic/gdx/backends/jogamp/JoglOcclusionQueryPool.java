@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.VersionNumber;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+
+/** Runs occlusion queries for visibility culling without ever waiting for their results. The application brackets the draw of
+ * the bounding volume of an object, identified by an id of its choosing, with {@link #begin(int)} and {@link #end()}, the
+ * query objects come from a pool and are recycled once their result has been read. {@link #update()} polls the queries in
+ * flight once per frame and {@link #getResult(int)} answers with the last result known for an object, which is typically a
+ * frame or two old, or {@link #RESULT_UNKNOWN} before the first one came in.
+ * <p>
+ * Where the driver supports conditional rendering, {@link #beginConditionalRender(int)} lets the GPU skip the draws of an
+ * object whose latest query found it hidden, without waiting for a query which isn't done yet. When the pool is exhausted the
+ * query is refused rather than a result waited for, the object is then treated as visible. Exhaustion and the number of
+ * frames the results lag behind are counted for the profiler. Must be used on the GL thread. */
+public class JoglOcclusionQueryPool implements Disposable {
+	public static final int RESULT_UNKNOWN = -1;
+	public static final int RESULT_OCCLUDED = 0;
+	public static final int RESULT_VISIBLE = 1;
+
+	static final int GL_SAMPLES_PASSED = 0x8914;
+	static final int GL_QUERY_NO_WAIT = 0x8E14;
+
+	private final JoglGL20 backend;
+	private final int capacity;
+	/** GL_ANY_SAMPLES_PASSED where supported, GL_SAMPLES_PASSED otherwise **/
+	private final int target;
+	private final boolean conditionalRender;
+	/** the number of query objects generated, at most the capacity **/
+	private int generated;
+	private final IntArray freeQueries = new IntArray();
+	/** the queries in flight, the ids of their objects and the frames they were issued in, oldest first **/
+	private final IntArray pending = new IntArray();
+	private final IntArray pendingObjects = new IntArray();
+	private final IntArray pendingFrames = new IntArray();
+	/** the latest query in flight of each object **/
+	private final IntIntMap latestQueries = new IntIntMap();
+	private final IntIntMap results = new IntIntMap();
+	private final IntBuffer result = Buffers.newDirectIntBuffer(1);
+	private int frame;
+	private int activeQuery;
+	private boolean conditionalRenderActive;
+
+	private int queries;
+	private int exhausted;
+	private int completed;
+	private long latencySum;
+	private int maxLatency;
+
+	/** @param capacity the maximum number of query objects, queries begun while all of them are in flight are refused */
+	public JoglOcclusionQueryPool (JoglGL20 backend, int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0: " + capacity);
+		this.backend = backend;
+		this.capacity = capacity;
+		final GL gl = backend.gl;
+		final VersionNumber version = gl.getContext().getGLVersionNumber();
+		final boolean anySamples = gl.isGLES3()
+			|| (gl.isGL2GL3() && (version.getMajor() > 3 || (version.getMajor() == 3 && version.getMinor() >= 3)))
+			|| gl.isExtensionAvailable("GL_ARB_occlusion_query2");
+		target = anySamples ? GL30.GL_ANY_SAMPLES_PASSED : GL_SAMPLES_PASSED;
+		conditionalRender = gl.isGL2GL3() && gl.isFunctionAvailable("glBeginConditionalRender");
+	}
+
+	/** @return whether the context of the backend supports occlusion queries */
+	public static boolean isSupported (JoglGL20 backend) {
+		final GL gl = backend.gl;
+		return gl.isGLES3() || (gl.isGL2GL3() && gl.isFunctionAvailable("glBeginQuery"));
+	}
+
+	/** @return whether {@link #beginConditionalRender(int)} lets the GPU skip the draws or only uses the results known so far */
+	public boolean isConditionalRenderSupported () {
+		return conditionalRender;
+	}
+
+	/** Reads the results of the queries the GPU has finished, to be called once per frame. */
+	public void update () {
+		frame++;
+		final GL2ES2 gl = backend.gl.getGL2ES2();
+		int done = 0;
+		while (done < pending.size) {
+			final int query = pending.get(done);
+			result.clear();
+			gl.glGetQueryObjectuiv(query, GL30.GL_QUERY_RESULT_AVAILABLE, result);
+			// queries finish in the order they were issued
+			if (result.get(0) == 0) break;
+			result.clear();
+			gl.glGetQueryObjectuiv(query, GL30.GL_QUERY_RESULT, result);
+			final int object = pendingObjects.get(done);
+			results.put(object, result.get(0) != 0 ? RESULT_VISIBLE : RESULT_OCCLUDED);
+			if (latestQueries.get(object, 0) == query) latestQueries.remove(object, 0);
+			final int latency = frame - pendingFrames.get(done);
+			latencySum += latency;
+			maxLatency = Math.max(maxLatency, latency);
+			completed++;
+			freeQueries.add(query);
+			done++;
+		}
+		if (done > 0) {
+			removeHead(pending, done);
+			removeHead(pendingObjects, done);
+			removeHead(pendingFrames, done);
+		}
+	}
+
+	private static void removeHead (IntArray array, int count) {
+		System.arraycopy(array.items, count, array.items, 0, array.size - count);
+		array.size -= count;
+	}
+
+	/** Starts a query for the object, the samples of the draws up to {@link #end()} count towards its visibility. Queries can't
+	 * be nested.
+	 * @return false if all query objects are in flight, {@link #end()} must not be called then */
+	public boolean begin (int object) {
+		if (activeQuery != 0) throw new GdxRuntimeException("end() must be called before begin()");
+		int query;
+		if (freeQueries.size > 0) {
+			query = freeQueries.pop();
+		} else if (generated < capacity) {
+			result.clear();
+			backend.gl.getGL2ES2().glGenQueries(1, result);
+			query = result.get(0);
+			generated++;
+		} else {
+			exhausted++;
+			return false;
+		}
+		backend.gl.getGL2ES2().glBeginQuery(target, query);
+		activeQuery = query;
+		pending.add(query);
+		pendingObjects.add(object);
+		pendingFrames.add(frame);
+		latestQueries.put(object, query);
+		queries++;
+		return true;
+	}
+
+	public void end () {
+		if (activeQuery == 0) throw new GdxRuntimeException("begin() must be called before end()");
+		backend.gl.getGL2ES2().glEndQuery(target);
+		activeQuery = 0;
+	}
+
+	/** @return {@link #RESULT_VISIBLE} or {@link #RESULT_OCCLUDED} as found by the latest finished query of the object,
+	 *         {@link #RESULT_UNKNOWN} if none has finished yet */
+	public int getResult (int object) {
+		return results.get(object, RESULT_UNKNOWN);
+	}
+
+	/** @return false only if the latest finished query of the object found it hidden */
+	public boolean isVisible (int object) {
+		return results.get(object, RESULT_UNKNOWN) != RESULT_OCCLUDED;
+	}
+
+	/** Starts drawing the object. If a query of the object is in flight and the driver supports conditional rendering, the GPU
+	 * skips the draws up to {@link #endConditionalRender()} should the query find the object hidden, and draws them if the query
+	 * isn't done by then. Otherwise the latest finished query decides.
+	 * @return false if the object is known to be hidden, the draws should be skipped and {@link #endConditionalRender()} not be
+	 *         called then */
+	public boolean beginConditionalRender (int object) {
+		if (conditionalRenderActive)
+			throw new GdxRuntimeException("endConditionalRender() must be called before beginConditionalRender()");
+		final int query = latestQueries.get(object, 0);
+		if (query != 0 && conditionalRender && query != activeQuery) {
+			backend.gl.getGL2GL3().glBeginConditionalRender(query, GL_QUERY_NO_WAIT);
+			conditionalRenderActive = true;
+			return true;
+		}
+		return isVisible(object);
+	}
+
+	public void endConditionalRender () {
+		if (!conditionalRenderActive) return;
+		backend.gl.getGL2GL3().glEndConditionalRender();
+		conditionalRenderActive = false;
+	}
+
+	/** Forgets the result of the object, e.g. once it has been removed from the scene. */
+	public void remove (int object) {
+		results.remove(object, RESULT_UNKNOWN);
+		latestQueries.remove(object, 0);
+	}
+
+	public int getCapacity () {
+		return capacity;
+	}
+
+	/** @return the number of queries in flight */
+	public int getPending () {
+		return pending.size;
+	}
+
+	/** @return the number of queries begun since the last {@link #resetCounters()} */
+	public int getQueries () {
+		return queries;
+	}
+
+	/** @return the number of queries refused because the pool was exhausted since the last {@link #resetCounters()} */
+	public int getExhausted () {
+		return exhausted;
+	}
+
+	/** @return the average number of frames between beginning a query and reading its result */
+	public float getAverageLatency () {
+		return completed == 0 ? 0 : (float)latencySum / completed;
+	}
+
+	/** @return the largest number of frames between beginning a query and reading its result */
+	public int getMaxLatency () {
+		return maxLatency;
+	}
+
+	public void resetCounters () {
+		queries = 0;
+		exhausted = 0;
+		completed = 0;
+		latencySum = 0;
+		maxLatency = 0;
+	}
+
+	/** Forgets the queries in flight and the pooled ones, to be called after the backend has been bound to a new context. */
+	public void invalidate () {
+		freeQueries.clear();
+		pending.clear();
+		pendingObjects.clear();
+		pendingFrames.clear();
+		latestQueries.clear();
+		generated = 0;
+		activeQuery = 0;
+		conditionalRenderActive = false;
+	}
+
+	@Override
+	public void dispose () {
+		for (int i = 0; i < pending.size; i++)
+			freeQueries.add(pending.get(i));
+		if (freeQueries.size > 0) backend.gl.getGL2ES2().glDeleteQueries(freeQueries.size, freeQueries.items, 0);
+		invalidate();
+		results.clear();
+	}
+}
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Disposable;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3ES3;
+
+/** Reads pixels from the bound framebuffer without stalling the pipeline. The pixels are read into one of a ring of pixel pack
+ * buffers and fetched once the GPU has written them, a frame or two later, instead of waiting for the GPU to drain as
+ * glReadPixels into client memory does. Flipping the rows and swizzling BGRA to RGBA happen on a background thread, the
+ * listener gets tightly packed RGBA8888 pixels which can be copied straight into a
+ * {@link com.badlogic.gdx.graphics.Pixmap.Format#RGBA8888} pixmap.
+ * <p>
+ * {@link #read(int, int, int, int, boolean, PixelsListener)} must be called on the GL thread with the framebuffer to read
+ * bound, e.g. in {@link com.badlogic.gdx.ApplicationListener#render()} unless rendering is deferred. The listener is called on
+ * the application thread through {@link com.badlogic.gdx.Application#postRunnable(Runnable)}. Contexts without
+ * glMapBufferRange read the pixels synchronously, only the processing is moved off the render thread then. The pack alignment
+ * and the pixel pack buffer binding are restored after each read, so the GL layers keep seeing the state the application set. */
+public class JoglPixelReader implements Disposable {
+	/** Receives the pixels of a read. */
+	public interface PixelsListener {
+		/** @param pixels width * height RGBA8888 pixels, top row first if flipped, owned by the listener */
+		void pixelsRead (ByteBuffer pixels, int width, int height);
+
+		/** @param message why the pixels couldn't be read, e.g. because the pixel pack buffer couldn't be mapped */
+		void failed (String message);
+	}
+
+	static class Read {
+		int buffer;
+		int size;
+		/** the fence behind the read, 0 if none is pending or sync objects aren't supported **/
+		long fence;
+		/** the frame the read was issued in, -1 if the slot is free **/
+		long frame = -1;
+		int width;
+		int height;
+		boolean flip;
+		boolean bgra;
+		PixelsListener listener;
+	}
+
+	private final JoglGL20 backend;
+	private final Read[] ring;
+	private final IntBuffer params = Buffers.newDirectIntBuffer(1);
+	private int next;
+	private long frame;
+	private ExecutorService executor;
+
+	/** @param ringSize the number of reads which can be in flight, the oldest one is waited for when all are taken */
+	public JoglPixelReader (JoglGL20 backend, int ringSize) {
+		if (ringSize <= 0) throw new IllegalArgumentException("ringSize must be > 0: " + ringSize);
+		this.backend = backend;
+		ring = new Read[ringSize];
+		for (int i = 0; i < ringSize; i++)
+			ring[i] = new Read();
+	}
+
+	/** @return whether the pixels are read asynchronously into pixel pack buffers */
+	public boolean isAsync () {
+		return backend.gl.isFunctionAvailable("glMapBufferRange");
+	}
+
+	/** Starts reading the given rectangle of the bound framebuffer.
+	 * @param flip whether to return the top row first instead of the bottom one as GL does */
+	public void read (int x, int y, int width, int height, boolean flip, PixelsListener listener) {
+		final GL gl = backend.gl;
+		// BGRA is the native layout of most desktop framebuffers, reading it avoids a conversion in the driver
+		final boolean bgra = !gl.isGLES();
+		final int format = bgra ? GL.GL_BGRA : GL30.GL_RGBA;
+		final int size = width * height * 4;
+		if (!isAsync()) {
+			final ByteBuffer pixels = Buffers.newDirectByteBuffer(size);
+			gl.glReadPixels(x, y, width, height, format, GL30.GL_UNSIGNED_BYTE, pixels);
+			process(pixels, width, height, flip, bgra, listener);
+			return;
+		}
+		final Read read = ring[next];
+		if (read.frame >= 0) fetch(read, true);
+		next = (next + 1) % ring.length;
+
+		final int alignment = getInteger(GL30.GL_PACK_ALIGNMENT);
+		final int packBuffer = getInteger(GL30.GL_PIXEL_PACK_BUFFER_BINDING);
+		gl.glPixelStorei(GL30.GL_PACK_ALIGNMENT, 1);
+		if (read.buffer == 0) read.buffer = backend.glGenBuffer();
+		gl.glBindBuffer(GL30.GL_PIXEL_PACK_BUFFER, read.buffer);
+		if (read.size < size) {
+			gl.glBufferData(GL30.GL_PIXEL_PACK_BUFFER, size, null, GL30.GL_STREAM_READ);
+			read.size = size;
+		}
+		gl.glReadPixels(x, y, width, height, format, GL30.GL_UNSIGNED_BYTE, 0L);
+		gl.glBindBuffer(GL30.GL_PIXEL_PACK_BUFFER, packBuffer);
+		gl.glPixelStorei(GL30.GL_PACK_ALIGNMENT, alignment);
+		if (gl.isGL3ES3()) read.fence = gl.getGL3ES3().glFenceSync(GL30.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+		read.frame = frame;
+		read.width = width;
+		read.height = height;
+		read.flip = flip;
+		read.bgra = bgra;
+		read.listener = listener;
+	}
+
+	private int getInteger (int pname) {
+		params.clear();
+		backend.gl.glGetIntegerv(pname, params);
+		return params.get(0);
+	}
+
+	/** Hands the reads the GPU has finished to the background thread. Called by the graphics at the beginning of each frame on the
+	 * GL thread. */
+	public void update () {
+		frame++;
+		for (int i = 0; i < ring.length; i++) {
+			final Read read = ring[(next + i) % ring.length];
+			if (read.frame >= 0) fetch(read, false);
+		}
+	}
+
+	/** Drops the reads in flight, to be called after the backend has been bound to a new context. */
+	public void invalidate () {
+		for (int i = 0; i < ring.length; i++) {
+			final Read read = ring[i];
+			read.buffer = 0;
+			read.size = 0;
+			read.fence = 0;
+			read.frame = -1;
+			read.listener = null;
+		}
+	}
+
+	/** Copies the pixels of the read out of its buffer if the GPU has written them.
+	 * @param wait whether to wait for the GPU instead */
+	private void fetch (Read read, boolean wait) {
+		final GL gl = backend.gl;
+		if (read.fence != 0) {
+			final GL3ES3 gl3 = gl.getGL3ES3();
+			final int status = gl3.glClientWaitSync(read.fence, GL30.GL_SYNC_FLUSH_COMMANDS_BIT, wait ? Long.MAX_VALUE : 0);
+			if (status == GL30.GL_TIMEOUT_EXPIRED) return;
+			gl3.glDeleteSync(read.fence);
+			read.fence = 0;
+		} else if (!wait && frame - read.frame < 2) {
+			// without a fence the read is assumed to be done after two frames, mapping it earlier would stall
+			return;
+		}
+		final int size = read.width * read.height * 4;
+		final int packBuffer = getInteger(GL30.GL_PIXEL_PACK_BUFFER_BINDING);
+		gl.glBindBuffer(GL30.GL_PIXEL_PACK_BUFFER, read.buffer);
+		final ByteBuffer mapped = gl.glMapBufferRange(GL30.GL_PIXEL_PACK_BUFFER, 0, size, GL30.GL_MAP_READ_BIT);
+		ByteBuffer pixels = null;
+		if (mapped != null) {
+			pixels = Buffers.newDirectByteBuffer(size);
+			mapped.limit(size);
+			pixels.put(mapped).flip();
+			gl.glUnmapBuffer(GL30.GL_PIXEL_PACK_BUFFER);
+		}
+		gl.glBindBuffer(GL30.GL_PIXEL_PACK_BUFFER, packBuffer);
+		final PixelsListener listener = read.listener;
+		read.frame = -1;
+		read.listener = null;
+		if (pixels != null)
+			process(pixels, read.width, read.height, read.flip, read.bgra, listener);
+		else
+			fail(listener, "Couldn't map the pixel pack buffer of the read");
+	}
+
+	private void fail (final PixelsListener listener, final String message) {
+		Gdx.app.postRunnable(new Runnable() {
+			@Override
+			public void run () {
+				listener.failed(message);
+			}
+		});
+	}
+
+	private void process (final ByteBuffer pixels, final int width, final int height, final boolean flip, final boolean bgra,
+		final PixelsListener listener) {
+		if (executor == null) executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread (Runnable runnable) {
+				final Thread thread = new Thread(runnable, "LibGDX pixel reader");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		executor.execute(new Runnable() {
+			@Override
+			public void run () {
+				if (bgra) swizzle(pixels);
+				if (flip) flip(pixels, width, height);
+				Gdx.app.postRunnable(new Runnable() {
+					@Override
+					public void run () {
+						listener.pixelsRead(pixels, width, height);
+					}
+				});
+			}
+		});
+	}
+
+	/** Swaps the red and blue channels of each pixel. */
+	static void swizzle (ByteBuffer pixels) {
+		for (int i = 0, n = pixels.limit(); i < n; i += 4) {
+			final byte blue = pixels.get(i);
+			pixels.put(i, pixels.get(i + 2));
+			pixels.put(i + 2, blue);
+		}
+	}
+
+	/** Reverses the order of the rows. */
+	static void flip (ByteBuffer pixels, int width, int height) {
+		final int stride = width * 4;
+		final byte[] top = new byte[stride];
+		final byte[] bottom = new byte[stride];
+		for (int y = 0; y < height / 2; y++) {
+			final int topOffset = y * stride;
+			final int bottomOffset = (height - 1 - y) * stride;
+			pixels.position(topOffset);
+			pixels.get(top);
+			pixels.position(bottomOffset);
+			pixels.get(bottom);
+			pixels.position(topOffset);
+			pixels.put(bottom);
+			pixels.position(bottomOffset);
+			pixels.put(top);
+		}
+		pixels.position(0);
+	}
+
+	/** Deletes the buffers and stops the background thread, the reads in flight are dropped. */
+	@Override
+	public void dispose () {
+		for (int i = 0; i < ring.length; i++) {
+			final Read read = ring[i];
+			if (read.fence != 0) backend.gl.getGL3ES3().glDeleteSync(read.fence);
+			if (read.buffer != 0) backend.glDeleteBuffer(read.buffer);
+		}
+		invalidate();
+		if (executor != null) executor.shutdown();
+		executor = null;
+	}
+}
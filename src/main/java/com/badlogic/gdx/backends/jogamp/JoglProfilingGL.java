@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+
+import com.badlogic.gdx.graphics.GL20;
+
+/** Counts the draw calls, submitted vertices, texture binds, shader and framebuffer switches and uploaded bytes of each frame.
+ * The counters of the last {@link #HISTORY} frames are kept, keyed by {@link JoglGraphicsBase#getFrameId()}.
+ * <p>
+ * The profiler is swapped in front of the GL instances while it's enabled and out again when it's disabled, see
+ * {@link JoglGraphicsBase#setGLProfilingEnabled(boolean)}, so it costs nothing when it's off. It sits in front of the other GL
+ * layers and counts the calls the application made, including those {@link JoglStateShadowingGL} drops afterwards. */
+public class JoglProfilingGL extends JoglGLDelegate {
+	/** number of frames the counters are kept for **/
+	public static final int HISTORY = 120;
+
+	/** The counters of one frame. */
+	public static class FrameStats {
+		public long frameId = -1;
+		public int drawCalls;
+		/** vertices (or indices) submitted by the draw calls, times the instance count for instanced draws **/
+		public long vertices;
+		public int textureBindings;
+		public int shaderSwitches;
+		public int framebufferSwitches;
+		/** bytes passed to glBufferData, glBufferSubData, glTexImage2D and glTexSubImage2D **/
+		public long uploadBytes;
+
+		public void set (FrameStats stats) {
+			frameId = stats.frameId;
+			drawCalls = stats.drawCalls;
+			vertices = stats.vertices;
+			textureBindings = stats.textureBindings;
+			shaderSwitches = stats.shaderSwitches;
+			framebufferSwitches = stats.framebufferSwitches;
+			uploadBytes = stats.uploadBytes;
+		}
+
+		public void reset () {
+			frameId = -1;
+			drawCalls = 0;
+			vertices = 0;
+			textureBindings = 0;
+			shaderSwitches = 0;
+			framebufferSwitches = 0;
+			uploadBytes = 0;
+		}
+
+		@Override
+		public String toString () {
+			return "frame " + frameId + ": " + drawCalls + " draw calls, " + vertices + " vertices, " + textureBindings
+				+ " texture bindings, " + shaderSwitches + " shader switches, " + framebufferSwitches + " framebuffer switches, "
+				+ uploadBytes + " bytes uploaded";
+		}
+	}
+
+	private final FrameStats current = new FrameStats();
+	private final FrameStats[] history = new FrameStats[HISTORY];
+
+	public JoglProfilingGL (GL20 gl20) {
+		super(gl20);
+		for (int i = 0; i < HISTORY; i++)
+			history[i] = new FrameStats();
+	}
+
+	/** Stores the counters of the calls made since the last call as the given frame and starts counting the next one. */
+	public void endFrame (long frameId) {
+		current.frameId = frameId;
+		synchronized (history) {
+			history[(int)(frameId % HISTORY)].set(current);
+		}
+		current.reset();
+	}
+
+	/** Copies the counters of the given frame into stats.
+	 * @return false if the frame hasn't been profiled or isn't kept anymore */
+	public boolean getFrameStats (long frameId, FrameStats stats) {
+		if (frameId < 0) return false;
+		synchronized (history) {
+			final FrameStats frame = history[(int)(frameId % HISTORY)];
+			if (frame.frameId != frameId) return false;
+			stats.set(frame);
+			return true;
+		}
+	}
+
+	/** Forgets the counters of all frames, including the one in progress. */
+	public void reset () {
+		current.reset();
+		synchronized (history) {
+			for (int i = 0; i < HISTORY; i++)
+				history[i].reset();
+		}
+	}
+
+	private static int imageBytes (int width, int height, int format, int type) {
+		final int components;
+		switch (format) {
+		case GL_ALPHA:
+		case GL_LUMINANCE:
+		case GL_DEPTH_COMPONENT:
+		case GL_RED:
+		case GL_RED_INTEGER:
+			components = 1;
+			break;
+		case GL_LUMINANCE_ALPHA:
+		case GL_RG:
+		case GL_RG_INTEGER:
+			components = 2;
+			break;
+		case GL_RGB:
+		case GL_RGB_INTEGER:
+			components = 3;
+			break;
+		default:
+			components = 4;
+		}
+		final int pixelBytes;
+		switch (type) {
+		case GL_UNSIGNED_SHORT_5_6_5:
+		case GL_UNSIGNED_SHORT_4_4_4_4:
+		case GL_UNSIGNED_SHORT_5_5_5_1:
+			pixelBytes = 2;
+			break;
+		case GL_UNSIGNED_SHORT:
+		case GL_SHORT:
+		case GL_HALF_FLOAT:
+			pixelBytes = 2 * components;
+			break;
+		case GL_UNSIGNED_INT:
+		case GL_INT:
+		case GL_FLOAT:
+			pixelBytes = 4 * components;
+			break;
+		default:
+			pixelBytes = components;
+		}
+		return width * height * pixelBytes;
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		current.drawCalls++;
+		current.vertices += count;
+		gl20.glDrawArrays(mode, first, count);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		current.drawCalls++;
+		current.vertices += count;
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		current.drawCalls++;
+		current.vertices += count;
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
+		current.drawCalls++;
+		current.vertices += count;
+		gl30.glDrawRangeElements(mode, start, end, count, type, indices);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
+		current.drawCalls++;
+		current.vertices += count;
+		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+	}
+
+	@Override
+	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
+		current.drawCalls++;
+		current.vertices += (long)count * instanceCount;
+		gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
+	}
+
+	@Override
+	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
+		current.drawCalls++;
+		current.vertices += (long)count * instanceCount;
+		gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+	}
+
+	@Override
+	public void glDrawArraysIndirect (int mode, long indirect) {
+		// the vertex count lives in the indirect buffer, only the call is counted
+		current.drawCalls++;
+		gl31.glDrawArraysIndirect(mode, indirect);
+	}
+
+	@Override
+	public void glDrawElementsIndirect (int mode, int type, long indirect) {
+		current.drawCalls++;
+		gl31.glDrawElementsIndirect(mode, type, indirect);
+	}
+
+	@Override
+	public void glDrawElementsBaseVertex (int mode, int count, int type, Buffer indices, int basevertex) {
+		current.drawCalls++;
+		current.vertices += count;
+		gl32.glDrawElementsBaseVertex(mode, count, type, indices, basevertex);
+	}
+
+	@Override
+	public void glDrawRangeElementsBaseVertex (int mode, int start, int end, int count, int type, Buffer indices, int basevertex) {
+		current.drawCalls++;
+		current.vertices += count;
+		gl32.glDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, Buffer indices, int instanceCount,
+		int basevertex) {
+		current.drawCalls++;
+		current.vertices += (long)count * instanceCount;
+		gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indices, instanceCount, basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, int indicesOffset, int instanceCount,
+		int basevertex) {
+		current.drawCalls++;
+		current.vertices += (long)count * instanceCount;
+		gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indicesOffset, instanceCount, basevertex);
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		current.textureBindings++;
+		gl20.glBindTexture(target, texture);
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		current.shaderSwitches++;
+		gl20.glUseProgram(program);
+	}
+
+	@Override
+	public void glBindFramebuffer (int target, int framebuffer) {
+		current.framebufferSwitches++;
+		gl20.glBindFramebuffer(target, framebuffer);
+	}
+
+	@Override
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		if (data != null) current.uploadBytes += size;
+		gl20.glBufferData(target, size, data, usage);
+	}
+
+	@Override
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		current.uploadBytes += size;
+		gl20.glBufferSubData(target, offset, size, data);
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type,
+		Buffer pixels) {
+		if (pixels != null) current.uploadBytes += imageBytes(width, height, format, type);
+		gl20.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
+		Buffer pixels) {
+		current.uploadBytes += imageBytes(width, height, format, type);
+		gl20.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+	}
+}
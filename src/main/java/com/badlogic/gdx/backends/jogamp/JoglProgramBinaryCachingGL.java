@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.VersionNumber;
+import com.jogamp.opengl.GL;
+
+/** Stores the binaries of the linked programs on disk and loads them on later runs instead of compiling and linking the shaders
+ * again. A binary is keyed by the sources of the attached shaders, the attribute bindings, the transform feedback varyings and
+ * the vendor, renderer and version of the driver. The hashes of the sources which compiled before are remembered as well, the
+ * compilation of those is deferred to {@link #glLinkProgram(int)} and skipped altogether if the binary is loaded. Until then the
+ * compile status of such a shader is reported as successful with an empty info log.
+ * <p>
+ * A binary the driver rejects, e.g. after an update which didn't change the version string, is deleted and the program is
+ * compiled and linked from the sources. The cache turns itself off if the context can't query program binaries or supports no
+ * binary formats. It sits directly in front of the backend instance. */
+public class JoglProgramBinaryCachingGL extends JoglGLDelegate {
+	private static final String TAG = "JoglProgramBinaryCachingGL";
+	/** the file listing the hashes of the sources which compiled, one per line **/
+	private static final String SOURCES = "sources";
+	private static final String BINARY_SUFFIX = ".bin";
+
+	private final JoglGL20 backend;
+	private final FileHandle directory;
+	private final ObjectSet<String> compiledSources = new ObjectSet<String>();
+	/** the hash of the source of each shader **/
+	private final IntMap<String> shaderSources = new IntMap<String>();
+	/** the shaders whose compilation has been deferred **/
+	private final IntIntMap deferredShaders = new IntIntMap();
+	private final IntMap<IntArray> attachedShaders = new IntMap<IntArray>();
+	/** the attribute bindings and transform feedback varyings of each program **/
+	private final IntMap<StringBuilder> linkInputs = new IntMap<StringBuilder>();
+	private final IntBuffer params = Buffers.newDirectIntBuffer(1);
+	private final IntBuffer format = Buffers.newDirectIntBuffer(1);
+	private final MessageDigest digest;
+	/** the vendor, renderer and version of the driver, null until queried, empty if binaries aren't supported **/
+	private String driver;
+	private boolean sourcesLoaded;
+	private int hits, misses, rejected;
+
+	public JoglProgramBinaryCachingGL (JoglGL20 backend, FileHandle directory) {
+		super(backend);
+		this.backend = backend;
+		this.directory = directory;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new GdxRuntimeException(e);
+		}
+	}
+
+	/** Forgets the driver and the tracked shaders and programs, to be called after the backend has been bound to a new
+	 * context. */
+	public void invalidate () {
+		driver = null;
+		shaderSources.clear();
+		deferredShaders.clear();
+		attachedShaders.clear();
+		linkInputs.clear();
+	}
+
+	/** @return the number of programs loaded from their binary */
+	public int getHits () {
+		return hits;
+	}
+
+	/** @return the number of programs which had to be linked from their sources */
+	public int getMisses () {
+		return misses;
+	}
+
+	/** @return the number of binaries the driver didn't accept, these count as misses as well */
+	public int getRejected () {
+		return rejected;
+	}
+
+	public void resetCounters () {
+		hits = 0;
+		misses = 0;
+		rejected = 0;
+	}
+
+	/** @return whether the context can query and load program binaries, which needs GLES 3.0, GL 4.1 or
+	 *         GL_ARB_get_program_binary */
+	static boolean isSupported (JoglGL20 backend) {
+		final GL gl = backend.gl;
+		if (gl.isGLES3()) return true;
+		if (!gl.isGL2ES3()) return false;
+		final VersionNumber version = gl.getContext().getGLVersionNumber();
+		return version.getMajor() > 4 || (version.getMajor() == 4 && version.getMinor() >= 1)
+			|| gl.isExtensionAvailable("GL_ARB_get_program_binary");
+	}
+
+	/** @return the driver identity which is part of the keys, empty if the context can't store program binaries */
+	private String driver () {
+		if (driver != null) return driver;
+		driver = "";
+		if (!isSupported(backend)) return driver;
+		// params is shared with the status queries, a query the driver fails must not read their last result
+		params.clear();
+		params.put(0, 0);
+		gl20.glGetIntegerv(GL_NUM_PROGRAM_BINARY_FORMATS, params);
+		if (params.get(0) <= 0) {
+			Gdx.app.debug(TAG, "no program binary formats supported, caching disabled");
+			return driver;
+		}
+		driver = gl20.glGetString(GL_VENDOR) + "\n" + gl20.glGetString(GL_RENDERER) + "\n" + gl20.glGetString(GL_VERSION);
+		if (!sourcesLoaded) loadSources();
+		return driver;
+	}
+
+	private void loadSources () {
+		sourcesLoaded = true;
+		final FileHandle file = directory.child(SOURCES);
+		if (!file.exists()) return;
+		try {
+			for (String line : file.readString("UTF-8").split("\n"))
+				if (line.length() > 0) compiledSources.add(line);
+		} catch (RuntimeException e) {
+			Gdx.app.error(TAG, "couldn't read " + file.path(), e);
+		}
+	}
+
+	private String hash (String text) {
+		final byte[] bytes;
+		try {
+			bytes = digest.digest(text.getBytes("UTF-8"));
+		} catch (java.io.UnsupportedEncodingException e) {
+			throw new GdxRuntimeException(e);
+		}
+		final StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			hex.append(Character.forDigit((b >> 4) & 0xf, 16));
+			hex.append(Character.forDigit(b & 0xf, 16));
+		}
+		return hex.toString();
+	}
+
+	/** @return the key of the binary of the program, null if it can't be cached */
+	private String programKey (int program) {
+		final IntArray shaders = attachedShaders.get(program);
+		if (shaders == null || driver().isEmpty()) return null;
+		final StringBuilder key = new StringBuilder(driver);
+		for (int i = 0; i < shaders.size; i++) {
+			final String source = shaderSources.get(shaders.get(i));
+			if (source == null) return null;
+			key.append('\n').append(source);
+		}
+		final StringBuilder inputs = linkInputs.get(program);
+		if (inputs != null) key.append(inputs);
+		return hash(key.toString());
+	}
+
+	private boolean getStatus (int object, int pname) {
+		params.clear();
+		if (pname == GL_COMPILE_STATUS)
+			gl20.glGetShaderiv(object, pname, params);
+		else
+			gl20.glGetProgramiv(object, pname, params);
+		return params.get(0) == GL_TRUE;
+	}
+
+	private void compileDeferred (int program) {
+		final IntArray shaders = attachedShaders.get(program);
+		if (shaders == null) return;
+		for (int i = 0; i < shaders.size; i++) {
+			final int shader = shaders.get(i);
+			if (deferredShaders.remove(shader, 0) != 0) gl20.glCompileShader(shader);
+		}
+	}
+
+	private boolean loadBinary (int program, FileHandle file) {
+		final byte[] bytes;
+		try {
+			bytes = file.readBytes();
+		} catch (RuntimeException e) {
+			Gdx.app.error(TAG, "couldn't read " + file.path(), e);
+			return false;
+		}
+		if (bytes.length <= 4) return false;
+		final ByteBuffer binary = ByteBuffer.allocateDirect(bytes.length - 4);
+		binary.put(bytes, 4, bytes.length - 4).flip();
+		final int binaryFormat = ByteBuffer.wrap(bytes).getInt(0);
+		backend.gl.getGL2ES3().glProgramBinary(program, binaryFormat, binary, binary.remaining());
+		if (getStatus(program, GL_LINK_STATUS)) return true;
+		rejected++;
+		Gdx.app.debug(TAG, "binary " + file.name() + " rejected by the driver");
+		file.delete();
+		return false;
+	}
+
+	private void storeBinary (int program, FileHandle file) {
+		if (!getStatus(program, GL_LINK_STATUS)) return;
+		params.clear();
+		gl20.glGetProgramiv(program, GL_PROGRAM_BINARY_LENGTH, params);
+		final int length = params.get(0);
+		if (length <= 0) return;
+		final ByteBuffer binary = ByteBuffer.allocateDirect(length);
+		params.clear();
+		format.clear();
+		backend.gl.getGL2ES3().glGetProgramBinary(program, length, params, format, binary);
+		final int written = params.get(0);
+		if (written <= 0) return;
+		final byte[] bytes = new byte[written + 4];
+		ByteBuffer.wrap(bytes).putInt(format.get(0));
+		binary.get(bytes, 4, written);
+		try {
+			file.writeBytes(bytes, false);
+		} catch (RuntimeException e) {
+			Gdx.app.error(TAG, "couldn't write " + file.path(), e);
+		}
+	}
+
+	@Override
+	public void glShaderSource (int shader, String string) {
+		deferredShaders.remove(shader, 0);
+		if (!driver().isEmpty()) shaderSources.put(shader, hash(driver + "\n" + string));
+		gl20.glShaderSource(shader, string);
+	}
+
+	@Override
+	public void glCompileShader (int shader) {
+		final String source = shaderSources.get(shader);
+		if (source != null && compiledSources.contains(source)) {
+			deferredShaders.put(shader, 1);
+			return;
+		}
+		gl20.glCompileShader(shader);
+		if (source != null && getStatus(shader, GL_COMPILE_STATUS)) {
+			compiledSources.add(source);
+			try {
+				directory.child(SOURCES).writeString(source + "\n", true, "UTF-8");
+			} catch (RuntimeException e) {
+				Gdx.app.error(TAG, "couldn't write " + directory.child(SOURCES).path(), e);
+			}
+		}
+	}
+
+	@Override
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		if (deferredShaders.get(shader, 0) != 0) {
+			if (pname == GL_COMPILE_STATUS) {
+				params.put(params.position(), GL_TRUE);
+				return;
+			}
+			if (pname == GL_INFO_LOG_LENGTH) {
+				params.put(params.position(), 0);
+				return;
+			}
+		}
+		gl20.glGetShaderiv(shader, pname, params);
+	}
+
+	@Override
+	public String glGetShaderInfoLog (int shader) {
+		if (deferredShaders.get(shader, 0) != 0) return "";
+		return gl20.glGetShaderInfoLog(shader);
+	}
+
+	@Override
+	public void glDeleteShader (int shader) {
+		shaderSources.remove(shader);
+		deferredShaders.remove(shader, 0);
+		gl20.glDeleteShader(shader);
+	}
+
+	@Override
+	public void glAttachShader (int program, int shader) {
+		IntArray shaders = attachedShaders.get(program);
+		if (shaders == null) attachedShaders.put(program, shaders = new IntArray());
+		shaders.add(shader);
+		gl20.glAttachShader(program, shader);
+	}
+
+	@Override
+	public void glDetachShader (int program, int shader) {
+		final IntArray shaders = attachedShaders.get(program);
+		if (shaders != null) shaders.removeValue(shader);
+		gl20.glDetachShader(program, shader);
+	}
+
+	@Override
+	public void glBindAttribLocation (int program, int index, String name) {
+		StringBuilder inputs = linkInputs.get(program);
+		if (inputs == null) linkInputs.put(program, inputs = new StringBuilder());
+		inputs.append("\nattribute ").append(index).append(' ').append(name);
+		gl20.glBindAttribLocation(program, index, name);
+	}
+
+	@Override
+	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
+		StringBuilder inputs = linkInputs.get(program);
+		if (inputs == null) linkInputs.put(program, inputs = new StringBuilder());
+		inputs.append("\nvaryings ").append(bufferMode);
+		for (String varying : varyings)
+			inputs.append(' ').append(varying);
+		gl30.glTransformFeedbackVaryings(program, varyings, bufferMode);
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		final String key = programKey(program);
+		if (key == null) {
+			compileDeferred(program);
+			gl20.glLinkProgram(program);
+			return;
+		}
+		final FileHandle file = directory.child(key + BINARY_SUFFIX);
+		if (file.exists() && loadBinary(program, file)) {
+			hits++;
+			// a loaded binary resets the block bindings like a link does
+			if (backend instanceof JoglGL30 && ((JoglGL30)backend).uniformBuffers != null)
+				((JoglGL30)backend).uniformBuffers.linked(program);
+			return;
+		}
+		misses++;
+		compileDeferred(program);
+		backend.gl.getGL2ES3().glProgramParameteri(program, GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL_TRUE);
+		gl20.glLinkProgram(program);
+		storeBinary(program, file);
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		attachedShaders.remove(program);
+		linkInputs.remove(program);
+		gl20.glDeleteProgram(program);
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.jogamp.common.nio.Buffers;
+
+/** Introspects each linked program once and answers glGetActiveAttrib, glGetActiveUniform, glGetAttribLocation,
+ * glGetUniformLocation and the GL_ACTIVE_ATTRIBUTES and GL_ACTIVE_UNIFORMS queries of glGetProgramiv from a table, which
+ * spares the round trips to the driver and the name strings {@link com.badlogic.gdx.graphics.glutils.ShaderProgram} causes for
+ * every attribute and uniform of every program it links. The names handed out are the ones of the table.
+ * <p>
+ * The table of a program is built on the first query after it linked successfully, so the link of a program which is never
+ * introspected isn't waited for, and dropped when it's linked again or deleted. Locations of names which aren't in the table,
+ * e.g. elements of uniform arrays, are queried once and remembered as well. Programs linked through anything but this instance
+ * must be followed by {@link #invalidate()}. Enabled through {@link JoglApplicationConfiguration#cacheProgramReflection}. */
+public class JoglProgramReflectionGL extends JoglGLDelegate {
+	/** The active variables of one kind of a linked program, never changed once built. */
+	static class Variables {
+		final String[] names;
+		final int[] sizes;
+		final int[] types;
+		/** the location of each name queried so far, including the active ones **/
+		final ObjectIntMap<String> locations;
+
+		Variables (int count) {
+			names = new String[count];
+			sizes = new int[count];
+			types = new int[count];
+			locations = new ObjectIntMap<String>(count);
+		}
+	}
+
+	static class Program {
+		Variables attributes;
+		Variables uniforms;
+	}
+
+	/** program -> reflection table, only holds linked programs **/
+	private final IntMap<Program> programs = new IntMap<Program>();
+	private final IntBuffer params = Buffers.newDirectIntBuffer(1);
+	private final IntBuffer size = Buffers.newDirectIntBuffer(1);
+	private final IntBuffer type = Buffers.newDirectIntBuffer(1);
+	private long servedQueries;
+
+	public JoglProgramReflectionGL (GL20 gl20) {
+		super(gl20);
+	}
+
+	/** Forgets the tables of all programs, to be called after code which doesn't go through this instance linked programs. */
+	public void invalidate () {
+		programs.clear();
+	}
+
+	/** @return the number of queries answered from the tables */
+	public long getServedQueries () {
+		return servedQueries;
+	}
+
+	public void resetCounters () {
+		servedQueries = 0;
+	}
+
+	/** @return the table of the program, null if it isn't linked successfully */
+	private Program program (int program) {
+		Program reflection = programs.get(program);
+		if (reflection != null) return reflection;
+		if (program <= 0 || !gl20.glIsProgram(program) || getProgram(program, GL_LINK_STATUS) != GL_TRUE) return null;
+		reflection = new Program();
+		reflection.attributes = reflect(program, true);
+		reflection.uniforms = reflect(program, false);
+		programs.put(program, reflection);
+		return reflection;
+	}
+
+	private Variables reflect (int program, boolean attributes) {
+		final int count = getProgram(program, attributes ? GL_ACTIVE_ATTRIBUTES : GL_ACTIVE_UNIFORMS);
+		final Variables variables = new Variables(count);
+		for (int i = 0; i < count; i++) {
+			size.clear();
+			type.clear();
+			final String name = attributes ? gl20.glGetActiveAttrib(program, i, size, type)
+				: gl20.glGetActiveUniform(program, i, size, type);
+			variables.names[i] = name;
+			variables.sizes[i] = size.get(0);
+			variables.types[i] = type.get(0);
+			variables.locations.put(name,
+				attributes ? gl20.glGetAttribLocation(program, name) : gl20.glGetUniformLocation(program, name));
+		}
+		return variables;
+	}
+
+	private int getProgram (int program, int pname) {
+		params.clear();
+		gl20.glGetProgramiv(program, pname, params);
+		return params.get(0);
+	}
+
+	private String active (Variables variables, int index, IntBuffer size, IntBuffer type) {
+		servedQueries++;
+		size.put(variables.sizes[index]);
+		if (type != null) type.put(variables.types[index]);
+		return variables.names[index];
+	}
+
+	@Override
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, IntBuffer type) {
+		final Program reflection = program(program);
+		if (reflection == null || index < 0 || index >= reflection.attributes.names.length)
+			return gl20.glGetActiveAttrib(program, index, size, type);
+		return active(reflection.attributes, index, size, type);
+	}
+
+	@Override
+	public String glGetActiveUniform (int program, int index, IntBuffer size, IntBuffer type) {
+		final Program reflection = program(program);
+		if (reflection == null || index < 0 || index >= reflection.uniforms.names.length)
+			return gl20.glGetActiveUniform(program, index, size, type);
+		return active(reflection.uniforms, index, size, type);
+	}
+
+	@Override
+	public int glGetAttribLocation (int program, String name) {
+		final Program reflection = program(program);
+		if (reflection == null) return gl20.glGetAttribLocation(program, name);
+		final ObjectIntMap<String> locations = reflection.attributes.locations;
+		if (locations.containsKey(name)) {
+			servedQueries++;
+			return locations.get(name, -1);
+		}
+		final int location = gl20.glGetAttribLocation(program, name);
+		locations.put(name, location);
+		return location;
+	}
+
+	@Override
+	public int glGetUniformLocation (int program, String name) {
+		final Program reflection = program(program);
+		if (reflection == null) return gl20.glGetUniformLocation(program, name);
+		final ObjectIntMap<String> locations = reflection.uniforms.locations;
+		if (locations.containsKey(name)) {
+			servedQueries++;
+			return locations.get(name, -1);
+		}
+		final int location = gl20.glGetUniformLocation(program, name);
+		locations.put(name, location);
+		return location;
+	}
+
+	@Override
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		if (pname == GL_ACTIVE_ATTRIBUTES || pname == GL_ACTIVE_UNIFORMS) {
+			final Program reflection = program(program);
+			if (reflection != null) {
+				servedQueries++;
+				final Variables variables = pname == GL_ACTIVE_ATTRIBUTES ? reflection.attributes : reflection.uniforms;
+				params.put(params.position(), variables.names.length);
+				return;
+			}
+		}
+		gl20.glGetProgramiv(program, pname, params);
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		programs.remove(program);
+		gl20.glLinkProgram(program);
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		programs.remove(program);
+		gl20.glDeleteProgram(program);
+	}
+}
@@ -0,0 +1,1384 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.jogamp.common.nio.Buffers;
+
+/** Compiles identical shaders and links identical programs only once per context, e.g. the copies of the same shaders every
+ * font and skin creates its own {@link com.badlogic.gdx.graphics.glutils.ShaderProgram} of. The source handed to glShaderSource
+ * is held back until glCompileShader, which is skipped if a shader of the same type and source has been compiled before. The
+ * shader then stands for the earlier one, its status and info log are answered by it and it's attached in its place. Likewise
+ * glLinkProgram is skipped if a program with the same shaders, attribute bindings and transform feedback varyings has been
+ * linked before, the program stands for the earlier one in all calls using it afterwards.
+ * <p>
+ * Shared shaders and programs are reference counted, the underlying object is deleted once every shader or program standing for
+ * it has been deleted. A shared program which is linked again leaves the others sharing it to be linked on their own, a shared
+ * shader which is given a new source changes for all which share it and is no longer handed out.
+ * <p>
+ * The uniform values and uniform block bindings set through each program are remembered, glUseProgram puts those of the program
+ * into the shared object if another program sharing it was used last. Locations the program never set get back the value they
+ * had after linking, which is read back before the first value reaches the location. The elements of uniform arrays are
+ * expected at consecutive locations. Enabled through {@link JoglApplicationConfiguration#sharePrograms}. */
+public class JoglProgramSharingGL extends JoglGLDelegate {
+	/** A compiled shader, the object of the first shader compiled from the source. */
+	static class Shader {
+		final int id;
+		final String key;
+		final int shader;
+		/** the other shaders standing for this one and the programs linked from it **/
+		int references;
+		/** whether the shader itself has been deleted, its object lives on while it's referenced **/
+		boolean deleted;
+
+		Shader (int id, String key, int shader) {
+			this.id = id;
+			this.key = key;
+			this.shader = shader;
+		}
+	}
+
+	/** A value set through a program, or the value a location had after linking. */
+	static class Uniform {
+		int kind;
+		int count;
+		boolean transpose;
+		/** the number of values, the count times the components of the kind **/
+		int length;
+		float[] floats = new float[4];
+		int[] ints = new int[4];
+
+		Uniform set (int kind, int count, boolean transpose) {
+			this.kind = kind;
+			this.count = count;
+			this.transpose = transpose;
+			length = count * components(kind);
+			if (integer(kind)) {
+				if (ints.length < length) ints = new int[length];
+			} else if (floats.length < length) floats = new float[length];
+			return this;
+		}
+
+		void floats (float x, float y, float z, float w) {
+			floats[0] = x;
+			floats[1] = y;
+			floats[2] = z;
+			floats[3] = w;
+		}
+
+		void floats (float[] values, int offset) {
+			if (offset >= 0) System.arraycopy(values, offset, floats, 0, Math.max(0, Math.min(length, values.length - offset)));
+		}
+
+		void floats (FloatBuffer values) {
+			final int position = values.position();
+			for (int i = 0, n = Math.min(length, values.remaining()); i < n; i++)
+				floats[i] = values.get(position + i);
+		}
+
+		void ints (int x, int y, int z, int w) {
+			ints[0] = x;
+			ints[1] = y;
+			ints[2] = z;
+			ints[3] = w;
+		}
+
+		void ints (int[] values, int offset) {
+			if (offset >= 0) System.arraycopy(values, offset, ints, 0, Math.max(0, Math.min(length, values.length - offset)));
+		}
+
+		void ints (IntBuffer values) {
+			final int position = values.position();
+			for (int i = 0, n = Math.min(length, values.remaining()); i < n; i++)
+				ints[i] = values.get(position + i);
+		}
+
+		boolean same (Uniform other) {
+			if (other == null || kind != other.kind || count != other.count || transpose != other.transpose) return false;
+			final boolean integer = integer(kind);
+			for (int i = 0; i < length; i++)
+				if (integer ? ints[i] != other.ints[i] : floats[i] != other.floats[i]) return false;
+			return true;
+		}
+	}
+
+	/** A linked program, the object of the first program linked from the inputs. */
+	static class Program {
+		final String key;
+		final int program;
+		final Array<Shader> shaders;
+		/** the other programs standing for this one **/
+		final IntArray aliases = new IntArray(4);
+		/** whether the program itself has been deleted, its object lives on until the aliases are deleted as well **/
+		boolean deleted;
+		/** program -> location -> value set through it, for the program itself and its aliases **/
+		final IntMap<IntMap<Uniform>> uniforms = new IntMap<IntMap<Uniform>>();
+		/** the values the locations had after linking, read back before the first value set reaches them **/
+		final IntMap<Uniform> initial = new IntMap<Uniform>();
+		/** the program whose values the object holds, 0 if it has been deleted since **/
+		int loaded;
+		/** the values the object holds, the initial ones for the other locations **/
+		IntMap<Uniform> loadedValues = new IntMap<Uniform>();
+
+		Program (String key, int program, Array<Shader> shaders) {
+			this.key = key;
+			this.program = program;
+			this.shaders = shaders;
+			uniforms.put(program, loadedValues);
+			loaded = program;
+		}
+	}
+
+	// one kind per entry point family, the float, int and unsigned int vectors are followed by their component count
+	private static final int FLOAT = 0, INT = 5, UINT = 10, MATRIX2 = 15, MATRIX3 = 16, MATRIX4 = 17, MATRIX2X3 = 18,
+		MATRIX3X2 = 19, MATRIX2X4 = 20, MATRIX4X2 = 21, MATRIX3X4 = 22, MATRIX4X3 = 23, BLOCK = 24;
+
+	/** type and source -> compiled shader **/
+	private final ObjectMap<String, Shader> compiledShaders = new ObjectMap<String, Shader>();
+	/** inputs -> linked program **/
+	private final ObjectMap<String, Program> linkedPrograms = new ObjectMap<String, Program>();
+	/** the type of each shader created through this instance **/
+	private final IntIntMap shaderTypes = new IntIntMap();
+	/** the source of each shader which hasn't been compiled yet **/
+	private final IntMap<String> shaderSources = new IntMap<String>();
+	/** the compiled shader each compiled shader stands for, which may be itself **/
+	private final IntMap<Shader> shaders = new IntMap<Shader>();
+	/** the attached shaders, attribute bindings and transform feedback varyings of each program created through this instance **/
+	private final IntMap<StringBuilder> linkInputs = new IntMap<StringBuilder>();
+	private final IntMap<Array<Shader>> attachedShaders = new IntMap<Array<Shader>>();
+	/** the programs which can't be shared, e.g. because shaders not compiled through this instance are attached **/
+	private final IntSet unshared = new IntSet();
+	/** the linked program each linked program stands for, which may be itself **/
+	private final IntMap<Program> programs = new IntMap<Program>();
+	/** the program the application uses **/
+	private int current;
+	private final FloatBuffer floatParams = Buffers.newDirectFloatBuffer(16);
+	private final IntBuffer intParams = Buffers.newDirectIntBuffer(16);
+	private FloatBuffer floatValues = Buffers.newDirectFloatBuffer(16);
+	private IntBuffer intValues = Buffers.newDirectIntBuffer(16);
+	private int nextShaderId;
+	private int compiles, sharedShaders, links, sharedPrograms;
+
+	public JoglProgramSharingGL (GL20 gl20) {
+		super(gl20);
+	}
+
+	/** Forgets all shaders and programs, to be called after the wrapped instance has been bound to a new context. */
+	public void invalidate () {
+		compiledShaders.clear();
+		linkedPrograms.clear();
+		shaderTypes.clear();
+		shaderSources.clear();
+		shaders.clear();
+		linkInputs.clear();
+		attachedShaders.clear();
+		unshared.clear();
+		programs.clear();
+		current = 0;
+	}
+
+	/** @return the number of shaders which had to be compiled */
+	public int getCompiles () {
+		return compiles;
+	}
+
+	/** @return the number of shaders which share a shader compiled before instead of being compiled */
+	public int getSharedShaders () {
+		return sharedShaders;
+	}
+
+	/** @return the number of programs which had to be linked */
+	public int getLinks () {
+		return links;
+	}
+
+	/** @return the number of programs which share a program linked before instead of being linked */
+	public int getSharedPrograms () {
+		return sharedPrograms;
+	}
+
+	/** @return the number of distinct shaders and programs alive */
+	public int getLiveObjects () {
+		return compiledShaders.size + linkedPrograms.size;
+	}
+
+	public void resetCounters () {
+		compiles = 0;
+		sharedShaders = 0;
+		links = 0;
+		sharedPrograms = 0;
+	}
+
+	/** @return the shader object the shader stands for */
+	private int shader (int shader) {
+		final Shader compiled = shaders.get(shader);
+		return compiled != null ? compiled.shader : shader;
+	}
+
+	/** @return the program object the program stands for */
+	private int program (int program) {
+		final Program linked = programs.get(program);
+		return linked != null ? linked.program : program;
+	}
+
+	private void release (Shader compiled) {
+		compiled.references--;
+		collect(compiled);
+	}
+
+	private void collect (Shader compiled) {
+		if (!compiled.deleted || compiled.references > 0) return;
+		if (compiledShaders.get(compiled.key) == compiled) compiledShaders.remove(compiled.key);
+		gl20.glDeleteShader(compiled.shader);
+	}
+
+	private void release (Program linked) {
+		if (!linked.deleted || linked.aliases.size > 0) return;
+		if (linkedPrograms.get(linked.key) == linked) linkedPrograms.remove(linked.key);
+		gl20.glDeleteProgram(linked.program);
+		for (int i = 0; i < linked.shaders.size; i++)
+			release(linked.shaders.get(i));
+	}
+
+	/** Stops the shader from standing for a compiled one. If it's the compiled one itself, its object is about to change and
+	 * isn't handed out anymore, it's left to the shader. */
+	private void unshare (int shader) {
+		final Shader compiled = shaders.remove(shader);
+		if (compiled == null) return;
+		if (compiled.shader == shader) {
+			if (compiledShaders.get(compiled.key) == compiled) compiledShaders.remove(compiled.key);
+		} else
+			release(compiled);
+	}
+
+	/** Stops the program from standing for a linked one. If it's the linked one itself and others stand for it, they keep its
+	 * object if it's deleted and are linked on their own if it's linked again. */
+	private void unshareProgram (int program, boolean delete) {
+		final Program linked = programs.remove(program);
+		if (linked == null) return;
+		if (linked.program != program) {
+			linked.aliases.removeValue(program);
+			forget(linked, program);
+			release(linked);
+			return;
+		}
+		if (linkedPrograms.get(linked.key) == linked) linkedPrograms.remove(linked.key);
+		if (delete && linked.aliases.size > 0) {
+			linked.deleted = true;
+			forget(linked, program);
+			return;
+		}
+		for (int i = 0; i < linked.aliases.size; i++) {
+			final int alias = linked.aliases.get(i);
+			programs.remove(alias);
+			gl20.glLinkProgram(alias);
+			links++;
+		}
+		linked.aliases.clear();
+		for (int i = 0; i < linked.shaders.size; i++)
+			release(linked.shaders.get(i));
+	}
+
+	/** Drops the values set through a program which no longer stands for the object, the object keeps them if they're loaded. */
+	private void forget (Program linked, int program) {
+		linked.uniforms.remove(program);
+		if (linked.loaded == program) linked.loaded = 0;
+	}
+
+	private static boolean integer (int kind) {
+		return (kind > INT && kind < MATRIX2) || kind == BLOCK;
+	}
+
+	private static int components (int kind) {
+		switch (kind) {
+		case MATRIX2:
+			return 4;
+		case MATRIX3:
+			return 9;
+		case MATRIX4:
+			return 16;
+		case MATRIX2X3:
+		case MATRIX3X2:
+			return 6;
+		case MATRIX2X4:
+		case MATRIX4X2:
+			return 8;
+		case MATRIX3X4:
+		case MATRIX4X3:
+			return 12;
+		case BLOCK:
+			return 1;
+		default:
+			return kind % 5;
+		}
+	}
+
+	/** @return the key of a uniform block binding among the locations */
+	private static int block (int uniformBlockIndex) {
+		return -2 - uniformBlockIndex;
+	}
+
+	/** Remembers a value set through a shared program. The value the location had after linking is read back before the first
+	 * value set through any of the programs sharing the object reaches it.
+	 * @param location the location, or the key of a uniform block binding
+	 * @return the uniform to store the value in, null if the program isn't shared */
+	private Uniform record (int program, int location, int kind, int count, boolean transpose) {
+		final Program linked = programs.get(program);
+		if (linked == null || (location < 0 && kind != BLOCK) || count <= 0) return null;
+		final IntMap<Uniform> values = linked.uniforms.get(program);
+		if (values == null) return null;
+		if (linked.loaded == program) capture(linked, location, kind, count);
+		Uniform uniform = values.get(location);
+		if (uniform == null) values.put(location, uniform = new Uniform());
+		return uniform.set(kind, count, transpose);
+	}
+
+	/** @return whether a value set through the program reaches its object, which holds the values of another program otherwise */
+	private boolean loaded (int program) {
+		final Program linked = programs.get(program);
+		return linked == null || linked.loaded == program;
+	}
+
+	/** Reads back the value the location had after linking, unless a value set through a program sharing the object reached it
+	 * before. */
+	private void capture (Program linked, int location, int kind, int count) {
+		if (linked.initial.containsKey(location)) return;
+		final Uniform uniform = new Uniform().set(kind, count, false);
+		final int components = components(kind);
+		if (kind == BLOCK) {
+			intParams.clear();
+			gl30.glGetActiveUniformBlockiv(linked.program, -2 - location, GL30.GL_UNIFORM_BLOCK_BINDING, intParams);
+			uniform.ints[0] = intParams.get(0);
+		} else if (integer(kind)) {
+			for (int i = 0; i < count; i++) {
+				intParams.clear();
+				if (kind > UINT)
+					gl30.glGetUniformuiv(linked.program, location + i, intParams);
+				else
+					gl20.glGetUniformiv(linked.program, location + i, intParams);
+				for (int j = 0; j < components; j++)
+					uniform.ints[i * components + j] = intParams.get(j);
+			}
+		} else {
+			for (int i = 0; i < count; i++) {
+				floatParams.clear();
+				gl20.glGetUniformfv(linked.program, location + i, floatParams);
+				for (int j = 0; j < components; j++)
+					uniform.floats[i * components + j] = floatParams.get(j);
+			}
+		}
+		linked.initial.put(location, uniform);
+	}
+
+	/** Puts the values set through the program into its object, which must be in use. Only the locations whose value differs
+	 * from the one the object holds are set. */
+	private void load (Program linked, int program) {
+		final IntMap<Uniform> from = linked.loadedValues, to = linked.uniforms.get(program);
+		for (IntMap.Entry<Uniform> entry : from.entries()) {
+			final Uniform value = to != null ? to.get(entry.key) : null;
+			write(linked, entry.key, value != null ? value : linked.initial.get(entry.key), entry.value);
+		}
+		if (to != null) {
+			for (IntMap.Entry<Uniform> entry : to.entries()) {
+				if (from.containsKey(entry.key)) continue;
+				// the object still holds the value the location had after linking
+				capture(linked, entry.key, entry.value.kind, entry.value.count);
+				write(linked, entry.key, entry.value, linked.initial.get(entry.key));
+			}
+		}
+		linked.loaded = program;
+		linked.loadedValues = to != null ? to : new IntMap<Uniform>();
+	}
+
+	/** Loads the values of the program outside of glUseProgram, for program pipelines. The program in use keeps its values if it
+	 * shares the object. */
+	private void loadAside (int program) {
+		final Program linked = programs.get(program);
+		if (linked == null || linked.loaded == program || programs.get(current) == linked) return;
+		gl20.glUseProgram(linked.program);
+		load(linked, program);
+		gl20.glUseProgram(program(current));
+	}
+
+	/** @return the value of the location for a program whose object holds the values of another program, null if the object can
+	 *         be queried */
+	private Uniform value (int program, int location) {
+		final Program linked = programs.get(program);
+		if (linked == null || linked.loaded == program) return null;
+		final IntMap<Uniform> values = linked.uniforms.get(program);
+		final Uniform value = values != null ? values.get(location) : null;
+		return value != null ? value : linked.initial.get(location);
+	}
+
+	private static boolean answer (Uniform value, FloatBuffer params) {
+		if (value == null) return false;
+		final int position = params.position();
+		for (int i = 0, n = Math.min(components(value.kind), params.remaining()); i < n; i++)
+			params.put(position + i, integer(value.kind) ? value.ints[i] : value.floats[i]);
+		return true;
+	}
+
+	private static boolean answer (Uniform value, IntBuffer params) {
+		if (value == null) return false;
+		final int position = params.position();
+		for (int i = 0, n = Math.min(components(value.kind), params.remaining()); i < n; i++)
+			params.put(position + i, integer(value.kind) ? value.ints[i] : (int)value.floats[i]);
+		return true;
+	}
+
+	private FloatBuffer floats (Uniform value) {
+		if (floatValues.capacity() < value.length) floatValues = Buffers.newDirectFloatBuffer(value.length);
+		floatValues.clear();
+		floatValues.put(value.floats, 0, value.length).flip();
+		return floatValues;
+	}
+
+	private IntBuffer ints (Uniform value) {
+		if (intValues.capacity() < value.length) intValues = Buffers.newDirectIntBuffer(value.length);
+		intValues.clear();
+		intValues.put(value.ints, 0, value.length).flip();
+		return intValues;
+	}
+
+	/** Sets the location of the object in use to the value, unless it already holds it.
+	 * @param held the value the object holds */
+	private void write (Program linked, int location, Uniform value, Uniform held) {
+		if (value == null || value.same(held)) return;
+		final int count = value.count;
+		switch (value.kind) {
+		case FLOAT + 1:
+			gl20.glUniform1fv(location, count, value.floats, 0);
+			break;
+		case FLOAT + 2:
+			gl20.glUniform2fv(location, count, value.floats, 0);
+			break;
+		case FLOAT + 3:
+			gl20.glUniform3fv(location, count, value.floats, 0);
+			break;
+		case FLOAT + 4:
+			gl20.glUniform4fv(location, count, value.floats, 0);
+			break;
+		case INT + 1:
+			gl20.glUniform1iv(location, count, value.ints, 0);
+			break;
+		case INT + 2:
+			gl20.glUniform2iv(location, count, value.ints, 0);
+			break;
+		case INT + 3:
+			gl20.glUniform3iv(location, count, value.ints, 0);
+			break;
+		case INT + 4:
+			gl20.glUniform4iv(location, count, value.ints, 0);
+			break;
+		case UINT + 1:
+			gl30.glUniform1uiv(location, count, ints(value));
+			break;
+		case UINT + 2:
+			// GL30 has no glUniform2uiv, the value was set through GL31
+			gl31.glProgramUniform2uiv(linked.program, location, ints(value));
+			break;
+		case UINT + 3:
+			gl30.glUniform3uiv(location, count, ints(value));
+			break;
+		case UINT + 4:
+			gl30.glUniform4uiv(location, count, ints(value));
+			break;
+		case MATRIX2:
+			gl20.glUniformMatrix2fv(location, count, value.transpose, value.floats, 0);
+			break;
+		case MATRIX3:
+			gl20.glUniformMatrix3fv(location, count, value.transpose, value.floats, 0);
+			break;
+		case MATRIX4:
+			gl20.glUniformMatrix4fv(location, count, value.transpose, value.floats, 0);
+			break;
+		case MATRIX2X3:
+			gl30.glUniformMatrix2x3fv(location, count, value.transpose, floats(value));
+			break;
+		case MATRIX3X2:
+			gl30.glUniformMatrix3x2fv(location, count, value.transpose, floats(value));
+			break;
+		case MATRIX2X4:
+			gl30.glUniformMatrix2x4fv(location, count, value.transpose, floats(value));
+			break;
+		case MATRIX4X2:
+			gl30.glUniformMatrix4x2fv(location, count, value.transpose, floats(value));
+			break;
+		case MATRIX3X4:
+			gl30.glUniformMatrix3x4fv(location, count, value.transpose, floats(value));
+			break;
+		case MATRIX4X3:
+			gl30.glUniformMatrix4x3fv(location, count, value.transpose, floats(value));
+			break;
+		case BLOCK:
+			gl30.glUniformBlockBinding(linked.program, -2 - location, value.ints[0]);
+			break;
+		}
+	}
+
+	@Override
+	public int glCreateShader (int type) {
+		final int shader = gl20.glCreateShader(type);
+		if (shader != 0) shaderTypes.put(shader, type);
+		return shader;
+	}
+
+	@Override
+	public void glShaderSource (int shader, String string) {
+		if (!shaderTypes.containsKey(shader)) {
+			gl20.glShaderSource(shader, string);
+			return;
+		}
+		if (shaders.containsKey(shader)) {
+			final boolean object = shaders.get(shader).shader == shader;
+			unshare(shader);
+			// a shader standing for another one has no source of its own yet, the compiled one is left to itself
+			if (object) {
+				shaderTypes.remove(shader, 0);
+				gl20.glShaderSource(shader, string);
+				return;
+			}
+		}
+		shaderSources.put(shader, string);
+	}
+
+	@Override
+	public void glCompileShader (int shader) {
+		final String source = shaderSources.remove(shader);
+		if (source == null) {
+			// compiling a shared shader again without a new source changes nothing
+			if (!shaders.containsKey(shader)) gl20.glCompileShader(shader);
+			return;
+		}
+		final String key = shaderTypes.get(shader, 0) + "\n" + source;
+		Shader compiled = compiledShaders.get(key);
+		if (compiled != null) {
+			compiled.references++;
+			shaders.put(shader, compiled);
+			sharedShaders++;
+			return;
+		}
+		gl20.glShaderSource(shader, source);
+		gl20.glCompileShader(shader);
+		compiled = new Shader(nextShaderId++, key, shader);
+		compiledShaders.put(key, compiled);
+		shaders.put(shader, compiled);
+		compiles++;
+	}
+
+	@Override
+	public void glDeleteShader (int shader) {
+		shaderTypes.remove(shader, 0);
+		shaderSources.remove(shader);
+		final Shader compiled = shaders.remove(shader);
+		if (compiled == null) {
+			gl20.glDeleteShader(shader);
+			return;
+		}
+		if (compiled.shader != shader) {
+			gl20.glDeleteShader(shader);
+			release(compiled);
+		} else {
+			// the compiled object itself is deleted once nothing references it anymore
+			compiled.deleted = true;
+			collect(compiled);
+		}
+	}
+
+	@Override
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		if (pname == GL_SHADER_SOURCE_LENGTH && shaderSources.containsKey(shader)) {
+			params.put(params.position(), shaderSources.get(shader).length() + 1);
+			return;
+		}
+		gl20.glGetShaderiv(shader(shader), pname, params);
+	}
+
+	@Override
+	public String glGetShaderInfoLog (int shader) {
+		return gl20.glGetShaderInfoLog(shader(shader));
+	}
+
+	@Override
+	public int glCreateProgram () {
+		final int program = gl20.glCreateProgram();
+		if (program != 0) {
+			linkInputs.put(program, new StringBuilder());
+			attachedShaders.put(program, new Array<Shader>(2));
+		}
+		return program;
+	}
+
+	@Override
+	public void glAttachShader (int program, int shader) {
+		final StringBuilder inputs = linkInputs.get(program);
+		final Shader compiled = shaders.get(shader);
+		if (inputs != null) {
+			if (compiled == null)
+				unshared.add(program);
+			else {
+				inputs.append("shader ").append(compiled.id).append('\n');
+				attachedShaders.get(program).add(compiled);
+			}
+		}
+		gl20.glAttachShader(program, compiled != null ? compiled.shader : shader);
+	}
+
+	@Override
+	public void glDetachShader (int program, int shader) {
+		unshared.add(program);
+		gl20.glDetachShader(program, shader(shader));
+	}
+
+	@Override
+	public void glBindAttribLocation (int program, int index, String name) {
+		final StringBuilder inputs = linkInputs.get(program);
+		if (inputs != null) inputs.append("attribute ").append(index).append(' ').append(name).append('\n');
+		gl20.glBindAttribLocation(program, index, name);
+	}
+
+	@Override
+	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
+		final StringBuilder inputs = linkInputs.get(program);
+		if (inputs != null) {
+			inputs.append("varyings ").append(bufferMode);
+			for (String varying : varyings)
+				inputs.append(' ').append(varying);
+			inputs.append('\n');
+		}
+		gl30.glTransformFeedbackVaryings(program, varyings, bufferMode);
+	}
+
+	@Override
+	public void glProgramParameteri (int program, int pname, int value) {
+		unshared.add(program);
+		gl30.glProgramParameteri(program(program), pname, value);
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		unshareProgram(program, false);
+		final StringBuilder inputs = linkInputs.get(program);
+		if (inputs == null || unshared.contains(program)) {
+			gl20.glLinkProgram(program);
+			return;
+		}
+		final String key = inputs.toString();
+		Program linked = linkedPrograms.get(key);
+		if (linked != null) {
+			linked.aliases.add(program);
+			linked.uniforms.put(program, new IntMap<Uniform>());
+			programs.put(program, linked);
+			sharedPrograms++;
+			return;
+		}
+		gl20.glLinkProgram(program);
+		final Array<Shader> attached = new Array<Shader>(attachedShaders.get(program));
+		for (int i = 0; i < attached.size; i++)
+			attached.get(i).references++;
+		linked = new Program(key, program, attached);
+		linkedPrograms.put(key, linked);
+		programs.put(program, linked);
+		links++;
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		linkInputs.remove(program);
+		attachedShaders.remove(program);
+		unshared.remove(program);
+		final Program linked = programs.get(program);
+		if (linked == null) {
+			gl20.glDeleteProgram(program);
+			return;
+		}
+		// the object of a program standing for another one is never used, the linked one lives on while others stand for it
+		if (linked.program != program || linked.aliases.size == 0) gl20.glDeleteProgram(program);
+		unshareProgram(program, true);
+	}
+
+	@Override
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, IntBuffer type) {
+		return gl20.glGetActiveAttrib(program(program), index, size, type);
+	}
+
+	@Override
+	public String glGetActiveUniform (int program, int index, IntBuffer size, IntBuffer type) {
+		return gl20.glGetActiveUniform(program(program), index, size, type);
+	}
+
+	@Override
+	public int glGetAttribLocation (int program, String name) {
+		return gl20.glGetAttribLocation(program(program), name);
+	}
+
+	@Override
+	public String glGetProgramInfoLog (int program) {
+		return gl20.glGetProgramInfoLog(program(program));
+	}
+
+	@Override
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		gl20.glGetProgramiv(program(program), pname, params);
+	}
+
+	@Override
+	public int glGetUniformLocation (int program, String name) {
+		return gl20.glGetUniformLocation(program(program), name);
+	}
+
+	@Override
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		if (answer(value(program, location), params)) return;
+		gl20.glGetUniformfv(program(program), location, params);
+	}
+
+	@Override
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		if (answer(value(program, location), params)) return;
+		gl20.glGetUniformiv(program(program), location, params);
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		current = program;
+		gl20.glUseProgram(program(program));
+		final Program linked = programs.get(program);
+		if (linked != null && linked.loaded != program) load(linked, program);
+	}
+
+	@Override
+	public void glUniform1f (int location, float x) {
+		final Uniform uniform = record(current, location, FLOAT + 1, 1, false);
+		if (uniform != null) uniform.floats(x, 0, 0, 0);
+		gl20.glUniform1f(location, x);
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		final Uniform uniform = record(current, location, FLOAT + 1, count, false);
+		if (uniform != null) uniform.floats(v);
+		gl20.glUniform1fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		final Uniform uniform = record(current, location, FLOAT + 1, count, false);
+		if (uniform != null) uniform.floats(v, offset);
+		gl20.glUniform1fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform1i (int location, int x) {
+		final Uniform uniform = record(current, location, INT + 1, 1, false);
+		if (uniform != null) uniform.ints(x, 0, 0, 0);
+		gl20.glUniform1i(location, x);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		final Uniform uniform = record(current, location, INT + 1, count, false);
+		if (uniform != null) uniform.ints(v);
+		gl20.glUniform1iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		final Uniform uniform = record(current, location, INT + 1, count, false);
+		if (uniform != null) uniform.ints(v, offset);
+		gl20.glUniform1iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform2f (int location, float x, float y) {
+		final Uniform uniform = record(current, location, FLOAT + 2, 1, false);
+		if (uniform != null) uniform.floats(x, y, 0, 0);
+		gl20.glUniform2f(location, x, y);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		final Uniform uniform = record(current, location, FLOAT + 2, count, false);
+		if (uniform != null) uniform.floats(v);
+		gl20.glUniform2fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		final Uniform uniform = record(current, location, FLOAT + 2, count, false);
+		if (uniform != null) uniform.floats(v, offset);
+		gl20.glUniform2fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform2i (int location, int x, int y) {
+		final Uniform uniform = record(current, location, INT + 2, 1, false);
+		if (uniform != null) uniform.ints(x, y, 0, 0);
+		gl20.glUniform2i(location, x, y);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		final Uniform uniform = record(current, location, INT + 2, count, false);
+		if (uniform != null) uniform.ints(v);
+		gl20.glUniform2iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		final Uniform uniform = record(current, location, INT + 2, count, false);
+		if (uniform != null) uniform.ints(v, offset);
+		gl20.glUniform2iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform3f (int location, float x, float y, float z) {
+		final Uniform uniform = record(current, location, FLOAT + 3, 1, false);
+		if (uniform != null) uniform.floats(x, y, z, 0);
+		gl20.glUniform3f(location, x, y, z);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		final Uniform uniform = record(current, location, FLOAT + 3, count, false);
+		if (uniform != null) uniform.floats(v);
+		gl20.glUniform3fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		final Uniform uniform = record(current, location, FLOAT + 3, count, false);
+		if (uniform != null) uniform.floats(v, offset);
+		gl20.glUniform3fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform3i (int location, int x, int y, int z) {
+		final Uniform uniform = record(current, location, INT + 3, 1, false);
+		if (uniform != null) uniform.ints(x, y, z, 0);
+		gl20.glUniform3i(location, x, y, z);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		final Uniform uniform = record(current, location, INT + 3, count, false);
+		if (uniform != null) uniform.ints(v);
+		gl20.glUniform3iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		final Uniform uniform = record(current, location, INT + 3, count, false);
+		if (uniform != null) uniform.ints(v, offset);
+		gl20.glUniform3iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		final Uniform uniform = record(current, location, FLOAT + 4, 1, false);
+		if (uniform != null) uniform.floats(x, y, z, w);
+		gl20.glUniform4f(location, x, y, z, w);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		final Uniform uniform = record(current, location, FLOAT + 4, count, false);
+		if (uniform != null) uniform.floats(v);
+		gl20.glUniform4fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		final Uniform uniform = record(current, location, FLOAT + 4, count, false);
+		if (uniform != null) uniform.floats(v, offset);
+		gl20.glUniform4fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		final Uniform uniform = record(current, location, INT + 4, 1, false);
+		if (uniform != null) uniform.ints(x, y, z, w);
+		gl20.glUniform4i(location, x, y, z, w);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		final Uniform uniform = record(current, location, INT + 4, count, false);
+		if (uniform != null) uniform.ints(v);
+		gl20.glUniform4iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		final Uniform uniform = record(current, location, INT + 4, count, false);
+		if (uniform != null) uniform.ints(v, offset);
+		gl20.glUniform4iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(current, location, MATRIX2, count, transpose);
+		if (uniform != null) uniform.floats(value);
+		gl20.glUniformMatrix2fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		final Uniform uniform = record(current, location, MATRIX2, count, transpose);
+		if (uniform != null) uniform.floats(value, offset);
+		gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(current, location, MATRIX3, count, transpose);
+		if (uniform != null) uniform.floats(value);
+		gl20.glUniformMatrix3fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		final Uniform uniform = record(current, location, MATRIX3, count, transpose);
+		if (uniform != null) uniform.floats(value, offset);
+		gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(current, location, MATRIX4, count, transpose);
+		if (uniform != null) uniform.floats(value);
+		gl20.glUniformMatrix4fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		final Uniform uniform = record(current, location, MATRIX4, count, transpose);
+		if (uniform != null) uniform.floats(value, offset);
+		gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
+	}
+
+	@Override
+	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(current, location, MATRIX2X3, count, transpose);
+		if (uniform != null) uniform.floats(value);
+		gl30.glUniformMatrix2x3fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(current, location, MATRIX3X2, count, transpose);
+		if (uniform != null) uniform.floats(value);
+		gl30.glUniformMatrix3x2fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(current, location, MATRIX2X4, count, transpose);
+		if (uniform != null) uniform.floats(value);
+		gl30.glUniformMatrix2x4fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(current, location, MATRIX4X2, count, transpose);
+		if (uniform != null) uniform.floats(value);
+		gl30.glUniformMatrix4x2fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(current, location, MATRIX3X4, count, transpose);
+		if (uniform != null) uniform.floats(value);
+		gl30.glUniformMatrix3x4fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(current, location, MATRIX4X3, count, transpose);
+		if (uniform != null) uniform.floats(value);
+		gl30.glUniformMatrix4x3fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniform1uiv (int location, int count, IntBuffer value) {
+		final Uniform uniform = record(current, location, UINT + 1, count, false);
+		if (uniform != null) uniform.ints(value);
+		gl30.glUniform1uiv(location, count, value);
+	}
+
+	@Override
+	public void glUniform3uiv (int location, int count, IntBuffer value) {
+		final Uniform uniform = record(current, location, UINT + 3, count, false);
+		if (uniform != null) uniform.ints(value);
+		gl30.glUniform3uiv(location, count, value);
+	}
+
+	@Override
+	public void glUniform4uiv (int location, int count, IntBuffer value) {
+		final Uniform uniform = record(current, location, UINT + 4, count, false);
+		if (uniform != null) uniform.ints(value);
+		gl30.glUniform4uiv(location, count, value);
+	}
+
+	@Override
+	public void glValidateProgram (int program) {
+		gl20.glValidateProgram(program(program));
+	}
+
+	@Override
+	public void glGetUniformuiv (int program, int location, IntBuffer params) {
+		if (answer(value(program, location), params)) return;
+		gl30.glGetUniformuiv(program(program), location, params);
+	}
+
+	@Override
+	public int glGetFragDataLocation (int program, String name) {
+		return gl30.glGetFragDataLocation(program(program), name);
+	}
+
+	@Override
+	public void glGetUniformIndices (int program, String[] uniformNames, IntBuffer uniformIndices) {
+		gl30.glGetUniformIndices(program(program), uniformNames, uniformIndices);
+	}
+
+	@Override
+	public void glGetActiveUniformsiv (int program, int uniformCount, IntBuffer uniformIndices, int pname, IntBuffer params) {
+		gl30.glGetActiveUniformsiv(program(program), uniformCount, uniformIndices, pname, params);
+	}
+
+	@Override
+	public int glGetUniformBlockIndex (int program, String uniformBlockName) {
+		return gl30.glGetUniformBlockIndex(program(program), uniformBlockName);
+	}
+
+	@Override
+	public void glGetActiveUniformBlockiv (int program, int uniformBlockIndex, int pname, IntBuffer params) {
+		gl30.glGetActiveUniformBlockiv(program(program), uniformBlockIndex, pname, params);
+	}
+
+	@Override
+	public void glGetActiveUniformBlockName (int program, int uniformBlockIndex, Buffer length, Buffer uniformBlockName) {
+		gl30.glGetActiveUniformBlockName(program(program), uniformBlockIndex, length, uniformBlockName);
+	}
+
+	@Override
+	public String glGetActiveUniformBlockName (int program, int uniformBlockIndex) {
+		return gl30.glGetActiveUniformBlockName(program(program), uniformBlockIndex);
+	}
+
+	@Override
+	public void glUniformBlockBinding (int program, int uniformBlockIndex, int uniformBlockBinding) {
+		final Uniform uniform = record(program, block(uniformBlockIndex), BLOCK, 1, false);
+		if (uniform != null) uniform.ints[0] = uniformBlockBinding;
+		if (loaded(program)) gl30.glUniformBlockBinding(program(program), uniformBlockIndex, uniformBlockBinding);
+	}
+
+	@Override
+	public void glGetProgramInterfaceiv (int program, int programInterface, int pname, IntBuffer params) {
+		gl31.glGetProgramInterfaceiv(program(program), programInterface, pname, params);
+	}
+
+	@Override
+	public int glGetProgramResourceIndex (int program, int programInterface, String name) {
+		return gl31.glGetProgramResourceIndex(program(program), programInterface, name);
+	}
+
+	@Override
+	public String glGetProgramResourceName (int program, int programInterface, int index) {
+		return gl31.glGetProgramResourceName(program(program), programInterface, index);
+	}
+
+	@Override
+	public void glGetProgramResourceiv (int program, int programInterface, int index, IntBuffer props, IntBuffer length, IntBuffer params) {
+		gl31.glGetProgramResourceiv(program(program), programInterface, index, props, length, params);
+	}
+
+	@Override
+	public int glGetProgramResourceLocation (int program, int programInterface, String name) {
+		return gl31.glGetProgramResourceLocation(program(program), programInterface, name);
+	}
+
+	@Override
+	public void glUseProgramStages (int pipeline, int stages, int program) {
+		loadAside(program);
+		gl31.glUseProgramStages(pipeline, stages, program(program));
+	}
+
+	@Override
+	public void glActiveShaderProgram (int pipeline, int program) {
+		gl31.glActiveShaderProgram(pipeline, program(program));
+	}
+
+	@Override
+	public void glProgramUniform1i (int program, int location, int v0) {
+		final Uniform uniform = record(program, location, INT + 1, 1, false);
+		if (uniform != null) uniform.ints(v0, 0, 0, 0);
+		if (loaded(program)) gl31.glProgramUniform1i(program(program), location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2i (int program, int location, int v0, int v1) {
+		final Uniform uniform = record(program, location, INT + 2, 1, false);
+		if (uniform != null) uniform.ints(v0, v1, 0, 0);
+		if (loaded(program)) gl31.glProgramUniform2i(program(program), location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3i (int program, int location, int v0, int v1, int v2) {
+		final Uniform uniform = record(program, location, INT + 3, 1, false);
+		if (uniform != null) uniform.ints(v0, v1, v2, 0);
+		if (loaded(program)) gl31.glProgramUniform3i(program(program), location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4i (int program, int location, int v0, int v1, int v2, int v3) {
+		final Uniform uniform = record(program, location, INT + 4, 1, false);
+		if (uniform != null) uniform.ints(v0, v1, v2, v3);
+		if (loaded(program)) gl31.glProgramUniform4i(program(program), location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1ui (int program, int location, int v0) {
+		final Uniform uniform = record(program, location, UINT + 1, 1, false);
+		if (uniform != null) uniform.ints(v0, 0, 0, 0);
+		if (loaded(program)) gl31.glProgramUniform1ui(program(program), location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2ui (int program, int location, int v0, int v1) {
+		final Uniform uniform = record(program, location, UINT + 2, 1, false);
+		if (uniform != null) uniform.ints(v0, v1, 0, 0);
+		if (loaded(program)) gl31.glProgramUniform2ui(program(program), location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3ui (int program, int location, int v0, int v1, int v2) {
+		final Uniform uniform = record(program, location, UINT + 3, 1, false);
+		if (uniform != null) uniform.ints(v0, v1, v2, 0);
+		if (loaded(program)) gl31.glProgramUniform3ui(program(program), location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4ui (int program, int location, int v0, int v1, int v2, int v3) {
+		final Uniform uniform = record(program, location, UINT + 4, 1, false);
+		if (uniform != null) uniform.ints(v0, v1, v2, v3);
+		if (loaded(program)) gl31.glProgramUniform4ui(program(program), location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1f (int program, int location, float v0) {
+		final Uniform uniform = record(program, location, FLOAT + 1, 1, false);
+		if (uniform != null) uniform.floats(v0, 0, 0, 0);
+		if (loaded(program)) gl31.glProgramUniform1f(program(program), location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2f (int program, int location, float v0, float v1) {
+		final Uniform uniform = record(program, location, FLOAT + 2, 1, false);
+		if (uniform != null) uniform.floats(v0, v1, 0, 0);
+		if (loaded(program)) gl31.glProgramUniform2f(program(program), location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3f (int program, int location, float v0, float v1, float v2) {
+		final Uniform uniform = record(program, location, FLOAT + 3, 1, false);
+		if (uniform != null) uniform.floats(v0, v1, v2, 0);
+		if (loaded(program)) gl31.glProgramUniform3f(program(program), location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4f (int program, int location, float v0, float v1, float v2, float v3) {
+		final Uniform uniform = record(program, location, FLOAT + 4, 1, false);
+		if (uniform != null) uniform.floats(v0, v1, v2, v3);
+		if (loaded(program)) gl31.glProgramUniform4f(program(program), location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1iv (int program, int location, IntBuffer value) {
+		final Uniform uniform = record(program, location, INT + 1, value.remaining(), false);
+		if (uniform != null) uniform.ints(value);
+		if (loaded(program)) gl31.glProgramUniform1iv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform2iv (int program, int location, IntBuffer value) {
+		final Uniform uniform = record(program, location, INT + 2, value.remaining() / 2, false);
+		if (uniform != null) uniform.ints(value);
+		if (loaded(program)) gl31.glProgramUniform2iv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform3iv (int program, int location, IntBuffer value) {
+		final Uniform uniform = record(program, location, INT + 3, value.remaining() / 3, false);
+		if (uniform != null) uniform.ints(value);
+		if (loaded(program)) gl31.glProgramUniform3iv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform4iv (int program, int location, IntBuffer value) {
+		final Uniform uniform = record(program, location, INT + 4, value.remaining() / 4, false);
+		if (uniform != null) uniform.ints(value);
+		if (loaded(program)) gl31.glProgramUniform4iv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform1uiv (int program, int location, IntBuffer value) {
+		final Uniform uniform = record(program, location, UINT + 1, value.remaining(), false);
+		if (uniform != null) uniform.ints(value);
+		if (loaded(program)) gl31.glProgramUniform1uiv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform2uiv (int program, int location, IntBuffer value) {
+		final Uniform uniform = record(program, location, UINT + 2, value.remaining() / 2, false);
+		if (uniform != null) uniform.ints(value);
+		if (loaded(program)) gl31.glProgramUniform2uiv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform3uiv (int program, int location, IntBuffer value) {
+		final Uniform uniform = record(program, location, UINT + 3, value.remaining() / 3, false);
+		if (uniform != null) uniform.ints(value);
+		if (loaded(program)) gl31.glProgramUniform3uiv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform4uiv (int program, int location, IntBuffer value) {
+		final Uniform uniform = record(program, location, UINT + 4, value.remaining() / 4, false);
+		if (uniform != null) uniform.ints(value);
+		if (loaded(program)) gl31.glProgramUniform4uiv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform1fv (int program, int location, FloatBuffer value) {
+		final Uniform uniform = record(program, location, FLOAT + 1, value.remaining(), false);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniform1fv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform2fv (int program, int location, FloatBuffer value) {
+		final Uniform uniform = record(program, location, FLOAT + 2, value.remaining() / 2, false);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniform2fv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform3fv (int program, int location, FloatBuffer value) {
+		final Uniform uniform = record(program, location, FLOAT + 3, value.remaining() / 3, false);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniform3fv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniform4fv (int program, int location, FloatBuffer value) {
+		final Uniform uniform = record(program, location, FLOAT + 4, value.remaining() / 4, false);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniform4fv(program(program), location, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(program, location, MATRIX2, value.remaining() / 4, transpose);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniformMatrix2fv(program(program), location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(program, location, MATRIX3, value.remaining() / 9, transpose);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniformMatrix3fv(program(program), location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(program, location, MATRIX4, value.remaining() / 16, transpose);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniformMatrix4fv(program(program), location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(program, location, MATRIX2X3, value.remaining() / 6, transpose);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniformMatrix2x3fv(program(program), location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(program, location, MATRIX3X2, value.remaining() / 6, transpose);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniformMatrix3x2fv(program(program), location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(program, location, MATRIX2X4, value.remaining() / 8, transpose);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniformMatrix2x4fv(program(program), location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(program, location, MATRIX4X2, value.remaining() / 8, transpose);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniformMatrix4x2fv(program(program), location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(program, location, MATRIX3X4, value.remaining() / 12, transpose);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniformMatrix3x4fv(program(program), location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		final Uniform uniform = record(program, location, MATRIX4X3, value.remaining() / 12, transpose);
+		if (uniform != null) uniform.floats(value);
+		if (loaded(program)) gl31.glProgramUniformMatrix4x3fv(program(program), location, transpose, value);
+	}
+
+	@Override
+	public void glGetnUniformfv (int program, int location, FloatBuffer params) {
+		if (answer(value(program, location), params)) return;
+		gl32.glGetnUniformfv(program(program), location, params);
+	}
+
+	@Override
+	public void glGetnUniformiv (int program, int location, IntBuffer params) {
+		if (answer(value(program, location), params)) return;
+		gl32.glGetnUniformiv(program(program), location, params);
+	}
+
+	@Override
+	public void glGetnUniformuiv (int program, int location, IntBuffer params) {
+		if (answer(value(program, location), params)) return;
+		gl32.glGetnUniformuiv(program(program), location, params);
+	}
+}
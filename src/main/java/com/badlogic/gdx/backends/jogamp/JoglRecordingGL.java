@@ -0,0 +1,5133 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.GL31;
+import com.badlogic.gdx.graphics.GL32;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Records the GL calls made on the recording thread into a {@link JoglGLCommandBuffer} instead of executing them, so the
+ * frame can be built on a logic thread while the GL thread is still replaying the previous one. Calls made on any other thread
+ * go straight to the wrapped instance.
+ * <p>
+ * Calls which return a value or write into a buffer or array passed by the caller (glGet*, glGen*, glIs*, glReadPixels, ...)
+ * can't be deferred. They flush the commands recorded so far, either through the {@link JoglGLCommandQueue} which has the GL
+ * thread replay them, or directly into the wrapped instance if there is no queue, and block until the result is available. */
+public class JoglRecordingGL extends JoglGLDelegate {
+	private static final int OP_ACTIVE_TEXTURE = 0;
+	private static final int OP_ATTACH_SHADER = 1;
+	private static final int OP_BIND_ATTRIB_LOCATION = 2;
+	private static final int OP_BIND_BUFFER = 3;
+	private static final int OP_BIND_FRAMEBUFFER = 4;
+	private static final int OP_BIND_RENDERBUFFER = 5;
+	private static final int OP_BIND_TEXTURE = 6;
+	private static final int OP_BLEND_COLOR = 7;
+	private static final int OP_BLEND_EQUATION = 8;
+	private static final int OP_BLEND_EQUATION_SEPARATE = 9;
+	private static final int OP_BLEND_FUNC = 10;
+	private static final int OP_BLEND_FUNC_SEPARATE = 11;
+	private static final int OP_BUFFER_DATA = 12;
+	private static final int OP_BUFFER_SUB_DATA = 13;
+	private static final int OP_CHECK_FRAMEBUFFER_STATUS = 14;
+	private static final int OP_CLEAR = 15;
+	private static final int OP_CLEAR_COLOR = 16;
+	private static final int OP_CLEAR_DEPTHF = 17;
+	private static final int OP_CLEAR_STENCIL = 18;
+	private static final int OP_COLOR_MASK = 19;
+	private static final int OP_COMPILE_SHADER = 20;
+	private static final int OP_COMPRESSED_TEX_IMAGE2_D = 21;
+	private static final int OP_COMPRESSED_TEX_SUB_IMAGE2_D = 22;
+	private static final int OP_COPY_TEX_IMAGE2_D = 23;
+	private static final int OP_COPY_TEX_SUB_IMAGE2_D = 24;
+	private static final int OP_CREATE_PROGRAM = 25;
+	private static final int OP_CREATE_SHADER = 26;
+	private static final int OP_CULL_FACE = 27;
+	private static final int OP_DELETE_BUFFERS = 28;
+	private static final int OP_DELETE_FRAMEBUFFERS = 29;
+	private static final int OP_DELETE_PROGRAM = 30;
+	private static final int OP_DELETE_RENDERBUFFERS = 31;
+	private static final int OP_DELETE_SHADER = 32;
+	private static final int OP_DELETE_TEXTURES = 33;
+	private static final int OP_DEPTH_FUNC = 34;
+	private static final int OP_DEPTH_MASK = 35;
+	private static final int OP_DEPTH_RANGEF = 36;
+	private static final int OP_DETACH_SHADER = 37;
+	private static final int OP_DISABLE = 38;
+	private static final int OP_DISABLE_VERTEX_ATTRIB_ARRAY = 39;
+	private static final int OP_DRAW_ARRAYS = 40;
+	private static final int OP_DRAW_ELEMENTS = 41;
+	private static final int OP_ENABLE = 42;
+	private static final int OP_ENABLE_VERTEX_ATTRIB_ARRAY = 43;
+	private static final int OP_FINISH = 44;
+	private static final int OP_FLUSH = 45;
+	private static final int OP_FRAMEBUFFER_RENDERBUFFER = 46;
+	private static final int OP_FRAMEBUFFER_TEXTURE2_D = 47;
+	private static final int OP_FRONT_FACE = 48;
+	private static final int OP_GEN_BUFFERS = 49;
+	private static final int OP_GEN_FRAMEBUFFERS = 50;
+	private static final int OP_GEN_RENDERBUFFERS = 51;
+	private static final int OP_GEN_TEXTURES = 52;
+	private static final int OP_GENERATE_MIPMAP = 53;
+	private static final int OP_GET_ACTIVE_ATTRIB = 54;
+	private static final int OP_GET_ACTIVE_UNIFORM = 55;
+	private static final int OP_GET_ATTACHED_SHADERS = 56;
+	private static final int OP_GET_ATTRIB_LOCATION = 57;
+	private static final int OP_GET_BOOLEANV = 58;
+	private static final int OP_GET_BUFFER_PARAMETERIV = 59;
+	private static final int OP_GET_ERROR = 60;
+	private static final int OP_GET_FLOATV = 61;
+	private static final int OP_GET_FRAMEBUFFER_ATTACHMENT_PARAMETERIV = 62;
+	private static final int OP_GET_INTEGERV = 63;
+	private static final int OP_GET_PROGRAM_INFO_LOG = 64;
+	private static final int OP_GET_PROGRAMIV = 65;
+	private static final int OP_GET_RENDERBUFFER_PARAMETERIV = 66;
+	private static final int OP_GET_SHADER_INFO_LOG = 67;
+	private static final int OP_GET_SHADER_PRECISION_FORMAT = 68;
+	private static final int OP_GET_SHADERIV = 69;
+	private static final int OP_GET_STRING = 70;
+	private static final int OP_GET_TEX_PARAMETERFV = 71;
+	private static final int OP_GET_TEX_PARAMETERIV = 72;
+	private static final int OP_GET_UNIFORM_LOCATION = 73;
+	private static final int OP_GET_UNIFORMFV = 74;
+	private static final int OP_GET_UNIFORMIV = 75;
+	private static final int OP_GET_VERTEX_ATTRIB_POINTERV = 76;
+	private static final int OP_GET_VERTEX_ATTRIBFV = 77;
+	private static final int OP_GET_VERTEX_ATTRIBIV = 78;
+	private static final int OP_HINT = 79;
+	private static final int OP_IS_BUFFER = 80;
+	private static final int OP_IS_ENABLED = 81;
+	private static final int OP_IS_FRAMEBUFFER = 82;
+	private static final int OP_IS_PROGRAM = 83;
+	private static final int OP_IS_RENDERBUFFER = 84;
+	private static final int OP_IS_SHADER = 85;
+	private static final int OP_IS_TEXTURE = 86;
+	private static final int OP_LINE_WIDTH = 87;
+	private static final int OP_LINK_PROGRAM = 88;
+	private static final int OP_PIXEL_STOREI = 89;
+	private static final int OP_POLYGON_OFFSET = 90;
+	private static final int OP_READ_PIXELS = 91;
+	private static final int OP_RELEASE_SHADER_COMPILER = 92;
+	private static final int OP_RENDERBUFFER_STORAGE = 93;
+	private static final int OP_SAMPLE_COVERAGE = 94;
+	private static final int OP_SCISSOR = 95;
+	private static final int OP_SHADER_BINARY = 96;
+	private static final int OP_SHADER_SOURCE = 97;
+	private static final int OP_STENCIL_FUNC = 98;
+	private static final int OP_STENCIL_FUNC_SEPARATE = 99;
+	private static final int OP_STENCIL_MASK = 100;
+	private static final int OP_STENCIL_MASK_SEPARATE = 101;
+	private static final int OP_STENCIL_OP = 102;
+	private static final int OP_STENCIL_OP_SEPARATE = 103;
+	private static final int OP_TEX_IMAGE2_D = 104;
+	private static final int OP_TEX_PARAMETERF = 105;
+	private static final int OP_TEX_PARAMETERFV = 106;
+	private static final int OP_TEX_PARAMETERI = 107;
+	private static final int OP_TEX_PARAMETERIV = 108;
+	private static final int OP_TEX_SUB_IMAGE2_D = 109;
+	private static final int OP_UNIFORM1F = 110;
+	private static final int OP_UNIFORM1FV = 111;
+	private static final int OP_UNIFORM1I = 112;
+	private static final int OP_UNIFORM1IV = 113;
+	private static final int OP_UNIFORM2F = 114;
+	private static final int OP_UNIFORM2FV = 115;
+	private static final int OP_UNIFORM2I = 116;
+	private static final int OP_UNIFORM2IV = 117;
+	private static final int OP_UNIFORM3F = 118;
+	private static final int OP_UNIFORM3FV = 119;
+	private static final int OP_UNIFORM3I = 120;
+	private static final int OP_UNIFORM3IV = 121;
+	private static final int OP_UNIFORM4F = 122;
+	private static final int OP_UNIFORM4FV = 123;
+	private static final int OP_UNIFORM4I = 124;
+	private static final int OP_UNIFORM4IV = 125;
+	private static final int OP_UNIFORM_MATRIX2FV = 126;
+	private static final int OP_UNIFORM_MATRIX3FV = 127;
+	private static final int OP_UNIFORM_MATRIX4FV = 128;
+	private static final int OP_USE_PROGRAM = 129;
+	private static final int OP_VALIDATE_PROGRAM = 130;
+	private static final int OP_VERTEX_ATTRIB1F = 131;
+	private static final int OP_VERTEX_ATTRIB1FV = 132;
+	private static final int OP_VERTEX_ATTRIB2F = 133;
+	private static final int OP_VERTEX_ATTRIB2FV = 134;
+	private static final int OP_VERTEX_ATTRIB3F = 135;
+	private static final int OP_VERTEX_ATTRIB3FV = 136;
+	private static final int OP_VERTEX_ATTRIB4F = 137;
+	private static final int OP_VERTEX_ATTRIB4FV = 138;
+	private static final int OP_VERTEX_ATTRIB_POINTER = 139;
+	private static final int OP_VIEWPORT = 140;
+	private static final int OP_DRAW_ELEMENTS_2 = 141;
+	private static final int OP_VERTEX_ATTRIB_POINTER_2 = 142;
+	private static final int OP_DELETE_TEXTURE = 143;
+	private static final int OP_GEN_TEXTURE = 144;
+	private static final int OP_DELETE_BUFFER = 145;
+	private static final int OP_DELETE_FRAMEBUFFER = 146;
+	private static final int OP_DELETE_RENDERBUFFER = 147;
+	private static final int OP_GEN_BUFFER = 148;
+	private static final int OP_GEN_FRAMEBUFFER = 149;
+	private static final int OP_GEN_RENDERBUFFER = 150;
+	private static final int OP_UNIFORM1FV_2 = 151;
+	private static final int OP_UNIFORM1IV_2 = 152;
+	private static final int OP_UNIFORM2FV_2 = 153;
+	private static final int OP_UNIFORM2IV_2 = 154;
+	private static final int OP_UNIFORM3FV_2 = 155;
+	private static final int OP_UNIFORM3IV_2 = 156;
+	private static final int OP_UNIFORM4FV_2 = 157;
+	private static final int OP_UNIFORM4IV_2 = 158;
+	private static final int OP_UNIFORM_MATRIX2FV_2 = 159;
+	private static final int OP_UNIFORM_MATRIX3FV_2 = 160;
+	private static final int OP_UNIFORM_MATRIX4FV_2 = 161;
+	private static final int OP_READ_BUFFER = 162;
+	private static final int OP_DRAW_RANGE_ELEMENTS = 163;
+	private static final int OP_DRAW_RANGE_ELEMENTS_2 = 164;
+	private static final int OP_TEX_IMAGE2_D_2 = 165;
+	private static final int OP_TEX_IMAGE3_D = 166;
+	private static final int OP_TEX_IMAGE3_D_2 = 167;
+	private static final int OP_TEX_SUB_IMAGE2_D_2 = 168;
+	private static final int OP_TEX_SUB_IMAGE3_D = 169;
+	private static final int OP_TEX_SUB_IMAGE3_D_2 = 170;
+	private static final int OP_COPY_TEX_SUB_IMAGE3_D = 171;
+	private static final int OP_GEN_QUERIES = 172;
+	private static final int OP_GEN_QUERIES_2 = 173;
+	private static final int OP_DELETE_QUERIES = 174;
+	private static final int OP_DELETE_QUERIES_2 = 175;
+	private static final int OP_IS_QUERY = 176;
+	private static final int OP_BEGIN_QUERY = 177;
+	private static final int OP_END_QUERY = 178;
+	private static final int OP_GET_QUERYIV = 179;
+	private static final int OP_GET_QUERY_OBJECTUIV = 180;
+	private static final int OP_UNMAP_BUFFER = 181;
+	private static final int OP_GET_BUFFER_POINTERV = 182;
+	private static final int OP_DRAW_BUFFERS = 183;
+	private static final int OP_UNIFORM_MATRIX2X3FV = 184;
+	private static final int OP_UNIFORM_MATRIX3X2FV = 185;
+	private static final int OP_UNIFORM_MATRIX2X4FV = 186;
+	private static final int OP_UNIFORM_MATRIX4X2FV = 187;
+	private static final int OP_UNIFORM_MATRIX3X4FV = 188;
+	private static final int OP_UNIFORM_MATRIX4X3FV = 189;
+	private static final int OP_BLIT_FRAMEBUFFER = 190;
+	private static final int OP_RENDERBUFFER_STORAGE_MULTISAMPLE = 191;
+	private static final int OP_FRAMEBUFFER_TEXTURE_LAYER = 192;
+	private static final int OP_MAP_BUFFER_RANGE = 193;
+	private static final int OP_FLUSH_MAPPED_BUFFER_RANGE = 194;
+	private static final int OP_BIND_VERTEX_ARRAY = 195;
+	private static final int OP_DELETE_VERTEX_ARRAYS = 196;
+	private static final int OP_DELETE_VERTEX_ARRAYS_2 = 197;
+	private static final int OP_GEN_VERTEX_ARRAYS = 198;
+	private static final int OP_GEN_VERTEX_ARRAYS_2 = 199;
+	private static final int OP_IS_VERTEX_ARRAY = 200;
+	private static final int OP_BEGIN_TRANSFORM_FEEDBACK = 201;
+	private static final int OP_END_TRANSFORM_FEEDBACK = 202;
+	private static final int OP_BIND_BUFFER_RANGE = 203;
+	private static final int OP_BIND_BUFFER_BASE = 204;
+	private static final int OP_TRANSFORM_FEEDBACK_VARYINGS = 205;
+	private static final int OP_VERTEX_ATTRIB_I_POINTER = 206;
+	private static final int OP_GET_VERTEX_ATTRIB_IIV = 207;
+	private static final int OP_GET_VERTEX_ATTRIB_IUIV = 208;
+	private static final int OP_VERTEX_ATTRIB_I4I = 209;
+	private static final int OP_VERTEX_ATTRIB_I4UI = 210;
+	private static final int OP_GET_UNIFORMUIV = 211;
+	private static final int OP_GET_FRAG_DATA_LOCATION = 212;
+	private static final int OP_UNIFORM1UIV = 213;
+	private static final int OP_UNIFORM3UIV = 214;
+	private static final int OP_UNIFORM4UIV = 215;
+	private static final int OP_CLEAR_BUFFERIV = 216;
+	private static final int OP_CLEAR_BUFFERUIV = 217;
+	private static final int OP_CLEAR_BUFFERFV = 218;
+	private static final int OP_CLEAR_BUFFERFI = 219;
+	private static final int OP_GET_STRINGI = 220;
+	private static final int OP_COPY_BUFFER_SUB_DATA = 221;
+	private static final int OP_GET_UNIFORM_INDICES = 222;
+	private static final int OP_GET_ACTIVE_UNIFORMSIV = 223;
+	private static final int OP_GET_UNIFORM_BLOCK_INDEX = 224;
+	private static final int OP_GET_ACTIVE_UNIFORM_BLOCKIV = 225;
+	private static final int OP_GET_ACTIVE_UNIFORM_BLOCK_NAME = 226;
+	private static final int OP_GET_ACTIVE_UNIFORM_BLOCK_NAME_2 = 227;
+	private static final int OP_UNIFORM_BLOCK_BINDING = 228;
+	private static final int OP_DRAW_ARRAYS_INSTANCED = 229;
+	private static final int OP_DRAW_ELEMENTS_INSTANCED = 230;
+	private static final int OP_GET_INTEGER64V = 231;
+	private static final int OP_GET_BUFFER_PARAMETERI64V = 232;
+	private static final int OP_GEN_SAMPLERS = 233;
+	private static final int OP_GEN_SAMPLERS_2 = 234;
+	private static final int OP_DELETE_SAMPLERS = 235;
+	private static final int OP_DELETE_SAMPLERS_2 = 236;
+	private static final int OP_IS_SAMPLER = 237;
+	private static final int OP_BIND_SAMPLER = 238;
+	private static final int OP_SAMPLER_PARAMETERI = 239;
+	private static final int OP_SAMPLER_PARAMETERIV = 240;
+	private static final int OP_SAMPLER_PARAMETERF = 241;
+	private static final int OP_SAMPLER_PARAMETERFV = 242;
+	private static final int OP_GET_SAMPLER_PARAMETERIV = 243;
+	private static final int OP_GET_SAMPLER_PARAMETERFV = 244;
+	private static final int OP_VERTEX_ATTRIB_DIVISOR = 245;
+	private static final int OP_BIND_TRANSFORM_FEEDBACK = 246;
+	private static final int OP_DELETE_TRANSFORM_FEEDBACKS = 247;
+	private static final int OP_DELETE_TRANSFORM_FEEDBACKS_2 = 248;
+	private static final int OP_GEN_TRANSFORM_FEEDBACKS = 249;
+	private static final int OP_GEN_TRANSFORM_FEEDBACKS_2 = 250;
+	private static final int OP_IS_TRANSFORM_FEEDBACK = 251;
+	private static final int OP_PAUSE_TRANSFORM_FEEDBACK = 252;
+	private static final int OP_RESUME_TRANSFORM_FEEDBACK = 253;
+	private static final int OP_PROGRAM_PARAMETERI = 254;
+	private static final int OP_INVALIDATE_FRAMEBUFFER = 255;
+	private static final int OP_INVALIDATE_SUB_FRAMEBUFFER = 256;
+	private static final int OP_DISPATCH_COMPUTE = 257;
+	private static final int OP_DISPATCH_COMPUTE_INDIRECT = 258;
+	private static final int OP_DRAW_ARRAYS_INDIRECT = 259;
+	private static final int OP_DRAW_ELEMENTS_INDIRECT = 260;
+	private static final int OP_FRAMEBUFFER_PARAMETERI = 261;
+	private static final int OP_GET_FRAMEBUFFER_PARAMETERIV = 262;
+	private static final int OP_GET_PROGRAM_INTERFACEIV = 263;
+	private static final int OP_GET_PROGRAM_RESOURCE_INDEX = 264;
+	private static final int OP_GET_PROGRAM_RESOURCE_NAME = 265;
+	private static final int OP_GET_PROGRAM_RESOURCEIV = 266;
+	private static final int OP_GET_PROGRAM_RESOURCE_LOCATION = 267;
+	private static final int OP_USE_PROGRAM_STAGES = 268;
+	private static final int OP_ACTIVE_SHADER_PROGRAM = 269;
+	private static final int OP_CREATE_SHADER_PROGRAMV = 270;
+	private static final int OP_BIND_PROGRAM_PIPELINE = 271;
+	private static final int OP_DELETE_PROGRAM_PIPELINES = 272;
+	private static final int OP_GEN_PROGRAM_PIPELINES = 273;
+	private static final int OP_IS_PROGRAM_PIPELINE = 274;
+	private static final int OP_GET_PROGRAM_PIPELINEIV = 275;
+	private static final int OP_PROGRAM_UNIFORM1I = 276;
+	private static final int OP_PROGRAM_UNIFORM2I = 277;
+	private static final int OP_PROGRAM_UNIFORM3I = 278;
+	private static final int OP_PROGRAM_UNIFORM4I = 279;
+	private static final int OP_PROGRAM_UNIFORM1UI = 280;
+	private static final int OP_PROGRAM_UNIFORM2UI = 281;
+	private static final int OP_PROGRAM_UNIFORM3UI = 282;
+	private static final int OP_PROGRAM_UNIFORM4UI = 283;
+	private static final int OP_PROGRAM_UNIFORM1F = 284;
+	private static final int OP_PROGRAM_UNIFORM2F = 285;
+	private static final int OP_PROGRAM_UNIFORM3F = 286;
+	private static final int OP_PROGRAM_UNIFORM4F = 287;
+	private static final int OP_PROGRAM_UNIFORM1IV = 288;
+	private static final int OP_PROGRAM_UNIFORM2IV = 289;
+	private static final int OP_PROGRAM_UNIFORM3IV = 290;
+	private static final int OP_PROGRAM_UNIFORM4IV = 291;
+	private static final int OP_PROGRAM_UNIFORM1UIV = 292;
+	private static final int OP_PROGRAM_UNIFORM2UIV = 293;
+	private static final int OP_PROGRAM_UNIFORM3UIV = 294;
+	private static final int OP_PROGRAM_UNIFORM4UIV = 295;
+	private static final int OP_PROGRAM_UNIFORM1FV = 296;
+	private static final int OP_PROGRAM_UNIFORM2FV = 297;
+	private static final int OP_PROGRAM_UNIFORM3FV = 298;
+	private static final int OP_PROGRAM_UNIFORM4FV = 299;
+	private static final int OP_PROGRAM_UNIFORM_MATRIX2FV = 300;
+	private static final int OP_PROGRAM_UNIFORM_MATRIX3FV = 301;
+	private static final int OP_PROGRAM_UNIFORM_MATRIX4FV = 302;
+	private static final int OP_PROGRAM_UNIFORM_MATRIX2X3FV = 303;
+	private static final int OP_PROGRAM_UNIFORM_MATRIX3X2FV = 304;
+	private static final int OP_PROGRAM_UNIFORM_MATRIX2X4FV = 305;
+	private static final int OP_PROGRAM_UNIFORM_MATRIX4X2FV = 306;
+	private static final int OP_PROGRAM_UNIFORM_MATRIX3X4FV = 307;
+	private static final int OP_PROGRAM_UNIFORM_MATRIX4X3FV = 308;
+	private static final int OP_VALIDATE_PROGRAM_PIPELINE = 309;
+	private static final int OP_GET_PROGRAM_PIPELINE_INFO_LOG = 310;
+	private static final int OP_BIND_IMAGE_TEXTURE = 311;
+	private static final int OP_GET_BOOLEANI_V = 312;
+	private static final int OP_MEMORY_BARRIER = 313;
+	private static final int OP_MEMORY_BARRIER_BY_REGION = 314;
+	private static final int OP_TEX_STORAGE2_D_MULTISAMPLE = 315;
+	private static final int OP_GET_MULTISAMPLEFV = 316;
+	private static final int OP_SAMPLE_MASKI = 317;
+	private static final int OP_GET_TEX_LEVEL_PARAMETERIV = 318;
+	private static final int OP_GET_TEX_LEVEL_PARAMETERFV = 319;
+	private static final int OP_BIND_VERTEX_BUFFER = 320;
+	private static final int OP_VERTEX_ATTRIB_FORMAT = 321;
+	private static final int OP_VERTEX_ATTRIB_I_FORMAT = 322;
+	private static final int OP_VERTEX_ATTRIB_BINDING = 323;
+	private static final int OP_VERTEX_BINDING_DIVISOR = 324;
+	private static final int OP_BLEND_BARRIER = 325;
+	private static final int OP_COPY_IMAGE_SUB_DATA = 326;
+	private static final int OP_DEBUG_MESSAGE_CONTROL = 327;
+	private static final int OP_DEBUG_MESSAGE_INSERT = 328;
+	private static final int OP_DEBUG_MESSAGE_CALLBACK = 329;
+	private static final int OP_GET_DEBUG_MESSAGE_LOG = 330;
+	private static final int OP_PUSH_DEBUG_GROUP = 331;
+	private static final int OP_POP_DEBUG_GROUP = 332;
+	private static final int OP_OBJECT_LABEL = 333;
+	private static final int OP_GET_OBJECT_LABEL = 334;
+	private static final int OP_GET_POINTERV = 335;
+	private static final int OP_ENABLEI = 336;
+	private static final int OP_DISABLEI = 337;
+	private static final int OP_BLEND_EQUATIONI = 338;
+	private static final int OP_BLEND_EQUATION_SEPARATEI = 339;
+	private static final int OP_BLEND_FUNCI = 340;
+	private static final int OP_BLEND_FUNC_SEPARATEI = 341;
+	private static final int OP_COLOR_MASKI = 342;
+	private static final int OP_IS_ENABLEDI = 343;
+	private static final int OP_DRAW_ELEMENTS_BASE_VERTEX = 344;
+	private static final int OP_DRAW_RANGE_ELEMENTS_BASE_VERTEX = 345;
+	private static final int OP_DRAW_ELEMENTS_INSTANCED_BASE_VERTEX = 346;
+	private static final int OP_DRAW_ELEMENTS_INSTANCED_BASE_VERTEX_2 = 347;
+	private static final int OP_FRAMEBUFFER_TEXTURE = 348;
+	private static final int OP_GET_GRAPHICS_RESET_STATUS = 349;
+	private static final int OP_READN_PIXELS = 350;
+	private static final int OP_GETN_UNIFORMFV = 351;
+	private static final int OP_GETN_UNIFORMIV = 352;
+	private static final int OP_GETN_UNIFORMUIV = 353;
+	private static final int OP_MIN_SAMPLE_SHADING = 354;
+	private static final int OP_PATCH_PARAMETERI = 355;
+	private static final int OP_TEX_PARAMETER_IIV = 356;
+	private static final int OP_TEX_PARAMETER_IUIV = 357;
+	private static final int OP_GET_TEX_PARAMETER_IIV = 358;
+	private static final int OP_GET_TEX_PARAMETER_IUIV = 359;
+	private static final int OP_SAMPLER_PARAMETER_IIV = 360;
+	private static final int OP_SAMPLER_PARAMETER_IUIV = 361;
+	private static final int OP_GET_SAMPLER_PARAMETER_IIV = 362;
+	private static final int OP_GET_SAMPLER_PARAMETER_IUIV = 363;
+	private static final int OP_TEX_BUFFER = 364;
+	private static final int OP_TEX_BUFFER_RANGE = 365;
+	private static final int OP_TEX_STORAGE3_D_MULTISAMPLE = 366;
+
+	private final JoglGLCommandQueue queue;
+	private JoglGLCommandBuffer commands;
+	private Thread recordingThread;
+
+	/** @param queue the queue the recorded frames are submitted to, null to replay them on {@link #flush()} */
+	public JoglRecordingGL (GL20 gl, JoglGLCommandQueue queue) {
+		super(gl);
+		this.queue = queue;
+		this.commands = queue != null ? queue.obtain() : new JoglGLCommandBuffer(64 * 1024);
+	}
+
+	/** Sets the thread whose calls are recorded, calls made on any other thread are executed directly. */
+	public void setRecordingThread (Thread thread) {
+		this.recordingThread = thread;
+	}
+
+	public Thread getRecordingThread () {
+		return recordingThread;
+	}
+
+	/** @return the buffer the calls are currently recorded into */
+	public JoglGLCommandBuffer getCommands () {
+		return commands;
+	}
+
+	/** Hands the recorded frame over to the queue and starts recording the next one. Blocks while the GL thread hasn't picked up
+	 * the previous frame yet. */
+	public void submit () {
+		if (queue == null) throw new GdxRuntimeException("No command queue to submit to, use flush()");
+		commands = queue.submit(commands);
+	}
+
+	/** Replays the commands recorded so far and waits until they have been executed. */
+	public void flush () {
+		if (queue != null)
+			queue.sync(commands);
+		else
+			replay(commands, gl20);
+	}
+
+	/** Replays the commands recorded since the last replay into the given GL, which has to be current on the calling thread. */
+	public static void replay (JoglGLCommandBuffer commands, GL20 gl) {
+		final GL30 gl30 = gl instanceof GL30 ? (GL30)gl : null;
+		final GL31 gl31 = gl instanceof GL31 ? (GL31)gl : null;
+		final GL32 gl32 = gl instanceof GL32 ? (GL32)gl : null;
+		while (commands.hasNext()) {
+			final int op = commands.readInt();
+			switch (op >>> 5) {
+			case 0:
+				replay0(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 1:
+				replay1(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 2:
+				replay2(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 3:
+				replay3(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 4:
+				replay4(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 5:
+				replay5(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 6:
+				replay6(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 7:
+				replay7(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 8:
+				replay8(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 9:
+				replay9(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 10:
+				replay10(op, commands, gl, gl30, gl31, gl32);
+				break;
+			case 11:
+				replay11(op, commands, gl, gl30, gl31, gl32);
+				break;
+			default:
+				throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+			}
+		}
+	}
+
+	// the replay switch is split into chunks of 32 ops to keep each method small enough to be compiled by the JIT
+	private static void replay0 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_ACTIVE_TEXTURE:
+			gl.glActiveTexture(commands.readInt());
+			break;
+		case OP_ATTACH_SHADER:
+			gl.glAttachShader(commands.readInt(), commands.readInt());
+			break;
+		case OP_BIND_ATTRIB_LOCATION:
+			gl.glBindAttribLocation(commands.readInt(), commands.readInt(), (String)commands.readObject());
+			break;
+		case OP_BIND_BUFFER:
+			gl.glBindBuffer(commands.readInt(), commands.readInt());
+			break;
+		case OP_BIND_FRAMEBUFFER:
+			gl.glBindFramebuffer(commands.readInt(), commands.readInt());
+			break;
+		case OP_BIND_RENDERBUFFER:
+			gl.glBindRenderbuffer(commands.readInt(), commands.readInt());
+			break;
+		case OP_BIND_TEXTURE:
+			gl.glBindTexture(commands.readInt(), commands.readInt());
+			break;
+		case OP_BLEND_COLOR:
+			gl.glBlendColor(commands.readFloat(), commands.readFloat(), commands.readFloat(), commands.readFloat());
+			break;
+		case OP_BLEND_EQUATION:
+			gl.glBlendEquation(commands.readInt());
+			break;
+		case OP_BLEND_EQUATION_SEPARATE:
+			gl.glBlendEquationSeparate(commands.readInt(), commands.readInt());
+			break;
+		case OP_BLEND_FUNC:
+			gl.glBlendFunc(commands.readInt(), commands.readInt());
+			break;
+		case OP_BLEND_FUNC_SEPARATE:
+			gl.glBlendFuncSeparate(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_BUFFER_DATA:
+			gl.glBufferData(commands.readInt(), commands.readInt(), commands.readBuffer(), commands.readInt());
+			break;
+		case OP_BUFFER_SUB_DATA:
+			gl.glBufferSubData(commands.readInt(), commands.readInt(), commands.readInt(), commands.readBuffer());
+			break;
+		case OP_CHECK_FRAMEBUFFER_STATUS:
+			commands.intResult = gl.glCheckFramebufferStatus(commands.readInt());
+			break;
+		case OP_CLEAR:
+			gl.glClear(commands.readInt());
+			break;
+		case OP_CLEAR_COLOR:
+			gl.glClearColor(commands.readFloat(), commands.readFloat(), commands.readFloat(), commands.readFloat());
+			break;
+		case OP_CLEAR_DEPTHF:
+			gl.glClearDepthf(commands.readFloat());
+			break;
+		case OP_CLEAR_STENCIL:
+			gl.glClearStencil(commands.readInt());
+			break;
+		case OP_COLOR_MASK:
+			gl.glColorMask(commands.readBoolean(), commands.readBoolean(), commands.readBoolean(), commands.readBoolean());
+			break;
+		case OP_COMPILE_SHADER:
+			gl.glCompileShader(commands.readInt());
+			break;
+		case OP_COMPRESSED_TEX_IMAGE2_D:
+			gl.glCompressedTexImage2D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readBuffer());
+			break;
+		case OP_COMPRESSED_TEX_SUB_IMAGE2_D:
+			gl.glCompressedTexSubImage2D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readBuffer());
+			break;
+		case OP_COPY_TEX_IMAGE2_D:
+			gl.glCopyTexImage2D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_COPY_TEX_SUB_IMAGE2_D:
+			gl.glCopyTexSubImage2D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_CREATE_PROGRAM:
+			commands.intResult = gl.glCreateProgram();
+			break;
+		case OP_CREATE_SHADER:
+			commands.intResult = gl.glCreateShader(commands.readInt());
+			break;
+		case OP_CULL_FACE:
+			gl.glCullFace(commands.readInt());
+			break;
+		case OP_DELETE_BUFFERS:
+			gl.glDeleteBuffers(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_DELETE_FRAMEBUFFERS:
+			gl.glDeleteFramebuffers(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_DELETE_PROGRAM:
+			gl.glDeleteProgram(commands.readInt());
+			break;
+		case OP_DELETE_RENDERBUFFERS:
+			gl.glDeleteRenderbuffers(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay1 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_DELETE_SHADER:
+			gl.glDeleteShader(commands.readInt());
+			break;
+		case OP_DELETE_TEXTURES:
+			gl.glDeleteTextures(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_DEPTH_FUNC:
+			gl.glDepthFunc(commands.readInt());
+			break;
+		case OP_DEPTH_MASK:
+			gl.glDepthMask(commands.readBoolean());
+			break;
+		case OP_DEPTH_RANGEF:
+			gl.glDepthRangef(commands.readFloat(), commands.readFloat());
+			break;
+		case OP_DETACH_SHADER:
+			gl.glDetachShader(commands.readInt(), commands.readInt());
+			break;
+		case OP_DISABLE:
+			gl.glDisable(commands.readInt());
+			break;
+		case OP_DISABLE_VERTEX_ATTRIB_ARRAY:
+			gl.glDisableVertexAttribArray(commands.readInt());
+			break;
+		case OP_DRAW_ARRAYS:
+			gl.glDrawArrays(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_DRAW_ELEMENTS:
+			gl.glDrawElements(commands.readInt(), commands.readInt(), commands.readInt(), commands.readBuffer());
+			break;
+		case OP_ENABLE:
+			gl.glEnable(commands.readInt());
+			break;
+		case OP_ENABLE_VERTEX_ATTRIB_ARRAY:
+			gl.glEnableVertexAttribArray(commands.readInt());
+			break;
+		case OP_FINISH:
+			gl.glFinish();
+			break;
+		case OP_FLUSH:
+			gl.glFlush();
+			break;
+		case OP_FRAMEBUFFER_RENDERBUFFER:
+			gl.glFramebufferRenderbuffer(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_FRAMEBUFFER_TEXTURE2_D:
+			gl.glFramebufferTexture2D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_FRONT_FACE:
+			gl.glFrontFace(commands.readInt());
+			break;
+		case OP_GEN_BUFFERS:
+			gl.glGenBuffers(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GEN_FRAMEBUFFERS:
+			gl.glGenFramebuffers(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GEN_RENDERBUFFERS:
+			gl.glGenRenderbuffers(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GEN_TEXTURES:
+			gl.glGenTextures(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GENERATE_MIPMAP:
+			gl.glGenerateMipmap(commands.readInt());
+			break;
+		case OP_GET_ACTIVE_ATTRIB:
+			commands.objectResult = gl.glGetActiveAttrib(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject(),
+				(IntBuffer)commands.readObject());
+			break;
+		case OP_GET_ACTIVE_UNIFORM:
+			commands.objectResult = gl.glGetActiveUniform(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject(),
+				(IntBuffer)commands.readObject());
+			break;
+		case OP_GET_ATTACHED_SHADERS:
+			gl.glGetAttachedShaders(commands.readInt(), commands.readInt(), (Buffer)commands.readObject(),
+				(IntBuffer)commands.readObject());
+			break;
+		case OP_GET_ATTRIB_LOCATION:
+			commands.intResult = gl.glGetAttribLocation(commands.readInt(), (String)commands.readObject());
+			break;
+		case OP_GET_BOOLEANV:
+			gl.glGetBooleanv(commands.readInt(), (Buffer)commands.readObject());
+			break;
+		case OP_GET_BUFFER_PARAMETERIV:
+			gl.glGetBufferParameteriv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_ERROR:
+			commands.intResult = gl.glGetError();
+			break;
+		case OP_GET_FLOATV:
+			gl.glGetFloatv(commands.readInt(), (FloatBuffer)commands.readObject());
+			break;
+		case OP_GET_FRAMEBUFFER_ATTACHMENT_PARAMETERIV:
+			gl.glGetFramebufferAttachmentParameteriv(commands.readInt(), commands.readInt(), commands.readInt(),
+				(IntBuffer)commands.readObject());
+			break;
+		case OP_GET_INTEGERV:
+			gl.glGetIntegerv(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay2 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_GET_PROGRAM_INFO_LOG:
+			commands.objectResult = gl.glGetProgramInfoLog(commands.readInt());
+			break;
+		case OP_GET_PROGRAMIV:
+			gl.glGetProgramiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_RENDERBUFFER_PARAMETERIV:
+			gl.glGetRenderbufferParameteriv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_SHADER_INFO_LOG:
+			commands.objectResult = gl.glGetShaderInfoLog(commands.readInt());
+			break;
+		case OP_GET_SHADER_PRECISION_FORMAT:
+			gl.glGetShaderPrecisionFormat(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject(),
+				(IntBuffer)commands.readObject());
+			break;
+		case OP_GET_SHADERIV:
+			gl.glGetShaderiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_STRING:
+			commands.objectResult = gl.glGetString(commands.readInt());
+			break;
+		case OP_GET_TEX_PARAMETERFV:
+			gl.glGetTexParameterfv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readObject());
+			break;
+		case OP_GET_TEX_PARAMETERIV:
+			gl.glGetTexParameteriv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_UNIFORM_LOCATION:
+			commands.intResult = gl.glGetUniformLocation(commands.readInt(), (String)commands.readObject());
+			break;
+		case OP_GET_UNIFORMFV:
+			gl.glGetUniformfv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readObject());
+			break;
+		case OP_GET_UNIFORMIV:
+			gl.glGetUniformiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_VERTEX_ATTRIB_POINTERV:
+			gl.glGetVertexAttribPointerv(commands.readInt(), commands.readInt(), (Buffer)commands.readObject());
+			break;
+		case OP_GET_VERTEX_ATTRIBFV:
+			gl.glGetVertexAttribfv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readObject());
+			break;
+		case OP_GET_VERTEX_ATTRIBIV:
+			gl.glGetVertexAttribiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_HINT:
+			gl.glHint(commands.readInt(), commands.readInt());
+			break;
+		case OP_IS_BUFFER:
+			commands.booleanResult = gl.glIsBuffer(commands.readInt());
+			break;
+		case OP_IS_ENABLED:
+			commands.booleanResult = gl.glIsEnabled(commands.readInt());
+			break;
+		case OP_IS_FRAMEBUFFER:
+			commands.booleanResult = gl.glIsFramebuffer(commands.readInt());
+			break;
+		case OP_IS_PROGRAM:
+			commands.booleanResult = gl.glIsProgram(commands.readInt());
+			break;
+		case OP_IS_RENDERBUFFER:
+			commands.booleanResult = gl.glIsRenderbuffer(commands.readInt());
+			break;
+		case OP_IS_SHADER:
+			commands.booleanResult = gl.glIsShader(commands.readInt());
+			break;
+		case OP_IS_TEXTURE:
+			commands.booleanResult = gl.glIsTexture(commands.readInt());
+			break;
+		case OP_LINE_WIDTH:
+			gl.glLineWidth(commands.readFloat());
+			break;
+		case OP_LINK_PROGRAM:
+			gl.glLinkProgram(commands.readInt());
+			break;
+		case OP_PIXEL_STOREI:
+			gl.glPixelStorei(commands.readInt(), commands.readInt());
+			break;
+		case OP_POLYGON_OFFSET:
+			gl.glPolygonOffset(commands.readFloat(), commands.readFloat());
+			break;
+		case OP_READ_PIXELS:
+			gl.glReadPixels(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), (Buffer)commands.readObject());
+			break;
+		case OP_RELEASE_SHADER_COMPILER:
+			gl.glReleaseShaderCompiler();
+			break;
+		case OP_RENDERBUFFER_STORAGE:
+			gl.glRenderbufferStorage(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_SAMPLE_COVERAGE:
+			gl.glSampleCoverage(commands.readFloat(), commands.readBoolean());
+			break;
+		case OP_SCISSOR:
+			gl.glScissor(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay3 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_SHADER_BINARY:
+			gl.glShaderBinary(commands.readInt(), (IntBuffer)commands.readObject(), commands.readInt(),
+				(Buffer)commands.readObject(), commands.readInt());
+			break;
+		case OP_SHADER_SOURCE:
+			gl.glShaderSource(commands.readInt(), (String)commands.readObject());
+			break;
+		case OP_STENCIL_FUNC:
+			gl.glStencilFunc(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_STENCIL_FUNC_SEPARATE:
+			gl.glStencilFuncSeparate(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_STENCIL_MASK:
+			gl.glStencilMask(commands.readInt());
+			break;
+		case OP_STENCIL_MASK_SEPARATE:
+			gl.glStencilMaskSeparate(commands.readInt(), commands.readInt());
+			break;
+		case OP_STENCIL_OP:
+			gl.glStencilOp(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_STENCIL_OP_SEPARATE:
+			gl.glStencilOpSeparate(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_TEX_IMAGE2_D:
+			gl.glTexImage2D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readBuffer());
+			break;
+		case OP_TEX_PARAMETERF:
+			gl.glTexParameterf(commands.readInt(), commands.readInt(), commands.readFloat());
+			break;
+		case OP_TEX_PARAMETERFV:
+			gl.glTexParameterfv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_TEX_PARAMETERI:
+			gl.glTexParameteri(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_TEX_PARAMETERIV:
+			gl.glTexParameteriv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_TEX_SUB_IMAGE2_D:
+			gl.glTexSubImage2D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readBuffer());
+			break;
+		case OP_UNIFORM1F:
+			gl.glUniform1f(commands.readInt(), commands.readFloat());
+			break;
+		case OP_UNIFORM1FV:
+			gl.glUniform1fv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM1I:
+			gl.glUniform1i(commands.readInt(), commands.readInt());
+			break;
+		case OP_UNIFORM1IV:
+			gl.glUniform1iv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM2F:
+			gl.glUniform2f(commands.readInt(), commands.readFloat(), commands.readFloat());
+			break;
+		case OP_UNIFORM2FV:
+			gl.glUniform2fv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM2I:
+			gl.glUniform2i(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_UNIFORM2IV:
+			gl.glUniform2iv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM3F:
+			gl.glUniform3f(commands.readInt(), commands.readFloat(), commands.readFloat(), commands.readFloat());
+			break;
+		case OP_UNIFORM3FV:
+			gl.glUniform3fv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM3I:
+			gl.glUniform3i(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_UNIFORM3IV:
+			gl.glUniform3iv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM4F:
+			gl.glUniform4f(commands.readInt(), commands.readFloat(), commands.readFloat(), commands.readFloat(),
+				commands.readFloat());
+			break;
+		case OP_UNIFORM4FV:
+			gl.glUniform4fv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM4I:
+			gl.glUniform4i(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_UNIFORM4IV:
+			gl.glUniform4iv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM_MATRIX2FV:
+			gl.glUniformMatrix2fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM_MATRIX3FV:
+			gl.glUniformMatrix3fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay4 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_UNIFORM_MATRIX4FV:
+			gl.glUniformMatrix4fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_USE_PROGRAM:
+			gl.glUseProgram(commands.readInt());
+			break;
+		case OP_VALIDATE_PROGRAM:
+			gl.glValidateProgram(commands.readInt());
+			break;
+		case OP_VERTEX_ATTRIB1F:
+			gl.glVertexAttrib1f(commands.readInt(), commands.readFloat());
+			break;
+		case OP_VERTEX_ATTRIB1FV:
+			gl.glVertexAttrib1fv(commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_VERTEX_ATTRIB2F:
+			gl.glVertexAttrib2f(commands.readInt(), commands.readFloat(), commands.readFloat());
+			break;
+		case OP_VERTEX_ATTRIB2FV:
+			gl.glVertexAttrib2fv(commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_VERTEX_ATTRIB3F:
+			gl.glVertexAttrib3f(commands.readInt(), commands.readFloat(), commands.readFloat(), commands.readFloat());
+			break;
+		case OP_VERTEX_ATTRIB3FV:
+			gl.glVertexAttrib3fv(commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_VERTEX_ATTRIB4F:
+			gl.glVertexAttrib4f(commands.readInt(), commands.readFloat(), commands.readFloat(), commands.readFloat(),
+				commands.readFloat());
+			break;
+		case OP_VERTEX_ATTRIB4FV:
+			gl.glVertexAttrib4fv(commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_VERTEX_ATTRIB_POINTER:
+			gl.glVertexAttribPointer(commands.readInt(), commands.readInt(), commands.readInt(), commands.readBoolean(),
+				commands.readInt(), commands.readBuffer());
+			break;
+		case OP_VIEWPORT:
+			gl.glViewport(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_DRAW_ELEMENTS_2:
+			gl.glDrawElements(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_VERTEX_ATTRIB_POINTER_2:
+			gl.glVertexAttribPointer(commands.readInt(), commands.readInt(), commands.readInt(), commands.readBoolean(),
+				commands.readInt(), commands.readInt());
+			break;
+		case OP_DELETE_TEXTURE:
+			gl.glDeleteTexture(commands.readInt());
+			break;
+		case OP_GEN_TEXTURE:
+			commands.intResult = gl.glGenTexture();
+			break;
+		case OP_DELETE_BUFFER:
+			gl.glDeleteBuffer(commands.readInt());
+			break;
+		case OP_DELETE_FRAMEBUFFER:
+			gl.glDeleteFramebuffer(commands.readInt());
+			break;
+		case OP_DELETE_RENDERBUFFER:
+			gl.glDeleteRenderbuffer(commands.readInt());
+			break;
+		case OP_GEN_BUFFER:
+			commands.intResult = gl.glGenBuffer();
+			break;
+		case OP_GEN_FRAMEBUFFER:
+			commands.intResult = gl.glGenFramebuffer();
+			break;
+		case OP_GEN_RENDERBUFFER:
+			commands.intResult = gl.glGenRenderbuffer();
+			break;
+		case OP_UNIFORM1FV_2:
+			gl.glUniform1fv(commands.readInt(), commands.readInt(), commands.readFloatArray(), 0);
+			break;
+		case OP_UNIFORM1IV_2:
+			gl.glUniform1iv(commands.readInt(), commands.readInt(), commands.readIntArray(), 0);
+			break;
+		case OP_UNIFORM2FV_2:
+			gl.glUniform2fv(commands.readInt(), commands.readInt(), commands.readFloatArray(), 0);
+			break;
+		case OP_UNIFORM2IV_2:
+			gl.glUniform2iv(commands.readInt(), commands.readInt(), commands.readIntArray(), 0);
+			break;
+		case OP_UNIFORM3FV_2:
+			gl.glUniform3fv(commands.readInt(), commands.readInt(), commands.readFloatArray(), 0);
+			break;
+		case OP_UNIFORM3IV_2:
+			gl.glUniform3iv(commands.readInt(), commands.readInt(), commands.readIntArray(), 0);
+			break;
+		case OP_UNIFORM4FV_2:
+			gl.glUniform4fv(commands.readInt(), commands.readInt(), commands.readFloatArray(), 0);
+			break;
+		case OP_UNIFORM4IV_2:
+			gl.glUniform4iv(commands.readInt(), commands.readInt(), commands.readIntArray(), 0);
+			break;
+		case OP_UNIFORM_MATRIX2FV_2:
+			gl.glUniformMatrix2fv(commands.readInt(), commands.readInt(), commands.readBoolean(), commands.readFloatArray(), 0);
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay5 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_UNIFORM_MATRIX3FV_2:
+			gl.glUniformMatrix3fv(commands.readInt(), commands.readInt(), commands.readBoolean(), commands.readFloatArray(), 0);
+			break;
+		case OP_UNIFORM_MATRIX4FV_2:
+			gl.glUniformMatrix4fv(commands.readInt(), commands.readInt(), commands.readBoolean(), commands.readFloatArray(), 0);
+			break;
+		case OP_READ_BUFFER:
+			gl30.glReadBuffer(commands.readInt());
+			break;
+		case OP_DRAW_RANGE_ELEMENTS:
+			gl30.glDrawRangeElements(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readBuffer());
+			break;
+		case OP_DRAW_RANGE_ELEMENTS_2:
+			gl30.glDrawRangeElements(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt());
+			break;
+		case OP_TEX_IMAGE2_D_2:
+			gl30.glTexImage2D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_TEX_IMAGE3_D:
+			gl30.glTexImage3D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readBuffer());
+			break;
+		case OP_TEX_IMAGE3_D_2:
+			gl30.glTexImage3D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_TEX_SUB_IMAGE2_D_2:
+			gl30.glTexSubImage2D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_TEX_SUB_IMAGE3_D:
+			gl30.glTexSubImage3D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readBuffer());
+			break;
+		case OP_TEX_SUB_IMAGE3_D_2:
+			gl30.glTexSubImage3D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt());
+			break;
+		case OP_COPY_TEX_SUB_IMAGE3_D:
+			gl30.glCopyTexSubImage3D(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_GEN_QUERIES:
+			gl30.glGenQueries(commands.readInt(), (int[])commands.readObject(), commands.readInt());
+			break;
+		case OP_GEN_QUERIES_2:
+			gl30.glGenQueries(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_DELETE_QUERIES:
+			gl30.glDeleteQueries(commands.readInt(), commands.readIntArray(), 0);
+			break;
+		case OP_DELETE_QUERIES_2:
+			gl30.glDeleteQueries(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_IS_QUERY:
+			commands.booleanResult = gl30.glIsQuery(commands.readInt());
+			break;
+		case OP_BEGIN_QUERY:
+			gl30.glBeginQuery(commands.readInt(), commands.readInt());
+			break;
+		case OP_END_QUERY:
+			gl30.glEndQuery(commands.readInt());
+			break;
+		case OP_GET_QUERYIV:
+			gl30.glGetQueryiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_QUERY_OBJECTUIV:
+			gl30.glGetQueryObjectuiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_UNMAP_BUFFER:
+			commands.booleanResult = gl30.glUnmapBuffer(commands.readInt());
+			break;
+		case OP_GET_BUFFER_POINTERV:
+			commands.objectResult = gl30.glGetBufferPointerv(commands.readInt(), commands.readInt());
+			break;
+		case OP_DRAW_BUFFERS:
+			gl30.glDrawBuffers(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM_MATRIX2X3FV:
+			gl30.glUniformMatrix2x3fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM_MATRIX3X2FV:
+			gl30.glUniformMatrix3x2fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM_MATRIX2X4FV:
+			gl30.glUniformMatrix2x4fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM_MATRIX4X2FV:
+			gl30.glUniformMatrix4x2fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM_MATRIX3X4FV:
+			gl30.glUniformMatrix3x4fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM_MATRIX4X3FV:
+			gl30.glUniformMatrix4x3fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_BLIT_FRAMEBUFFER:
+			gl30.glBlitFramebuffer(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_RENDERBUFFER_STORAGE_MULTISAMPLE:
+			gl30.glRenderbufferStorageMultisample(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay6 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_FRAMEBUFFER_TEXTURE_LAYER:
+			gl30.glFramebufferTextureLayer(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_MAP_BUFFER_RANGE:
+			commands.objectResult = gl30.glMapBufferRange(commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_FLUSH_MAPPED_BUFFER_RANGE:
+			gl30.glFlushMappedBufferRange(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_BIND_VERTEX_ARRAY:
+			gl30.glBindVertexArray(commands.readInt());
+			break;
+		case OP_DELETE_VERTEX_ARRAYS:
+			gl30.glDeleteVertexArrays(commands.readInt(), commands.readIntArray(), 0);
+			break;
+		case OP_DELETE_VERTEX_ARRAYS_2:
+			gl30.glDeleteVertexArrays(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_GEN_VERTEX_ARRAYS:
+			gl30.glGenVertexArrays(commands.readInt(), (int[])commands.readObject(), commands.readInt());
+			break;
+		case OP_GEN_VERTEX_ARRAYS_2:
+			gl30.glGenVertexArrays(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_IS_VERTEX_ARRAY:
+			commands.booleanResult = gl30.glIsVertexArray(commands.readInt());
+			break;
+		case OP_BEGIN_TRANSFORM_FEEDBACK:
+			gl30.glBeginTransformFeedback(commands.readInt());
+			break;
+		case OP_END_TRANSFORM_FEEDBACK:
+			gl30.glEndTransformFeedback();
+			break;
+		case OP_BIND_BUFFER_RANGE:
+			gl30.glBindBufferRange(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_BIND_BUFFER_BASE:
+			gl30.glBindBufferBase(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_TRANSFORM_FEEDBACK_VARYINGS:
+			gl30.glTransformFeedbackVaryings(commands.readInt(), (String[])commands.readObject(), commands.readInt());
+			break;
+		case OP_VERTEX_ATTRIB_I_POINTER:
+			gl30.glVertexAttribIPointer(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_GET_VERTEX_ATTRIB_IIV:
+			gl30.glGetVertexAttribIiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_VERTEX_ATTRIB_IUIV:
+			gl30.glGetVertexAttribIuiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_VERTEX_ATTRIB_I4I:
+			gl30.glVertexAttribI4i(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_VERTEX_ATTRIB_I4UI:
+			gl30.glVertexAttribI4ui(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_GET_UNIFORMUIV:
+			gl30.glGetUniformuiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_FRAG_DATA_LOCATION:
+			commands.intResult = gl30.glGetFragDataLocation(commands.readInt(), (String)commands.readObject());
+			break;
+		case OP_UNIFORM1UIV:
+			gl30.glUniform1uiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM3UIV:
+			gl30.glUniform3uiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_UNIFORM4UIV:
+			gl30.glUniform4uiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_CLEAR_BUFFERIV:
+			gl30.glClearBufferiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_CLEAR_BUFFERUIV:
+			gl30.glClearBufferuiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_CLEAR_BUFFERFV:
+			gl30.glClearBufferfv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_CLEAR_BUFFERFI:
+			gl30.glClearBufferfi(commands.readInt(), commands.readInt(), commands.readFloat(), commands.readInt());
+			break;
+		case OP_GET_STRINGI:
+			commands.objectResult = gl30.glGetStringi(commands.readInt(), commands.readInt());
+			break;
+		case OP_COPY_BUFFER_SUB_DATA:
+			gl30.glCopyBufferSubData(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_GET_UNIFORM_INDICES:
+			gl30.glGetUniformIndices(commands.readInt(), (String[])commands.readObject(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_ACTIVE_UNIFORMSIV:
+			gl30.glGetActiveUniformsiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject(),
+				commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay7 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_GET_UNIFORM_BLOCK_INDEX:
+			commands.intResult = gl30.glGetUniformBlockIndex(commands.readInt(), (String)commands.readObject());
+			break;
+		case OP_GET_ACTIVE_UNIFORM_BLOCKIV:
+			gl30.glGetActiveUniformBlockiv(commands.readInt(), commands.readInt(), commands.readInt(),
+				(IntBuffer)commands.readObject());
+			break;
+		case OP_GET_ACTIVE_UNIFORM_BLOCK_NAME:
+			gl30.glGetActiveUniformBlockName(commands.readInt(), commands.readInt(), (Buffer)commands.readObject(),
+				(Buffer)commands.readObject());
+			break;
+		case OP_GET_ACTIVE_UNIFORM_BLOCK_NAME_2:
+			commands.objectResult = gl30.glGetActiveUniformBlockName(commands.readInt(), commands.readInt());
+			break;
+		case OP_UNIFORM_BLOCK_BINDING:
+			gl30.glUniformBlockBinding(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_DRAW_ARRAYS_INSTANCED:
+			gl30.glDrawArraysInstanced(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_DRAW_ELEMENTS_INSTANCED:
+			gl30.glDrawElementsInstanced(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_GET_INTEGER64V:
+			gl30.glGetInteger64v(commands.readInt(), (LongBuffer)commands.readObject());
+			break;
+		case OP_GET_BUFFER_PARAMETERI64V:
+			gl30.glGetBufferParameteri64v(commands.readInt(), commands.readInt(), (LongBuffer)commands.readObject());
+			break;
+		case OP_GEN_SAMPLERS:
+			gl30.glGenSamplers(commands.readInt(), (int[])commands.readObject(), commands.readInt());
+			break;
+		case OP_GEN_SAMPLERS_2:
+			gl30.glGenSamplers(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_DELETE_SAMPLERS:
+			gl30.glDeleteSamplers(commands.readInt(), commands.readIntArray(), 0);
+			break;
+		case OP_DELETE_SAMPLERS_2:
+			gl30.glDeleteSamplers(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_IS_SAMPLER:
+			commands.booleanResult = gl30.glIsSampler(commands.readInt());
+			break;
+		case OP_BIND_SAMPLER:
+			gl30.glBindSampler(commands.readInt(), commands.readInt());
+			break;
+		case OP_SAMPLER_PARAMETERI:
+			gl30.glSamplerParameteri(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_SAMPLER_PARAMETERIV:
+			gl30.glSamplerParameteriv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_SAMPLER_PARAMETERF:
+			gl30.glSamplerParameterf(commands.readInt(), commands.readInt(), commands.readFloat());
+			break;
+		case OP_SAMPLER_PARAMETERFV:
+			gl30.glSamplerParameterfv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_GET_SAMPLER_PARAMETERIV:
+			gl30.glGetSamplerParameteriv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_SAMPLER_PARAMETERFV:
+			gl30.glGetSamplerParameterfv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readObject());
+			break;
+		case OP_VERTEX_ATTRIB_DIVISOR:
+			gl30.glVertexAttribDivisor(commands.readInt(), commands.readInt());
+			break;
+		case OP_BIND_TRANSFORM_FEEDBACK:
+			gl30.glBindTransformFeedback(commands.readInt(), commands.readInt());
+			break;
+		case OP_DELETE_TRANSFORM_FEEDBACKS:
+			gl30.glDeleteTransformFeedbacks(commands.readInt(), commands.readIntArray(), 0);
+			break;
+		case OP_DELETE_TRANSFORM_FEEDBACKS_2:
+			gl30.glDeleteTransformFeedbacks(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_GEN_TRANSFORM_FEEDBACKS:
+			gl30.glGenTransformFeedbacks(commands.readInt(), (int[])commands.readObject(), commands.readInt());
+			break;
+		case OP_GEN_TRANSFORM_FEEDBACKS_2:
+			gl30.glGenTransformFeedbacks(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_IS_TRANSFORM_FEEDBACK:
+			commands.booleanResult = gl30.glIsTransformFeedback(commands.readInt());
+			break;
+		case OP_PAUSE_TRANSFORM_FEEDBACK:
+			gl30.glPauseTransformFeedback();
+			break;
+		case OP_RESUME_TRANSFORM_FEEDBACK:
+			gl30.glResumeTransformFeedback();
+			break;
+		case OP_PROGRAM_PARAMETERI:
+			gl30.glProgramParameteri(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_INVALIDATE_FRAMEBUFFER:
+			gl30.glInvalidateFramebuffer(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay8 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_INVALIDATE_SUB_FRAMEBUFFER:
+			gl30.glInvalidateSubFramebuffer(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_DISPATCH_COMPUTE:
+			gl31.glDispatchCompute(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_DISPATCH_COMPUTE_INDIRECT:
+			gl31.glDispatchComputeIndirect(commands.readLong());
+			break;
+		case OP_DRAW_ARRAYS_INDIRECT:
+			gl31.glDrawArraysIndirect(commands.readInt(), commands.readLong());
+			break;
+		case OP_DRAW_ELEMENTS_INDIRECT:
+			gl31.glDrawElementsIndirect(commands.readInt(), commands.readInt(), commands.readLong());
+			break;
+		case OP_FRAMEBUFFER_PARAMETERI:
+			gl31.glFramebufferParameteri(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_GET_FRAMEBUFFER_PARAMETERIV:
+			gl31.glGetFramebufferParameteriv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_PROGRAM_INTERFACEIV:
+			gl31.glGetProgramInterfaceiv(commands.readInt(), commands.readInt(), commands.readInt(),
+				(IntBuffer)commands.readObject());
+			break;
+		case OP_GET_PROGRAM_RESOURCE_INDEX:
+			commands.intResult = gl31.glGetProgramResourceIndex(commands.readInt(), commands.readInt(),
+				(String)commands.readObject());
+			break;
+		case OP_GET_PROGRAM_RESOURCE_NAME:
+			commands.objectResult = gl31.glGetProgramResourceName(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_GET_PROGRAM_RESOURCEIV:
+			gl31.glGetProgramResourceiv(commands.readInt(), commands.readInt(), commands.readInt(),
+				(IntBuffer)commands.readObject(), (IntBuffer)commands.readObject(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_PROGRAM_RESOURCE_LOCATION:
+			commands.intResult = gl31.glGetProgramResourceLocation(commands.readInt(), commands.readInt(),
+				(String)commands.readObject());
+			break;
+		case OP_USE_PROGRAM_STAGES:
+			gl31.glUseProgramStages(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_ACTIVE_SHADER_PROGRAM:
+			gl31.glActiveShaderProgram(commands.readInt(), commands.readInt());
+			break;
+		case OP_CREATE_SHADER_PROGRAMV:
+			commands.intResult = gl31.glCreateShaderProgramv(commands.readInt(), (String[])commands.readObject());
+			break;
+		case OP_BIND_PROGRAM_PIPELINE:
+			gl31.glBindProgramPipeline(commands.readInt());
+			break;
+		case OP_DELETE_PROGRAM_PIPELINES:
+			gl31.glDeleteProgramPipelines(commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_GEN_PROGRAM_PIPELINES:
+			gl31.glGenProgramPipelines(commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_IS_PROGRAM_PIPELINE:
+			commands.booleanResult = gl31.glIsProgramPipeline(commands.readInt());
+			break;
+		case OP_GET_PROGRAM_PIPELINEIV:
+			gl31.glGetProgramPipelineiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_PROGRAM_UNIFORM1I:
+			gl31.glProgramUniform1i(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_PROGRAM_UNIFORM2I:
+			gl31.glProgramUniform2i(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_PROGRAM_UNIFORM3I:
+			gl31.glProgramUniform3i(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_PROGRAM_UNIFORM4I:
+			gl31.glProgramUniform4i(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt());
+			break;
+		case OP_PROGRAM_UNIFORM1UI:
+			gl31.glProgramUniform1ui(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_PROGRAM_UNIFORM2UI:
+			gl31.glProgramUniform2ui(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_PROGRAM_UNIFORM3UI:
+			gl31.glProgramUniform3ui(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_PROGRAM_UNIFORM4UI:
+			gl31.glProgramUniform4ui(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt());
+			break;
+		case OP_PROGRAM_UNIFORM1F:
+			gl31.glProgramUniform1f(commands.readInt(), commands.readInt(), commands.readFloat());
+			break;
+		case OP_PROGRAM_UNIFORM2F:
+			gl31.glProgramUniform2f(commands.readInt(), commands.readInt(), commands.readFloat(), commands.readFloat());
+			break;
+		case OP_PROGRAM_UNIFORM3F:
+			gl31.glProgramUniform3f(commands.readInt(), commands.readInt(), commands.readFloat(), commands.readFloat(),
+				commands.readFloat());
+			break;
+		case OP_PROGRAM_UNIFORM4F:
+			gl31.glProgramUniform4f(commands.readInt(), commands.readInt(), commands.readFloat(), commands.readFloat(),
+				commands.readFloat(), commands.readFloat());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay9 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_PROGRAM_UNIFORM1IV:
+			gl31.glProgramUniform1iv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM2IV:
+			gl31.glProgramUniform2iv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM3IV:
+			gl31.glProgramUniform3iv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM4IV:
+			gl31.glProgramUniform4iv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM1UIV:
+			gl31.glProgramUniform1uiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM2UIV:
+			gl31.glProgramUniform2uiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM3UIV:
+			gl31.glProgramUniform3uiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM4UIV:
+			gl31.glProgramUniform4uiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM1FV:
+			gl31.glProgramUniform1fv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM2FV:
+			gl31.glProgramUniform2fv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM3FV:
+			gl31.glProgramUniform3fv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM4FV:
+			gl31.glProgramUniform4fv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM_MATRIX2FV:
+			gl31.glProgramUniformMatrix2fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM_MATRIX3FV:
+			gl31.glProgramUniformMatrix3fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM_MATRIX4FV:
+			gl31.glProgramUniformMatrix4fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM_MATRIX2X3FV:
+			gl31.glProgramUniformMatrix2x3fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM_MATRIX3X2FV:
+			gl31.glProgramUniformMatrix3x2fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM_MATRIX2X4FV:
+			gl31.glProgramUniformMatrix2x4fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM_MATRIX4X2FV:
+			gl31.glProgramUniformMatrix4x2fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM_MATRIX3X4FV:
+			gl31.glProgramUniformMatrix3x4fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_PROGRAM_UNIFORM_MATRIX4X3FV:
+			gl31.glProgramUniformMatrix4x3fv(commands.readInt(), commands.readInt(), commands.readBoolean(),
+				(FloatBuffer)commands.readBuffer());
+			break;
+		case OP_VALIDATE_PROGRAM_PIPELINE:
+			gl31.glValidateProgramPipeline(commands.readInt());
+			break;
+		case OP_GET_PROGRAM_PIPELINE_INFO_LOG:
+			commands.objectResult = gl31.glGetProgramPipelineInfoLog(commands.readInt());
+			break;
+		case OP_BIND_IMAGE_TEXTURE:
+			gl31.glBindImageTexture(commands.readInt(), commands.readInt(), commands.readInt(), commands.readBoolean(),
+				commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_GET_BOOLEANI_V:
+			gl31.glGetBooleani_v(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_MEMORY_BARRIER:
+			gl31.glMemoryBarrier(commands.readInt());
+			break;
+		case OP_MEMORY_BARRIER_BY_REGION:
+			gl31.glMemoryBarrierByRegion(commands.readInt());
+			break;
+		case OP_TEX_STORAGE2_D_MULTISAMPLE:
+			gl31.glTexStorage2DMultisample(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readBoolean());
+			break;
+		case OP_GET_MULTISAMPLEFV:
+			gl31.glGetMultisamplefv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readObject());
+			break;
+		case OP_SAMPLE_MASKI:
+			gl31.glSampleMaski(commands.readInt(), commands.readInt());
+			break;
+		case OP_GET_TEX_LEVEL_PARAMETERIV:
+			gl31.glGetTexLevelParameteriv(commands.readInt(), commands.readInt(), commands.readInt(),
+				(IntBuffer)commands.readObject());
+			break;
+		case OP_GET_TEX_LEVEL_PARAMETERFV:
+			gl31.glGetTexLevelParameterfv(commands.readInt(), commands.readInt(), commands.readInt(),
+				(FloatBuffer)commands.readObject());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay10 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_BIND_VERTEX_BUFFER:
+			gl31.glBindVertexBuffer(commands.readInt(), commands.readInt(), commands.readLong(), commands.readInt());
+			break;
+		case OP_VERTEX_ATTRIB_FORMAT:
+			gl31.glVertexAttribFormat(commands.readInt(), commands.readInt(), commands.readInt(), commands.readBoolean(),
+				commands.readInt());
+			break;
+		case OP_VERTEX_ATTRIB_I_FORMAT:
+			gl31.glVertexAttribIFormat(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_VERTEX_ATTRIB_BINDING:
+			gl31.glVertexAttribBinding(commands.readInt(), commands.readInt());
+			break;
+		case OP_VERTEX_BINDING_DIVISOR:
+			gl31.glVertexBindingDivisor(commands.readInt(), commands.readInt());
+			break;
+		case OP_BLEND_BARRIER:
+			gl32.glBlendBarrier();
+			break;
+		case OP_COPY_IMAGE_SUB_DATA:
+			gl32.glCopyImageSubData(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_DEBUG_MESSAGE_CONTROL:
+			gl32.glDebugMessageControl(commands.readInt(), commands.readInt(), commands.readInt(),
+				(IntBuffer)commands.readBuffer(), commands.readBoolean());
+			break;
+		case OP_DEBUG_MESSAGE_INSERT:
+			gl32.glDebugMessageInsert(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				(String)commands.readObject());
+			break;
+		case OP_DEBUG_MESSAGE_CALLBACK:
+			gl32.glDebugMessageCallback((DebugProc)commands.readObject());
+			break;
+		case OP_GET_DEBUG_MESSAGE_LOG:
+			commands.intResult = gl32.glGetDebugMessageLog(commands.readInt(), (IntBuffer)commands.readObject(),
+				(IntBuffer)commands.readObject(), (IntBuffer)commands.readObject(), (IntBuffer)commands.readObject(),
+				(IntBuffer)commands.readObject(), (ByteBuffer)commands.readObject());
+			break;
+		case OP_PUSH_DEBUG_GROUP:
+			gl32.glPushDebugGroup(commands.readInt(), commands.readInt(), (String)commands.readObject());
+			break;
+		case OP_POP_DEBUG_GROUP:
+			gl32.glPopDebugGroup();
+			break;
+		case OP_OBJECT_LABEL:
+			gl32.glObjectLabel(commands.readInt(), commands.readInt(), (String)commands.readObject());
+			break;
+		case OP_GET_OBJECT_LABEL:
+			commands.objectResult = gl32.glGetObjectLabel(commands.readInt(), commands.readInt());
+			break;
+		case OP_GET_POINTERV:
+			commands.longResult = gl32.glGetPointerv(commands.readInt());
+			break;
+		case OP_ENABLEI:
+			gl32.glEnablei(commands.readInt(), commands.readInt());
+			break;
+		case OP_DISABLEI:
+			gl32.glDisablei(commands.readInt(), commands.readInt());
+			break;
+		case OP_BLEND_EQUATIONI:
+			gl32.glBlendEquationi(commands.readInt(), commands.readInt());
+			break;
+		case OP_BLEND_EQUATION_SEPARATEI:
+			gl32.glBlendEquationSeparatei(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_BLEND_FUNCI:
+			gl32.glBlendFunci(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_BLEND_FUNC_SEPARATEI:
+			gl32.glBlendFuncSeparatei(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_COLOR_MASKI:
+			gl32.glColorMaski(commands.readInt(), commands.readBoolean(), commands.readBoolean(), commands.readBoolean(),
+				commands.readBoolean());
+			break;
+		case OP_IS_ENABLEDI:
+			commands.booleanResult = gl32.glIsEnabledi(commands.readInt(), commands.readInt());
+			break;
+		case OP_DRAW_ELEMENTS_BASE_VERTEX:
+			gl32.glDrawElementsBaseVertex(commands.readInt(), commands.readInt(), commands.readInt(), commands.readBuffer(),
+				commands.readInt());
+			break;
+		case OP_DRAW_RANGE_ELEMENTS_BASE_VERTEX:
+			gl32.glDrawRangeElementsBaseVertex(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readBuffer(), commands.readInt());
+			break;
+		case OP_DRAW_ELEMENTS_INSTANCED_BASE_VERTEX:
+			gl32.glDrawElementsInstancedBaseVertex(commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readBuffer(), commands.readInt(), commands.readInt());
+			break;
+		case OP_DRAW_ELEMENTS_INSTANCED_BASE_VERTEX_2:
+			gl32.glDrawElementsInstancedBaseVertex(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt());
+			break;
+		case OP_FRAMEBUFFER_TEXTURE:
+			gl32.glFramebufferTexture(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_GET_GRAPHICS_RESET_STATUS:
+			commands.intResult = gl32.glGetGraphicsResetStatus();
+			break;
+		case OP_READN_PIXELS:
+			gl32.glReadnPixels(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), (Buffer)commands.readObject());
+			break;
+		case OP_GETN_UNIFORMFV:
+			gl32.glGetnUniformfv(commands.readInt(), commands.readInt(), (FloatBuffer)commands.readObject());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	private static void replay11 (int op, JoglGLCommandBuffer commands, GL20 gl, GL30 gl30, GL31 gl31, GL32 gl32) {
+		switch (op) {
+		case OP_GETN_UNIFORMIV:
+			gl32.glGetnUniformiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GETN_UNIFORMUIV:
+			gl32.glGetnUniformuiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_MIN_SAMPLE_SHADING:
+			gl32.glMinSampleShading(commands.readFloat());
+			break;
+		case OP_PATCH_PARAMETERI:
+			gl32.glPatchParameteri(commands.readInt(), commands.readInt());
+			break;
+		case OP_TEX_PARAMETER_IIV:
+			gl32.glTexParameterIiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_TEX_PARAMETER_IUIV:
+			gl32.glTexParameterIuiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_GET_TEX_PARAMETER_IIV:
+			gl32.glGetTexParameterIiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_TEX_PARAMETER_IUIV:
+			gl32.glGetTexParameterIuiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_SAMPLER_PARAMETER_IIV:
+			gl32.glSamplerParameterIiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_SAMPLER_PARAMETER_IUIV:
+			gl32.glSamplerParameterIuiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readBuffer());
+			break;
+		case OP_GET_SAMPLER_PARAMETER_IIV:
+			gl32.glGetSamplerParameterIiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_GET_SAMPLER_PARAMETER_IUIV:
+			gl32.glGetSamplerParameterIuiv(commands.readInt(), commands.readInt(), (IntBuffer)commands.readObject());
+			break;
+		case OP_TEX_BUFFER:
+			gl32.glTexBuffer(commands.readInt(), commands.readInt(), commands.readInt());
+			break;
+		case OP_TEX_BUFFER_RANGE:
+			gl32.glTexBufferRange(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt());
+			break;
+		case OP_TEX_STORAGE3_D_MULTISAMPLE:
+			gl32.glTexStorage3DMultisample(commands.readInt(), commands.readInt(), commands.readInt(), commands.readInt(),
+				commands.readInt(), commands.readInt(), commands.readBoolean());
+			break;
+		default:
+			throw new GdxRuntimeException("Corrupt command buffer, unknown op " + op);
+		}
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glActiveTexture(texture);
+			return;
+		}
+		commands.op(OP_ACTIVE_TEXTURE).putInt(texture);
+	}
+
+	@Override
+	public void glAttachShader (int program, int shader) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glAttachShader(program, shader);
+			return;
+		}
+		commands.op(OP_ATTACH_SHADER).putInt(program).putInt(shader);
+	}
+
+	@Override
+	public void glBindAttribLocation (int program, int index, String name) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBindAttribLocation(program, index, name);
+			return;
+		}
+		commands.op(OP_BIND_ATTRIB_LOCATION).putInt(program).putInt(index).putObject(name);
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBindBuffer(target, buffer);
+			return;
+		}
+		commands.op(OP_BIND_BUFFER).putInt(target).putInt(buffer);
+	}
+
+	@Override
+	public void glBindFramebuffer (int target, int framebuffer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBindFramebuffer(target, framebuffer);
+			return;
+		}
+		commands.op(OP_BIND_FRAMEBUFFER).putInt(target).putInt(framebuffer);
+	}
+
+	@Override
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBindRenderbuffer(target, renderbuffer);
+			return;
+		}
+		commands.op(OP_BIND_RENDERBUFFER).putInt(target).putInt(renderbuffer);
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBindTexture(target, texture);
+			return;
+		}
+		commands.op(OP_BIND_TEXTURE).putInt(target).putInt(texture);
+	}
+
+	@Override
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBlendColor(red, green, blue, alpha);
+			return;
+		}
+		commands.op(OP_BLEND_COLOR).putFloat(red).putFloat(green).putFloat(blue).putFloat(alpha);
+	}
+
+	@Override
+	public void glBlendEquation (int mode) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBlendEquation(mode);
+			return;
+		}
+		commands.op(OP_BLEND_EQUATION).putInt(mode);
+	}
+
+	@Override
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBlendEquationSeparate(modeRGB, modeAlpha);
+			return;
+		}
+		commands.op(OP_BLEND_EQUATION_SEPARATE).putInt(modeRGB).putInt(modeAlpha);
+	}
+
+	@Override
+	public void glBlendFunc (int sfactor, int dfactor) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBlendFunc(sfactor, dfactor);
+			return;
+		}
+		commands.op(OP_BLEND_FUNC).putInt(sfactor).putInt(dfactor);
+	}
+
+	@Override
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+			return;
+		}
+		commands.op(OP_BLEND_FUNC_SEPARATE).putInt(srcRGB).putInt(dstRGB).putInt(srcAlpha).putInt(dstAlpha);
+	}
+
+	@Override
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBufferData(target, size, data, usage);
+			return;
+		}
+		commands.op(OP_BUFFER_DATA).putInt(target).putInt(size).putBuffer(data).putInt(usage);
+	}
+
+	@Override
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glBufferSubData(target, offset, size, data);
+			return;
+		}
+		commands.op(OP_BUFFER_SUB_DATA).putInt(target).putInt(offset).putInt(size).putBuffer(data);
+	}
+
+	@Override
+	public int glCheckFramebufferStatus (int target) {
+		if (Thread.currentThread() != recordingThread) return gl20.glCheckFramebufferStatus(target);
+		commands.op(OP_CHECK_FRAMEBUFFER_STATUS).putInt(target);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glClear (int mask) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glClear(mask);
+			return;
+		}
+		commands.op(OP_CLEAR).putInt(mask);
+	}
+
+	@Override
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glClearColor(red, green, blue, alpha);
+			return;
+		}
+		commands.op(OP_CLEAR_COLOR).putFloat(red).putFloat(green).putFloat(blue).putFloat(alpha);
+	}
+
+	@Override
+	public void glClearDepthf (float depth) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glClearDepthf(depth);
+			return;
+		}
+		commands.op(OP_CLEAR_DEPTHF).putFloat(depth);
+	}
+
+	@Override
+	public void glClearStencil (int s) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glClearStencil(s);
+			return;
+		}
+		commands.op(OP_CLEAR_STENCIL).putInt(s);
+	}
+
+	@Override
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glColorMask(red, green, blue, alpha);
+			return;
+		}
+		commands.op(OP_COLOR_MASK).putBoolean(red).putBoolean(green).putBoolean(blue).putBoolean(alpha);
+	}
+
+	@Override
+	public void glCompileShader (int shader) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glCompileShader(shader);
+			return;
+		}
+		commands.op(OP_COMPILE_SHADER).putInt(shader);
+	}
+
+	@Override
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border, int imageSize, Buffer data) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+			return;
+		}
+		commands.op(OP_COMPRESSED_TEX_IMAGE2_D).putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height)
+			.putInt(border).putInt(imageSize).putBuffer(data);
+	}
+
+	@Override
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, Buffer data) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+			return;
+		}
+		commands.op(OP_COMPRESSED_TEX_SUB_IMAGE2_D).putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width)
+			.putInt(height).putInt(format).putInt(imageSize).putBuffer(data);
+	}
+
+	@Override
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+			return;
+		}
+		commands.op(OP_COPY_TEX_IMAGE2_D).putInt(target).putInt(level).putInt(internalformat).putInt(x).putInt(y).putInt(width)
+			.putInt(height).putInt(border);
+	}
+
+	@Override
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+			return;
+		}
+		commands.op(OP_COPY_TEX_SUB_IMAGE2_D).putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(x).putInt(y)
+			.putInt(width).putInt(height);
+	}
+
+	@Override
+	public int glCreateProgram () {
+		if (Thread.currentThread() != recordingThread) return gl20.glCreateProgram();
+		commands.op(OP_CREATE_PROGRAM);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public int glCreateShader (int type) {
+		if (Thread.currentThread() != recordingThread) return gl20.glCreateShader(type);
+		commands.op(OP_CREATE_SHADER).putInt(type);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glCullFace (int mode) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glCullFace(mode);
+			return;
+		}
+		commands.op(OP_CULL_FACE).putInt(mode);
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteBuffers(n, buffers);
+			return;
+		}
+		commands.op(OP_DELETE_BUFFERS).putInt(n).putBuffer(buffers);
+	}
+
+	@Override
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteFramebuffers(n, framebuffers);
+			return;
+		}
+		commands.op(OP_DELETE_FRAMEBUFFERS).putInt(n).putBuffer(framebuffers);
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteProgram(program);
+			return;
+		}
+		commands.op(OP_DELETE_PROGRAM).putInt(program);
+	}
+
+	@Override
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteRenderbuffers(n, renderbuffers);
+			return;
+		}
+		commands.op(OP_DELETE_RENDERBUFFERS).putInt(n).putBuffer(renderbuffers);
+	}
+
+	@Override
+	public void glDeleteShader (int shader) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteShader(shader);
+			return;
+		}
+		commands.op(OP_DELETE_SHADER).putInt(shader);
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteTextures(n, textures);
+			return;
+		}
+		commands.op(OP_DELETE_TEXTURES).putInt(n).putBuffer(textures);
+	}
+
+	@Override
+	public void glDepthFunc (int func) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDepthFunc(func);
+			return;
+		}
+		commands.op(OP_DEPTH_FUNC).putInt(func);
+	}
+
+	@Override
+	public void glDepthMask (boolean flag) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDepthMask(flag);
+			return;
+		}
+		commands.op(OP_DEPTH_MASK).putBoolean(flag);
+	}
+
+	@Override
+	public void glDepthRangef (float zNear, float zFar) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDepthRangef(zNear, zFar);
+			return;
+		}
+		commands.op(OP_DEPTH_RANGEF).putFloat(zNear).putFloat(zFar);
+	}
+
+	@Override
+	public void glDetachShader (int program, int shader) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDetachShader(program, shader);
+			return;
+		}
+		commands.op(OP_DETACH_SHADER).putInt(program).putInt(shader);
+	}
+
+	@Override
+	public void glDisable (int cap) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDisable(cap);
+			return;
+		}
+		commands.op(OP_DISABLE).putInt(cap);
+	}
+
+	@Override
+	public void glDisableVertexAttribArray (int index) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDisableVertexAttribArray(index);
+			return;
+		}
+		commands.op(OP_DISABLE_VERTEX_ATTRIB_ARRAY).putInt(index);
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDrawArrays(mode, first, count);
+			return;
+		}
+		commands.op(OP_DRAW_ARRAYS).putInt(mode).putInt(first).putInt(count);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDrawElements(mode, count, type, indices);
+			return;
+		}
+		commands.op(OP_DRAW_ELEMENTS).putInt(mode).putInt(count).putInt(type).putBuffer(indices);
+	}
+
+	@Override
+	public void glEnable (int cap) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glEnable(cap);
+			return;
+		}
+		commands.op(OP_ENABLE).putInt(cap);
+	}
+
+	@Override
+	public void glEnableVertexAttribArray (int index) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glEnableVertexAttribArray(index);
+			return;
+		}
+		commands.op(OP_ENABLE_VERTEX_ATTRIB_ARRAY).putInt(index);
+	}
+
+	@Override
+	public void glFinish () {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glFinish();
+			return;
+		}
+		commands.op(OP_FINISH);
+		flush();
+	}
+
+	@Override
+	public void glFlush () {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glFlush();
+			return;
+		}
+		commands.op(OP_FLUSH);
+	}
+
+	@Override
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+			return;
+		}
+		commands.op(OP_FRAMEBUFFER_RENDERBUFFER).putInt(target).putInt(attachment).putInt(renderbuffertarget)
+			.putInt(renderbuffer);
+	}
+
+	@Override
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+			return;
+		}
+		commands.op(OP_FRAMEBUFFER_TEXTURE2_D).putInt(target).putInt(attachment).putInt(textarget).putInt(texture).putInt(level);
+	}
+
+	@Override
+	public void glFrontFace (int mode) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glFrontFace(mode);
+			return;
+		}
+		commands.op(OP_FRONT_FACE).putInt(mode);
+	}
+
+	@Override
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGenBuffers(n, buffers);
+			return;
+		}
+		commands.op(OP_GEN_BUFFERS).putInt(n).putObject(buffers);
+		flush();
+	}
+
+	@Override
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGenFramebuffers(n, framebuffers);
+			return;
+		}
+		commands.op(OP_GEN_FRAMEBUFFERS).putInt(n).putObject(framebuffers);
+		flush();
+	}
+
+	@Override
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGenRenderbuffers(n, renderbuffers);
+			return;
+		}
+		commands.op(OP_GEN_RENDERBUFFERS).putInt(n).putObject(renderbuffers);
+		flush();
+	}
+
+	@Override
+	public void glGenTextures (int n, IntBuffer textures) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGenTextures(n, textures);
+			return;
+		}
+		commands.op(OP_GEN_TEXTURES).putInt(n).putObject(textures);
+		flush();
+	}
+
+	@Override
+	public void glGenerateMipmap (int target) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGenerateMipmap(target);
+			return;
+		}
+		commands.op(OP_GENERATE_MIPMAP).putInt(target);
+	}
+
+	@Override
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, IntBuffer type) {
+		if (Thread.currentThread() != recordingThread) return gl20.glGetActiveAttrib(program, index, size, type);
+		commands.op(OP_GET_ACTIVE_ATTRIB).putInt(program).putInt(index).putObject(size).putObject(type);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public String glGetActiveUniform (int program, int index, IntBuffer size, IntBuffer type) {
+		if (Thread.currentThread() != recordingThread) return gl20.glGetActiveUniform(program, index, size, type);
+		commands.op(OP_GET_ACTIVE_UNIFORM).putInt(program).putInt(index).putObject(size).putObject(type);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetAttachedShaders(program, maxcount, count, shaders);
+			return;
+		}
+		commands.op(OP_GET_ATTACHED_SHADERS).putInt(program).putInt(maxcount).putObject(count).putObject(shaders);
+		flush();
+	}
+
+	@Override
+	public int glGetAttribLocation (int program, String name) {
+		if (Thread.currentThread() != recordingThread) return gl20.glGetAttribLocation(program, name);
+		commands.op(OP_GET_ATTRIB_LOCATION).putInt(program).putObject(name);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glGetBooleanv (int pname, Buffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetBooleanv(pname, params);
+			return;
+		}
+		commands.op(OP_GET_BOOLEANV).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetBufferParameteriv(target, pname, params);
+			return;
+		}
+		commands.op(OP_GET_BUFFER_PARAMETERIV).putInt(target).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public int glGetError () {
+		if (Thread.currentThread() != recordingThread) return gl20.glGetError();
+		commands.op(OP_GET_ERROR);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetFloatv(pname, params);
+			return;
+		}
+		commands.op(OP_GET_FLOATV).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+			return;
+		}
+		commands.op(OP_GET_FRAMEBUFFER_ATTACHMENT_PARAMETERIV).putInt(target).putInt(attachment).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetIntegerv(pname, params);
+			return;
+		}
+		commands.op(OP_GET_INTEGERV).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public String glGetProgramInfoLog (int program) {
+		if (Thread.currentThread() != recordingThread) return gl20.glGetProgramInfoLog(program);
+		commands.op(OP_GET_PROGRAM_INFO_LOG).putInt(program);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetProgramiv(program, pname, params);
+			return;
+		}
+		commands.op(OP_GET_PROGRAMIV).putInt(program).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetRenderbufferParameteriv(target, pname, params);
+			return;
+		}
+		commands.op(OP_GET_RENDERBUFFER_PARAMETERIV).putInt(target).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public String glGetShaderInfoLog (int shader) {
+		if (Thread.currentThread() != recordingThread) return gl20.glGetShaderInfoLog(shader);
+		commands.op(OP_GET_SHADER_INFO_LOG).putInt(shader);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+			return;
+		}
+		commands.op(OP_GET_SHADER_PRECISION_FORMAT).putInt(shadertype).putInt(precisiontype).putObject(range)
+			.putObject(precision);
+		flush();
+	}
+
+	@Override
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetShaderiv(shader, pname, params);
+			return;
+		}
+		commands.op(OP_GET_SHADERIV).putInt(shader).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public String glGetString (int name) {
+		if (Thread.currentThread() != recordingThread) return gl20.glGetString(name);
+		commands.op(OP_GET_STRING).putInt(name);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetTexParameterfv(target, pname, params);
+			return;
+		}
+		commands.op(OP_GET_TEX_PARAMETERFV).putInt(target).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetTexParameteriv(target, pname, params);
+			return;
+		}
+		commands.op(OP_GET_TEX_PARAMETERIV).putInt(target).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public int glGetUniformLocation (int program, String name) {
+		if (Thread.currentThread() != recordingThread) return gl20.glGetUniformLocation(program, name);
+		commands.op(OP_GET_UNIFORM_LOCATION).putInt(program).putObject(name);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetUniformfv(program, location, params);
+			return;
+		}
+		commands.op(OP_GET_UNIFORMFV).putInt(program).putInt(location).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetUniformiv(program, location, params);
+			return;
+		}
+		commands.op(OP_GET_UNIFORMIV).putInt(program).putInt(location).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetVertexAttribPointerv(index, pname, pointer);
+			return;
+		}
+		commands.op(OP_GET_VERTEX_ATTRIB_POINTERV).putInt(index).putInt(pname).putObject(pointer);
+		flush();
+	}
+
+	@Override
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetVertexAttribfv(index, pname, params);
+			return;
+		}
+		commands.op(OP_GET_VERTEX_ATTRIBFV).putInt(index).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glGetVertexAttribiv(index, pname, params);
+			return;
+		}
+		commands.op(OP_GET_VERTEX_ATTRIBIV).putInt(index).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glHint (int target, int mode) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glHint(target, mode);
+			return;
+		}
+		commands.op(OP_HINT).putInt(target).putInt(mode);
+	}
+
+	@Override
+	public boolean glIsBuffer (int buffer) {
+		if (Thread.currentThread() != recordingThread) return gl20.glIsBuffer(buffer);
+		commands.op(OP_IS_BUFFER).putInt(buffer);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public boolean glIsEnabled (int cap) {
+		if (Thread.currentThread() != recordingThread) return gl20.glIsEnabled(cap);
+		commands.op(OP_IS_ENABLED).putInt(cap);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public boolean glIsFramebuffer (int framebuffer) {
+		if (Thread.currentThread() != recordingThread) return gl20.glIsFramebuffer(framebuffer);
+		commands.op(OP_IS_FRAMEBUFFER).putInt(framebuffer);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public boolean glIsProgram (int program) {
+		if (Thread.currentThread() != recordingThread) return gl20.glIsProgram(program);
+		commands.op(OP_IS_PROGRAM).putInt(program);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		if (Thread.currentThread() != recordingThread) return gl20.glIsRenderbuffer(renderbuffer);
+		commands.op(OP_IS_RENDERBUFFER).putInt(renderbuffer);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public boolean glIsShader (int shader) {
+		if (Thread.currentThread() != recordingThread) return gl20.glIsShader(shader);
+		commands.op(OP_IS_SHADER).putInt(shader);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public boolean glIsTexture (int texture) {
+		if (Thread.currentThread() != recordingThread) return gl20.glIsTexture(texture);
+		commands.op(OP_IS_TEXTURE).putInt(texture);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public void glLineWidth (float width) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glLineWidth(width);
+			return;
+		}
+		commands.op(OP_LINE_WIDTH).putFloat(width);
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glLinkProgram(program);
+			return;
+		}
+		commands.op(OP_LINK_PROGRAM).putInt(program);
+	}
+
+	@Override
+	public void glPixelStorei (int pname, int param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glPixelStorei(pname, param);
+			return;
+		}
+		commands.op(OP_PIXEL_STOREI).putInt(pname).putInt(param);
+	}
+
+	@Override
+	public void glPolygonOffset (float factor, float units) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glPolygonOffset(factor, units);
+			return;
+		}
+		commands.op(OP_POLYGON_OFFSET).putFloat(factor).putFloat(units);
+	}
+
+	@Override
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glReadPixels(x, y, width, height, format, type, pixels);
+			return;
+		}
+		commands.op(OP_READ_PIXELS).putInt(x).putInt(y).putInt(width).putInt(height).putInt(format).putInt(type)
+			.putObject(pixels);
+		flush();
+	}
+
+	@Override
+	public void glReleaseShaderCompiler () {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glReleaseShaderCompiler();
+			return;
+		}
+		commands.op(OP_RELEASE_SHADER_COMPILER);
+	}
+
+	@Override
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glRenderbufferStorage(target, internalformat, width, height);
+			return;
+		}
+		commands.op(OP_RENDERBUFFER_STORAGE).putInt(target).putInt(internalformat).putInt(width).putInt(height);
+	}
+
+	@Override
+	public void glSampleCoverage (float value, boolean invert) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glSampleCoverage(value, invert);
+			return;
+		}
+		commands.op(OP_SAMPLE_COVERAGE).putFloat(value).putBoolean(invert);
+	}
+
+	@Override
+	public void glScissor (int x, int y, int width, int height) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glScissor(x, y, width, height);
+			return;
+		}
+		commands.op(OP_SCISSOR).putInt(x).putInt(y).putInt(width).putInt(height);
+	}
+
+	@Override
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glShaderBinary(n, shaders, binaryformat, binary, length);
+			return;
+		}
+		commands.op(OP_SHADER_BINARY).putInt(n).putObject(shaders).putInt(binaryformat).putObject(binary).putInt(length);
+		flush();
+	}
+
+	@Override
+	public void glShaderSource (int shader, String string) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glShaderSource(shader, string);
+			return;
+		}
+		commands.op(OP_SHADER_SOURCE).putInt(shader).putObject(string);
+	}
+
+	@Override
+	public void glStencilFunc (int func, int ref, int mask) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glStencilFunc(func, ref, mask);
+			return;
+		}
+		commands.op(OP_STENCIL_FUNC).putInt(func).putInt(ref).putInt(mask);
+	}
+
+	@Override
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glStencilFuncSeparate(face, func, ref, mask);
+			return;
+		}
+		commands.op(OP_STENCIL_FUNC_SEPARATE).putInt(face).putInt(func).putInt(ref).putInt(mask);
+	}
+
+	@Override
+	public void glStencilMask (int mask) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glStencilMask(mask);
+			return;
+		}
+		commands.op(OP_STENCIL_MASK).putInt(mask);
+	}
+
+	@Override
+	public void glStencilMaskSeparate (int face, int mask) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glStencilMaskSeparate(face, mask);
+			return;
+		}
+		commands.op(OP_STENCIL_MASK_SEPARATE).putInt(face).putInt(mask);
+	}
+
+	@Override
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glStencilOp(fail, zfail, zpass);
+			return;
+		}
+		commands.op(OP_STENCIL_OP).putInt(fail).putInt(zfail).putInt(zpass);
+	}
+
+	@Override
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glStencilOpSeparate(face, fail, zfail, zpass);
+			return;
+		}
+		commands.op(OP_STENCIL_OP_SEPARATE).putInt(face).putInt(fail).putInt(zfail).putInt(zpass);
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+			return;
+		}
+		commands.op(OP_TEX_IMAGE2_D).putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height)
+			.putInt(border).putInt(format).putInt(type).putBuffer(pixels);
+	}
+
+	@Override
+	public void glTexParameterf (int target, int pname, float param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glTexParameterf(target, pname, param);
+			return;
+		}
+		commands.op(OP_TEX_PARAMETERF).putInt(target).putInt(pname).putFloat(param);
+	}
+
+	@Override
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glTexParameterfv(target, pname, params);
+			return;
+		}
+		commands.op(OP_TEX_PARAMETERFV).putInt(target).putInt(pname).putBuffer(params);
+	}
+
+	@Override
+	public void glTexParameteri (int target, int pname, int param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glTexParameteri(target, pname, param);
+			return;
+		}
+		commands.op(OP_TEX_PARAMETERI).putInt(target).putInt(pname).putInt(param);
+	}
+
+	@Override
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glTexParameteriv(target, pname, params);
+			return;
+		}
+		commands.op(OP_TEX_PARAMETERIV).putInt(target).putInt(pname).putBuffer(params);
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, Buffer pixels) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+			return;
+		}
+		commands.op(OP_TEX_SUB_IMAGE2_D).putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width)
+			.putInt(height).putInt(format).putInt(type).putBuffer(pixels);
+	}
+
+	@Override
+	public void glUniform1f (int location, float x) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform1f(location, x);
+			return;
+		}
+		commands.op(OP_UNIFORM1F).putInt(location).putFloat(x);
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform1fv(location, count, v);
+			return;
+		}
+		commands.op(OP_UNIFORM1FV).putInt(location).putInt(count).putBuffer(v);
+	}
+
+	@Override
+	public void glUniform1i (int location, int x) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform1i(location, x);
+			return;
+		}
+		commands.op(OP_UNIFORM1I).putInt(location).putInt(x);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform1iv(location, count, v);
+			return;
+		}
+		commands.op(OP_UNIFORM1IV).putInt(location).putInt(count).putBuffer(v);
+	}
+
+	@Override
+	public void glUniform2f (int location, float x, float y) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform2f(location, x, y);
+			return;
+		}
+		commands.op(OP_UNIFORM2F).putInt(location).putFloat(x).putFloat(y);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform2fv(location, count, v);
+			return;
+		}
+		commands.op(OP_UNIFORM2FV).putInt(location).putInt(count).putBuffer(v);
+	}
+
+	@Override
+	public void glUniform2i (int location, int x, int y) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform2i(location, x, y);
+			return;
+		}
+		commands.op(OP_UNIFORM2I).putInt(location).putInt(x).putInt(y);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform2iv(location, count, v);
+			return;
+		}
+		commands.op(OP_UNIFORM2IV).putInt(location).putInt(count).putBuffer(v);
+	}
+
+	@Override
+	public void glUniform3f (int location, float x, float y, float z) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform3f(location, x, y, z);
+			return;
+		}
+		commands.op(OP_UNIFORM3F).putInt(location).putFloat(x).putFloat(y).putFloat(z);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform3fv(location, count, v);
+			return;
+		}
+		commands.op(OP_UNIFORM3FV).putInt(location).putInt(count).putBuffer(v);
+	}
+
+	@Override
+	public void glUniform3i (int location, int x, int y, int z) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform3i(location, x, y, z);
+			return;
+		}
+		commands.op(OP_UNIFORM3I).putInt(location).putInt(x).putInt(y).putInt(z);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform3iv(location, count, v);
+			return;
+		}
+		commands.op(OP_UNIFORM3IV).putInt(location).putInt(count).putBuffer(v);
+	}
+
+	@Override
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform4f(location, x, y, z, w);
+			return;
+		}
+		commands.op(OP_UNIFORM4F).putInt(location).putFloat(x).putFloat(y).putFloat(z).putFloat(w);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform4fv(location, count, v);
+			return;
+		}
+		commands.op(OP_UNIFORM4FV).putInt(location).putInt(count).putBuffer(v);
+	}
+
+	@Override
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform4i(location, x, y, z, w);
+			return;
+		}
+		commands.op(OP_UNIFORM4I).putInt(location).putInt(x).putInt(y).putInt(z).putInt(w);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform4iv(location, count, v);
+			return;
+		}
+		commands.op(OP_UNIFORM4IV).putInt(location).putInt(count).putBuffer(v);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniformMatrix2fv(location, count, transpose, value);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX2FV).putInt(location).putInt(count).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniformMatrix3fv(location, count, transpose, value);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX3FV).putInt(location).putInt(count).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniformMatrix4fv(location, count, transpose, value);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX4FV).putInt(location).putInt(count).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUseProgram(program);
+			return;
+		}
+		commands.op(OP_USE_PROGRAM).putInt(program);
+	}
+
+	@Override
+	public void glValidateProgram (int program) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glValidateProgram(program);
+			return;
+		}
+		commands.op(OP_VALIDATE_PROGRAM).putInt(program);
+	}
+
+	@Override
+	public void glVertexAttrib1f (int indx, float x) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttrib1f(indx, x);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB1F).putInt(indx).putFloat(x);
+	}
+
+	@Override
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttrib1fv(indx, values);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB1FV).putInt(indx).putBuffer(values);
+	}
+
+	@Override
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttrib2f(indx, x, y);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB2F).putInt(indx).putFloat(x).putFloat(y);
+	}
+
+	@Override
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttrib2fv(indx, values);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB2FV).putInt(indx).putBuffer(values);
+	}
+
+	@Override
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttrib3f(indx, x, y, z);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB3F).putInt(indx).putFloat(x).putFloat(y).putFloat(z);
+	}
+
+	@Override
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttrib3fv(indx, values);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB3FV).putInt(indx).putBuffer(values);
+	}
+
+	@Override
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttrib4f(indx, x, y, z, w);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB4F).putInt(indx).putFloat(x).putFloat(y).putFloat(z).putFloat(w);
+	}
+
+	@Override
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttrib4fv(indx, values);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB4FV).putInt(indx).putBuffer(values);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB_POINTER).putInt(indx).putInt(size).putInt(type).putBoolean(normalized).putInt(stride)
+			.putBuffer(ptr);
+	}
+
+	@Override
+	public void glViewport (int x, int y, int width, int height) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glViewport(x, y, width, height);
+			return;
+		}
+		commands.op(OP_VIEWPORT).putInt(x).putInt(y).putInt(width).putInt(height);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDrawElements(mode, count, type, indices);
+			return;
+		}
+		commands.op(OP_DRAW_ELEMENTS_2).putInt(mode).putInt(count).putInt(type).putInt(indices);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB_POINTER_2).putInt(indx).putInt(size).putInt(type).putBoolean(normalized).putInt(stride)
+			.putInt(ptr);
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteTexture(texture);
+			return;
+		}
+		commands.op(OP_DELETE_TEXTURE).putInt(texture);
+	}
+
+	@Override
+	public int glGenTexture () {
+		if (Thread.currentThread() != recordingThread) return gl20.glGenTexture();
+		commands.op(OP_GEN_TEXTURE);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteBuffer(buffer);
+			return;
+		}
+		commands.op(OP_DELETE_BUFFER).putInt(buffer);
+	}
+
+	@Override
+	public void glDeleteFramebuffer (int framebuffer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteFramebuffer(framebuffer);
+			return;
+		}
+		commands.op(OP_DELETE_FRAMEBUFFER).putInt(framebuffer);
+	}
+
+	@Override
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glDeleteRenderbuffer(renderbuffer);
+			return;
+		}
+		commands.op(OP_DELETE_RENDERBUFFER).putInt(renderbuffer);
+	}
+
+	@Override
+	public int glGenBuffer () {
+		if (Thread.currentThread() != recordingThread) return gl20.glGenBuffer();
+		commands.op(OP_GEN_BUFFER);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public int glGenFramebuffer () {
+		if (Thread.currentThread() != recordingThread) return gl20.glGenFramebuffer();
+		commands.op(OP_GEN_FRAMEBUFFER);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public int glGenRenderbuffer () {
+		if (Thread.currentThread() != recordingThread) return gl20.glGenRenderbuffer();
+		commands.op(OP_GEN_RENDERBUFFER);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform1fv(location, count, v, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM1FV_2).putInt(location).putInt(count).putArray(v, offset, count);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform1iv(location, count, v, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM1IV_2).putInt(location).putInt(count).putArray(v, offset, count);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform2fv(location, count, v, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM2FV_2).putInt(location).putInt(count).putArray(v, offset, count * 2);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform2iv(location, count, v, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM2IV_2).putInt(location).putInt(count).putArray(v, offset, count * 2);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform3fv(location, count, v, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM3FV_2).putInt(location).putInt(count).putArray(v, offset, count * 3);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform3iv(location, count, v, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM3IV_2).putInt(location).putInt(count).putArray(v, offset, count * 3);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform4fv(location, count, v, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM4FV_2).putInt(location).putInt(count).putArray(v, offset, count * 4);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniform4iv(location, count, v, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM4IV_2).putInt(location).putInt(count).putArray(v, offset, count * 4);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX2FV_2).putInt(location).putInt(count).putBoolean(transpose).putArray(value, offset, count * 4);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX3FV_2).putInt(location).putInt(count).putBoolean(transpose).putArray(value, offset, count * 9);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX4FV_2).putInt(location).putInt(count).putBoolean(transpose).putArray(value, offset, count * 16);
+	}
+
+	@Override
+	public void glReadBuffer (int mode) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glReadBuffer(mode);
+			return;
+		}
+		commands.op(OP_READ_BUFFER).putInt(mode);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDrawRangeElements(mode, start, end, count, type, indices);
+			return;
+		}
+		commands.op(OP_DRAW_RANGE_ELEMENTS).putInt(mode).putInt(start).putInt(end).putInt(count).putInt(type).putBuffer(indices);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+			return;
+		}
+		commands.op(OP_DRAW_RANGE_ELEMENTS_2).putInt(mode).putInt(start).putInt(end).putInt(count).putInt(type).putInt(offset);
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalFormat, int width, int height, int border, int format, int type, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glTexImage2D(target, level, internalFormat, width, height, border, format, type, offset);
+			return;
+		}
+		commands.op(OP_TEX_IMAGE2_D_2).putInt(target).putInt(level).putInt(internalFormat).putInt(width).putInt(height)
+			.putInt(border).putInt(format).putInt(type).putInt(offset);
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, Buffer pixels) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+			return;
+		}
+		commands.op(OP_TEX_IMAGE3_D).putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height)
+			.putInt(depth).putInt(border).putInt(format).putInt(type).putBuffer(pixels);
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, offset);
+			return;
+		}
+		commands.op(OP_TEX_IMAGE3_D_2).putInt(target).putInt(level).putInt(internalformat).putInt(width).putInt(height)
+			.putInt(depth).putInt(border).putInt(format).putInt(type).putInt(offset);
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, offset);
+			return;
+		}
+		commands.op(OP_TEX_SUB_IMAGE2_D_2).putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(width)
+			.putInt(height).putInt(format).putInt(type).putInt(offset);
+	}
+
+	@Override
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, Buffer pixels) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+			return;
+		}
+		commands.op(OP_TEX_SUB_IMAGE3_D).putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(zoffset)
+			.putInt(width).putInt(height).putInt(depth).putInt(format).putInt(type).putBuffer(pixels);
+	}
+
+	@Override
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, offset);
+			return;
+		}
+		commands.op(OP_TEX_SUB_IMAGE3_D_2).putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(zoffset)
+			.putInt(width).putInt(height).putInt(depth).putInt(format).putInt(type).putInt(offset);
+	}
+
+	@Override
+	public void glCopyTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int x, int y, int width, int height) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glCopyTexSubImage3D(target, level, xoffset, yoffset, zoffset, x, y, width, height);
+			return;
+		}
+		commands.op(OP_COPY_TEX_SUB_IMAGE3_D).putInt(target).putInt(level).putInt(xoffset).putInt(yoffset).putInt(zoffset)
+			.putInt(x).putInt(y).putInt(width).putInt(height);
+	}
+
+	@Override
+	public void glGenQueries (int n, int[] ids, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGenQueries(n, ids, offset);
+			return;
+		}
+		commands.op(OP_GEN_QUERIES).putInt(n).putObject(ids).putInt(offset);
+		flush();
+	}
+
+	@Override
+	public void glGenQueries (int n, IntBuffer ids) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGenQueries(n, ids);
+			return;
+		}
+		commands.op(OP_GEN_QUERIES_2).putInt(n).putObject(ids);
+		flush();
+	}
+
+	@Override
+	public void glDeleteQueries (int n, int[] ids, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDeleteQueries(n, ids, offset);
+			return;
+		}
+		commands.op(OP_DELETE_QUERIES).putInt(n).putArray(ids, offset, n);
+	}
+
+	@Override
+	public void glDeleteQueries (int n, IntBuffer ids) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDeleteQueries(n, ids);
+			return;
+		}
+		commands.op(OP_DELETE_QUERIES_2).putInt(n).putBuffer(ids);
+	}
+
+	@Override
+	public boolean glIsQuery (int id) {
+		if (Thread.currentThread() != recordingThread) return gl30.glIsQuery(id);
+		commands.op(OP_IS_QUERY).putInt(id);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public void glBeginQuery (int target, int id) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glBeginQuery(target, id);
+			return;
+		}
+		commands.op(OP_BEGIN_QUERY).putInt(target).putInt(id);
+	}
+
+	@Override
+	public void glEndQuery (int target) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glEndQuery(target);
+			return;
+		}
+		commands.op(OP_END_QUERY).putInt(target);
+	}
+
+	@Override
+	public void glGetQueryiv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetQueryiv(target, pname, params);
+			return;
+		}
+		commands.op(OP_GET_QUERYIV).putInt(target).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetQueryObjectuiv (int id, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetQueryObjectuiv(id, pname, params);
+			return;
+		}
+		commands.op(OP_GET_QUERY_OBJECTUIV).putInt(id).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public boolean glUnmapBuffer (int target) {
+		if (Thread.currentThread() != recordingThread) return gl30.glUnmapBuffer(target);
+		commands.op(OP_UNMAP_BUFFER).putInt(target);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public Buffer glGetBufferPointerv (int target, int pname) {
+		if (Thread.currentThread() != recordingThread) return gl30.glGetBufferPointerv(target, pname);
+		commands.op(OP_GET_BUFFER_POINTERV).putInt(target).putInt(pname);
+		flush();
+		return (Buffer)commands.objectResult;
+	}
+
+	@Override
+	public void glDrawBuffers (int n, IntBuffer bufs) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDrawBuffers(n, bufs);
+			return;
+		}
+		commands.op(OP_DRAW_BUFFERS).putInt(n).putBuffer(bufs);
+	}
+
+	@Override
+	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniformMatrix2x3fv(location, count, transpose, value);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX2X3FV).putInt(location).putInt(count).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniformMatrix3x2fv(location, count, transpose, value);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX3X2FV).putInt(location).putInt(count).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniformMatrix2x4fv(location, count, transpose, value);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX2X4FV).putInt(location).putInt(count).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniformMatrix4x2fv(location, count, transpose, value);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX4X2FV).putInt(location).putInt(count).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniformMatrix3x4fv(location, count, transpose, value);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX3X4FV).putInt(location).putInt(count).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniformMatrix4x3fv(location, count, transpose, value);
+			return;
+		}
+		commands.op(OP_UNIFORM_MATRIX4X3FV).putInt(location).putInt(count).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glBlitFramebuffer (int srcX0, int srcY0, int srcX1, int srcY1, int dstX0, int dstY0, int dstX1, int dstY1, int mask, int filter) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
+			return;
+		}
+		commands.op(OP_BLIT_FRAMEBUFFER).putInt(srcX0).putInt(srcY0).putInt(srcX1).putInt(srcY1).putInt(dstX0).putInt(dstY0)
+			.putInt(dstX1).putInt(dstY1).putInt(mask).putInt(filter);
+	}
+
+	@Override
+	public void glRenderbufferStorageMultisample (int target, int samples, int internalformat, int width, int height) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glRenderbufferStorageMultisample(target, samples, internalformat, width, height);
+			return;
+		}
+		commands.op(OP_RENDERBUFFER_STORAGE_MULTISAMPLE).putInt(target).putInt(samples).putInt(internalformat).putInt(width)
+			.putInt(height);
+	}
+
+	@Override
+	public void glFramebufferTextureLayer (int target, int attachment, int texture, int level, int layer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glFramebufferTextureLayer(target, attachment, texture, level, layer);
+			return;
+		}
+		commands.op(OP_FRAMEBUFFER_TEXTURE_LAYER).putInt(target).putInt(attachment).putInt(texture).putInt(level).putInt(layer);
+	}
+
+	@Override
+	public Buffer glMapBufferRange (int target, int offset, int length, int access) {
+		if (Thread.currentThread() != recordingThread) return gl30.glMapBufferRange(target, offset, length, access);
+		commands.op(OP_MAP_BUFFER_RANGE).putInt(target).putInt(offset).putInt(length).putInt(access);
+		flush();
+		return (Buffer)commands.objectResult;
+	}
+
+	@Override
+	public void glFlushMappedBufferRange (int target, int offset, int length) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glFlushMappedBufferRange(target, offset, length);
+			return;
+		}
+		commands.op(OP_FLUSH_MAPPED_BUFFER_RANGE).putInt(target).putInt(offset).putInt(length);
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glBindVertexArray(array);
+			return;
+		}
+		commands.op(OP_BIND_VERTEX_ARRAY).putInt(array);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDeleteVertexArrays(n, arrays, offset);
+			return;
+		}
+		commands.op(OP_DELETE_VERTEX_ARRAYS).putInt(n).putArray(arrays, offset, n);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDeleteVertexArrays(n, arrays);
+			return;
+		}
+		commands.op(OP_DELETE_VERTEX_ARRAYS_2).putInt(n).putBuffer(arrays);
+	}
+
+	@Override
+	public void glGenVertexArrays (int n, int[] arrays, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGenVertexArrays(n, arrays, offset);
+			return;
+		}
+		commands.op(OP_GEN_VERTEX_ARRAYS).putInt(n).putObject(arrays).putInt(offset);
+		flush();
+	}
+
+	@Override
+	public void glGenVertexArrays (int n, IntBuffer arrays) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGenVertexArrays(n, arrays);
+			return;
+		}
+		commands.op(OP_GEN_VERTEX_ARRAYS_2).putInt(n).putObject(arrays);
+		flush();
+	}
+
+	@Override
+	public boolean glIsVertexArray (int array) {
+		if (Thread.currentThread() != recordingThread) return gl30.glIsVertexArray(array);
+		commands.op(OP_IS_VERTEX_ARRAY).putInt(array);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public void glBeginTransformFeedback (int primitiveMode) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glBeginTransformFeedback(primitiveMode);
+			return;
+		}
+		commands.op(OP_BEGIN_TRANSFORM_FEEDBACK).putInt(primitiveMode);
+	}
+
+	@Override
+	public void glEndTransformFeedback () {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glEndTransformFeedback();
+			return;
+		}
+		commands.op(OP_END_TRANSFORM_FEEDBACK);
+	}
+
+	@Override
+	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glBindBufferRange(target, index, buffer, offset, size);
+			return;
+		}
+		commands.op(OP_BIND_BUFFER_RANGE).putInt(target).putInt(index).putInt(buffer).putInt(offset).putInt(size);
+	}
+
+	@Override
+	public void glBindBufferBase (int target, int index, int buffer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glBindBufferBase(target, index, buffer);
+			return;
+		}
+		commands.op(OP_BIND_BUFFER_BASE).putInt(target).putInt(index).putInt(buffer);
+	}
+
+	@Override
+	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glTransformFeedbackVaryings(program, varyings, bufferMode);
+			return;
+		}
+		commands.op(OP_TRANSFORM_FEEDBACK_VARYINGS).putInt(program).putObject(varyings == null ? null : varyings.clone())
+			.putInt(bufferMode);
+	}
+
+	@Override
+	public void glVertexAttribIPointer (int index, int size, int type, int stride, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glVertexAttribIPointer(index, size, type, stride, offset);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB_I_POINTER).putInt(index).putInt(size).putInt(type).putInt(stride).putInt(offset);
+	}
+
+	@Override
+	public void glGetVertexAttribIiv (int index, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetVertexAttribIiv(index, pname, params);
+			return;
+		}
+		commands.op(OP_GET_VERTEX_ATTRIB_IIV).putInt(index).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetVertexAttribIuiv (int index, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetVertexAttribIuiv(index, pname, params);
+			return;
+		}
+		commands.op(OP_GET_VERTEX_ATTRIB_IUIV).putInt(index).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glVertexAttribI4i (int index, int x, int y, int z, int w) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glVertexAttribI4i(index, x, y, z, w);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB_I4I).putInt(index).putInt(x).putInt(y).putInt(z).putInt(w);
+	}
+
+	@Override
+	public void glVertexAttribI4ui (int index, int x, int y, int z, int w) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glVertexAttribI4ui(index, x, y, z, w);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB_I4UI).putInt(index).putInt(x).putInt(y).putInt(z).putInt(w);
+	}
+
+	@Override
+	public void glGetUniformuiv (int program, int location, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetUniformuiv(program, location, params);
+			return;
+		}
+		commands.op(OP_GET_UNIFORMUIV).putInt(program).putInt(location).putObject(params);
+		flush();
+	}
+
+	@Override
+	public int glGetFragDataLocation (int program, String name) {
+		if (Thread.currentThread() != recordingThread) return gl30.glGetFragDataLocation(program, name);
+		commands.op(OP_GET_FRAG_DATA_LOCATION).putInt(program).putObject(name);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glUniform1uiv (int location, int count, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniform1uiv(location, count, value);
+			return;
+		}
+		commands.op(OP_UNIFORM1UIV).putInt(location).putInt(count).putBuffer(value);
+	}
+
+	@Override
+	public void glUniform3uiv (int location, int count, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniform3uiv(location, count, value);
+			return;
+		}
+		commands.op(OP_UNIFORM3UIV).putInt(location).putInt(count).putBuffer(value);
+	}
+
+	@Override
+	public void glUniform4uiv (int location, int count, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniform4uiv(location, count, value);
+			return;
+		}
+		commands.op(OP_UNIFORM4UIV).putInt(location).putInt(count).putBuffer(value);
+	}
+
+	@Override
+	public void glClearBufferiv (int buffer, int drawbuffer, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glClearBufferiv(buffer, drawbuffer, value);
+			return;
+		}
+		commands.op(OP_CLEAR_BUFFERIV).putInt(buffer).putInt(drawbuffer).putBuffer(value);
+	}
+
+	@Override
+	public void glClearBufferuiv (int buffer, int drawbuffer, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glClearBufferuiv(buffer, drawbuffer, value);
+			return;
+		}
+		commands.op(OP_CLEAR_BUFFERUIV).putInt(buffer).putInt(drawbuffer).putBuffer(value);
+	}
+
+	@Override
+	public void glClearBufferfv (int buffer, int drawbuffer, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glClearBufferfv(buffer, drawbuffer, value);
+			return;
+		}
+		commands.op(OP_CLEAR_BUFFERFV).putInt(buffer).putInt(drawbuffer).putBuffer(value);
+	}
+
+	@Override
+	public void glClearBufferfi (int buffer, int drawbuffer, float depth, int stencil) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glClearBufferfi(buffer, drawbuffer, depth, stencil);
+			return;
+		}
+		commands.op(OP_CLEAR_BUFFERFI).putInt(buffer).putInt(drawbuffer).putFloat(depth).putInt(stencil);
+	}
+
+	@Override
+	public String glGetStringi (int name, int index) {
+		if (Thread.currentThread() != recordingThread) return gl30.glGetStringi(name, index);
+		commands.op(OP_GET_STRINGI).putInt(name).putInt(index);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public void glCopyBufferSubData (int readTarget, int writeTarget, int readOffset, int writeOffset, int size) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glCopyBufferSubData(readTarget, writeTarget, readOffset, writeOffset, size);
+			return;
+		}
+		commands.op(OP_COPY_BUFFER_SUB_DATA).putInt(readTarget).putInt(writeTarget).putInt(readOffset).putInt(writeOffset)
+			.putInt(size);
+	}
+
+	@Override
+	public void glGetUniformIndices (int program, String[] uniformNames, IntBuffer uniformIndices) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetUniformIndices(program, uniformNames, uniformIndices);
+			return;
+		}
+		commands.op(OP_GET_UNIFORM_INDICES).putInt(program).putObject(uniformNames).putObject(uniformIndices);
+		flush();
+	}
+
+	@Override
+	public void glGetActiveUniformsiv (int program, int uniformCount, IntBuffer uniformIndices, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetActiveUniformsiv(program, uniformCount, uniformIndices, pname, params);
+			return;
+		}
+		commands.op(OP_GET_ACTIVE_UNIFORMSIV).putInt(program).putInt(uniformCount).putObject(uniformIndices).putInt(pname)
+			.putObject(params);
+		flush();
+	}
+
+	@Override
+	public int glGetUniformBlockIndex (int program, String uniformBlockName) {
+		if (Thread.currentThread() != recordingThread) return gl30.glGetUniformBlockIndex(program, uniformBlockName);
+		commands.op(OP_GET_UNIFORM_BLOCK_INDEX).putInt(program).putObject(uniformBlockName);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glGetActiveUniformBlockiv (int program, int uniformBlockIndex, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetActiveUniformBlockiv(program, uniformBlockIndex, pname, params);
+			return;
+		}
+		commands.op(OP_GET_ACTIVE_UNIFORM_BLOCKIV).putInt(program).putInt(uniformBlockIndex).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetActiveUniformBlockName (int program, int uniformBlockIndex, Buffer length, Buffer uniformBlockName) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetActiveUniformBlockName(program, uniformBlockIndex, length, uniformBlockName);
+			return;
+		}
+		commands.op(OP_GET_ACTIVE_UNIFORM_BLOCK_NAME).putInt(program).putInt(uniformBlockIndex).putObject(length)
+			.putObject(uniformBlockName);
+		flush();
+	}
+
+	@Override
+	public String glGetActiveUniformBlockName (int program, int uniformBlockIndex) {
+		if (Thread.currentThread() != recordingThread) return gl30.glGetActiveUniformBlockName(program, uniformBlockIndex);
+		commands.op(OP_GET_ACTIVE_UNIFORM_BLOCK_NAME_2).putInt(program).putInt(uniformBlockIndex);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public void glUniformBlockBinding (int program, int uniformBlockIndex, int uniformBlockBinding) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glUniformBlockBinding(program, uniformBlockIndex, uniformBlockBinding);
+			return;
+		}
+		commands.op(OP_UNIFORM_BLOCK_BINDING).putInt(program).putInt(uniformBlockIndex).putInt(uniformBlockBinding);
+	}
+
+	@Override
+	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
+			return;
+		}
+		commands.op(OP_DRAW_ARRAYS_INSTANCED).putInt(mode).putInt(first).putInt(count).putInt(instanceCount);
+	}
+
+	@Override
+	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+			return;
+		}
+		commands.op(OP_DRAW_ELEMENTS_INSTANCED).putInt(mode).putInt(count).putInt(type).putInt(indicesOffset)
+			.putInt(instanceCount);
+	}
+
+	@Override
+	public void glGetInteger64v (int pname, LongBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetInteger64v(pname, params);
+			return;
+		}
+		commands.op(OP_GET_INTEGER64V).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetBufferParameteri64v (int target, int pname, LongBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetBufferParameteri64v(target, pname, params);
+			return;
+		}
+		commands.op(OP_GET_BUFFER_PARAMETERI64V).putInt(target).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGenSamplers (int count, int[] samplers, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGenSamplers(count, samplers, offset);
+			return;
+		}
+		commands.op(OP_GEN_SAMPLERS).putInt(count).putObject(samplers).putInt(offset);
+		flush();
+	}
+
+	@Override
+	public void glGenSamplers (int count, IntBuffer samplers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGenSamplers(count, samplers);
+			return;
+		}
+		commands.op(OP_GEN_SAMPLERS_2).putInt(count).putObject(samplers);
+		flush();
+	}
+
+	@Override
+	public void glDeleteSamplers (int count, int[] samplers, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDeleteSamplers(count, samplers, offset);
+			return;
+		}
+		commands.op(OP_DELETE_SAMPLERS).putInt(count).putArray(samplers, offset, count);
+	}
+
+	@Override
+	public void glDeleteSamplers (int count, IntBuffer samplers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDeleteSamplers(count, samplers);
+			return;
+		}
+		commands.op(OP_DELETE_SAMPLERS_2).putInt(count).putBuffer(samplers);
+	}
+
+	@Override
+	public boolean glIsSampler (int sampler) {
+		if (Thread.currentThread() != recordingThread) return gl30.glIsSampler(sampler);
+		commands.op(OP_IS_SAMPLER).putInt(sampler);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public void glBindSampler (int unit, int sampler) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glBindSampler(unit, sampler);
+			return;
+		}
+		commands.op(OP_BIND_SAMPLER).putInt(unit).putInt(sampler);
+	}
+
+	@Override
+	public void glSamplerParameteri (int sampler, int pname, int param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glSamplerParameteri(sampler, pname, param);
+			return;
+		}
+		commands.op(OP_SAMPLER_PARAMETERI).putInt(sampler).putInt(pname).putInt(param);
+	}
+
+	@Override
+	public void glSamplerParameteriv (int sampler, int pname, IntBuffer param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glSamplerParameteriv(sampler, pname, param);
+			return;
+		}
+		commands.op(OP_SAMPLER_PARAMETERIV).putInt(sampler).putInt(pname).putBuffer(param);
+	}
+
+	@Override
+	public void glSamplerParameterf (int sampler, int pname, float param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glSamplerParameterf(sampler, pname, param);
+			return;
+		}
+		commands.op(OP_SAMPLER_PARAMETERF).putInt(sampler).putInt(pname).putFloat(param);
+	}
+
+	@Override
+	public void glSamplerParameterfv (int sampler, int pname, FloatBuffer param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glSamplerParameterfv(sampler, pname, param);
+			return;
+		}
+		commands.op(OP_SAMPLER_PARAMETERFV).putInt(sampler).putInt(pname).putBuffer(param);
+	}
+
+	@Override
+	public void glGetSamplerParameteriv (int sampler, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetSamplerParameteriv(sampler, pname, params);
+			return;
+		}
+		commands.op(OP_GET_SAMPLER_PARAMETERIV).putInt(sampler).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetSamplerParameterfv (int sampler, int pname, FloatBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGetSamplerParameterfv(sampler, pname, params);
+			return;
+		}
+		commands.op(OP_GET_SAMPLER_PARAMETERFV).putInt(sampler).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glVertexAttribDivisor (int index, int divisor) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glVertexAttribDivisor(index, divisor);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB_DIVISOR).putInt(index).putInt(divisor);
+	}
+
+	@Override
+	public void glBindTransformFeedback (int target, int id) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glBindTransformFeedback(target, id);
+			return;
+		}
+		commands.op(OP_BIND_TRANSFORM_FEEDBACK).putInt(target).putInt(id);
+	}
+
+	@Override
+	public void glDeleteTransformFeedbacks (int n, int[] ids, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDeleteTransformFeedbacks(n, ids, offset);
+			return;
+		}
+		commands.op(OP_DELETE_TRANSFORM_FEEDBACKS).putInt(n).putArray(ids, offset, n);
+	}
+
+	@Override
+	public void glDeleteTransformFeedbacks (int n, IntBuffer ids) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glDeleteTransformFeedbacks(n, ids);
+			return;
+		}
+		commands.op(OP_DELETE_TRANSFORM_FEEDBACKS_2).putInt(n).putBuffer(ids);
+	}
+
+	@Override
+	public void glGenTransformFeedbacks (int n, int[] ids, int offset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGenTransformFeedbacks(n, ids, offset);
+			return;
+		}
+		commands.op(OP_GEN_TRANSFORM_FEEDBACKS).putInt(n).putObject(ids).putInt(offset);
+		flush();
+	}
+
+	@Override
+	public void glGenTransformFeedbacks (int n, IntBuffer ids) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glGenTransformFeedbacks(n, ids);
+			return;
+		}
+		commands.op(OP_GEN_TRANSFORM_FEEDBACKS_2).putInt(n).putObject(ids);
+		flush();
+	}
+
+	@Override
+	public boolean glIsTransformFeedback (int id) {
+		if (Thread.currentThread() != recordingThread) return gl30.glIsTransformFeedback(id);
+		commands.op(OP_IS_TRANSFORM_FEEDBACK).putInt(id);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public void glPauseTransformFeedback () {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glPauseTransformFeedback();
+			return;
+		}
+		commands.op(OP_PAUSE_TRANSFORM_FEEDBACK);
+	}
+
+	@Override
+	public void glResumeTransformFeedback () {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glResumeTransformFeedback();
+			return;
+		}
+		commands.op(OP_RESUME_TRANSFORM_FEEDBACK);
+	}
+
+	@Override
+	public void glProgramParameteri (int program, int pname, int value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glProgramParameteri(program, pname, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_PARAMETERI).putInt(program).putInt(pname).putInt(value);
+	}
+
+	@Override
+	public void glInvalidateFramebuffer (int target, int numAttachments, IntBuffer attachments) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glInvalidateFramebuffer(target, numAttachments, attachments);
+			return;
+		}
+		commands.op(OP_INVALIDATE_FRAMEBUFFER).putInt(target).putInt(numAttachments).putBuffer(attachments);
+	}
+
+	@Override
+	public void glInvalidateSubFramebuffer (int target, int numAttachments, IntBuffer attachments, int x, int y, int width, int height) {
+		if (Thread.currentThread() != recordingThread) {
+			gl30.glInvalidateSubFramebuffer(target, numAttachments, attachments, x, y, width, height);
+			return;
+		}
+		commands.op(OP_INVALIDATE_SUB_FRAMEBUFFER).putInt(target).putInt(numAttachments).putBuffer(attachments).putInt(x)
+			.putInt(y).putInt(width).putInt(height);
+	}
+
+	@Override
+	public void glDispatchCompute (int num_groups_x, int num_groups_y, int num_groups_z) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glDispatchCompute(num_groups_x, num_groups_y, num_groups_z);
+			return;
+		}
+		commands.op(OP_DISPATCH_COMPUTE).putInt(num_groups_x).putInt(num_groups_y).putInt(num_groups_z);
+	}
+
+	@Override
+	public void glDispatchComputeIndirect (long indirect) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glDispatchComputeIndirect(indirect);
+			return;
+		}
+		commands.op(OP_DISPATCH_COMPUTE_INDIRECT).putLong(indirect);
+	}
+
+	@Override
+	public void glDrawArraysIndirect (int mode, long indirect) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glDrawArraysIndirect(mode, indirect);
+			return;
+		}
+		commands.op(OP_DRAW_ARRAYS_INDIRECT).putInt(mode).putLong(indirect);
+	}
+
+	@Override
+	public void glDrawElementsIndirect (int mode, int type, long indirect) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glDrawElementsIndirect(mode, type, indirect);
+			return;
+		}
+		commands.op(OP_DRAW_ELEMENTS_INDIRECT).putInt(mode).putInt(type).putLong(indirect);
+	}
+
+	@Override
+	public void glFramebufferParameteri (int target, int pname, int param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glFramebufferParameteri(target, pname, param);
+			return;
+		}
+		commands.op(OP_FRAMEBUFFER_PARAMETERI).putInt(target).putInt(pname).putInt(param);
+	}
+
+	@Override
+	public void glGetFramebufferParameteriv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glGetFramebufferParameteriv(target, pname, params);
+			return;
+		}
+		commands.op(OP_GET_FRAMEBUFFER_PARAMETERIV).putInt(target).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetProgramInterfaceiv (int program, int programInterface, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glGetProgramInterfaceiv(program, programInterface, pname, params);
+			return;
+		}
+		commands.op(OP_GET_PROGRAM_INTERFACEIV).putInt(program).putInt(programInterface).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public int glGetProgramResourceIndex (int program, int programInterface, String name) {
+		if (Thread.currentThread() != recordingThread) return gl31.glGetProgramResourceIndex(program, programInterface, name);
+		commands.op(OP_GET_PROGRAM_RESOURCE_INDEX).putInt(program).putInt(programInterface).putObject(name);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public String glGetProgramResourceName (int program, int programInterface, int index) {
+		if (Thread.currentThread() != recordingThread) return gl31.glGetProgramResourceName(program, programInterface, index);
+		commands.op(OP_GET_PROGRAM_RESOURCE_NAME).putInt(program).putInt(programInterface).putInt(index);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public void glGetProgramResourceiv (int program, int programInterface, int index, IntBuffer props, IntBuffer length, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glGetProgramResourceiv(program, programInterface, index, props, length, params);
+			return;
+		}
+		commands.op(OP_GET_PROGRAM_RESOURCEIV).putInt(program).putInt(programInterface).putInt(index).putObject(props)
+			.putObject(length).putObject(params);
+		flush();
+	}
+
+	@Override
+	public int glGetProgramResourceLocation (int program, int programInterface, String name) {
+		if (Thread.currentThread() != recordingThread) return gl31.glGetProgramResourceLocation(program, programInterface, name);
+		commands.op(OP_GET_PROGRAM_RESOURCE_LOCATION).putInt(program).putInt(programInterface).putObject(name);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glUseProgramStages (int pipeline, int stages, int program) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glUseProgramStages(pipeline, stages, program);
+			return;
+		}
+		commands.op(OP_USE_PROGRAM_STAGES).putInt(pipeline).putInt(stages).putInt(program);
+	}
+
+	@Override
+	public void glActiveShaderProgram (int pipeline, int program) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glActiveShaderProgram(pipeline, program);
+			return;
+		}
+		commands.op(OP_ACTIVE_SHADER_PROGRAM).putInt(pipeline).putInt(program);
+	}
+
+	@Override
+	public int glCreateShaderProgramv (int type, String[] strings) {
+		if (Thread.currentThread() != recordingThread) return gl31.glCreateShaderProgramv(type, strings);
+		commands.op(OP_CREATE_SHADER_PROGRAMV).putInt(type).putObject(strings);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glBindProgramPipeline (int pipeline) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glBindProgramPipeline(pipeline);
+			return;
+		}
+		commands.op(OP_BIND_PROGRAM_PIPELINE).putInt(pipeline);
+	}
+
+	@Override
+	public void glDeleteProgramPipelines (int count, IntBuffer pipelines) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glDeleteProgramPipelines(count, pipelines);
+			return;
+		}
+		commands.op(OP_DELETE_PROGRAM_PIPELINES).putInt(count).putBuffer(pipelines);
+	}
+
+	@Override
+	public void glGenProgramPipelines (int count, IntBuffer pipelines) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glGenProgramPipelines(count, pipelines);
+			return;
+		}
+		commands.op(OP_GEN_PROGRAM_PIPELINES).putInt(count).putObject(pipelines);
+		flush();
+	}
+
+	@Override
+	public boolean glIsProgramPipeline (int pipeline) {
+		if (Thread.currentThread() != recordingThread) return gl31.glIsProgramPipeline(pipeline);
+		commands.op(OP_IS_PROGRAM_PIPELINE).putInt(pipeline);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public void glGetProgramPipelineiv (int pipeline, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glGetProgramPipelineiv(pipeline, pname, params);
+			return;
+		}
+		commands.op(OP_GET_PROGRAM_PIPELINEIV).putInt(pipeline).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glProgramUniform1i (int program, int location, int v0) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform1i(program, location, v0);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM1I).putInt(program).putInt(location).putInt(v0);
+	}
+
+	@Override
+	public void glProgramUniform2i (int program, int location, int v0, int v1) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform2i(program, location, v0, v1);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM2I).putInt(program).putInt(location).putInt(v0).putInt(v1);
+	}
+
+	@Override
+	public void glProgramUniform3i (int program, int location, int v0, int v1, int v2) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform3i(program, location, v0, v1, v2);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM3I).putInt(program).putInt(location).putInt(v0).putInt(v1).putInt(v2);
+	}
+
+	@Override
+	public void glProgramUniform4i (int program, int location, int v0, int v1, int v2, int v3) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform4i(program, location, v0, v1, v2, v3);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM4I).putInt(program).putInt(location).putInt(v0).putInt(v1).putInt(v2).putInt(v3);
+	}
+
+	@Override
+	public void glProgramUniform1ui (int program, int location, int v0) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform1ui(program, location, v0);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM1UI).putInt(program).putInt(location).putInt(v0);
+	}
+
+	@Override
+	public void glProgramUniform2ui (int program, int location, int v0, int v1) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform2ui(program, location, v0, v1);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM2UI).putInt(program).putInt(location).putInt(v0).putInt(v1);
+	}
+
+	@Override
+	public void glProgramUniform3ui (int program, int location, int v0, int v1, int v2) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform3ui(program, location, v0, v1, v2);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM3UI).putInt(program).putInt(location).putInt(v0).putInt(v1).putInt(v2);
+	}
+
+	@Override
+	public void glProgramUniform4ui (int program, int location, int v0, int v1, int v2, int v3) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform4ui(program, location, v0, v1, v2, v3);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM4UI).putInt(program).putInt(location).putInt(v0).putInt(v1).putInt(v2).putInt(v3);
+	}
+
+	@Override
+	public void glProgramUniform1f (int program, int location, float v0) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform1f(program, location, v0);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM1F).putInt(program).putInt(location).putFloat(v0);
+	}
+
+	@Override
+	public void glProgramUniform2f (int program, int location, float v0, float v1) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform2f(program, location, v0, v1);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM2F).putInt(program).putInt(location).putFloat(v0).putFloat(v1);
+	}
+
+	@Override
+	public void glProgramUniform3f (int program, int location, float v0, float v1, float v2) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform3f(program, location, v0, v1, v2);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM3F).putInt(program).putInt(location).putFloat(v0).putFloat(v1).putFloat(v2);
+	}
+
+	@Override
+	public void glProgramUniform4f (int program, int location, float v0, float v1, float v2, float v3) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform4f(program, location, v0, v1, v2, v3);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM4F).putInt(program).putInt(location).putFloat(v0).putFloat(v1).putFloat(v2).putFloat(v3);
+	}
+
+	@Override
+	public void glProgramUniform1iv (int program, int location, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform1iv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM1IV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform2iv (int program, int location, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform2iv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM2IV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform3iv (int program, int location, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform3iv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM3IV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform4iv (int program, int location, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform4iv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM4IV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform1uiv (int program, int location, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform1uiv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM1UIV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform2uiv (int program, int location, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform2uiv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM2UIV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform3uiv (int program, int location, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform3uiv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM3UIV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform4uiv (int program, int location, IntBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform4uiv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM4UIV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform1fv (int program, int location, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform1fv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM1FV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform2fv (int program, int location, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform2fv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM2FV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform3fv (int program, int location, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform3fv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM3FV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniform4fv (int program, int location, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniform4fv(program, location, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM4FV).putInt(program).putInt(location).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniformMatrix2fv(program, location, transpose, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM_MATRIX2FV).putInt(program).putInt(location).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniformMatrix3fv(program, location, transpose, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM_MATRIX3FV).putInt(program).putInt(location).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniformMatrix4fv(program, location, transpose, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM_MATRIX4FV).putInt(program).putInt(location).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniformMatrix2x3fv(program, location, transpose, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM_MATRIX2X3FV).putInt(program).putInt(location).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniformMatrix3x2fv(program, location, transpose, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM_MATRIX3X2FV).putInt(program).putInt(location).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniformMatrix2x4fv(program, location, transpose, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM_MATRIX2X4FV).putInt(program).putInt(location).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniformMatrix4x2fv(program, location, transpose, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM_MATRIX4X2FV).putInt(program).putInt(location).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniformMatrix3x4fv(program, location, transpose, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM_MATRIX3X4FV).putInt(program).putInt(location).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glProgramUniformMatrix4x3fv(program, location, transpose, value);
+			return;
+		}
+		commands.op(OP_PROGRAM_UNIFORM_MATRIX4X3FV).putInt(program).putInt(location).putBoolean(transpose).putBuffer(value);
+	}
+
+	@Override
+	public void glValidateProgramPipeline (int pipeline) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glValidateProgramPipeline(pipeline);
+			return;
+		}
+		commands.op(OP_VALIDATE_PROGRAM_PIPELINE).putInt(pipeline);
+	}
+
+	@Override
+	public String glGetProgramPipelineInfoLog (int program) {
+		if (Thread.currentThread() != recordingThread) return gl31.glGetProgramPipelineInfoLog(program);
+		commands.op(OP_GET_PROGRAM_PIPELINE_INFO_LOG).putInt(program);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public void glBindImageTexture (int unit, int texture, int level, boolean layered, int layer, int access, int format) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glBindImageTexture(unit, texture, level, layered, layer, access, format);
+			return;
+		}
+		commands.op(OP_BIND_IMAGE_TEXTURE).putInt(unit).putInt(texture).putInt(level).putBoolean(layered).putInt(layer)
+			.putInt(access).putInt(format);
+	}
+
+	@Override
+	public void glGetBooleani_v (int target, int index, IntBuffer data) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glGetBooleani_v(target, index, data);
+			return;
+		}
+		commands.op(OP_GET_BOOLEANI_V).putInt(target).putInt(index).putObject(data);
+		flush();
+	}
+
+	@Override
+	public void glMemoryBarrier (int barriers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glMemoryBarrier(barriers);
+			return;
+		}
+		commands.op(OP_MEMORY_BARRIER).putInt(barriers);
+	}
+
+	@Override
+	public void glMemoryBarrierByRegion (int barriers) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glMemoryBarrierByRegion(barriers);
+			return;
+		}
+		commands.op(OP_MEMORY_BARRIER_BY_REGION).putInt(barriers);
+	}
+
+	@Override
+	public void glTexStorage2DMultisample (int target, int samples, int internalformat, int width, int height, boolean fixedsamplelocations) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glTexStorage2DMultisample(target, samples, internalformat, width, height, fixedsamplelocations);
+			return;
+		}
+		commands.op(OP_TEX_STORAGE2_D_MULTISAMPLE).putInt(target).putInt(samples).putInt(internalformat).putInt(width)
+			.putInt(height).putBoolean(fixedsamplelocations);
+	}
+
+	@Override
+	public void glGetMultisamplefv (int pname, int index, FloatBuffer val) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glGetMultisamplefv(pname, index, val);
+			return;
+		}
+		commands.op(OP_GET_MULTISAMPLEFV).putInt(pname).putInt(index).putObject(val);
+		flush();
+	}
+
+	@Override
+	public void glSampleMaski (int maskNumber, int mask) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glSampleMaski(maskNumber, mask);
+			return;
+		}
+		commands.op(OP_SAMPLE_MASKI).putInt(maskNumber).putInt(mask);
+	}
+
+	@Override
+	public void glGetTexLevelParameteriv (int target, int level, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glGetTexLevelParameteriv(target, level, pname, params);
+			return;
+		}
+		commands.op(OP_GET_TEX_LEVEL_PARAMETERIV).putInt(target).putInt(level).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetTexLevelParameterfv (int target, int level, int pname, FloatBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glGetTexLevelParameterfv(target, level, pname, params);
+			return;
+		}
+		commands.op(OP_GET_TEX_LEVEL_PARAMETERFV).putInt(target).putInt(level).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glBindVertexBuffer (int bindingindex, int buffer, long offset, int stride) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glBindVertexBuffer(bindingindex, buffer, offset, stride);
+			return;
+		}
+		commands.op(OP_BIND_VERTEX_BUFFER).putInt(bindingindex).putInt(buffer).putLong(offset).putInt(stride);
+	}
+
+	@Override
+	public void glVertexAttribFormat (int attribindex, int size, int type, boolean normalized, int relativeoffset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glVertexAttribFormat(attribindex, size, type, normalized, relativeoffset);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB_FORMAT).putInt(attribindex).putInt(size).putInt(type).putBoolean(normalized)
+			.putInt(relativeoffset);
+	}
+
+	@Override
+	public void glVertexAttribIFormat (int attribindex, int size, int type, int relativeoffset) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glVertexAttribIFormat(attribindex, size, type, relativeoffset);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB_I_FORMAT).putInt(attribindex).putInt(size).putInt(type).putInt(relativeoffset);
+	}
+
+	@Override
+	public void glVertexAttribBinding (int attribindex, int bindingindex) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glVertexAttribBinding(attribindex, bindingindex);
+			return;
+		}
+		commands.op(OP_VERTEX_ATTRIB_BINDING).putInt(attribindex).putInt(bindingindex);
+	}
+
+	@Override
+	public void glVertexBindingDivisor (int bindingindex, int divisor) {
+		if (Thread.currentThread() != recordingThread) {
+			gl31.glVertexBindingDivisor(bindingindex, divisor);
+			return;
+		}
+		commands.op(OP_VERTEX_BINDING_DIVISOR).putInt(bindingindex).putInt(divisor);
+	}
+
+	@Override
+	public void glBlendBarrier () {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glBlendBarrier();
+			return;
+		}
+		commands.op(OP_BLEND_BARRIER);
+	}
+
+	@Override
+	public void glCopyImageSubData (int srcName, int srcTarget, int srcLevel, int srcX, int srcY, int srcZ, int dstName, int dstTarget, int dstLevel, int dstX, int dstY, int dstZ, int srcWidth, int srcHeight, int srcDepth) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glCopyImageSubData(srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, srcWidth, srcHeight, srcDepth);
+			return;
+		}
+		commands.op(OP_COPY_IMAGE_SUB_DATA).putInt(srcName).putInt(srcTarget).putInt(srcLevel).putInt(srcX).putInt(srcY)
+			.putInt(srcZ).putInt(dstName).putInt(dstTarget).putInt(dstLevel).putInt(dstX).putInt(dstY).putInt(dstZ)
+			.putInt(srcWidth).putInt(srcHeight).putInt(srcDepth);
+	}
+
+	@Override
+	public void glDebugMessageControl (int source, int type, int severity, IntBuffer ids, boolean enabled) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glDebugMessageControl(source, type, severity, ids, enabled);
+			return;
+		}
+		commands.op(OP_DEBUG_MESSAGE_CONTROL).putInt(source).putInt(type).putInt(severity).putBuffer(ids).putBoolean(enabled);
+	}
+
+	@Override
+	public void glDebugMessageInsert (int source, int type, int id, int severity, String buf) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glDebugMessageInsert(source, type, id, severity, buf);
+			return;
+		}
+		commands.op(OP_DEBUG_MESSAGE_INSERT).putInt(source).putInt(type).putInt(id).putInt(severity).putObject(buf);
+	}
+
+	@Override
+	public void glDebugMessageCallback (DebugProc callback) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glDebugMessageCallback(callback);
+			return;
+		}
+		commands.op(OP_DEBUG_MESSAGE_CALLBACK).putObject(callback);
+	}
+
+	@Override
+	public int glGetDebugMessageLog (int count, IntBuffer sources, IntBuffer types, IntBuffer ids, IntBuffer severities, IntBuffer lengths, ByteBuffer messageLog) {
+		if (Thread.currentThread() != recordingThread) return gl32.glGetDebugMessageLog(count, sources, types, ids, severities, lengths, messageLog);
+		commands.op(OP_GET_DEBUG_MESSAGE_LOG).putInt(count).putObject(sources).putObject(types).putObject(ids)
+			.putObject(severities).putObject(lengths).putObject(messageLog);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glPushDebugGroup (int source, int id, String message) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glPushDebugGroup(source, id, message);
+			return;
+		}
+		commands.op(OP_PUSH_DEBUG_GROUP).putInt(source).putInt(id).putObject(message);
+	}
+
+	@Override
+	public void glPopDebugGroup () {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glPopDebugGroup();
+			return;
+		}
+		commands.op(OP_POP_DEBUG_GROUP);
+	}
+
+	@Override
+	public void glObjectLabel (int identifier, int name, String label) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glObjectLabel(identifier, name, label);
+			return;
+		}
+		commands.op(OP_OBJECT_LABEL).putInt(identifier).putInt(name).putObject(label);
+	}
+
+	@Override
+	public String glGetObjectLabel (int identifier, int name) {
+		if (Thread.currentThread() != recordingThread) return gl32.glGetObjectLabel(identifier, name);
+		commands.op(OP_GET_OBJECT_LABEL).putInt(identifier).putInt(name);
+		flush();
+		return (String)commands.objectResult;
+	}
+
+	@Override
+	public long glGetPointerv (int pname) {
+		if (Thread.currentThread() != recordingThread) return gl32.glGetPointerv(pname);
+		commands.op(OP_GET_POINTERV).putInt(pname);
+		flush();
+		return commands.longResult;
+	}
+
+	@Override
+	public void glEnablei (int target, int index) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glEnablei(target, index);
+			return;
+		}
+		commands.op(OP_ENABLEI).putInt(target).putInt(index);
+	}
+
+	@Override
+	public void glDisablei (int target, int index) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glDisablei(target, index);
+			return;
+		}
+		commands.op(OP_DISABLEI).putInt(target).putInt(index);
+	}
+
+	@Override
+	public void glBlendEquationi (int buf, int mode) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glBlendEquationi(buf, mode);
+			return;
+		}
+		commands.op(OP_BLEND_EQUATIONI).putInt(buf).putInt(mode);
+	}
+
+	@Override
+	public void glBlendEquationSeparatei (int buf, int modeRGB, int modeAlpha) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glBlendEquationSeparatei(buf, modeRGB, modeAlpha);
+			return;
+		}
+		commands.op(OP_BLEND_EQUATION_SEPARATEI).putInt(buf).putInt(modeRGB).putInt(modeAlpha);
+	}
+
+	@Override
+	public void glBlendFunci (int buf, int src, int dst) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glBlendFunci(buf, src, dst);
+			return;
+		}
+		commands.op(OP_BLEND_FUNCI).putInt(buf).putInt(src).putInt(dst);
+	}
+
+	@Override
+	public void glBlendFuncSeparatei (int buf, int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glBlendFuncSeparatei(buf, srcRGB, dstRGB, srcAlpha, dstAlpha);
+			return;
+		}
+		commands.op(OP_BLEND_FUNC_SEPARATEI).putInt(buf).putInt(srcRGB).putInt(dstRGB).putInt(srcAlpha).putInt(dstAlpha);
+	}
+
+	@Override
+	public void glColorMaski (int index, boolean r, boolean g, boolean b, boolean a) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glColorMaski(index, r, g, b, a);
+			return;
+		}
+		commands.op(OP_COLOR_MASKI).putInt(index).putBoolean(r).putBoolean(g).putBoolean(b).putBoolean(a);
+	}
+
+	@Override
+	public boolean glIsEnabledi (int target, int index) {
+		if (Thread.currentThread() != recordingThread) return gl32.glIsEnabledi(target, index);
+		commands.op(OP_IS_ENABLEDI).putInt(target).putInt(index);
+		flush();
+		return commands.booleanResult;
+	}
+
+	@Override
+	public void glDrawElementsBaseVertex (int mode, int count, int type, Buffer indices, int basevertex) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glDrawElementsBaseVertex(mode, count, type, indices, basevertex);
+			return;
+		}
+		commands.op(OP_DRAW_ELEMENTS_BASE_VERTEX).putInt(mode).putInt(count).putInt(type).putBuffer(indices).putInt(basevertex);
+	}
+
+	@Override
+	public void glDrawRangeElementsBaseVertex (int mode, int start, int end, int count, int type, Buffer indices, int basevertex) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, basevertex);
+			return;
+		}
+		commands.op(OP_DRAW_RANGE_ELEMENTS_BASE_VERTEX).putInt(mode).putInt(start).putInt(end).putInt(count).putInt(type)
+			.putBuffer(indices).putInt(basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, Buffer indices, int instanceCount, int basevertex) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indices, instanceCount, basevertex);
+			return;
+		}
+		commands.op(OP_DRAW_ELEMENTS_INSTANCED_BASE_VERTEX).putInt(mode).putInt(count).putInt(type).putBuffer(indices)
+			.putInt(instanceCount).putInt(basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, int indicesOffset, int instanceCount, int basevertex) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indicesOffset, instanceCount, basevertex);
+			return;
+		}
+		commands.op(OP_DRAW_ELEMENTS_INSTANCED_BASE_VERTEX_2).putInt(mode).putInt(count).putInt(type).putInt(indicesOffset)
+			.putInt(instanceCount).putInt(basevertex);
+	}
+
+	@Override
+	public void glFramebufferTexture (int target, int attachment, int texture, int level) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glFramebufferTexture(target, attachment, texture, level);
+			return;
+		}
+		commands.op(OP_FRAMEBUFFER_TEXTURE).putInt(target).putInt(attachment).putInt(texture).putInt(level);
+	}
+
+	@Override
+	public int glGetGraphicsResetStatus () {
+		if (Thread.currentThread() != recordingThread) return gl32.glGetGraphicsResetStatus();
+		commands.op(OP_GET_GRAPHICS_RESET_STATUS);
+		flush();
+		return commands.intResult;
+	}
+
+	@Override
+	public void glReadnPixels (int x, int y, int width, int height, int format, int type, int bufSize, Buffer data) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glReadnPixels(x, y, width, height, format, type, bufSize, data);
+			return;
+		}
+		commands.op(OP_READN_PIXELS).putInt(x).putInt(y).putInt(width).putInt(height).putInt(format).putInt(type)
+			.putInt(bufSize).putObject(data);
+		flush();
+	}
+
+	@Override
+	public void glGetnUniformfv (int program, int location, FloatBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glGetnUniformfv(program, location, params);
+			return;
+		}
+		commands.op(OP_GETN_UNIFORMFV).putInt(program).putInt(location).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetnUniformiv (int program, int location, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glGetnUniformiv(program, location, params);
+			return;
+		}
+		commands.op(OP_GETN_UNIFORMIV).putInt(program).putInt(location).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetnUniformuiv (int program, int location, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glGetnUniformuiv(program, location, params);
+			return;
+		}
+		commands.op(OP_GETN_UNIFORMUIV).putInt(program).putInt(location).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glMinSampleShading (float value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glMinSampleShading(value);
+			return;
+		}
+		commands.op(OP_MIN_SAMPLE_SHADING).putFloat(value);
+	}
+
+	@Override
+	public void glPatchParameteri (int pname, int value) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glPatchParameteri(pname, value);
+			return;
+		}
+		commands.op(OP_PATCH_PARAMETERI).putInt(pname).putInt(value);
+	}
+
+	@Override
+	public void glTexParameterIiv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glTexParameterIiv(target, pname, params);
+			return;
+		}
+		commands.op(OP_TEX_PARAMETER_IIV).putInt(target).putInt(pname).putBuffer(params);
+	}
+
+	@Override
+	public void glTexParameterIuiv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glTexParameterIuiv(target, pname, params);
+			return;
+		}
+		commands.op(OP_TEX_PARAMETER_IUIV).putInt(target).putInt(pname).putBuffer(params);
+	}
+
+	@Override
+	public void glGetTexParameterIiv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glGetTexParameterIiv(target, pname, params);
+			return;
+		}
+		commands.op(OP_GET_TEX_PARAMETER_IIV).putInt(target).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetTexParameterIuiv (int target, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glGetTexParameterIuiv(target, pname, params);
+			return;
+		}
+		commands.op(OP_GET_TEX_PARAMETER_IUIV).putInt(target).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glSamplerParameterIiv (int sampler, int pname, IntBuffer param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glSamplerParameterIiv(sampler, pname, param);
+			return;
+		}
+		commands.op(OP_SAMPLER_PARAMETER_IIV).putInt(sampler).putInt(pname).putBuffer(param);
+	}
+
+	@Override
+	public void glSamplerParameterIuiv (int sampler, int pname, IntBuffer param) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glSamplerParameterIuiv(sampler, pname, param);
+			return;
+		}
+		commands.op(OP_SAMPLER_PARAMETER_IUIV).putInt(sampler).putInt(pname).putBuffer(param);
+	}
+
+	@Override
+	public void glGetSamplerParameterIiv (int sampler, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glGetSamplerParameterIiv(sampler, pname, params);
+			return;
+		}
+		commands.op(OP_GET_SAMPLER_PARAMETER_IIV).putInt(sampler).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glGetSamplerParameterIuiv (int sampler, int pname, IntBuffer params) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glGetSamplerParameterIuiv(sampler, pname, params);
+			return;
+		}
+		commands.op(OP_GET_SAMPLER_PARAMETER_IUIV).putInt(sampler).putInt(pname).putObject(params);
+		flush();
+	}
+
+	@Override
+	public void glTexBuffer (int target, int internalformat, int buffer) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glTexBuffer(target, internalformat, buffer);
+			return;
+		}
+		commands.op(OP_TEX_BUFFER).putInt(target).putInt(internalformat).putInt(buffer);
+	}
+
+	@Override
+	public void glTexBufferRange (int target, int internalformat, int buffer, int offset, int size) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glTexBufferRange(target, internalformat, buffer, offset, size);
+			return;
+		}
+		commands.op(OP_TEX_BUFFER_RANGE).putInt(target).putInt(internalformat).putInt(buffer).putInt(offset).putInt(size);
+	}
+
+	@Override
+	public void glTexStorage3DMultisample (int target, int samples, int internalformat, int width, int height, int depth, boolean fixedsamplelocations) {
+		if (Thread.currentThread() != recordingThread) {
+			gl32.glTexStorage3DMultisample(target, samples, internalformat, width, height, depth, fixedsamplelocations);
+			return;
+		}
+		commands.op(OP_TEX_STORAGE3_D_MULTISAMPLE).putInt(target).putInt(samples).putInt(internalformat).putInt(width)
+			.putInt(height).putInt(depth).putBoolean(fixedsamplelocations);
+	}
+}
@@ -0,0 +1,629 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.GL31;
+import com.badlogic.gdx.graphics.GL32;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+
+/** Keeps a registry of the live textures, buffers and renderbuffers and estimates the video memory each of them takes from the
+ * arguments of the calls defining its storage: glTexImage2D/3D, glCompressedTexImage2D, glCopyTexImage2D, glGenerateMipmap,
+ * glTexStorage*Multisample, glBufferData and glRenderbufferStorage(Multisample). The estimates ignore the padding and
+ * compression the driver may apply, they're meant for budgets and trends rather than exact figures.
+ * <p>
+ * With stack traces enabled each object remembers where it was generated, so the objects still alive after e.g. a level
+ * transition, see {@link #mark()} and {@link #getLive(int, Array)}, point at the code which leaked them. Objects generated and
+ * filled through anything but this instance, e.g. the backend instance, aren't tracked. Enabled through
+ * {@link JoglApplicationConfiguration#trackGLResources}. */
+public class JoglResourceTrackingGL extends JoglGLDelegate {
+	static final String TAG = "JoglResourceTrackingGL";
+	public static final int TEXTURE = 0, BUFFER = 1, RENDERBUFFER = 2;
+	private static final String[] TYPE_NAMES = {"texture", "buffer", "renderbuffer"};
+	/** the levels tracked per face of a texture, enough for 32768 texels **/
+	private static final int MAX_LEVELS = 16;
+
+	/** A live GL object. */
+	public static class Resource {
+		final int type;
+		final int name;
+		/** the order the objects were registered in, see {@link JoglResourceTrackingGL#mark()} **/
+		final int serial;
+		final Throwable trace;
+		long bytes;
+		/** the bytes of each level of each face of a texture, null until its storage is defined **/
+		long[] images;
+		int width;
+		int height;
+		int depth;
+
+		Resource (int type, int name, int serial, Throwable trace) {
+			this.type = type;
+			this.name = name;
+			this.serial = serial;
+			this.trace = trace;
+		}
+
+		/** @return one of {@link JoglResourceTrackingGL#TEXTURE}, {@link JoglResourceTrackingGL#BUFFER} or
+		 *         {@link JoglResourceTrackingGL#RENDERBUFFER} */
+		public int getType () {
+			return type;
+		}
+
+		/** @return the GL name of the object */
+		public int getName () {
+			return name;
+		}
+
+		/** @return the estimated size of the storage of the object in bytes */
+		public long getBytes () {
+			return bytes;
+		}
+
+		/** @return where the object was generated or null if stack traces aren't recorded */
+		public Throwable getTrace () {
+			return trace;
+		}
+
+		@Override
+		public String toString () {
+			return TYPE_NAMES[type] + " " + name + " (" + bytes + " bytes)";
+		}
+	}
+
+	private final boolean traces;
+	@SuppressWarnings("unchecked") private final IntMap<Resource>[] resources = new IntMap[] {new IntMap<Resource>(),
+		new IntMap<Resource>(), new IntMap<Resource>()};
+	private final long[] bytes = new long[3];
+	private int serial;
+	private long budget;
+
+	private int activeUnit;
+	/** (texture unit << 16 | target) -> bound texture **/
+	private final IntIntMap boundTextures = new IntIntMap();
+	/** target -> bound buffer, the element array buffer is held per vertex array **/
+	private final IntIntMap boundBuffers = new IntIntMap();
+	/** vertex array -> bound element array buffer **/
+	private final IntIntMap elementBuffers = new IntIntMap();
+	private int vertexArray;
+	private int boundRenderbuffer;
+
+	/** @param traces whether to record the stack trace of the generation of each object */
+	public JoglResourceTrackingGL (GL20 gl20, boolean traces) {
+		super(gl20);
+		this.traces = traces;
+	}
+
+	/** Forgets all objects and bindings, to be called after the backend has been bound to a new context. */
+	public void invalidate () {
+		for (int i = 0; i < resources.length; i++) {
+			resources[i].clear();
+			bytes[i] = 0;
+		}
+		activeUnit = 0;
+		boundTextures.clear();
+		boundBuffers.clear();
+		elementBuffers.clear();
+		vertexArray = 0;
+		boundRenderbuffer = 0;
+	}
+
+	/** @param type one of {@link #TEXTURE}, {@link #BUFFER} or {@link #RENDERBUFFER}
+	 * @return the estimated bytes of the live objects of the type */
+	public long getBytes (int type) {
+		return bytes[type];
+	}
+
+	/** @return the number of live objects of the type */
+	public int getCount (int type) {
+		return resources[type].size;
+	}
+
+	/** @return the estimated bytes of all live objects */
+	public long getTotalBytes () {
+		return bytes[TEXTURE] + bytes[BUFFER] + bytes[RENDERBUFFER];
+	}
+
+	/** @param budget the bytes {@link #isOverBudget()} compares the total with, 0 for none */
+	public void setBudget (long budget) {
+		this.budget = budget;
+	}
+
+	/** @return whether the estimated bytes of all live objects exceed the budget */
+	public boolean isOverBudget () {
+		return budget > 0 && getTotalBytes() > budget;
+	}
+
+	/** @return a mark to later get the objects registered after this call with, e.g. before loading a level */
+	public int mark () {
+		return serial;
+	}
+
+	/** Adds the live objects registered since the mark, e.g. the ones a level didn't dispose after it was unloaded.
+	 * @return the number of objects added */
+	public int getLive (int mark, Array<Resource> out) {
+		int count = 0;
+		for (int i = 0; i < resources.length; i++) {
+			for (Resource resource : resources[i].values()) {
+				if (resource.serial < mark) continue;
+				out.add(resource);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/** Logs the live objects registered since the mark with their stack traces, if recorded.
+	 * @return the number of objects logged */
+	public int logLive (int mark) {
+		final Array<Resource> live = new Array<Resource>();
+		getLive(mark, live);
+		for (int i = 0; i < live.size; i++) {
+			final Resource resource = live.get(i);
+			if (resource.trace != null)
+				Gdx.app.error(TAG, "live " + resource, resource.trace);
+			else
+				Gdx.app.error(TAG, "live " + resource);
+		}
+		return live.size;
+	}
+
+	/** @return the counters as one line */
+	public String getSummary () {
+		final StringBuilder summary = new StringBuilder();
+		for (int i = 0; i < resources.length; i++) {
+			if (i > 0) summary.append(", ");
+			summary.append(resources[i].size).append(' ').append(TYPE_NAMES[i]).append("s ").append(bytes[i] / 1024).append(" KB");
+		}
+		return summary.toString();
+	}
+
+	private Resource register (int type, int name) {
+		if (name <= 0) return null;
+		Resource resource = resources[type].get(name);
+		if (resource == null) {
+			resource = new Resource(type, name, serial++, traces ? new Throwable("generated here") : null);
+			resources[type].put(name, resource);
+		}
+		return resource;
+	}
+
+	private void register (int type, int n, IntBuffer names) {
+		final int position = names.position();
+		for (int i = 0; i < n; i++)
+			register(type, names.get(position + i));
+	}
+
+	private void unregister (int type, int name) {
+		final Resource resource = resources[type].remove(name);
+		if (resource != null) bytes[type] -= resource.bytes;
+		if (name <= 0) return;
+		// deleting a bound object unbinds it
+		final IntIntMap bindings = type == TEXTURE ? boundTextures : type == BUFFER ? boundBuffers : null;
+		if (bindings != null) {
+			for (IntIntMap.Entry binding : bindings.entries())
+				if (binding.value == name) bindings.put(binding.key, 0);
+		}
+		if (type == BUFFER) {
+			for (IntIntMap.Entry binding : elementBuffers.entries())
+				if (binding.value == name) elementBuffers.put(binding.key, 0);
+		}
+		if (type == RENDERBUFFER && boundRenderbuffer == name) boundRenderbuffer = 0;
+	}
+
+	private void unregister (int type, int n, IntBuffer names) {
+		final int position = names.position();
+		for (int i = 0; i < n; i++)
+			unregister(type, names.get(position + i));
+	}
+
+	private void setBytes (Resource resource, long size) {
+		if (resource == null) return;
+		bytes[resource.type] += size - resource.bytes;
+		resource.bytes = size;
+	}
+
+	// textures
+
+	private static int bindingTarget (int target) {
+		if (target >= GL20.GL_TEXTURE_CUBE_MAP_POSITIVE_X && target <= GL20.GL_TEXTURE_CUBE_MAP_NEGATIVE_Z)
+			return GL20.GL_TEXTURE_CUBE_MAP;
+		return target;
+	}
+
+	private Resource boundTexture (int target) {
+		return register(TEXTURE, boundTextures.get(activeUnit << 16 | bindingTarget(target), 0));
+	}
+
+	/** Sets the bytes of a level of the texture bound to the target. */
+	private void image (int target, int level, int width, int height, int depth, long size) {
+		final Resource texture = boundTexture(target);
+		if (texture == null || level < 0 || level >= MAX_LEVELS) return;
+		final int face = target >= GL20.GL_TEXTURE_CUBE_MAP_POSITIVE_X && target <= GL20.GL_TEXTURE_CUBE_MAP_NEGATIVE_Z
+			? target - GL20.GL_TEXTURE_CUBE_MAP_POSITIVE_X : 0;
+		if (texture.images == null) texture.images = new long[6 * MAX_LEVELS];
+		texture.images[face * MAX_LEVELS + level] = Math.max(size, 0);
+		if (level == 0) {
+			texture.width = width;
+			texture.height = height;
+			texture.depth = depth;
+		}
+		setBytes(texture, sum(texture.images));
+	}
+
+	private static long sum (long[] values) {
+		long sum = 0;
+		for (int i = 0; i < values.length; i++)
+			sum += values[i];
+		return sum;
+	}
+
+	private void image (int target, int level, int internalformat, int width, int height, int depth, int format, int type) {
+		image(target, level, width, height, depth, (long)width * height * depth * texelBytes(internalformat, format, type));
+	}
+
+	/** @return the estimated bytes of a texel of the internal format, or of the format and type if it's unsized */
+	static int texelBytes (int internalformat, int format, int type) {
+		switch (internalformat) {
+		case GL30.GL_R8:
+		case GL30.GL_R8I:
+		case GL30.GL_R8UI:
+		case GL20.GL_STENCIL_INDEX8:
+			return 1;
+		case GL30.GL_RG8:
+		case GL30.GL_R16F:
+		case GL30.GL_R16I:
+		case GL30.GL_R16UI:
+		case GL20.GL_RGB565:
+		case GL20.GL_RGBA4:
+		case GL20.GL_RGB5_A1:
+		case GL20.GL_DEPTH_COMPONENT16:
+			return 2;
+		case GL30.GL_RGB8:
+			// drivers pad three component texels to four
+		case GL30.GL_RGBA8:
+		case GL30.GL_SRGB8_ALPHA8:
+		case GL30.GL_RGB10_A2:
+		case GL30.GL_R11F_G11F_B10F:
+		case GL30.GL_RGB9_E5:
+		case GL30.GL_RG16F:
+		case GL30.GL_R32F:
+		case GL30.GL_R32I:
+		case GL30.GL_R32UI:
+		case GL30.GL_DEPTH_COMPONENT24:
+		case GL30.GL_DEPTH_COMPONENT32F:
+		case GL30.GL_DEPTH24_STENCIL8:
+			return 4;
+		case GL30.GL_RGB16F:
+		case GL30.GL_RGBA16F:
+		case GL30.GL_RG32F:
+		case GL30.GL_DEPTH32F_STENCIL8:
+			return 8;
+		case GL30.GL_RGB32F:
+		case GL30.GL_RGBA32F:
+			return 16;
+		}
+		// unknown sized formats, unsized ones take the size of the client data
+		if (format == 0) return 4;
+		switch (type) {
+		case GL20.GL_UNSIGNED_SHORT_5_6_5:
+		case GL20.GL_UNSIGNED_SHORT_4_4_4_4:
+		case GL20.GL_UNSIGNED_SHORT_5_5_5_1:
+			return 2;
+		case GL30.GL_UNSIGNED_INT_24_8:
+		case GL30.GL_UNSIGNED_INT_2_10_10_10_REV:
+		case GL30.GL_UNSIGNED_INT_10F_11F_11F_REV:
+		case GL30.GL_UNSIGNED_INT_5_9_9_9_REV:
+			return 4;
+		case GL30.GL_FLOAT_32_UNSIGNED_INT_24_8_REV:
+			return 8;
+		}
+		final int componentBytes;
+		switch (type) {
+		case GL20.GL_UNSIGNED_BYTE:
+		case GL20.GL_BYTE:
+			componentBytes = 1;
+			break;
+		case GL20.GL_UNSIGNED_SHORT:
+		case GL20.GL_SHORT:
+		case GL30.GL_HALF_FLOAT:
+			componentBytes = 2;
+			break;
+		default:
+			componentBytes = 4;
+		}
+		switch (format) {
+		case GL20.GL_ALPHA:
+		case GL20.GL_LUMINANCE:
+		case GL30.GL_RED:
+		case GL30.GL_RED_INTEGER:
+		case GL20.GL_DEPTH_COMPONENT:
+			return componentBytes;
+		case GL20.GL_LUMINANCE_ALPHA:
+		case GL30.GL_RG:
+		case GL30.GL_RG_INTEGER:
+			return 2 * componentBytes;
+		case GL20.GL_RGB:
+		case GL30.GL_RGB_INTEGER:
+			return 3 * componentBytes;
+		default:
+			return 4 * componentBytes;
+		}
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		activeUnit = texture - GL20.GL_TEXTURE0;
+		gl20.glActiveTexture(texture);
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		boundTextures.put(activeUnit << 16 | target, texture);
+		register(TEXTURE, texture);
+		gl20.glBindTexture(target, texture);
+	}
+
+	@Override
+	public void glGenTextures (int n, IntBuffer textures) {
+		gl20.glGenTextures(n, textures);
+		register(TEXTURE, n, textures);
+	}
+
+	@Override
+	public int glGenTexture () {
+		final int texture = gl20.glGenTexture();
+		register(TEXTURE, texture);
+		return texture;
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		unregister(TEXTURE, n, textures);
+		gl20.glDeleteTextures(n, textures);
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		unregister(TEXTURE, texture);
+		gl20.glDeleteTexture(texture);
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type,
+		Buffer pixels) {
+		image(target, level, internalformat, width, height, 1, format, type);
+		gl20.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalFormat, int width, int height, int border, int format, int type,
+		int offset) {
+		image(target, level, internalFormat, width, height, 1, format, type);
+		gl30.glTexImage2D(target, level, internalFormat, width, height, border, format, type, offset);
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format,
+		int type, Buffer pixels) {
+		image(target, level, internalformat, width, height, depth, format, type);
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format,
+		int type, int offset) {
+		image(target, level, internalformat, width, height, depth, format, type);
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, offset);
+	}
+
+	@Override
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
+		int imageSize, Buffer data) {
+		image(target, level, width, height, 1, imageSize);
+		gl20.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+	}
+
+	@Override
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		image(target, level, internalformat, width, height, 1, internalformat, GL20.GL_UNSIGNED_BYTE);
+		gl20.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+	}
+
+	@Override
+	public void glTexStorage2DMultisample (int target, int samples, int internalformat, int width, int height,
+		boolean fixedsamplelocations) {
+		image(target, 0, width, height, 1, (long)width * height * samples * texelBytes(internalformat, 0, 0));
+		gl31.glTexStorage2DMultisample(target, samples, internalformat, width, height, fixedsamplelocations);
+	}
+
+	@Override
+	public void glTexStorage3DMultisample (int target, int samples, int internalformat, int width, int height, int depth,
+		boolean fixedsamplelocations) {
+		image(target, 0, width, height, depth, (long)width * height * depth * samples * texelBytes(internalformat, 0, 0));
+		gl32.glTexStorage3DMultisample(target, samples, internalformat, width, height, depth, fixedsamplelocations);
+	}
+
+	@Override
+	public void glGenerateMipmap (int target) {
+		final Resource texture = boundTexture(target);
+		if (texture != null && texture.images != null && texture.width > 0 && texture.height > 0) {
+			// arrays keep their layer count, only 3D textures shrink in depth
+			final boolean volume = target == GL30.GL_TEXTURE_3D;
+			final int depth = Math.max(texture.depth, 1);
+			final double texels = (double)texture.width * texture.height * (volume ? depth : 1);
+			for (int face = 0; face < 6; face++) {
+				final long base = texture.images[face * MAX_LEVELS];
+				if (base == 0) continue;
+				int width = texture.width, height = texture.height, levelDepth = volume ? depth : 1;
+				for (int level = 1; level < MAX_LEVELS && (width > 1 || height > 1 || levelDepth > 1); level++) {
+					width = Math.max(width >> 1, 1);
+					height = Math.max(height >> 1, 1);
+					levelDepth = Math.max(levelDepth >> 1, 1);
+					texture.images[face * MAX_LEVELS + level] = (long)(base * ((double)width * height * levelDepth / texels));
+				}
+			}
+			setBytes(texture, sum(texture.images));
+		}
+		gl20.glGenerateMipmap(target);
+	}
+
+	// buffers
+
+	private int boundBuffer (int target) {
+		if (target == GL20.GL_ELEMENT_ARRAY_BUFFER) return elementBuffers.get(vertexArray, 0);
+		return boundBuffers.get(target, 0);
+	}
+
+	private void bindBuffer (int target, int buffer) {
+		if (target == GL20.GL_ELEMENT_ARRAY_BUFFER)
+			elementBuffers.put(vertexArray, buffer);
+		else
+			boundBuffers.put(target, buffer);
+		register(BUFFER, buffer);
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		bindBuffer(target, buffer);
+		gl20.glBindBuffer(target, buffer);
+	}
+
+	@Override
+	public void glBindBufferBase (int target, int index, int buffer) {
+		// also binds the buffer to the generic binding point of the target
+		bindBuffer(target, buffer);
+		gl30.glBindBufferBase(target, index, buffer);
+	}
+
+	@Override
+	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
+		bindBuffer(target, buffer);
+		gl30.glBindBufferRange(target, index, buffer, offset, size);
+	}
+
+	@Override
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		gl20.glGenBuffers(n, buffers);
+		register(BUFFER, n, buffers);
+	}
+
+	@Override
+	public int glGenBuffer () {
+		final int buffer = gl20.glGenBuffer();
+		register(BUFFER, buffer);
+		return buffer;
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		unregister(BUFFER, n, buffers);
+		gl20.glDeleteBuffers(n, buffers);
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		unregister(BUFFER, buffer);
+		gl20.glDeleteBuffer(buffer);
+	}
+
+	@Override
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		setBytes(register(BUFFER, boundBuffer(target)), size);
+		gl20.glBufferData(target, size, data, usage);
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		vertexArray = array;
+		gl30.glBindVertexArray(array);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		for (int i = 0; i < n; i++)
+			deleteVertexArray(arrays[offset + i]);
+		gl30.glDeleteVertexArrays(n, arrays, offset);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		final int position = arrays.position();
+		for (int i = 0; i < n; i++)
+			deleteVertexArray(arrays.get(position + i));
+		gl30.glDeleteVertexArrays(n, arrays);
+	}
+
+	private void deleteVertexArray (int array) {
+		if (array == 0) return;
+		elementBuffers.remove(array, 0);
+		if (array == vertexArray) vertexArray = 0;
+	}
+
+	// renderbuffers
+
+	@Override
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		boundRenderbuffer = renderbuffer;
+		register(RENDERBUFFER, renderbuffer);
+		gl20.glBindRenderbuffer(target, renderbuffer);
+	}
+
+	@Override
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl20.glGenRenderbuffers(n, renderbuffers);
+		register(RENDERBUFFER, n, renderbuffers);
+	}
+
+	@Override
+	public int glGenRenderbuffer () {
+		final int renderbuffer = gl20.glGenRenderbuffer();
+		register(RENDERBUFFER, renderbuffer);
+		return renderbuffer;
+	}
+
+	@Override
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		unregister(RENDERBUFFER, n, renderbuffers);
+		gl20.glDeleteRenderbuffers(n, renderbuffers);
+	}
+
+	@Override
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		unregister(RENDERBUFFER, renderbuffer);
+		gl20.glDeleteRenderbuffer(renderbuffer);
+	}
+
+	@Override
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		setBytes(register(RENDERBUFFER, boundRenderbuffer), (long)width * height * texelBytes(internalformat, 0, 0));
+		gl20.glRenderbufferStorage(target, internalformat, width, height);
+	}
+
+	@Override
+	public void glRenderbufferStorageMultisample (int target, int samples, int internalformat, int width, int height) {
+		setBytes(register(RENDERBUFFER, boundRenderbuffer),
+			(long)width * height * Math.max(samples, 1) * texelBytes(internalformat, 0, 0));
+		gl30.glRenderbufferStorageMultisample(target, samples, internalformat, width, height);
+	}
+}
@@ -0,0 +1,397 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.jogamp.common.util.VersionNumber;
+import com.jogamp.opengl.GL;
+
+/** Moves the filter, wrap, level of detail, compare and anisotropy parameters of the textures into sampler objects. The
+ * glTexParameter calls setting them don't reach the driver, each texture is given the sampler object holding its combination
+ * of parameters instead, interned in a small cache, and binding the texture binds that sampler to the texture unit. Switching the
+ * filter or wrap mode of a texture thus costs at most one glBindSampler, which is dropped as well if the unit already has the
+ * sampler, and textures sharing their parameters share one sampler object. The parameters are answered to glGetTexParameter.
+ * <p>
+ * A sampler object applies to every target of its unit, so the unit only gets the sampler of its texture while a single target of
+ * it has a texture bound. While several have, e.g. when a cube map is loaded on a unit a 2D texture is bound to, the unit gets
+ * sampler 0 and the parameters are passed to the textures themselves, bringing the textures bound to it up to date.
+ * <p>
+ * When the cache is full the sampler objects no unit has bound are deleted and created again as they're needed. The parameters
+ * of textures set through anything but this instance are hidden by the sampler objects, as are the samplers the application
+ * binds itself. Requires sampler objects, see {@link #isSupported(JoglGL20)}. Enabled through {@link JoglApplicationConfiguration#samplerCacheSize}. */
+public class JoglSamplerCachingGL extends JoglGLDelegate {
+	static final int GL_TEXTURE_MAX_ANISOTROPY_EXT = 0x84FE;
+	/** the parameters held by the samplers **/
+	private static final int[] PNAMES = {GL30.GL_TEXTURE_MIN_FILTER, GL30.GL_TEXTURE_MAG_FILTER, GL30.GL_TEXTURE_WRAP_S,
+		GL30.GL_TEXTURE_WRAP_T, GL30.GL_TEXTURE_WRAP_R, GL30.GL_TEXTURE_COMPARE_MODE, GL30.GL_TEXTURE_COMPARE_FUNC,
+		GL30.GL_TEXTURE_MIN_LOD, GL30.GL_TEXTURE_MAX_LOD, GL_TEXTURE_MAX_ANISOTROPY_EXT};
+	/** the initial values of the parameters, the first seven are enums **/
+	private static final float[] DEFAULTS = {GL30.GL_NEAREST_MIPMAP_LINEAR, GL30.GL_LINEAR, GL30.GL_REPEAT, GL30.GL_REPEAT,
+		GL30.GL_REPEAT, GL30.GL_NONE, GL30.GL_LEQUAL, -1000, 1000, 1};
+	private static final int ENUMS = 7;
+	/** the targets with sampler state, multisample and buffer textures have none **/
+	private static final int[] TARGETS = {GL30.GL_TEXTURE_2D, GL30.GL_TEXTURE_CUBE_MAP, GL30.GL_TEXTURE_3D,
+		GL30.GL_TEXTURE_2D_ARRAY};
+
+	/** A combination of parameters, the key of the cache. */
+	static class Sampler {
+		final float[] values;
+		/** the sampler object, 0 if the combination isn't in the cache **/
+		int handle;
+
+		Sampler (float[] values) {
+			this.values = values;
+		}
+
+		@Override
+		public int hashCode () {
+			return Arrays.hashCode(values);
+		}
+
+		@Override
+		public boolean equals (Object object) {
+			return object instanceof Sampler && Arrays.equals(values, ((Sampler)object).values);
+		}
+	}
+
+	/** The parameters of a texture. */
+	static class Texture {
+		/** the parameters set by the application, null while they're the defaults **/
+		Sampler sampler;
+		/** the parameters the texture object itself holds, which differ while they're held by a sampler object **/
+		final float[] own = DEFAULTS.clone();
+	}
+
+	private final int capacity;
+	/** the interned combinations, each maps to itself **/
+	private final ObjectMap<Sampler, Sampler> samplers = new ObjectMap<Sampler, Sampler>();
+	/** texture -> its parameters, textures without an entry have the defaults **/
+	private final IntMap<Texture> textures = new IntMap<Texture>();
+	private final Sampler key = new Sampler(new float[PNAMES.length]);
+	private final int[] handles = new int[1];
+	private int activeUnit;
+	/** the texture bound to each target of each unit, indexed by unit * TARGETS.length + target **/
+	private int[] unitTextures = new int[32 * TARGETS.length];
+	/** the sampler bound to each unit, -1 if unknown **/
+	private int[] unitSamplers = new int[32];
+
+	private long avoidedTexParameters;
+	private long samplerBinds;
+	private long skippedSamplerBinds;
+
+	/** @param capacity the maximum number of sampler objects */
+	public JoglSamplerCachingGL (GL30 gl30, int capacity) {
+		super(gl30);
+		if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0: " + capacity);
+		this.capacity = capacity;
+		Arrays.fill(unitSamplers, -1);
+	}
+
+	/** @return whether the context of the backend supports sampler objects, from GL 3.3 on or with GL_ARB_sampler_objects */
+	public static boolean isSupported (JoglGL20 backend) {
+		if (!(backend instanceof JoglGL30) || ((JoglGL30)backend).gl3es3 == null) return false;
+		final GL gl = backend.gl;
+		if (gl.isGLES3()) return true;
+		final VersionNumber version = gl.getContext().getGLVersionNumber();
+		return version.getMajor() > 3 || (version.getMajor() == 3 && version.getMinor() >= 3)
+			|| gl.isExtensionAvailable("GL_ARB_sampler_objects");
+	}
+
+	/** Forgets the sampler objects, the parameters of the textures and the bindings, to be called after the backend has been
+	 * bound to a new context. */
+	public void invalidate () {
+		for (Sampler sampler : samplers.values())
+			sampler.handle = 0;
+		samplers.clear();
+		textures.clear();
+		activeUnit = 0;
+		Arrays.fill(unitTextures, 0);
+		Arrays.fill(unitSamplers, -1);
+	}
+
+	/** @return the number of glTexParameter calls which didn't reach the driver */
+	public long getAvoidedTexParameters () {
+		return avoidedTexParameters;
+	}
+
+	/** @return the number of glBindSampler calls issued */
+	public long getSamplerBinds () {
+		return samplerBinds;
+	}
+
+	/** @return the number of glBindSampler calls dropped because the unit already had the sampler */
+	public long getSkippedSamplerBinds () {
+		return skippedSamplerBinds;
+	}
+
+	/** @return the number of sampler objects in the cache */
+	public int getSamplerCount () {
+		return samplers.size;
+	}
+
+	public void resetCounters () {
+		avoidedTexParameters = 0;
+		samplerBinds = 0;
+		skippedSamplerBinds = 0;
+	}
+
+	private static int slot (int pname) {
+		for (int i = 0; i < PNAMES.length; i++)
+			if (PNAMES[i] == pname) return i;
+		return -1;
+	}
+
+	/** @return the index of the target in {@link #TARGETS}, -1 if it has no sampler state */
+	private static int target (int target) {
+		for (int i = 0; i < TARGETS.length; i++)
+			if (TARGETS[i] == target) return i;
+		return -1;
+	}
+
+	private void ensureUnit (int unit) {
+		if (unit < unitSamplers.length) return;
+		final int length = Math.max(unit + 1, unitSamplers.length * 2);
+		unitTextures = Arrays.copyOf(unitTextures, length * TARGETS.length);
+		final int oldLength = unitSamplers.length;
+		unitSamplers = Arrays.copyOf(unitSamplers, length);
+		Arrays.fill(unitSamplers, oldLength, length, -1);
+	}
+
+	/** @return the sampler object of the combination, created if it isn't in the cache */
+	private int handle (Sampler sampler) {
+		if (sampler.handle != 0) return sampler.handle;
+		Sampler interned = samplers.get(sampler);
+		if (interned == null) {
+			if (samplers.size >= capacity) evict();
+			interned = sampler;
+			gl30.glGenSamplers(1, handles, 0);
+			interned.handle = handles[0];
+			final float[] values = interned.values;
+			for (int i = 0; i < PNAMES.length; i++) {
+				if (values[i] == DEFAULTS[i]) continue;
+				if (i < ENUMS)
+					gl30.glSamplerParameteri(interned.handle, PNAMES[i], (int)values[i]);
+				else
+					gl30.glSamplerParameterf(interned.handle, PNAMES[i], values[i]);
+			}
+			samplers.put(interned, interned);
+		}
+		sampler.handle = interned.handle;
+		return interned.handle;
+	}
+
+	/** Deletes the sampler objects no unit has bound, the cache grows beyond its capacity if all of them are bound. */
+	private void evict () {
+		final Iterator<Sampler> iterator = samplers.values().iterator();
+		while (iterator.hasNext()) {
+			final Sampler sampler = iterator.next();
+			if (isBound(sampler.handle)) continue;
+			handles[0] = sampler.handle;
+			gl30.glDeleteSamplers(1, handles, 0);
+			sampler.handle = 0;
+			iterator.remove();
+		}
+		// textures may hold copies of the deleted combinations, made when they were interned again after an earlier eviction
+		for (Texture texture : textures.values()) {
+			final Sampler sampler = texture.sampler;
+			if (sampler == null || sampler.handle == 0) continue;
+			final Sampler interned = samplers.get(sampler);
+			if (interned == null || interned.handle != sampler.handle) sampler.handle = 0;
+		}
+	}
+
+	private boolean isBound (int handle) {
+		for (int unit = 0; unit < unitSamplers.length; unit++)
+			if (unitSamplers[unit] == handle) return true;
+		return false;
+	}
+
+	private void bindSampler (int unit, int handle) {
+		if (unitSamplers[unit] == handle) {
+			skippedSamplerBinds++;
+			return;
+		}
+		unitSamplers[unit] = handle;
+		gl30.glBindSampler(unit, handle);
+		samplerBinds++;
+	}
+
+	/** Binds the sampler of the texture bound to the unit, or sampler 0 if none or several targets of the unit have a texture
+	 * bound, bringing the parameters of those textures up to date. */
+	private void updateUnit (int unit) {
+		final int first = unit * TARGETS.length;
+		int bound = -1, count = 0;
+		for (int target = 0; target < TARGETS.length; target++) {
+			if (unitTextures[first + target] == 0) continue;
+			bound = target;
+			count++;
+		}
+		if (count == 1) {
+			final Texture texture = textures.get(unitTextures[first + bound]);
+			bindSampler(unit, texture != null && texture.sampler != null ? handle(texture.sampler) : 0);
+			return;
+		}
+		bindSampler(unit, 0);
+		for (int target = 0; target < TARGETS.length; target++)
+			if (unitTextures[first + target] != 0) sync(unit, target, unitTextures[first + target]);
+	}
+
+	/** Passes the parameters of the texture bound to the target of the unit which the texture object doesn't hold yet. */
+	private void sync (int unit, int target, int name) {
+		final Texture texture = textures.get(name);
+		if (texture == null || texture.sampler == null) return;
+		final float[] values = texture.sampler.values, own = texture.own;
+		for (int i = 0; i < PNAMES.length; i++) {
+			if (own[i] == values[i]) continue;
+			if (unit != activeUnit) gl20.glActiveTexture(GL30.GL_TEXTURE0 + unit);
+			if (i < ENUMS)
+				gl20.glTexParameteri(TARGETS[target], PNAMES[i], (int)values[i]);
+			else
+				gl20.glTexParameterf(TARGETS[target], PNAMES[i], values[i]);
+			if (unit != activeUnit) gl20.glActiveTexture(GL30.GL_TEXTURE0 + activeUnit);
+			own[i] = values[i];
+		}
+	}
+
+	/** Applies the parameter to the sampler of the texture bound to the target.
+	 * @return false if the call has to be passed to the driver */
+	private boolean set (int target, int pname, float value) {
+		final int slot = slot(pname), index = target(target);
+		if (slot < 0 || index < 0) return false;
+		final int name = unitTextures[activeUnit * TARGETS.length + index];
+		if (name == 0) return false;
+		Texture texture = textures.get(name);
+		if (texture == null) textures.put(name, texture = new Texture());
+		final float[] values = texture.sampler != null ? texture.sampler.values : DEFAULTS;
+		if (values[slot] == value) {
+			avoidedTexParameters++;
+			return true;
+		}
+		System.arraycopy(values, 0, key.values, 0, values.length);
+		key.values[slot] = value;
+		Sampler sampler = samplers.get(key);
+		if (sampler == null) sampler = new Sampler(key.values.clone());
+		texture.sampler = sampler;
+		// the units the texture is bound to get its new sampler, or the parameter if they have several targets bound
+		for (int unit = 0; unit < unitSamplers.length; unit++)
+			if (unitTextures[unit * TARGETS.length + index] == name) updateUnit(unit);
+		if (texture.own[slot] != value) avoidedTexParameters++;
+		return true;
+	}
+
+	/** @return the value of the parameter of the texture bound to the target or null if the driver has to be asked */
+	private float[] get (int target, int pname) {
+		final int slot = slot(pname), index = target(target);
+		if (slot < 0 || index < 0) return null;
+		final int name = unitTextures[activeUnit * TARGETS.length + index];
+		if (name == 0) return null;
+		final Texture texture = textures.get(name);
+		return texture != null && texture.sampler != null ? texture.sampler.values : DEFAULTS;
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		activeUnit = texture - GL30.GL_TEXTURE0;
+		ensureUnit(activeUnit);
+		gl20.glActiveTexture(texture);
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		gl20.glBindTexture(target, texture);
+		final int index = target(target);
+		if (index < 0) return;
+		unitTextures[activeUnit * TARGETS.length + index] = texture;
+		updateUnit(activeUnit);
+	}
+
+	@Override
+	public void glBindSampler (int unit, int sampler) {
+		ensureUnit(unit);
+		unitSamplers[unit] = sampler;
+		gl30.glBindSampler(unit, sampler);
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		deleteTexture(texture);
+		gl20.glDeleteTexture(texture);
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		final int position = textures.position();
+		for (int i = 0; i < n; i++)
+			deleteTexture(textures.get(position + i));
+		gl20.glDeleteTextures(n, textures);
+	}
+
+	private void deleteTexture (int texture) {
+		if (texture == 0) return;
+		textures.remove(texture);
+		// deleting a bound texture binds 0 to its target
+		for (int i = 0; i < unitTextures.length; i++) {
+			if (unitTextures[i] != texture) continue;
+			unitTextures[i] = 0;
+			updateUnit(i / TARGETS.length);
+		}
+	}
+
+	@Override
+	public void glTexParameteri (int target, int pname, int param) {
+		if (!set(target, pname, param)) gl20.glTexParameteri(target, pname, param);
+	}
+
+	@Override
+	public void glTexParameterf (int target, int pname, float param) {
+		if (!set(target, pname, param)) gl20.glTexParameterf(target, pname, param);
+	}
+
+	@Override
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		if (!set(target, pname, params.get(params.position()))) gl20.glTexParameteriv(target, pname, params);
+	}
+
+	@Override
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		if (!set(target, pname, params.get(params.position()))) gl20.glTexParameterfv(target, pname, params);
+	}
+
+	@Override
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		final float[] values = get(target, pname);
+		if (values != null)
+			params.put(params.position(), (int)values[slot(pname)]);
+		else
+			gl20.glGetTexParameteriv(target, pname, params);
+	}
+
+	@Override
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		final float[] values = get(target, pname);
+		if (values != null)
+			params.put(params.position(), values[slot(pname)]);
+		else
+			gl20.glGetTexParameterfv(target, pname, params);
+	}
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.Array;
+import com.jogamp.common.nio.Buffers;
+
+/** Compiles and links programs in the background of the render loop. The programs submitted are compiled and linked on the GL
+ * thread at the beginning of the next frame without querying their status, which would make the driver finish the work right
+ * away. With GL_KHR_parallel_shader_compile or GL_ARB_parallel_shader_compile the driver compiles them on its own threads and
+ * their completion status is polled once per frame until they're done. Without either extension one program is compiled per
+ * frame, so a loading screen keeps animating either way.
+ * <p>
+ * The listener of a program is called on the application thread through {@link com.badlogic.gdx.Application#postRunnable(Runnable)}
+ * once it's linked or has failed. Programs still compiling when the context is lost are submitted again to the new one. */
+public class JoglShaderCompiler {
+	/** GL_COMPLETION_STATUS_KHR, which has the same value as GL_COMPLETION_STATUS_ARB **/
+	static final int GL_COMPLETION_STATUS = 0x91B1;
+
+	/** Notified once a submitted program is ready or has failed. */
+	public interface CompileListener {
+		/** @param program the linked program, owned by the application from now on */
+		void compiled (int program);
+
+		/** @param log the info logs of the shaders and of the program, which has been deleted */
+		void failed (String log);
+	}
+
+	static class Job {
+		final String vertexShader;
+		final String fragmentShader;
+		final CompileListener listener;
+		int program;
+		int vertex;
+		int fragment;
+
+		Job (String vertexShader, String fragmentShader, CompileListener listener) {
+			this.vertexShader = vertexShader;
+			this.fragmentShader = fragmentShader;
+			this.listener = listener;
+		}
+	}
+
+	private final GL20 gl;
+	private final JoglGL20 backend;
+	/** the programs submitted since the last update, guarded by itself **/
+	private final Array<Job> submitted = new Array<Job>();
+	/** the programs being compiled, only touched on the GL thread **/
+	private final Array<Job> compiling = new Array<Job>();
+	private final IntBuffer params = Buffers.newDirectIntBuffer(1);
+	/** whether the driver compiles in parallel, null until queried **/
+	private Boolean parallel;
+
+	/** @param gl the instance issuing the calls
+	 * @param backend the backend instance behind it, to query the extensions */
+	public JoglShaderCompiler (GL20 gl, JoglGL20 backend) {
+		this.gl = gl;
+		this.backend = backend;
+	}
+
+	/** Queues a program to be compiled and linked from the given sources, can be called from any thread. */
+	public void submit (String vertexShader, String fragmentShader, CompileListener listener) {
+		synchronized (submitted) {
+			submitted.add(new Job(vertexShader, fragmentShader, listener));
+		}
+	}
+
+	/** @return the number of programs submitted which haven't been handed to their listener yet */
+	public int getPending () {
+		synchronized (submitted) {
+			return submitted.size + compiling.size;
+		}
+	}
+
+	/** @return whether the driver supports compiling the programs on its own threads */
+	public boolean isParallel () {
+		if (parallel == null) parallel = backend.gl.isExtensionAvailable("GL_KHR_parallel_shader_compile")
+			|| backend.gl.isExtensionAvailable("GL_ARB_parallel_shader_compile");
+		return parallel;
+	}
+
+	/** Starts compiling the submitted programs and hands those which are done to their listeners. Called by the graphics at the
+	 * beginning of each frame on the GL thread. */
+	public void update () {
+		final boolean parallel = isParallel();
+		synchronized (submitted) {
+			if (submitted.size > 0 && (parallel || compiling.size == 0)) {
+				// without parallel compilation only one program at a time, the status query below stalls until it's done
+				final int count = parallel ? submitted.size : 1;
+				for (int i = 0; i < count; i++)
+					start(submitted.get(i));
+				compiling.addAll(submitted, 0, count);
+				submitted.removeRange(0, count - 1);
+			}
+		}
+		for (int i = compiling.size - 1; i >= 0; i--) {
+			final Job job = compiling.get(i);
+			if (parallel) {
+				params.clear();
+				gl.glGetProgramiv(job.program, GL_COMPLETION_STATUS, params);
+				if (params.get(0) == GL20.GL_FALSE) continue;
+			}
+			synchronized (submitted) {
+				compiling.removeIndex(i);
+			}
+			finish(job);
+		}
+	}
+
+	/** Resubmits the programs which were compiling, to be called after the backend has been bound to a new context. */
+	public void invalidate () {
+		parallel = null;
+		synchronized (submitted) {
+			compiling.addAll(submitted);
+			submitted.clear();
+			submitted.addAll(compiling);
+			compiling.clear();
+		}
+	}
+
+	private void start (Job job) {
+		job.vertex = compile(GL20.GL_VERTEX_SHADER, job.vertexShader);
+		job.fragment = compile(GL20.GL_FRAGMENT_SHADER, job.fragmentShader);
+		job.program = gl.glCreateProgram();
+		gl.glAttachShader(job.program, job.vertex);
+		gl.glAttachShader(job.program, job.fragment);
+		gl.glLinkProgram(job.program);
+	}
+
+	private int compile (int type, String source) {
+		final int shader = gl.glCreateShader(type);
+		gl.glShaderSource(shader, source);
+		gl.glCompileShader(shader);
+		return shader;
+	}
+
+	private void finish (final Job job) {
+		params.clear();
+		gl.glGetProgramiv(job.program, GL20.GL_LINK_STATUS, params);
+		final boolean linked = params.get(0) != GL20.GL_FALSE;
+		final String log = linked ? null
+			: "vertex shader:\n" + gl.glGetShaderInfoLog(job.vertex) + "\nfragment shader:\n" + gl.glGetShaderInfoLog(job.fragment)
+				+ "\nprogram:\n" + gl.glGetProgramInfoLog(job.program);
+		gl.glDetachShader(job.program, job.vertex);
+		gl.glDetachShader(job.program, job.fragment);
+		gl.glDeleteShader(job.vertex);
+		gl.glDeleteShader(job.fragment);
+		if (!linked) gl.glDeleteProgram(job.program);
+		final int program = job.program;
+		Gdx.app.postRunnable(new Runnable() {
+			@Override
+			public void run () {
+				if (linked)
+					job.listener.compiled(program);
+				else
+					job.listener.failed(log);
+			}
+		});
+	}
+}
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/** Mirrors the GL state on the Java side and drops the calls which wouldn't change it before they reach the driver. Covers the
+ * texture bindings per unit, the current program, the array and element array buffer bindings, glEnable/glDisable, the blend
+ * functions and equations, the depth and stencil state, the viewport and the scissor box.
+ * <p>
+ * The mirrored state is only valid as long as nobody else touches the context. Call {@link #invalidate()} after foreign code
+ * (Swing compositing, external libraries, raw JoGL calls) changed it, the next call of each kind is then forwarded again.
+ * Enabled through {@link JoglApplicationConfiguration#shadowGLState}. */
+public class JoglStateShadowingGL extends JoglGLDelegate {
+	private static final int UNKNOWN = -1;
+	/** texture units beyond this one are not shadowed **/
+	private static final int MAX_UNITS = 32;
+	/** shadowed texture targets, the index in this array is the slot in {@link #textures} **/
+	private static final int[] TEXTURE_TARGETS = {GL_TEXTURE_2D, GL_TEXTURE_CUBE_MAP, GL_TEXTURE_3D, GL_TEXTURE_2D_ARRAY};
+
+	private int activeUnit;
+	private final int[] textures = new int[TEXTURE_TARGETS.length * MAX_UNITS];
+	private int program;
+	private int arrayBuffer, elementArrayBuffer;
+	/** cap -> 1 if enabled, 0 if disabled, missing if unknown **/
+	private final IntIntMap capabilities = new IntIntMap();
+	private int blendSrcRGB, blendDstRGB, blendSrcAlpha, blendDstAlpha;
+	private int blendModeRGB, blendModeAlpha;
+	private int depthFunc, depthMask;
+	private int stencilFunc, stencilRef, stencilValueMask;
+	private int stencilFail, stencilZFail, stencilZPass;
+	private int stencilWriteMask;
+	private int viewportX, viewportY, viewportWidth, viewportHeight;
+	private int scissorX, scissorY, scissorWidth, scissorHeight;
+
+	private long elidedTextureBinds, elidedProgramSwitches, elidedBufferBinds, elidedCapabilityChanges, elidedStateChanges;
+
+	public JoglStateShadowingGL (GL20 gl20) {
+		super(gl20);
+		invalidate();
+	}
+
+	/** Forgets the whole mirrored state, to be called whenever code which doesn't go through this instance changed the GL state.
+	 * The next call of each kind is forwarded unconditionally. */
+	public void invalidate () {
+		activeUnit = UNKNOWN;
+		for (int i = 0; i < textures.length; i++)
+			textures[i] = UNKNOWN;
+		program = UNKNOWN;
+		arrayBuffer = elementArrayBuffer = UNKNOWN;
+		capabilities.clear();
+		blendSrcRGB = blendDstRGB = blendSrcAlpha = blendDstAlpha = UNKNOWN;
+		blendModeRGB = blendModeAlpha = UNKNOWN;
+		depthFunc = depthMask = UNKNOWN;
+		invalidateStencilFunc();
+		invalidateStencilOp();
+		stencilWriteMask = UNKNOWN;
+		viewportX = viewportY = viewportWidth = viewportHeight = UNKNOWN;
+		scissorX = scissorY = scissorWidth = scissorHeight = UNKNOWN;
+	}
+
+	/** @return the number of calls dropped because they wouldn't have changed the state */
+	public long getElidedCalls () {
+		return elidedTextureBinds + elidedProgramSwitches + elidedBufferBinds + elidedCapabilityChanges + elidedStateChanges;
+	}
+
+	/** @return the number of dropped glBindTexture and glActiveTexture calls */
+	public long getElidedTextureBinds () {
+		return elidedTextureBinds;
+	}
+
+	/** @return the number of dropped glUseProgram calls */
+	public long getElidedProgramSwitches () {
+		return elidedProgramSwitches;
+	}
+
+	/** @return the number of dropped glBindBuffer calls */
+	public long getElidedBufferBinds () {
+		return elidedBufferBinds;
+	}
+
+	/** @return the number of dropped glEnable and glDisable calls */
+	public long getElidedCapabilityChanges () {
+		return elidedCapabilityChanges;
+	}
+
+	/** @return the number of dropped blend, depth, stencil, viewport and scissor calls */
+	public long getElidedStateChanges () {
+		return elidedStateChanges;
+	}
+
+	public void resetCounters () {
+		elidedTextureBinds = elidedProgramSwitches = elidedBufferBinds = elidedCapabilityChanges = elidedStateChanges = 0;
+	}
+
+	private void invalidateStencilFunc () {
+		stencilFunc = stencilRef = stencilValueMask = UNKNOWN;
+	}
+
+	private void invalidateStencilOp () {
+		stencilFail = stencilZFail = stencilZPass = UNKNOWN;
+	}
+
+	/** @return the slot of the target for the active unit in {@link #textures}, -1 if it isn't shadowed */
+	private int textureSlot (int target) {
+		if (activeUnit == UNKNOWN) return -1;
+		for (int i = 0; i < TEXTURE_TARGETS.length; i++) {
+			if (TEXTURE_TARGETS[i] == target) return i * MAX_UNITS + activeUnit;
+		}
+		return -1;
+	}
+
+	private void textureDeleted (int texture) {
+		// deleting a texture reverts the bindings of the current context to 0
+		for (int i = 0; i < textures.length; i++) {
+			if (textures[i] == texture) textures[i] = 0;
+		}
+	}
+
+	private void bufferDeleted (int buffer) {
+		if (arrayBuffer == buffer) arrayBuffer = 0;
+		if (elementArrayBuffer == buffer) elementArrayBuffer = 0;
+	}
+
+	private boolean setCapability (int cap, int enabled) {
+		if (capabilities.get(cap, UNKNOWN) == enabled) {
+			elidedCapabilityChanges++;
+			return false;
+		}
+		capabilities.put(cap, enabled);
+		return true;
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		final int unit = texture - GL_TEXTURE0;
+		if (unit == activeUnit) {
+			elidedTextureBinds++;
+			return;
+		}
+		activeUnit = unit >= 0 && unit < MAX_UNITS ? unit : UNKNOWN;
+		gl20.glActiveTexture(texture);
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		final int slot = textureSlot(target);
+		if (slot != -1) {
+			if (textures[slot] == texture) {
+				elidedTextureBinds++;
+				return;
+			}
+			textures[slot] = texture;
+		}
+		gl20.glBindTexture(target, texture);
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		textureDeleted(texture);
+		gl20.glDeleteTexture(texture);
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		final int position = textures.position();
+		for (int i = 0; i < n; i++)
+			textureDeleted(textures.get(position + i));
+		gl20.glDeleteTextures(n, textures);
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		if (this.program == program) {
+			elidedProgramSwitches++;
+			return;
+		}
+		this.program = program;
+		gl20.glUseProgram(program);
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		if (target == GL_ARRAY_BUFFER) {
+			if (arrayBuffer == buffer) {
+				elidedBufferBinds++;
+				return;
+			}
+			arrayBuffer = buffer;
+		} else if (target == GL_ELEMENT_ARRAY_BUFFER) {
+			if (elementArrayBuffer == buffer) {
+				elidedBufferBinds++;
+				return;
+			}
+			elementArrayBuffer = buffer;
+		}
+		gl20.glBindBuffer(target, buffer);
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		bufferDeleted(buffer);
+		gl20.glDeleteBuffer(buffer);
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		final int position = buffers.position();
+		for (int i = 0; i < n; i++)
+			bufferDeleted(buffers.get(position + i));
+		gl20.glDeleteBuffers(n, buffers);
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		// the element array buffer binding is part of the vertex array object
+		elementArrayBuffer = UNKNOWN;
+		gl30.glBindVertexArray(array);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		elementArrayBuffer = UNKNOWN;
+		gl30.glDeleteVertexArrays(n, arrays, offset);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		elementArrayBuffer = UNKNOWN;
+		gl30.glDeleteVertexArrays(n, arrays);
+	}
+
+	@Override
+	public void glEnable (int cap) {
+		if (setCapability(cap, 1)) gl20.glEnable(cap);
+	}
+
+	@Override
+	public void glDisable (int cap) {
+		if (setCapability(cap, 0)) gl20.glDisable(cap);
+	}
+
+	@Override
+	public void glBlendFunc (int sfactor, int dfactor) {
+		if (blendSrcRGB == sfactor && blendDstRGB == dfactor && blendSrcAlpha == sfactor && blendDstAlpha == dfactor) {
+			elidedStateChanges++;
+			return;
+		}
+		blendSrcRGB = blendSrcAlpha = sfactor;
+		blendDstRGB = blendDstAlpha = dfactor;
+		gl20.glBlendFunc(sfactor, dfactor);
+	}
+
+	@Override
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (blendSrcRGB == srcRGB && blendDstRGB == dstRGB && blendSrcAlpha == srcAlpha && blendDstAlpha == dstAlpha) {
+			elidedStateChanges++;
+			return;
+		}
+		blendSrcRGB = srcRGB;
+		blendDstRGB = dstRGB;
+		blendSrcAlpha = srcAlpha;
+		blendDstAlpha = dstAlpha;
+		gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+	}
+
+	@Override
+	public void glBlendEquation (int mode) {
+		if (blendModeRGB == mode && blendModeAlpha == mode) {
+			elidedStateChanges++;
+			return;
+		}
+		blendModeRGB = blendModeAlpha = mode;
+		gl20.glBlendEquation(mode);
+	}
+
+	@Override
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		if (blendModeRGB == modeRGB && blendModeAlpha == modeAlpha) {
+			elidedStateChanges++;
+			return;
+		}
+		blendModeRGB = modeRGB;
+		blendModeAlpha = modeAlpha;
+		gl20.glBlendEquationSeparate(modeRGB, modeAlpha);
+	}
+
+	@Override
+	public void glDepthFunc (int func) {
+		if (depthFunc == func) {
+			elidedStateChanges++;
+			return;
+		}
+		depthFunc = func;
+		gl20.glDepthFunc(func);
+	}
+
+	@Override
+	public void glDepthMask (boolean flag) {
+		final int mask = flag ? 1 : 0;
+		if (depthMask == mask) {
+			elidedStateChanges++;
+			return;
+		}
+		depthMask = mask;
+		gl20.glDepthMask(flag);
+	}
+
+	@Override
+	public void glStencilFunc (int func, int ref, int mask) {
+		if (stencilFunc == func && stencilRef == ref && stencilValueMask == mask) {
+			elidedStateChanges++;
+			return;
+		}
+		stencilFunc = func;
+		stencilRef = ref;
+		stencilValueMask = mask;
+		gl20.glStencilFunc(func, ref, mask);
+	}
+
+	@Override
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		// front and back are shadowed as one, a separate setting makes them unknown
+		invalidateStencilFunc();
+		gl20.glStencilFuncSeparate(face, func, ref, mask);
+	}
+
+	@Override
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		if (stencilFail == fail && stencilZFail == zfail && stencilZPass == zpass) {
+			elidedStateChanges++;
+			return;
+		}
+		stencilFail = fail;
+		stencilZFail = zfail;
+		stencilZPass = zpass;
+		gl20.glStencilOp(fail, zfail, zpass);
+	}
+
+	@Override
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		invalidateStencilOp();
+		gl20.glStencilOpSeparate(face, fail, zfail, zpass);
+	}
+
+	@Override
+	public void glStencilMask (int mask) {
+		if (stencilWriteMask == mask && mask != UNKNOWN) {
+			elidedStateChanges++;
+			return;
+		}
+		stencilWriteMask = mask;
+		gl20.glStencilMask(mask);
+	}
+
+	@Override
+	public void glStencilMaskSeparate (int face, int mask) {
+		stencilWriteMask = UNKNOWN;
+		gl20.glStencilMaskSeparate(face, mask);
+	}
+
+	@Override
+	public void glViewport (int x, int y, int width, int height) {
+		if (viewportX == x && viewportY == y && viewportWidth == width && viewportHeight == height) {
+			elidedStateChanges++;
+			return;
+		}
+		viewportX = x;
+		viewportY = y;
+		viewportWidth = width;
+		viewportHeight = height;
+		gl20.glViewport(x, y, width, height);
+	}
+
+	@Override
+	public void glScissor (int x, int y, int width, int height) {
+		if (scissorX == x && scissorY == y && scissorWidth == width && scissorHeight == height) {
+			elidedStateChanges++;
+			return;
+		}
+		scissorX = x;
+		scissorY = y;
+		scissorWidth = width;
+		scissorHeight = height;
+		gl20.glScissor(x, y, width, height);
+	}
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.jogamp.opengl.GL;
+
+/** A buffer object for geometry which changes every frame, replacing the orphaning and re-uploading through glBufferData and
+ * glBufferSubData. The buffer is split into regions written one after the other, a fence guards each region so it's only
+ * written again once the GPU has executed the draw calls sourcing it. With GL_ARB_buffer_storage the whole buffer is mapped
+ * once, persistently and coherently, otherwise each region is mapped unsynchronized when it's begun.
+ * <p>
+ * Each frame, or batch, calls {@link #begin()}, writes the vertices into the returned buffer, calls {@link #end()} and then
+ * draws from {@link #getBuffer()} at the byte offset {@link #getOffset()}. The time spent waiting for the GPU in
+ * {@link #begin()} is reported by {@link #getStallNanos()}, more regions help if it's not 0. Must be used on the GL thread. */
+public class JoglStreamingBuffer implements Disposable {
+	static final int GL_MAP_PERSISTENT_BIT = 0x40;
+	static final int GL_MAP_COHERENT_BIT = 0x80;
+	/** how long {@link #begin()} waits for a fence at a time, in nanoseconds **/
+	private static final long FENCE_TIMEOUT = 1000000000L;
+
+	private final GL30 gl;
+	private final JoglGL30 backend;
+	private final int target;
+	private final int regionSize;
+	/** the fence behind the draw calls of each region, 0 if none is pending **/
+	private final long[] fences;
+	private final boolean persistent;
+	/** the views of the regions of the persistent mapping, null without buffer storage **/
+	private final ByteBuffer[] views;
+	private final int buffer;
+	private int region = -1;
+	private ByteBuffer current;
+	private long stallNanos;
+	private int stalls;
+
+	/** @param gl the instance to bind the buffer with, so the binding is seen by the GL layers
+	 * @param backend the backend instance behind it, for the sync objects and the mapping
+	 * @param target the binding point used to map the buffer, e.g. {@link GL30#GL_ARRAY_BUFFER}
+	 * @param regionSize the size in bytes of each region
+	 * @throws GdxRuntimeException if the context has no sync objects to fence the regions with */
+	public JoglStreamingBuffer (GL30 gl, JoglGL30 backend, int target, int regionSize, int regions) {
+		if (regions < 2) throw new IllegalArgumentException("regions must be >= 2: " + regions);
+		if (!backend.hasSync()) throw new GdxRuntimeException("Streaming buffers require GL 3.2, GLES 3.0 or GL_ARB_sync");
+		this.gl = gl;
+		this.backend = backend;
+		this.target = target;
+		this.regionSize = regionSize;
+		fences = new long[regions];
+		final GL raw = backend.gl;
+		persistent = raw.isGL4() && raw.isExtensionAvailable("GL_ARB_buffer_storage");
+		final int size = regionSize * regions;
+		buffer = gl.glGenBuffer();
+		gl.glBindBuffer(target, buffer);
+		if (persistent) {
+			final int flags = GL30.GL_MAP_WRITE_BIT | GL_MAP_PERSISTENT_BIT | GL_MAP_COHERENT_BIT;
+			raw.getGL4().glBufferStorage(target, size, null, flags);
+			final ByteBuffer mapped = raw.glMapBufferRange(target, 0, size, flags);
+			if (mapped == null) throw new GdxRuntimeException("Couldn't map the streaming buffer");
+			views = new ByteBuffer[regions];
+			for (int i = 0; i < regions; i++) {
+				mapped.limit((i + 1) * regionSize).position(i * regionSize);
+				views[i] = mapped.slice().order(ByteOrder.nativeOrder());
+			}
+		} else {
+			gl.glBufferData(target, size, null, GL30.GL_STREAM_DRAW);
+			views = null;
+		}
+		gl.glBindBuffer(target, 0);
+	}
+
+	/** Fences the draw calls issued since the last region was begun and waits until the GPU is done with the next one.
+	 * @return the next region to write to, positioned at 0 and limited to the region size */
+	public ByteBuffer begin () {
+		if (current != null) throw new GdxRuntimeException("end() must be called before begin()");
+		if (region >= 0) fences[region] = backend.glFenceSync(GL30.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+		region = (region + 1) % fences.length;
+		final long fence = fences[region];
+		if (fence != 0) {
+			int status = backend.glClientWaitSync(fence, 0, 0);
+			if (status == GL30.GL_TIMEOUT_EXPIRED) {
+				final long start = System.nanoTime();
+				do
+					status = backend.glClientWaitSync(fence, GL30.GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT);
+				while (status == GL30.GL_TIMEOUT_EXPIRED);
+				stallNanos += System.nanoTime() - start;
+				stalls++;
+			}
+			backend.glDeleteSync(fence);
+			fences[region] = 0;
+		}
+		if (persistent) {
+			current = views[region];
+		} else {
+			gl.glBindBuffer(target, buffer);
+			final int access = GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_UNSYNCHRONIZED_BIT | GL30.GL_MAP_INVALIDATE_RANGE_BIT;
+			current = backend.gl.glMapBufferRange(target, getOffset(), regionSize, access);
+			gl.glBindBuffer(target, 0);
+			if (current == null) throw new GdxRuntimeException("Couldn't map the streaming buffer");
+			current.order(ByteOrder.nativeOrder());
+		}
+		current.clear();
+		return current;
+	}
+
+	/** Finishes writing the current region, the draw calls sourcing it can be issued afterwards. */
+	public void end () {
+		if (current == null) throw new GdxRuntimeException("begin() must be called before end()");
+		if (!persistent) {
+			gl.glBindBuffer(target, buffer);
+			gl.glUnmapBuffer(target);
+			gl.glBindBuffer(target, 0);
+		}
+		current = null;
+	}
+
+	/** @return the buffer object to draw from */
+	public int getBuffer () {
+		return buffer;
+	}
+
+	/** @return the byte offset of the current region in the buffer object */
+	public int getOffset () {
+		return region * regionSize;
+	}
+
+	/** @return whether the buffer is mapped persistently instead of once per region */
+	public boolean isPersistent () {
+		return persistent;
+	}
+
+	/** @return the nanoseconds {@link #begin()} has waited for the GPU since the last {@link #resetStats()} */
+	public long getStallNanos () {
+		return stallNanos;
+	}
+
+	/** @return how often {@link #begin()} had to wait for the GPU since the last {@link #resetStats()} */
+	public int getStalls () {
+		return stalls;
+	}
+
+	public void resetStats () {
+		stallNanos = 0;
+		stalls = 0;
+	}
+
+	@Override
+	public void dispose () {
+		for (int i = 0; i < fences.length; i++) {
+			if (fences[i] != 0) backend.glDeleteSync(fences[i]);
+			fences[i] = 0;
+		}
+		if (persistent || current != null) {
+			gl.glBindBuffer(target, buffer);
+			gl.glUnmapBuffer(target);
+			gl.glBindBuffer(target, 0);
+		}
+		current = null;
+		gl.glDeleteBuffer(buffer);
+	}
+}
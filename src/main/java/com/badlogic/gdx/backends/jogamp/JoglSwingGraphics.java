@@ -51,6 +51,12 @@ public class JoglSwingGraphics extends JoglGraphicsBase {
 		return (GLJPanel) super.getCanvas();
 	}
 
+	@Override
+	boolean isGLStateShared() {
+		// GLJPanel composites its offscreen buffer with its own GL calls after each frame
+		return true;
+	}
+
 	@Override
 	public int getHeight() {
 		return getCanvas().getHeight();
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.jogamp.common.nio.Buffers;
+
+/** Uniform blocks shared by all programs, e.g. the camera, the lights and the time, written once per frame instead of being set
+ * on every program with glUniform calls. Each block added with {@link #addBlock(String, int)} gets a range of a
+ * {@link JoglStreamingBuffer} and a binding point, taken from the top of the range so the low ones stay free for the
+ * application. Every program declaring a uniform block of that name gets it bound through glUniformBlockBinding the first time
+ * it's used after it was linked, so the program doesn't have to be known to the manager.
+ * <p>
+ * The contents of the blocks are written into {@link #getBlock(int)}, in the std140 layout the blocks are declared with, and
+ * uploaded into the next region of the ring by {@link #update()}, which binds the ranges with glBindBufferRange. Blocks which
+ * weren't written since the last update keep their contents. Must be used on the GL thread. Enabled through
+ * {@link JoglApplicationConfiguration#uniformBufferSize}. */
+public class JoglUniformBufferManager implements Disposable {
+	/** the number of regions of the ring, one per frame the GPU may lag behind **/
+	private static final int REGIONS = 3;
+
+	private final GL30 gl;
+	private final JoglGL30 backend;
+	private final int alignment;
+	private final int maxBlockSize;
+	private final int maxBindings;
+	private final int regionSize;
+	/** the contents of all blocks, copied into the ring by {@link #update()} **/
+	private final ByteBuffer shadow;
+	private final Array<String> names = new Array<String>();
+	private final ObjectIntMap<String> blocks = new ObjectIntMap<String>();
+	private final IntArray offsets = new IntArray();
+	private final IntArray sizes = new IntArray();
+	/** linked programs whose blocks are bound on their next use **/
+	private final IntSet pending = new IntSet();
+	/** programs whose blocks are bound **/
+	private final IntSet bound = new IntSet();
+	private final IntBuffer params = Buffers.newDirectIntBuffer(1);
+	private JoglStreamingBuffer ring;
+	private int allocated;
+	private int current;
+	private boolean dirty;
+	private long uploads;
+	private long uploadedBytes;
+	private long blockBindings;
+
+	/** @param gl the instance to bind the buffer with, so the bindings are seen by the GL layers
+	 * @param backend the backend instance behind it
+	 * @param capabilities the capabilities of the context the offset alignment and the limits are taken from, null for the
+	 *           minimums of GL 3.0
+	 * @param capacity the size in bytes of all blocks together, rounded up to the offset alignment of the context
+	 * @throws GdxRuntimeException if the context has no sync objects to stream the blocks with, see {@link #isSupported(JoglGL20)} */
+	public JoglUniformBufferManager (GL30 gl, JoglGL30 backend, JoglGLCapabilities capabilities, int capacity) {
+		if (!isSupported(backend)) throw new GdxRuntimeException("Uniform buffers require GL 3.2, GLES 3.0 or GL_ARB_sync");
+		this.gl = gl;
+		this.backend = backend;
+		alignment = capabilities != null ? Math.max(1, capabilities.getLimit(GL30.GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT, 256)) : 256;
+		maxBlockSize = capabilities != null ? capabilities.getLimit(GL30.GL_MAX_UNIFORM_BLOCK_SIZE, 16384) : 16384;
+		maxBindings = capabilities != null ? capabilities.getLimit(GL30.GL_MAX_UNIFORM_BUFFER_BINDINGS, 24) : 24;
+		regionSize = align(capacity);
+		shadow = ByteBuffer.allocate(regionSize).order(ByteOrder.nativeOrder());
+	}
+
+	/** @return true if the context has the sync objects the ring of the blocks is fenced with */
+	public static boolean isSupported (JoglGL20 backend) {
+		return backend instanceof JoglGL30 && ((JoglGL30)backend).hasSync();
+	}
+
+	private int align (int size) {
+		return (size + alignment - 1) / alignment * alignment;
+	}
+
+	/** Adds a block every program declaring a uniform block of the name gets bound, including the programs linked before.
+	 * @param size the size in bytes of the block, at least its GL_UNIFORM_BLOCK_DATA_SIZE
+	 * @return the index of the block, to be passed to {@link #getBlock(int)}
+	 * @throws GdxRuntimeException if the name was already added or the block doesn't fit */
+	public int addBlock (String name, int size) {
+		if (blocks.containsKey(name)) throw new GdxRuntimeException("Uniform block already added: " + name);
+		if (size <= 0 || size > maxBlockSize)
+			throw new GdxRuntimeException("Uniform block " + name + " must be between 1 and " + maxBlockSize + " bytes: " + size);
+		if (names.size >= maxBindings) throw new GdxRuntimeException("No uniform buffer binding left for " + name);
+		if (allocated + size > regionSize)
+			throw new GdxRuntimeException("Uniform block " + name + " doesn't fit, " + (regionSize - allocated) + " bytes left");
+		final int block = names.size;
+		names.add(name);
+		blocks.put(name, block);
+		offsets.add(allocated);
+		sizes.add(size);
+		allocated = Math.min(regionSize, align(allocated + size));
+		dirty = true;
+		// the programs already bound may declare the new block as well
+		pending.addAll(bound);
+		bound.clear();
+		if (current != 0 && pending.remove(current)) bind(current);
+		return block;
+	}
+
+	/** @return the index of the block or -1 if no block of the name was added */
+	public int getBlockIndex (String name) {
+		return blocks.get(name, -1);
+	}
+
+	/** @return the binding point of the block */
+	public int getBinding (int block) {
+		return maxBindings - 1 - block;
+	}
+
+	/** @return the contents of the block, positioned at its start and limited to its end, to be written before {@link #update()} */
+	public ByteBuffer getBlock (int block) {
+		dirty = true;
+		shadow.limit(regionSize).position(offsets.get(block));
+		shadow.limit(offsets.get(block) + sizes.get(block));
+		return shadow;
+	}
+
+	/** Uploads the blocks into the next region of the ring and binds their ranges, if any was written since the last update. To be
+	 * called once per frame after the blocks were written and before the first draw call sourcing them. */
+	public void update () {
+		if (!dirty || allocated == 0) return;
+		if (ring == null) ring = new JoglStreamingBuffer(gl, backend, GL30.GL_UNIFORM_BUFFER, regionSize, REGIONS);
+		final ByteBuffer region = ring.begin();
+		shadow.limit(allocated).position(0);
+		region.put(shadow);
+		ring.end();
+		final int buffer = ring.getBuffer(), offset = ring.getOffset();
+		for (int i = 0; i < names.size; i++)
+			gl.glBindBufferRange(GL30.GL_UNIFORM_BUFFER, getBinding(i), buffer, offset + offsets.get(i), sizes.get(i));
+		dirty = false;
+		uploads++;
+		uploadedBytes += allocated;
+	}
+
+	/** Called by the backend once the program was linked, its block bindings were reset. */
+	void linked (int program) {
+		bound.remove(program);
+		if (program == current)
+			bind(program);
+		else
+			pending.add(program);
+	}
+
+	/** Called by the backend when the program is made current. */
+	void used (int program) {
+		current = program;
+		if (pending.remove(program)) bind(program);
+	}
+
+	/** Called by the backend when the program is deleted. */
+	void deleted (int program) {
+		pending.remove(program);
+		bound.remove(program);
+	}
+
+	private void bind (int program) {
+		bound.add(program);
+		if (names.size == 0 || getProgram(program, GL30.GL_LINK_STATUS) != GL30.GL_TRUE) return;
+		for (int i = 0, n = getProgram(program, GL30.GL_ACTIVE_UNIFORM_BLOCKS); i < n; i++) {
+			final int block = blocks.get(backend.glGetActiveUniformBlockName(program, i), -1);
+			if (block < 0) continue;
+			backend.glUniformBlockBinding(program, i, getBinding(block));
+			blockBindings++;
+		}
+	}
+
+	private int getProgram (int program, int pname) {
+		params.clear();
+		backend.glGetProgramiv(program, pname, params);
+		return params.get(0);
+	}
+
+	/** Forgets the buffer and the programs without deleting them, to be called when the context they belonged to is gone. The
+	 * blocks and their contents are kept and uploaded again by the next {@link #update()}. */
+	public void invalidate () {
+		ring = null;
+		pending.clear();
+		bound.clear();
+		current = 0;
+		dirty = true;
+	}
+
+	/** @return the number of uploads since the last {@link #resetCounters()} */
+	public long getUploads () {
+		return uploads;
+	}
+
+	/** @return the number of bytes uploaded since the last {@link #resetCounters()} */
+	public long getUploadedBytes () {
+		return uploadedBytes;
+	}
+
+	/** @return the number of program blocks bound since the last {@link #resetCounters()} */
+	public long getBlockBindings () {
+		return blockBindings;
+	}
+
+	public void resetCounters () {
+		uploads = 0;
+		uploadedBytes = 0;
+		blockBindings = 0;
+	}
+
+	@Override
+	public void dispose () {
+		if (ring != null) ring.dispose();
+		ring = null;
+	}
+}
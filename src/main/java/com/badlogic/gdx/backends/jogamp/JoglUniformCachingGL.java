@@ -0,0 +1,681 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.IntMap;
+
+/** Remembers the last value uploaded to each uniform location of each program and drops glUniform* calls which would upload the
+ * same value again. The scalar, buffer and array variants of an entry point share the cached value, so glUniform4f followed by
+ * an equal glUniform4fv is dropped as well. The glProgramUniform* calls of GL 3.1 share the values with the glUniform* calls
+ * made while their program is in use.
+ * <p>
+ * The values of a program are forgotten when it's linked or deleted. Uniforms set through anything but this instance while a
+ * program is in use must be followed by {@link #invalidate()}. Enabled through {@link JoglApplicationConfiguration#cacheUniforms}. */
+public class JoglUniformCachingGL extends JoglGLDelegate {
+	private static final int UNKNOWN = -1;
+	// one kind per entry point family, the float and int vectors are followed by their component count
+	private static final int FLOAT = 0, INT = 5, UINT = 10, MATRIX2 = 15, MATRIX3 = 16, MATRIX4 = 17, MATRIX2X3 = 18,
+		MATRIX3X2 = 19, MATRIX2X4 = 20, MATRIX4X2 = 21, MATRIX3X4 = 22, MATRIX4X3 = 23;
+	private static final int TRANSPOSED = 0x100;
+
+	/** The last value uploaded to a location. */
+	static class Uniform {
+		int kind = UNKNOWN;
+		int length;
+		/** the location of the array this location is an element of, its value is never cached **/
+		int array = UNKNOWN;
+		float[] floats = new float[4];
+		int[] ints = new int[4];
+
+		/** @return false if the uniform already holds the value, otherwise it's stored and true is returned */
+		boolean set (int kind, float x, float y, float z, float w, int length) {
+			final float[] floats = this.floats;
+			if (this.kind == kind && this.length == length && floats[0] == x && (length < 2 || floats[1] == y)
+				&& (length < 3 || floats[2] == z) && (length < 4 || floats[3] == w)) return false;
+			this.kind = kind;
+			this.length = length;
+			floats[0] = x;
+			floats[1] = y;
+			floats[2] = z;
+			floats[3] = w;
+			return true;
+		}
+
+		boolean set (int kind, int x, int y, int z, int w, int length) {
+			final int[] ints = this.ints;
+			if (this.kind == kind && this.length == length && ints[0] == x && (length < 2 || ints[1] == y)
+				&& (length < 3 || ints[2] == z) && (length < 4 || ints[3] == w)) return false;
+			this.kind = kind;
+			this.length = length;
+			ints[0] = x;
+			ints[1] = y;
+			ints[2] = z;
+			ints[3] = w;
+			return true;
+		}
+
+		boolean set (int kind, float[] values, int offset, int length) {
+			if (length < 0 || offset + length > values.length) return forget();
+			if (this.kind == kind && this.length == length) {
+				int i = 0;
+				while (i < length && floats[i] == values[offset + i])
+					i++;
+				if (i == length) return false;
+			}
+			if (floats.length < length) floats = new float[length];
+			System.arraycopy(values, offset, floats, 0, length);
+			this.kind = kind;
+			this.length = length;
+			return true;
+		}
+
+		boolean set (int kind, FloatBuffer values, int length) {
+			if (length < 0 || values.remaining() < length) return forget();
+			final int position = values.position();
+			if (this.kind == kind && this.length == length) {
+				int i = 0;
+				while (i < length && floats[i] == values.get(position + i))
+					i++;
+				if (i == length) return false;
+			}
+			if (floats.length < length) floats = new float[length];
+			for (int i = 0; i < length; i++)
+				floats[i] = values.get(position + i);
+			this.kind = kind;
+			this.length = length;
+			return true;
+		}
+
+		boolean set (int kind, int[] values, int offset, int length) {
+			if (length < 0 || offset + length > values.length) return forget();
+			if (this.kind == kind && this.length == length) {
+				int i = 0;
+				while (i < length && ints[i] == values[offset + i])
+					i++;
+				if (i == length) return false;
+			}
+			if (ints.length < length) ints = new int[length];
+			System.arraycopy(values, offset, ints, 0, length);
+			this.kind = kind;
+			this.length = length;
+			return true;
+		}
+
+		boolean set (int kind, IntBuffer values, int length) {
+			if (length < 0 || values.remaining() < length) return forget();
+			final int position = values.position();
+			if (this.kind == kind && this.length == length) {
+				int i = 0;
+				while (i < length && ints[i] == values.get(position + i))
+					i++;
+				if (i == length) return false;
+			}
+			if (ints.length < length) ints = new int[length];
+			for (int i = 0; i < length; i++)
+				ints[i] = values.get(position + i);
+			this.kind = kind;
+			this.length = length;
+			return true;
+		}
+
+		/** Drops the value for calls which can't be compared, GL reports the error if there is one. */
+		private boolean forget () {
+			kind = UNKNOWN;
+			return true;
+		}
+	}
+
+	/** program -> location -> last uploaded value **/
+	private final IntMap<IntMap<Uniform>> programs = new IntMap<IntMap<Uniform>>();
+	private int program = UNKNOWN;
+	private IntMap<Uniform> uniforms;
+	private long skippedUploads;
+
+	public JoglUniformCachingGL (GL20 gl20) {
+		super(gl20);
+	}
+
+	/** Forgets all cached values and the current program, to be called after code which doesn't go through this instance set
+	 * uniforms or switched programs. */
+	public void invalidate () {
+		programs.clear();
+		program = UNKNOWN;
+		uniforms = null;
+	}
+
+	/** @return the number of dropped glUniform* calls */
+	public long getSkippedUploads () {
+		return skippedUploads;
+	}
+
+	public void resetCounters () {
+		skippedUploads = 0;
+	}
+
+	/** @return the cached values of the program, null if it can't have any */
+	private IntMap<Uniform> uniforms (int program) {
+		if (program <= 0) return null;
+		IntMap<Uniform> uniforms = programs.get(program);
+		if (uniforms == null) programs.put(program, uniforms = new IntMap<Uniform>());
+		return uniforms;
+	}
+
+	/** @return the cached value of the location in the program, null if the call can't be cached */
+	private Uniform uniform (IntMap<Uniform> uniforms, int location) {
+		if (uniforms == null || location < 0) return null;
+		Uniform uniform = uniforms.get(location);
+		if (uniform == null) uniforms.put(location, uniform = new Uniform());
+		if (uniform.array != UNKNOWN) {
+			// writing a single element changes the value cached for the whole array
+			final Uniform array = uniforms.get(uniform.array);
+			if (array != null) array.kind = UNKNOWN;
+			return null;
+		}
+		return uniform;
+	}
+
+	/** Marks the locations of the elements following the first one of an array upload. */
+	private void elements (IntMap<Uniform> uniforms, int location, int count) {
+		for (int i = 1; i < count; i++) {
+			Uniform element = uniforms.get(location + i);
+			if (element == null) uniforms.put(location + i, element = new Uniform());
+			element.kind = UNKNOWN;
+			element.array = location;
+		}
+	}
+
+	private boolean skip () {
+		skippedUploads++;
+		return false;
+	}
+
+	private boolean changed (IntMap<Uniform> uniforms, int location, int kind, float x, float y, float z, float w, int length) {
+		final Uniform uniform = uniform(uniforms, location);
+		return uniform == null || uniform.set(kind, x, y, z, w, length) || skip();
+	}
+
+	private boolean changed (IntMap<Uniform> uniforms, int location, int kind, int x, int y, int z, int w, int length) {
+		final Uniform uniform = uniform(uniforms, location);
+		return uniform == null || uniform.set(kind, x, y, z, w, length) || skip();
+	}
+
+	private boolean changed (IntMap<Uniform> uniforms, int location, int kind, float[] values, int offset, int count,
+		int components) {
+		final Uniform uniform = uniform(uniforms, location);
+		if (uniform == null) return true;
+		if (!uniform.set(kind, values, offset, count * components)) return skip();
+		if (count > 1) elements(uniforms, location, count);
+		return true;
+	}
+
+	private boolean changed (IntMap<Uniform> uniforms, int location, int kind, FloatBuffer values, int count, int components) {
+		final Uniform uniform = uniform(uniforms, location);
+		if (uniform == null) return true;
+		if (!uniform.set(kind, values, count * components)) return skip();
+		if (count > 1) elements(uniforms, location, count);
+		return true;
+	}
+
+	private boolean changed (IntMap<Uniform> uniforms, int location, int kind, int[] values, int offset, int count,
+		int components) {
+		final Uniform uniform = uniform(uniforms, location);
+		if (uniform == null) return true;
+		if (!uniform.set(kind, values, offset, count * components)) return skip();
+		if (count > 1) elements(uniforms, location, count);
+		return true;
+	}
+
+	private boolean changed (IntMap<Uniform> uniforms, int location, int kind, IntBuffer values, int count, int components) {
+		final Uniform uniform = uniform(uniforms, location);
+		if (uniform == null) return true;
+		if (!uniform.set(kind, values, count * components)) return skip();
+		if (count > 1) elements(uniforms, location, count);
+		return true;
+	}
+
+	private static int matrix (int kind, boolean transpose) {
+		return transpose ? kind | TRANSPOSED : kind;
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		if (program != this.program) {
+			this.program = program;
+			uniforms = uniforms(program);
+		}
+		gl20.glUseProgram(program);
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		// linking resets the uniforms and may move their locations
+		final IntMap<Uniform> uniforms = programs.get(program);
+		if (uniforms != null) uniforms.clear();
+		gl20.glLinkProgram(program);
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		programs.remove(program);
+		if (program == this.program) {
+			this.program = UNKNOWN;
+			uniforms = null;
+		}
+		gl20.glDeleteProgram(program);
+	}
+
+	@Override
+	public void glUniform1f (int location, float x) {
+		if (changed(uniforms, location, FLOAT + 1, x, 0, 0, 0, 1)) gl20.glUniform1f(location, x);
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		if (changed(uniforms, location, FLOAT + 1, v, count, 1)) gl20.glUniform1fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform1i (int location, int x) {
+		if (changed(uniforms, location, INT + 1, x, 0, 0, 0, 1)) gl20.glUniform1i(location, x);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		if (changed(uniforms, location, INT + 1, v, count, 1)) gl20.glUniform1iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform2f (int location, float x, float y) {
+		if (changed(uniforms, location, FLOAT + 2, x, y, 0, 0, 2)) gl20.glUniform2f(location, x, y);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		if (changed(uniforms, location, FLOAT + 2, v, count, 2)) gl20.glUniform2fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform2i (int location, int x, int y) {
+		if (changed(uniforms, location, INT + 2, x, y, 0, 0, 2)) gl20.glUniform2i(location, x, y);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		if (changed(uniforms, location, INT + 2, v, count, 2)) gl20.glUniform2iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform3f (int location, float x, float y, float z) {
+		if (changed(uniforms, location, FLOAT + 3, x, y, z, 0, 3)) gl20.glUniform3f(location, x, y, z);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		if (changed(uniforms, location, FLOAT + 3, v, count, 3)) gl20.glUniform3fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform3i (int location, int x, int y, int z) {
+		if (changed(uniforms, location, INT + 3, x, y, z, 0, 3)) gl20.glUniform3i(location, x, y, z);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		if (changed(uniforms, location, INT + 3, v, count, 3)) gl20.glUniform3iv(location, count, v);
+	}
+
+	@Override
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		if (changed(uniforms, location, FLOAT + 4, x, y, z, w, 4)) gl20.glUniform4f(location, x, y, z, w);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		if (changed(uniforms, location, FLOAT + 4, v, count, 4)) gl20.glUniform4fv(location, count, v);
+	}
+
+	@Override
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		if (changed(uniforms, location, INT + 4, x, y, z, w, 4)) gl20.glUniform4i(location, x, y, z, w);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		if (changed(uniforms, location, INT + 4, v, count, 4)) gl20.glUniform4iv(location, count, v);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms, location, matrix(MATRIX2, transpose), value, count, 4))
+			gl20.glUniformMatrix2fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms, location, matrix(MATRIX3, transpose), value, count, 9))
+			gl20.glUniformMatrix3fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms, location, matrix(MATRIX4, transpose), value, count, 16))
+			gl20.glUniformMatrix4fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		if (changed(uniforms, location, FLOAT + 1, v, offset, count, 1)) gl20.glUniform1fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		if (changed(uniforms, location, INT + 1, v, offset, count, 1)) gl20.glUniform1iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		if (changed(uniforms, location, FLOAT + 2, v, offset, count, 2)) gl20.glUniform2fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		if (changed(uniforms, location, INT + 2, v, offset, count, 2)) gl20.glUniform2iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		if (changed(uniforms, location, FLOAT + 3, v, offset, count, 3)) gl20.glUniform3fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		if (changed(uniforms, location, INT + 3, v, offset, count, 3)) gl20.glUniform3iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		if (changed(uniforms, location, FLOAT + 4, v, offset, count, 4)) gl20.glUniform4fv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		if (changed(uniforms, location, INT + 4, v, offset, count, 4)) gl20.glUniform4iv(location, count, v, offset);
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		if (changed(uniforms, location, matrix(MATRIX2, transpose), value, offset, count, 4))
+			gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		if (changed(uniforms, location, matrix(MATRIX3, transpose), value, offset, count, 9))
+			gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		if (changed(uniforms, location, matrix(MATRIX4, transpose), value, offset, count, 16))
+			gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
+	}
+
+	@Override
+	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms, location, matrix(MATRIX2X3, transpose), value, count, 6))
+			gl30.glUniformMatrix2x3fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms, location, matrix(MATRIX3X2, transpose), value, count, 6))
+			gl30.glUniformMatrix3x2fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms, location, matrix(MATRIX2X4, transpose), value, count, 8))
+			gl30.glUniformMatrix2x4fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms, location, matrix(MATRIX4X2, transpose), value, count, 8))
+			gl30.glUniformMatrix4x2fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms, location, matrix(MATRIX3X4, transpose), value, count, 12))
+			gl30.glUniformMatrix3x4fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms, location, matrix(MATRIX4X3, transpose), value, count, 12))
+			gl30.glUniformMatrix4x3fv(location, count, transpose, value);
+	}
+
+	@Override
+	public void glUniform1uiv (int location, int count, IntBuffer value) {
+		if (changed(uniforms, location, UINT + 1, value, count, 1)) gl30.glUniform1uiv(location, count, value);
+	}
+
+	@Override
+	public void glUniform3uiv (int location, int count, IntBuffer value) {
+		if (changed(uniforms, location, UINT + 3, value, count, 3)) gl30.glUniform3uiv(location, count, value);
+	}
+
+	@Override
+	public void glUniform4uiv (int location, int count, IntBuffer value) {
+		if (changed(uniforms, location, UINT + 4, value, count, 4)) gl30.glUniform4uiv(location, count, value);
+	}
+
+	@Override
+	public void glProgramUniform1i (int program, int location, int v0) {
+		if (changed(uniforms(program), location, INT + 1, v0, 0, 0, 0, 1)) gl31.glProgramUniform1i(program, location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2i (int program, int location, int v0, int v1) {
+		if (changed(uniforms(program), location, INT + 2, v0, v1, 0, 0, 2)) gl31.glProgramUniform2i(program, location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3i (int program, int location, int v0, int v1, int v2) {
+		if (changed(uniforms(program), location, INT + 3, v0, v1, v2, 0, 3)) gl31.glProgramUniform3i(program, location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4i (int program, int location, int v0, int v1, int v2, int v3) {
+		if (changed(uniforms(program), location, INT + 4, v0, v1, v2, v3, 4))
+			gl31.glProgramUniform4i(program, location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1ui (int program, int location, int v0) {
+		if (changed(uniforms(program), location, UINT + 1, v0, 0, 0, 0, 1)) gl31.glProgramUniform1ui(program, location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2ui (int program, int location, int v0, int v1) {
+		if (changed(uniforms(program), location, UINT + 2, v0, v1, 0, 0, 2)) gl31.glProgramUniform2ui(program, location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3ui (int program, int location, int v0, int v1, int v2) {
+		if (changed(uniforms(program), location, UINT + 3, v0, v1, v2, 0, 3))
+			gl31.glProgramUniform3ui(program, location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4ui (int program, int location, int v0, int v1, int v2, int v3) {
+		if (changed(uniforms(program), location, UINT + 4, v0, v1, v2, v3, 4))
+			gl31.glProgramUniform4ui(program, location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1f (int program, int location, float v0) {
+		if (changed(uniforms(program), location, FLOAT + 1, v0, 0, 0, 0, 1)) gl31.glProgramUniform1f(program, location, v0);
+	}
+
+	@Override
+	public void glProgramUniform2f (int program, int location, float v0, float v1) {
+		if (changed(uniforms(program), location, FLOAT + 2, v0, v1, 0, 0, 2)) gl31.glProgramUniform2f(program, location, v0, v1);
+	}
+
+	@Override
+	public void glProgramUniform3f (int program, int location, float v0, float v1, float v2) {
+		if (changed(uniforms(program), location, FLOAT + 3, v0, v1, v2, 0, 3))
+			gl31.glProgramUniform3f(program, location, v0, v1, v2);
+	}
+
+	@Override
+	public void glProgramUniform4f (int program, int location, float v0, float v1, float v2, float v3) {
+		if (changed(uniforms(program), location, FLOAT + 4, v0, v1, v2, v3, 4))
+			gl31.glProgramUniform4f(program, location, v0, v1, v2, v3);
+	}
+
+	@Override
+	public void glProgramUniform1iv (int program, int location, IntBuffer value) {
+		if (changed(uniforms(program), location, INT + 1, value, value.remaining() / 1, 1))
+			gl31.glProgramUniform1iv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform2iv (int program, int location, IntBuffer value) {
+		if (changed(uniforms(program), location, INT + 2, value, value.remaining() / 2, 2))
+			gl31.glProgramUniform2iv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform3iv (int program, int location, IntBuffer value) {
+		if (changed(uniforms(program), location, INT + 3, value, value.remaining() / 3, 3))
+			gl31.glProgramUniform3iv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform4iv (int program, int location, IntBuffer value) {
+		if (changed(uniforms(program), location, INT + 4, value, value.remaining() / 4, 4))
+			gl31.glProgramUniform4iv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform1uiv (int program, int location, IntBuffer value) {
+		if (changed(uniforms(program), location, UINT + 1, value, value.remaining() / 1, 1))
+			gl31.glProgramUniform1uiv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform2uiv (int program, int location, IntBuffer value) {
+		if (changed(uniforms(program), location, UINT + 2, value, value.remaining() / 2, 2))
+			gl31.glProgramUniform2uiv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform3uiv (int program, int location, IntBuffer value) {
+		if (changed(uniforms(program), location, UINT + 3, value, value.remaining() / 3, 3))
+			gl31.glProgramUniform3uiv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform4uiv (int program, int location, IntBuffer value) {
+		if (changed(uniforms(program), location, UINT + 4, value, value.remaining() / 4, 4))
+			gl31.glProgramUniform4uiv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform1fv (int program, int location, FloatBuffer value) {
+		if (changed(uniforms(program), location, FLOAT + 1, value, value.remaining() / 1, 1))
+			gl31.glProgramUniform1fv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform2fv (int program, int location, FloatBuffer value) {
+		if (changed(uniforms(program), location, FLOAT + 2, value, value.remaining() / 2, 2))
+			gl31.glProgramUniform2fv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform3fv (int program, int location, FloatBuffer value) {
+		if (changed(uniforms(program), location, FLOAT + 3, value, value.remaining() / 3, 3))
+			gl31.glProgramUniform3fv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniform4fv (int program, int location, FloatBuffer value) {
+		if (changed(uniforms(program), location, FLOAT + 4, value, value.remaining() / 4, 4))
+			gl31.glProgramUniform4fv(program, location, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms(program), location, matrix(MATRIX2, transpose), value, value.remaining() / 4, 4))
+			gl31.glProgramUniformMatrix2fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms(program), location, matrix(MATRIX3, transpose), value, value.remaining() / 9, 9))
+			gl31.glProgramUniformMatrix3fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms(program), location, matrix(MATRIX4, transpose), value, value.remaining() / 16, 16))
+			gl31.glProgramUniformMatrix4fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms(program), location, matrix(MATRIX2X3, transpose), value, value.remaining() / 6, 6))
+			gl31.glProgramUniformMatrix2x3fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms(program), location, matrix(MATRIX3X2, transpose), value, value.remaining() / 6, 6))
+			gl31.glProgramUniformMatrix3x2fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms(program), location, matrix(MATRIX2X4, transpose), value, value.remaining() / 8, 8))
+			gl31.glProgramUniformMatrix2x4fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms(program), location, matrix(MATRIX4X2, transpose), value, value.remaining() / 8, 8))
+			gl31.glProgramUniformMatrix4x2fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms(program), location, matrix(MATRIX3X4, transpose), value, value.remaining() / 12, 12))
+			gl31.glProgramUniformMatrix3x4fv(program, location, transpose, value);
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		if (changed(uniforms(program), location, matrix(MATRIX4X3, transpose), value, value.remaining() / 12, 12))
+			gl31.glProgramUniformMatrix4x3fv(program, location, transpose, value);
+	}
+}
@@ -0,0 +1,2457 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Comparator;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/** Checks glGetError after the GL calls and counts the errors per entry point and per call site, the first error of each call
+ * site is logged along with its stack trace. With {@link #LEVEL_FULL} every call is checked, which costs a round trip to the
+ * driver per call. With {@link #LEVEL_SAMPLED} only every n-th call and the end of each frame are checked, cheap enough to be
+ * left on: an error found that way can't be attributed to a single call, it's counted as sampled and every call of the rest of
+ * the frame and of the next one is checked, so an error which recurs each frame is caught at its call site. Additionally every
+ * n-th frame can be checked in full.
+ * <p>
+ * The call site is the first frame of the stack outside of the backend, with {@link JoglApplicationConfiguration#deferredRendering}
+ * the calls are replayed by the backend and only the entry points are known. The errors found are swallowed, glGetError of the
+ * application only reports the ones raised since the last check. Enabled through
+ * {@link JoglApplicationConfiguration#glValidation}. */
+public class JoglValidatingGL extends JoglGLDelegate {
+	static final String TAG = "JoglValidatingGL";
+	/** no validation, the layer isn't installed **/
+	public static final int LEVEL_OFF = 0;
+	/** every n-th call and the end of each frame are checked **/
+	public static final int LEVEL_SAMPLED = 1;
+	/** every call is checked **/
+	public static final int LEVEL_FULL = 2;
+	/** the entry point errors found by a sampled check are counted under **/
+	public static final String SAMPLED = "(sampled)";
+	/** the call site of the errors which couldn't be traced to the application **/
+	private static final String UNKNOWN_SITE = "(unknown)";
+	private static final String PACKAGE = JoglValidatingGL.class.getPackage().getName() + ".";
+
+	private final int level;
+	private final int callInterval;
+	private final int frameInterval;
+	/** entry point -> errors **/
+	private final ObjectIntMap<String> errors = new ObjectIntMap<String>();
+	/** entry point -> last error code **/
+	private final ObjectIntMap<String> errorCodes = new ObjectIntMap<String>();
+	/** entry point and call site -> errors **/
+	private final ObjectIntMap<String> sites = new ObjectIntMap<String>();
+	private final ObjectSet<String> logged = new ObjectSet<String>();
+	private int countdown;
+	/** whether every call of the current frame is checked **/
+	private boolean full;
+	/** the number of frames to check in full after a sampled error **/
+	private int fullFrames;
+	private long frames;
+	private long checks;
+	private long totalErrors;
+
+	/** @param level {@link #LEVEL_SAMPLED} or {@link #LEVEL_FULL}
+	 * @param callInterval with {@link #LEVEL_SAMPLED}, the number of calls between two checks
+	 * @param frameInterval with {@link #LEVEL_SAMPLED}, the number of frames between two frames checked in full, 0 for none */
+	public JoglValidatingGL (GL20 gl20, int level, int callInterval, int frameInterval) {
+		super(gl20);
+		if (level != LEVEL_SAMPLED && level != LEVEL_FULL) throw new IllegalArgumentException("invalid level: " + level);
+		this.level = level;
+		this.callInterval = Math.max(1, callInterval);
+		this.frameInterval = frameInterval;
+		countdown = this.callInterval;
+		full = level == LEVEL_FULL;
+	}
+
+	/** Checks the calls issued since the last check and decides how the next frame is checked, to be called on the GL thread at
+	 * the end of each frame. */
+	public void endFrame () {
+		if (level == LEVEL_FULL) return;
+		if (!full) drain(SAMPLED);
+		frames++;
+		if (fullFrames > 0) fullFrames--;
+		full = fullFrames > 0 || (frameInterval > 0 && frames % frameInterval == 0);
+	}
+
+	private void check (String entryPoint) {
+		if (!full && --countdown > 0) return;
+		countdown = callInterval;
+		// without every call being checked the error may have been raised by any call since the last check
+		drain(full ? entryPoint : SAMPLED);
+	}
+
+	private void drain (String entryPoint) {
+		checks++;
+		int error = gl20.glGetError();
+		// each flag of the driver holds one error, they're cleared one per call
+		for (int i = 0; i < 16 && error != GL_NO_ERROR; i++) {
+			report(entryPoint, error);
+			error = gl20.glGetError();
+		}
+	}
+
+	private void report (String entryPoint, int error) {
+		totalErrors++;
+		errors.getAndIncrement(entryPoint, 0, 1);
+		errorCodes.put(entryPoint, error);
+		if (!full) {
+			// the error was raised by one of the calls since the last check, look for it in the next frames
+			fullFrames = 2;
+			full = true;
+		}
+		if (entryPoint == SAMPLED) return;
+		final String site = entryPoint + " at " + callSite();
+		sites.getAndIncrement(site, 0, 1);
+		if (logged.add(site)) Gdx.app.error(TAG, errorName(error) + " raised by " + site, new Throwable("called here"));
+	}
+
+	private static String callSite () {
+		for (StackTraceElement element : new Throwable().getStackTrace())
+			if (!element.getClassName().startsWith(PACKAGE)) return element.toString();
+		return UNKNOWN_SITE;
+	}
+
+	/** @return the name of the GL error code */
+	public static String errorName (int error) {
+		switch (error) {
+		case GL_INVALID_ENUM:
+			return "GL_INVALID_ENUM";
+		case GL_INVALID_VALUE:
+			return "GL_INVALID_VALUE";
+		case GL_INVALID_OPERATION:
+			return "GL_INVALID_OPERATION";
+		case GL_OUT_OF_MEMORY:
+			return "GL_OUT_OF_MEMORY";
+		case GL_INVALID_FRAMEBUFFER_OPERATION:
+			return "GL_INVALID_FRAMEBUFFER_OPERATION";
+		default:
+			return "0x" + Integer.toHexString(error);
+		}
+	}
+
+	/** @return the level, {@link #LEVEL_SAMPLED} or {@link #LEVEL_FULL} */
+	public int getLevel () {
+		return level;
+	}
+
+	/** @return the number of errors raised since the last {@link #resetCounters()} */
+	public long getErrors () {
+		return totalErrors;
+	}
+
+	/** @return the number of errors raised by the entry point, e.g. "glBindTexture", or found by sampled checks for
+	 *         {@link #SAMPLED} */
+	public int getErrors (String entryPoint) {
+		return errors.get(entryPoint, 0);
+	}
+
+	/** @return the last error code raised by the entry point or {@link GL20#GL_NO_ERROR} */
+	public int getLastError (String entryPoint) {
+		return errorCodes.get(entryPoint, GL_NO_ERROR);
+	}
+
+	/** @return the number of glGetError calls issued since the last {@link #resetCounters()} */
+	public long getChecks () {
+		return checks;
+	}
+
+	/** Logs the errors per entry point and per call site. */
+	public void logErrors () {
+		for (ObjectIntMap.Entry<String> entry : errors)
+			Gdx.app.error(TAG, entry.key + ": " + entry.value + " errors, last " + errorName(errorCodes.get(entry.key, 0)));
+		for (ObjectIntMap.Entry<String> entry : sites)
+			Gdx.app.error(TAG, entry.key + ": " + entry.value + " errors");
+	}
+
+	/** @return the number of errors and checks and the entry points raising the most errors */
+	public String getSummary () {
+		final Array<String> entryPoints = new Array<String>(errors.size);
+		for (ObjectIntMap.Entry<String> entry : errors)
+			entryPoints.add(entry.key);
+		entryPoints.sort(new Comparator<String>() {
+			@Override
+			public int compare (String a, String b) {
+				return errors.get(b, 0) - errors.get(a, 0);
+			}
+		});
+		final StringBuilder summary = new StringBuilder();
+		summary.append(totalErrors).append(" GL errors in ").append(checks).append(" checks");
+		for (int i = 0; i < entryPoints.size && i < 5; i++)
+			summary.append(i == 0 ? ": " : ", ").append(entryPoints.get(i)).append(' ').append(errors.get(entryPoints.get(i), 0));
+		return summary.toString();
+	}
+
+	public void resetCounters () {
+		errors.clear();
+		errorCodes.clear();
+		sites.clear();
+		checks = 0;
+		totalErrors = 0;
+	}
+
+	@Override
+	public int glGetError () {
+		return gl20.glGetError();
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		gl20.glActiveTexture(texture);
+		check("glActiveTexture");
+	}
+
+	@Override
+	public void glAttachShader (int program, int shader) {
+		gl20.glAttachShader(program, shader);
+		check("glAttachShader");
+	}
+
+	@Override
+	public void glBindAttribLocation (int program, int index, String name) {
+		gl20.glBindAttribLocation(program, index, name);
+		check("glBindAttribLocation");
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		gl20.glBindBuffer(target, buffer);
+		check("glBindBuffer");
+	}
+
+	@Override
+	public void glBindFramebuffer (int target, int framebuffer) {
+		gl20.glBindFramebuffer(target, framebuffer);
+		check("glBindFramebuffer");
+	}
+
+	@Override
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		gl20.glBindRenderbuffer(target, renderbuffer);
+		check("glBindRenderbuffer");
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		gl20.glBindTexture(target, texture);
+		check("glBindTexture");
+	}
+
+	@Override
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		gl20.glBlendColor(red, green, blue, alpha);
+		check("glBlendColor");
+	}
+
+	@Override
+	public void glBlendEquation (int mode) {
+		gl20.glBlendEquation(mode);
+		check("glBlendEquation");
+	}
+
+	@Override
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		gl20.glBlendEquationSeparate(modeRGB, modeAlpha);
+		check("glBlendEquationSeparate");
+	}
+
+	@Override
+	public void glBlendFunc (int sfactor, int dfactor) {
+		gl20.glBlendFunc(sfactor, dfactor);
+		check("glBlendFunc");
+	}
+
+	@Override
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+		check("glBlendFuncSeparate");
+	}
+
+	@Override
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		gl20.glBufferData(target, size, data, usage);
+		check("glBufferData");
+	}
+
+	@Override
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		gl20.glBufferSubData(target, offset, size, data);
+		check("glBufferSubData");
+	}
+
+	@Override
+	public int glCheckFramebufferStatus (int target) {
+		final int result = gl20.glCheckFramebufferStatus(target);
+		check("glCheckFramebufferStatus");
+		return result;
+	}
+
+	@Override
+	public void glClear (int mask) {
+		gl20.glClear(mask);
+		check("glClear");
+	}
+
+	@Override
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		gl20.glClearColor(red, green, blue, alpha);
+		check("glClearColor");
+	}
+
+	@Override
+	public void glClearDepthf (float depth) {
+		gl20.glClearDepthf(depth);
+		check("glClearDepthf");
+	}
+
+	@Override
+	public void glClearStencil (int s) {
+		gl20.glClearStencil(s);
+		check("glClearStencil");
+	}
+
+	@Override
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		gl20.glColorMask(red, green, blue, alpha);
+		check("glColorMask");
+	}
+
+	@Override
+	public void glCompileShader (int shader) {
+		gl20.glCompileShader(shader);
+		check("glCompileShader");
+	}
+
+	@Override
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border, int imageSize, Buffer data) {
+		gl20.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+		check("glCompressedTexImage2D");
+	}
+
+	@Override
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, Buffer data) {
+		gl20.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+		check("glCompressedTexSubImage2D");
+	}
+
+	@Override
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		gl20.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+		check("glCopyTexImage2D");
+	}
+
+	@Override
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		gl20.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+		check("glCopyTexSubImage2D");
+	}
+
+	@Override
+	public int glCreateProgram () {
+		final int result = gl20.glCreateProgram();
+		check("glCreateProgram");
+		return result;
+	}
+
+	@Override
+	public int glCreateShader (int type) {
+		final int result = gl20.glCreateShader(type);
+		check("glCreateShader");
+		return result;
+	}
+
+	@Override
+	public void glCullFace (int mode) {
+		gl20.glCullFace(mode);
+		check("glCullFace");
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		gl20.glDeleteBuffers(n, buffers);
+		check("glDeleteBuffers");
+	}
+
+	@Override
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		gl20.glDeleteFramebuffers(n, framebuffers);
+		check("glDeleteFramebuffers");
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		gl20.glDeleteProgram(program);
+		check("glDeleteProgram");
+	}
+
+	@Override
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl20.glDeleteRenderbuffers(n, renderbuffers);
+		check("glDeleteRenderbuffers");
+	}
+
+	@Override
+	public void glDeleteShader (int shader) {
+		gl20.glDeleteShader(shader);
+		check("glDeleteShader");
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		gl20.glDeleteTextures(n, textures);
+		check("glDeleteTextures");
+	}
+
+	@Override
+	public void glDepthFunc (int func) {
+		gl20.glDepthFunc(func);
+		check("glDepthFunc");
+	}
+
+	@Override
+	public void glDepthMask (boolean flag) {
+		gl20.glDepthMask(flag);
+		check("glDepthMask");
+	}
+
+	@Override
+	public void glDepthRangef (float zNear, float zFar) {
+		gl20.glDepthRangef(zNear, zFar);
+		check("glDepthRangef");
+	}
+
+	@Override
+	public void glDetachShader (int program, int shader) {
+		gl20.glDetachShader(program, shader);
+		check("glDetachShader");
+	}
+
+	@Override
+	public void glDisable (int cap) {
+		gl20.glDisable(cap);
+		check("glDisable");
+	}
+
+	@Override
+	public void glDisableVertexAttribArray (int index) {
+		gl20.glDisableVertexAttribArray(index);
+		check("glDisableVertexAttribArray");
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		gl20.glDrawArrays(mode, first, count);
+		check("glDrawArrays");
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		gl20.glDrawElements(mode, count, type, indices);
+		check("glDrawElements");
+	}
+
+	@Override
+	public void glEnable (int cap) {
+		gl20.glEnable(cap);
+		check("glEnable");
+	}
+
+	@Override
+	public void glEnableVertexAttribArray (int index) {
+		gl20.glEnableVertexAttribArray(index);
+		check("glEnableVertexAttribArray");
+	}
+
+	@Override
+	public void glFinish () {
+		gl20.glFinish();
+		check("glFinish");
+	}
+
+	@Override
+	public void glFlush () {
+		gl20.glFlush();
+		check("glFlush");
+	}
+
+	@Override
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		gl20.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+		check("glFramebufferRenderbuffer");
+	}
+
+	@Override
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		gl20.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+		check("glFramebufferTexture2D");
+	}
+
+	@Override
+	public void glFrontFace (int mode) {
+		gl20.glFrontFace(mode);
+		check("glFrontFace");
+	}
+
+	@Override
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		gl20.glGenBuffers(n, buffers);
+		check("glGenBuffers");
+	}
+
+	@Override
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		gl20.glGenFramebuffers(n, framebuffers);
+		check("glGenFramebuffers");
+	}
+
+	@Override
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl20.glGenRenderbuffers(n, renderbuffers);
+		check("glGenRenderbuffers");
+	}
+
+	@Override
+	public void glGenTextures (int n, IntBuffer textures) {
+		gl20.glGenTextures(n, textures);
+		check("glGenTextures");
+	}
+
+	@Override
+	public void glGenerateMipmap (int target) {
+		gl20.glGenerateMipmap(target);
+		check("glGenerateMipmap");
+	}
+
+	@Override
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, IntBuffer type) {
+		final String result = gl20.glGetActiveAttrib(program, index, size, type);
+		check("glGetActiveAttrib");
+		return result;
+	}
+
+	@Override
+	public String glGetActiveUniform (int program, int index, IntBuffer size, IntBuffer type) {
+		final String result = gl20.glGetActiveUniform(program, index, size, type);
+		check("glGetActiveUniform");
+		return result;
+	}
+
+	@Override
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		gl20.glGetAttachedShaders(program, maxcount, count, shaders);
+		check("glGetAttachedShaders");
+	}
+
+	@Override
+	public int glGetAttribLocation (int program, String name) {
+		final int result = gl20.glGetAttribLocation(program, name);
+		check("glGetAttribLocation");
+		return result;
+	}
+
+	@Override
+	public void glGetBooleanv (int pname, Buffer params) {
+		gl20.glGetBooleanv(pname, params);
+		check("glGetBooleanv");
+	}
+
+	@Override
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glGetBufferParameteriv(target, pname, params);
+		check("glGetBufferParameteriv");
+	}
+
+	@Override
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		gl20.glGetFloatv(pname, params);
+		check("glGetFloatv");
+	}
+
+	@Override
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		gl20.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+		check("glGetFramebufferAttachmentParameteriv");
+	}
+
+	@Override
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		gl20.glGetIntegerv(pname, params);
+		check("glGetIntegerv");
+	}
+
+	@Override
+	public String glGetProgramInfoLog (int program) {
+		final String result = gl20.glGetProgramInfoLog(program);
+		check("glGetProgramInfoLog");
+		return result;
+	}
+
+	@Override
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		gl20.glGetProgramiv(program, pname, params);
+		check("glGetProgramiv");
+	}
+
+	@Override
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glGetRenderbufferParameteriv(target, pname, params);
+		check("glGetRenderbufferParameteriv");
+	}
+
+	@Override
+	public String glGetShaderInfoLog (int shader) {
+		final String result = gl20.glGetShaderInfoLog(shader);
+		check("glGetShaderInfoLog");
+		return result;
+	}
+
+	@Override
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		gl20.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+		check("glGetShaderPrecisionFormat");
+	}
+
+	@Override
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		gl20.glGetShaderiv(shader, pname, params);
+		check("glGetShaderiv");
+	}
+
+	@Override
+	public String glGetString (int name) {
+		final String result = gl20.glGetString(name);
+		check("glGetString");
+		return result;
+	}
+
+	@Override
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl20.glGetTexParameterfv(target, pname, params);
+		check("glGetTexParameterfv");
+	}
+
+	@Override
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glGetTexParameteriv(target, pname, params);
+		check("glGetTexParameteriv");
+	}
+
+	@Override
+	public int glGetUniformLocation (int program, String name) {
+		final int result = gl20.glGetUniformLocation(program, name);
+		check("glGetUniformLocation");
+		return result;
+	}
+
+	@Override
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		gl20.glGetUniformfv(program, location, params);
+		check("glGetUniformfv");
+	}
+
+	@Override
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		gl20.glGetUniformiv(program, location, params);
+		check("glGetUniformiv");
+	}
+
+	@Override
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		gl20.glGetVertexAttribPointerv(index, pname, pointer);
+		check("glGetVertexAttribPointerv");
+	}
+
+	@Override
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		gl20.glGetVertexAttribfv(index, pname, params);
+		check("glGetVertexAttribfv");
+	}
+
+	@Override
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		gl20.glGetVertexAttribiv(index, pname, params);
+		check("glGetVertexAttribiv");
+	}
+
+	@Override
+	public void glHint (int target, int mode) {
+		gl20.glHint(target, mode);
+		check("glHint");
+	}
+
+	@Override
+	public boolean glIsBuffer (int buffer) {
+		final boolean result = gl20.glIsBuffer(buffer);
+		check("glIsBuffer");
+		return result;
+	}
+
+	@Override
+	public boolean glIsEnabled (int cap) {
+		final boolean result = gl20.glIsEnabled(cap);
+		check("glIsEnabled");
+		return result;
+	}
+
+	@Override
+	public boolean glIsFramebuffer (int framebuffer) {
+		final boolean result = gl20.glIsFramebuffer(framebuffer);
+		check("glIsFramebuffer");
+		return result;
+	}
+
+	@Override
+	public boolean glIsProgram (int program) {
+		final boolean result = gl20.glIsProgram(program);
+		check("glIsProgram");
+		return result;
+	}
+
+	@Override
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		final boolean result = gl20.glIsRenderbuffer(renderbuffer);
+		check("glIsRenderbuffer");
+		return result;
+	}
+
+	@Override
+	public boolean glIsShader (int shader) {
+		final boolean result = gl20.glIsShader(shader);
+		check("glIsShader");
+		return result;
+	}
+
+	@Override
+	public boolean glIsTexture (int texture) {
+		final boolean result = gl20.glIsTexture(texture);
+		check("glIsTexture");
+		return result;
+	}
+
+	@Override
+	public void glLineWidth (float width) {
+		gl20.glLineWidth(width);
+		check("glLineWidth");
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		gl20.glLinkProgram(program);
+		check("glLinkProgram");
+	}
+
+	@Override
+	public void glPixelStorei (int pname, int param) {
+		gl20.glPixelStorei(pname, param);
+		check("glPixelStorei");
+	}
+
+	@Override
+	public void glPolygonOffset (float factor, float units) {
+		gl20.glPolygonOffset(factor, units);
+		check("glPolygonOffset");
+	}
+
+	@Override
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		gl20.glReadPixels(x, y, width, height, format, type, pixels);
+		check("glReadPixels");
+	}
+
+	@Override
+	public void glReleaseShaderCompiler () {
+		gl20.glReleaseShaderCompiler();
+		check("glReleaseShaderCompiler");
+	}
+
+	@Override
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		gl20.glRenderbufferStorage(target, internalformat, width, height);
+		check("glRenderbufferStorage");
+	}
+
+	@Override
+	public void glSampleCoverage (float value, boolean invert) {
+		gl20.glSampleCoverage(value, invert);
+		check("glSampleCoverage");
+	}
+
+	@Override
+	public void glScissor (int x, int y, int width, int height) {
+		gl20.glScissor(x, y, width, height);
+		check("glScissor");
+	}
+
+	@Override
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		gl20.glShaderBinary(n, shaders, binaryformat, binary, length);
+		check("glShaderBinary");
+	}
+
+	@Override
+	public void glShaderSource (int shader, String string) {
+		gl20.glShaderSource(shader, string);
+		check("glShaderSource");
+	}
+
+	@Override
+	public void glStencilFunc (int func, int ref, int mask) {
+		gl20.glStencilFunc(func, ref, mask);
+		check("glStencilFunc");
+	}
+
+	@Override
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		gl20.glStencilFuncSeparate(face, func, ref, mask);
+		check("glStencilFuncSeparate");
+	}
+
+	@Override
+	public void glStencilMask (int mask) {
+		gl20.glStencilMask(mask);
+		check("glStencilMask");
+	}
+
+	@Override
+	public void glStencilMaskSeparate (int face, int mask) {
+		gl20.glStencilMaskSeparate(face, mask);
+		check("glStencilMaskSeparate");
+	}
+
+	@Override
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		gl20.glStencilOp(fail, zfail, zpass);
+		check("glStencilOp");
+	}
+
+	@Override
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		gl20.glStencilOpSeparate(face, fail, zfail, zpass);
+		check("glStencilOpSeparate");
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels) {
+		gl20.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+		check("glTexImage2D");
+	}
+
+	@Override
+	public void glTexParameterf (int target, int pname, float param) {
+		gl20.glTexParameterf(target, pname, param);
+		check("glTexParameterf");
+	}
+
+	@Override
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl20.glTexParameterfv(target, pname, params);
+		check("glTexParameterfv");
+	}
+
+	@Override
+	public void glTexParameteri (int target, int pname, int param) {
+		gl20.glTexParameteri(target, pname, param);
+		check("glTexParameteri");
+	}
+
+	@Override
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		gl20.glTexParameteriv(target, pname, params);
+		check("glTexParameteriv");
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, Buffer pixels) {
+		gl20.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+		check("glTexSubImage2D");
+	}
+
+	@Override
+	public void glUniform1f (int location, float x) {
+		gl20.glUniform1f(location, x);
+		check("glUniform1f");
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform1fv(location, count, v);
+		check("glUniform1fv");
+	}
+
+	@Override
+	public void glUniform1i (int location, int x) {
+		gl20.glUniform1i(location, x);
+		check("glUniform1i");
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		gl20.glUniform1iv(location, count, v);
+		check("glUniform1iv");
+	}
+
+	@Override
+	public void glUniform2f (int location, float x, float y) {
+		gl20.glUniform2f(location, x, y);
+		check("glUniform2f");
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform2fv(location, count, v);
+		check("glUniform2fv");
+	}
+
+	@Override
+	public void glUniform2i (int location, int x, int y) {
+		gl20.glUniform2i(location, x, y);
+		check("glUniform2i");
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		gl20.glUniform2iv(location, count, v);
+		check("glUniform2iv");
+	}
+
+	@Override
+	public void glUniform3f (int location, float x, float y, float z) {
+		gl20.glUniform3f(location, x, y, z);
+		check("glUniform3f");
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform3fv(location, count, v);
+		check("glUniform3fv");
+	}
+
+	@Override
+	public void glUniform3i (int location, int x, int y, int z) {
+		gl20.glUniform3i(location, x, y, z);
+		check("glUniform3i");
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		gl20.glUniform3iv(location, count, v);
+		check("glUniform3iv");
+	}
+
+	@Override
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		gl20.glUniform4f(location, x, y, z, w);
+		check("glUniform4f");
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		gl20.glUniform4fv(location, count, v);
+		check("glUniform4fv");
+	}
+
+	@Override
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		gl20.glUniform4i(location, x, y, z, w);
+		check("glUniform4i");
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		gl20.glUniform4iv(location, count, v);
+		check("glUniform4iv");
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl20.glUniformMatrix2fv(location, count, transpose, value);
+		check("glUniformMatrix2fv");
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl20.glUniformMatrix3fv(location, count, transpose, value);
+		check("glUniformMatrix3fv");
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl20.glUniformMatrix4fv(location, count, transpose, value);
+		check("glUniformMatrix4fv");
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		gl20.glUseProgram(program);
+		check("glUseProgram");
+	}
+
+	@Override
+	public void glValidateProgram (int program) {
+		gl20.glValidateProgram(program);
+		check("glValidateProgram");
+	}
+
+	@Override
+	public void glVertexAttrib1f (int indx, float x) {
+		gl20.glVertexAttrib1f(indx, x);
+		check("glVertexAttrib1f");
+	}
+
+	@Override
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib1fv(indx, values);
+		check("glVertexAttrib1fv");
+	}
+
+	@Override
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		gl20.glVertexAttrib2f(indx, x, y);
+		check("glVertexAttrib2f");
+	}
+
+	@Override
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib2fv(indx, values);
+		check("glVertexAttrib2fv");
+	}
+
+	@Override
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		gl20.glVertexAttrib3f(indx, x, y, z);
+		check("glVertexAttrib3f");
+	}
+
+	@Override
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib3fv(indx, values);
+		check("glVertexAttrib3fv");
+	}
+
+	@Override
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		gl20.glVertexAttrib4f(indx, x, y, z, w);
+		check("glVertexAttrib4f");
+	}
+
+	@Override
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		gl20.glVertexAttrib4fv(indx, values);
+		check("glVertexAttrib4fv");
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		check("glVertexAttribPointer");
+	}
+
+	@Override
+	public void glViewport (int x, int y, int width, int height) {
+		gl20.glViewport(x, y, width, height);
+		check("glViewport");
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		gl20.glDrawElements(mode, count, type, indices);
+		check("glDrawElements");
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		check("glVertexAttribPointer");
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		gl20.glDeleteTexture(texture);
+		check("glDeleteTexture");
+	}
+
+	@Override
+	public int glGenTexture () {
+		final int result = gl20.glGenTexture();
+		check("glGenTexture");
+		return result;
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		gl20.glDeleteBuffer(buffer);
+		check("glDeleteBuffer");
+	}
+
+	@Override
+	public void glDeleteFramebuffer (int framebuffer) {
+		gl20.glDeleteFramebuffer(framebuffer);
+		check("glDeleteFramebuffer");
+	}
+
+	@Override
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		gl20.glDeleteRenderbuffer(renderbuffer);
+		check("glDeleteRenderbuffer");
+	}
+
+	@Override
+	public int glGenBuffer () {
+		final int result = gl20.glGenBuffer();
+		check("glGenBuffer");
+		return result;
+	}
+
+	@Override
+	public int glGenFramebuffer () {
+		final int result = gl20.glGenFramebuffer();
+		check("glGenFramebuffer");
+		return result;
+	}
+
+	@Override
+	public int glGenRenderbuffer () {
+		final int result = gl20.glGenRenderbuffer();
+		check("glGenRenderbuffer");
+		return result;
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform1fv(location, count, v, offset);
+		check("glUniform1fv");
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform1iv(location, count, v, offset);
+		check("glUniform1iv");
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform2fv(location, count, v, offset);
+		check("glUniform2fv");
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform2iv(location, count, v, offset);
+		check("glUniform2iv");
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform3fv(location, count, v, offset);
+		check("glUniform3fv");
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform3iv(location, count, v, offset);
+		check("glUniform3iv");
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		gl20.glUniform4fv(location, count, v, offset);
+		check("glUniform4fv");
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		gl20.glUniform4iv(location, count, v, offset);
+		check("glUniform4iv");
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
+		check("glUniformMatrix2fv");
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
+		check("glUniformMatrix3fv");
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
+		check("glUniformMatrix4fv");
+	}
+
+	@Override
+	public void glReadBuffer (int mode) {
+		gl30.glReadBuffer(mode);
+		check("glReadBuffer");
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
+		gl30.glDrawRangeElements(mode, start, end, count, type, indices);
+		check("glDrawRangeElements");
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
+		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+		check("glDrawRangeElements");
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalFormat, int width, int height, int border, int format, int type, int offset) {
+		gl30.glTexImage2D(target, level, internalFormat, width, height, border, format, type, offset);
+		check("glTexImage2D");
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, Buffer pixels) {
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+		check("glTexImage3D");
+	}
+
+	@Override
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, int offset) {
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, offset);
+		check("glTexImage3D");
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, int offset) {
+		gl30.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, offset);
+		check("glTexSubImage2D");
+	}
+
+	@Override
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, Buffer pixels) {
+		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+		check("glTexSubImage3D");
+	}
+
+	@Override
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, int offset) {
+		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, offset);
+		check("glTexSubImage3D");
+	}
+
+	@Override
+	public void glCopyTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int x, int y, int width, int height) {
+		gl30.glCopyTexSubImage3D(target, level, xoffset, yoffset, zoffset, x, y, width, height);
+		check("glCopyTexSubImage3D");
+	}
+
+	@Override
+	public void glGenQueries (int n, int[] ids, int offset) {
+		gl30.glGenQueries(n, ids, offset);
+		check("glGenQueries");
+	}
+
+	@Override
+	public void glGenQueries (int n, IntBuffer ids) {
+		gl30.glGenQueries(n, ids);
+		check("glGenQueries");
+	}
+
+	@Override
+	public void glDeleteQueries (int n, int[] ids, int offset) {
+		gl30.glDeleteQueries(n, ids, offset);
+		check("glDeleteQueries");
+	}
+
+	@Override
+	public void glDeleteQueries (int n, IntBuffer ids) {
+		gl30.glDeleteQueries(n, ids);
+		check("glDeleteQueries");
+	}
+
+	@Override
+	public boolean glIsQuery (int id) {
+		final boolean result = gl30.glIsQuery(id);
+		check("glIsQuery");
+		return result;
+	}
+
+	@Override
+	public void glBeginQuery (int target, int id) {
+		gl30.glBeginQuery(target, id);
+		check("glBeginQuery");
+	}
+
+	@Override
+	public void glEndQuery (int target) {
+		gl30.glEndQuery(target);
+		check("glEndQuery");
+	}
+
+	@Override
+	public void glGetQueryiv (int target, int pname, IntBuffer params) {
+		gl30.glGetQueryiv(target, pname, params);
+		check("glGetQueryiv");
+	}
+
+	@Override
+	public void glGetQueryObjectuiv (int id, int pname, IntBuffer params) {
+		gl30.glGetQueryObjectuiv(id, pname, params);
+		check("glGetQueryObjectuiv");
+	}
+
+	@Override
+	public boolean glUnmapBuffer (int target) {
+		final boolean result = gl30.glUnmapBuffer(target);
+		check("glUnmapBuffer");
+		return result;
+	}
+
+	@Override
+	public Buffer glGetBufferPointerv (int target, int pname) {
+		final Buffer result = gl30.glGetBufferPointerv(target, pname);
+		check("glGetBufferPointerv");
+		return result;
+	}
+
+	@Override
+	public void glDrawBuffers (int n, IntBuffer bufs) {
+		gl30.glDrawBuffers(n, bufs);
+		check("glDrawBuffers");
+	}
+
+	@Override
+	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix2x3fv(location, count, transpose, value);
+		check("glUniformMatrix2x3fv");
+	}
+
+	@Override
+	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix3x2fv(location, count, transpose, value);
+		check("glUniformMatrix3x2fv");
+	}
+
+	@Override
+	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix2x4fv(location, count, transpose, value);
+		check("glUniformMatrix2x4fv");
+	}
+
+	@Override
+	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix4x2fv(location, count, transpose, value);
+		check("glUniformMatrix4x2fv");
+	}
+
+	@Override
+	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix3x4fv(location, count, transpose, value);
+		check("glUniformMatrix3x4fv");
+	}
+
+	@Override
+	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl30.glUniformMatrix4x3fv(location, count, transpose, value);
+		check("glUniformMatrix4x3fv");
+	}
+
+	@Override
+	public void glBlitFramebuffer (int srcX0, int srcY0, int srcX1, int srcY1, int dstX0, int dstY0, int dstX1, int dstY1, int mask, int filter) {
+		gl30.glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
+		check("glBlitFramebuffer");
+	}
+
+	@Override
+	public void glRenderbufferStorageMultisample (int target, int samples, int internalformat, int width, int height) {
+		gl30.glRenderbufferStorageMultisample(target, samples, internalformat, width, height);
+		check("glRenderbufferStorageMultisample");
+	}
+
+	@Override
+	public void glFramebufferTextureLayer (int target, int attachment, int texture, int level, int layer) {
+		gl30.glFramebufferTextureLayer(target, attachment, texture, level, layer);
+		check("glFramebufferTextureLayer");
+	}
+
+	@Override
+	public Buffer glMapBufferRange (int target, int offset, int length, int access) {
+		final Buffer result = gl30.glMapBufferRange(target, offset, length, access);
+		check("glMapBufferRange");
+		return result;
+	}
+
+	@Override
+	public void glFlushMappedBufferRange (int target, int offset, int length) {
+		gl30.glFlushMappedBufferRange(target, offset, length);
+		check("glFlushMappedBufferRange");
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		gl30.glBindVertexArray(array);
+		check("glBindVertexArray");
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		gl30.glDeleteVertexArrays(n, arrays, offset);
+		check("glDeleteVertexArrays");
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		gl30.glDeleteVertexArrays(n, arrays);
+		check("glDeleteVertexArrays");
+	}
+
+	@Override
+	public void glGenVertexArrays (int n, int[] arrays, int offset) {
+		gl30.glGenVertexArrays(n, arrays, offset);
+		check("glGenVertexArrays");
+	}
+
+	@Override
+	public void glGenVertexArrays (int n, IntBuffer arrays) {
+		gl30.glGenVertexArrays(n, arrays);
+		check("glGenVertexArrays");
+	}
+
+	@Override
+	public boolean glIsVertexArray (int array) {
+		final boolean result = gl30.glIsVertexArray(array);
+		check("glIsVertexArray");
+		return result;
+	}
+
+	@Override
+	public void glBeginTransformFeedback (int primitiveMode) {
+		gl30.glBeginTransformFeedback(primitiveMode);
+		check("glBeginTransformFeedback");
+	}
+
+	@Override
+	public void glEndTransformFeedback () {
+		gl30.glEndTransformFeedback();
+		check("glEndTransformFeedback");
+	}
+
+	@Override
+	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
+		gl30.glBindBufferRange(target, index, buffer, offset, size);
+		check("glBindBufferRange");
+	}
+
+	@Override
+	public void glBindBufferBase (int target, int index, int buffer) {
+		gl30.glBindBufferBase(target, index, buffer);
+		check("glBindBufferBase");
+	}
+
+	@Override
+	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
+		gl30.glTransformFeedbackVaryings(program, varyings, bufferMode);
+		check("glTransformFeedbackVaryings");
+	}
+
+	@Override
+	public void glVertexAttribIPointer (int index, int size, int type, int stride, int offset) {
+		gl30.glVertexAttribIPointer(index, size, type, stride, offset);
+		check("glVertexAttribIPointer");
+	}
+
+	@Override
+	public void glGetVertexAttribIiv (int index, int pname, IntBuffer params) {
+		gl30.glGetVertexAttribIiv(index, pname, params);
+		check("glGetVertexAttribIiv");
+	}
+
+	@Override
+	public void glGetVertexAttribIuiv (int index, int pname, IntBuffer params) {
+		gl30.glGetVertexAttribIuiv(index, pname, params);
+		check("glGetVertexAttribIuiv");
+	}
+
+	@Override
+	public void glVertexAttribI4i (int index, int x, int y, int z, int w) {
+		gl30.glVertexAttribI4i(index, x, y, z, w);
+		check("glVertexAttribI4i");
+	}
+
+	@Override
+	public void glVertexAttribI4ui (int index, int x, int y, int z, int w) {
+		gl30.glVertexAttribI4ui(index, x, y, z, w);
+		check("glVertexAttribI4ui");
+	}
+
+	@Override
+	public void glGetUniformuiv (int program, int location, IntBuffer params) {
+		gl30.glGetUniformuiv(program, location, params);
+		check("glGetUniformuiv");
+	}
+
+	@Override
+	public int glGetFragDataLocation (int program, String name) {
+		final int result = gl30.glGetFragDataLocation(program, name);
+		check("glGetFragDataLocation");
+		return result;
+	}
+
+	@Override
+	public void glUniform1uiv (int location, int count, IntBuffer value) {
+		gl30.glUniform1uiv(location, count, value);
+		check("glUniform1uiv");
+	}
+
+	@Override
+	public void glUniform3uiv (int location, int count, IntBuffer value) {
+		gl30.glUniform3uiv(location, count, value);
+		check("glUniform3uiv");
+	}
+
+	@Override
+	public void glUniform4uiv (int location, int count, IntBuffer value) {
+		gl30.glUniform4uiv(location, count, value);
+		check("glUniform4uiv");
+	}
+
+	@Override
+	public void glClearBufferiv (int buffer, int drawbuffer, IntBuffer value) {
+		gl30.glClearBufferiv(buffer, drawbuffer, value);
+		check("glClearBufferiv");
+	}
+
+	@Override
+	public void glClearBufferuiv (int buffer, int drawbuffer, IntBuffer value) {
+		gl30.glClearBufferuiv(buffer, drawbuffer, value);
+		check("glClearBufferuiv");
+	}
+
+	@Override
+	public void glClearBufferfv (int buffer, int drawbuffer, FloatBuffer value) {
+		gl30.glClearBufferfv(buffer, drawbuffer, value);
+		check("glClearBufferfv");
+	}
+
+	@Override
+	public void glClearBufferfi (int buffer, int drawbuffer, float depth, int stencil) {
+		gl30.glClearBufferfi(buffer, drawbuffer, depth, stencil);
+		check("glClearBufferfi");
+	}
+
+	@Override
+	public String glGetStringi (int name, int index) {
+		final String result = gl30.glGetStringi(name, index);
+		check("glGetStringi");
+		return result;
+	}
+
+	@Override
+	public void glCopyBufferSubData (int readTarget, int writeTarget, int readOffset, int writeOffset, int size) {
+		gl30.glCopyBufferSubData(readTarget, writeTarget, readOffset, writeOffset, size);
+		check("glCopyBufferSubData");
+	}
+
+	@Override
+	public void glGetUniformIndices (int program, String[] uniformNames, IntBuffer uniformIndices) {
+		gl30.glGetUniformIndices(program, uniformNames, uniformIndices);
+		check("glGetUniformIndices");
+	}
+
+	@Override
+	public void glGetActiveUniformsiv (int program, int uniformCount, IntBuffer uniformIndices, int pname, IntBuffer params) {
+		gl30.glGetActiveUniformsiv(program, uniformCount, uniformIndices, pname, params);
+		check("glGetActiveUniformsiv");
+	}
+
+	@Override
+	public int glGetUniformBlockIndex (int program, String uniformBlockName) {
+		final int result = gl30.glGetUniformBlockIndex(program, uniformBlockName);
+		check("glGetUniformBlockIndex");
+		return result;
+	}
+
+	@Override
+	public void glGetActiveUniformBlockiv (int program, int uniformBlockIndex, int pname, IntBuffer params) {
+		gl30.glGetActiveUniformBlockiv(program, uniformBlockIndex, pname, params);
+		check("glGetActiveUniformBlockiv");
+	}
+
+	@Override
+	public void glGetActiveUniformBlockName (int program, int uniformBlockIndex, Buffer length, Buffer uniformBlockName) {
+		gl30.glGetActiveUniformBlockName(program, uniformBlockIndex, length, uniformBlockName);
+		check("glGetActiveUniformBlockName");
+	}
+
+	@Override
+	public String glGetActiveUniformBlockName (int program, int uniformBlockIndex) {
+		final String result = gl30.glGetActiveUniformBlockName(program, uniformBlockIndex);
+		check("glGetActiveUniformBlockName");
+		return result;
+	}
+
+	@Override
+	public void glUniformBlockBinding (int program, int uniformBlockIndex, int uniformBlockBinding) {
+		gl30.glUniformBlockBinding(program, uniformBlockIndex, uniformBlockBinding);
+		check("glUniformBlockBinding");
+	}
+
+	@Override
+	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
+		gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
+		check("glDrawArraysInstanced");
+	}
+
+	@Override
+	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
+		gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+		check("glDrawElementsInstanced");
+	}
+
+	@Override
+	public void glGetInteger64v (int pname, LongBuffer params) {
+		gl30.glGetInteger64v(pname, params);
+		check("glGetInteger64v");
+	}
+
+	@Override
+	public void glGetBufferParameteri64v (int target, int pname, LongBuffer params) {
+		gl30.glGetBufferParameteri64v(target, pname, params);
+		check("glGetBufferParameteri64v");
+	}
+
+	@Override
+	public void glGenSamplers (int count, int[] samplers, int offset) {
+		gl30.glGenSamplers(count, samplers, offset);
+		check("glGenSamplers");
+	}
+
+	@Override
+	public void glGenSamplers (int count, IntBuffer samplers) {
+		gl30.glGenSamplers(count, samplers);
+		check("glGenSamplers");
+	}
+
+	@Override
+	public void glDeleteSamplers (int count, int[] samplers, int offset) {
+		gl30.glDeleteSamplers(count, samplers, offset);
+		check("glDeleteSamplers");
+	}
+
+	@Override
+	public void glDeleteSamplers (int count, IntBuffer samplers) {
+		gl30.glDeleteSamplers(count, samplers);
+		check("glDeleteSamplers");
+	}
+
+	@Override
+	public boolean glIsSampler (int sampler) {
+		final boolean result = gl30.glIsSampler(sampler);
+		check("glIsSampler");
+		return result;
+	}
+
+	@Override
+	public void glBindSampler (int unit, int sampler) {
+		gl30.glBindSampler(unit, sampler);
+		check("glBindSampler");
+	}
+
+	@Override
+	public void glSamplerParameteri (int sampler, int pname, int param) {
+		gl30.glSamplerParameteri(sampler, pname, param);
+		check("glSamplerParameteri");
+	}
+
+	@Override
+	public void glSamplerParameteriv (int sampler, int pname, IntBuffer param) {
+		gl30.glSamplerParameteriv(sampler, pname, param);
+		check("glSamplerParameteriv");
+	}
+
+	@Override
+	public void glSamplerParameterf (int sampler, int pname, float param) {
+		gl30.glSamplerParameterf(sampler, pname, param);
+		check("glSamplerParameterf");
+	}
+
+	@Override
+	public void glSamplerParameterfv (int sampler, int pname, FloatBuffer param) {
+		gl30.glSamplerParameterfv(sampler, pname, param);
+		check("glSamplerParameterfv");
+	}
+
+	@Override
+	public void glGetSamplerParameteriv (int sampler, int pname, IntBuffer params) {
+		gl30.glGetSamplerParameteriv(sampler, pname, params);
+		check("glGetSamplerParameteriv");
+	}
+
+	@Override
+	public void glGetSamplerParameterfv (int sampler, int pname, FloatBuffer params) {
+		gl30.glGetSamplerParameterfv(sampler, pname, params);
+		check("glGetSamplerParameterfv");
+	}
+
+	@Override
+	public void glVertexAttribDivisor (int index, int divisor) {
+		gl30.glVertexAttribDivisor(index, divisor);
+		check("glVertexAttribDivisor");
+	}
+
+	@Override
+	public void glBindTransformFeedback (int target, int id) {
+		gl30.glBindTransformFeedback(target, id);
+		check("glBindTransformFeedback");
+	}
+
+	@Override
+	public void glDeleteTransformFeedbacks (int n, int[] ids, int offset) {
+		gl30.glDeleteTransformFeedbacks(n, ids, offset);
+		check("glDeleteTransformFeedbacks");
+	}
+
+	@Override
+	public void glDeleteTransformFeedbacks (int n, IntBuffer ids) {
+		gl30.glDeleteTransformFeedbacks(n, ids);
+		check("glDeleteTransformFeedbacks");
+	}
+
+	@Override
+	public void glGenTransformFeedbacks (int n, int[] ids, int offset) {
+		gl30.glGenTransformFeedbacks(n, ids, offset);
+		check("glGenTransformFeedbacks");
+	}
+
+	@Override
+	public void glGenTransformFeedbacks (int n, IntBuffer ids) {
+		gl30.glGenTransformFeedbacks(n, ids);
+		check("glGenTransformFeedbacks");
+	}
+
+	@Override
+	public boolean glIsTransformFeedback (int id) {
+		final boolean result = gl30.glIsTransformFeedback(id);
+		check("glIsTransformFeedback");
+		return result;
+	}
+
+	@Override
+	public void glPauseTransformFeedback () {
+		gl30.glPauseTransformFeedback();
+		check("glPauseTransformFeedback");
+	}
+
+	@Override
+	public void glResumeTransformFeedback () {
+		gl30.glResumeTransformFeedback();
+		check("glResumeTransformFeedback");
+	}
+
+	@Override
+	public void glProgramParameteri (int program, int pname, int value) {
+		gl30.glProgramParameteri(program, pname, value);
+		check("glProgramParameteri");
+	}
+
+	@Override
+	public void glInvalidateFramebuffer (int target, int numAttachments, IntBuffer attachments) {
+		gl30.glInvalidateFramebuffer(target, numAttachments, attachments);
+		check("glInvalidateFramebuffer");
+	}
+
+	@Override
+	public void glInvalidateSubFramebuffer (int target, int numAttachments, IntBuffer attachments, int x, int y, int width, int height) {
+		gl30.glInvalidateSubFramebuffer(target, numAttachments, attachments, x, y, width, height);
+		check("glInvalidateSubFramebuffer");
+	}
+
+	@Override
+	public void glDispatchCompute (int num_groups_x, int num_groups_y, int num_groups_z) {
+		gl31.glDispatchCompute(num_groups_x, num_groups_y, num_groups_z);
+		check("glDispatchCompute");
+	}
+
+	@Override
+	public void glDispatchComputeIndirect (long indirect) {
+		gl31.glDispatchComputeIndirect(indirect);
+		check("glDispatchComputeIndirect");
+	}
+
+	@Override
+	public void glDrawArraysIndirect (int mode, long indirect) {
+		gl31.glDrawArraysIndirect(mode, indirect);
+		check("glDrawArraysIndirect");
+	}
+
+	@Override
+	public void glDrawElementsIndirect (int mode, int type, long indirect) {
+		gl31.glDrawElementsIndirect(mode, type, indirect);
+		check("glDrawElementsIndirect");
+	}
+
+	@Override
+	public void glFramebufferParameteri (int target, int pname, int param) {
+		gl31.glFramebufferParameteri(target, pname, param);
+		check("glFramebufferParameteri");
+	}
+
+	@Override
+	public void glGetFramebufferParameteriv (int target, int pname, IntBuffer params) {
+		gl31.glGetFramebufferParameteriv(target, pname, params);
+		check("glGetFramebufferParameteriv");
+	}
+
+	@Override
+	public void glGetProgramInterfaceiv (int program, int programInterface, int pname, IntBuffer params) {
+		gl31.glGetProgramInterfaceiv(program, programInterface, pname, params);
+		check("glGetProgramInterfaceiv");
+	}
+
+	@Override
+	public int glGetProgramResourceIndex (int program, int programInterface, String name) {
+		final int result = gl31.glGetProgramResourceIndex(program, programInterface, name);
+		check("glGetProgramResourceIndex");
+		return result;
+	}
+
+	@Override
+	public String glGetProgramResourceName (int program, int programInterface, int index) {
+		final String result = gl31.glGetProgramResourceName(program, programInterface, index);
+		check("glGetProgramResourceName");
+		return result;
+	}
+
+	@Override
+	public void glGetProgramResourceiv (int program, int programInterface, int index, IntBuffer props, IntBuffer length, IntBuffer params) {
+		gl31.glGetProgramResourceiv(program, programInterface, index, props, length, params);
+		check("glGetProgramResourceiv");
+	}
+
+	@Override
+	public int glGetProgramResourceLocation (int program, int programInterface, String name) {
+		final int result = gl31.glGetProgramResourceLocation(program, programInterface, name);
+		check("glGetProgramResourceLocation");
+		return result;
+	}
+
+	@Override
+	public void glUseProgramStages (int pipeline, int stages, int program) {
+		gl31.glUseProgramStages(pipeline, stages, program);
+		check("glUseProgramStages");
+	}
+
+	@Override
+	public void glActiveShaderProgram (int pipeline, int program) {
+		gl31.glActiveShaderProgram(pipeline, program);
+		check("glActiveShaderProgram");
+	}
+
+	@Override
+	public int glCreateShaderProgramv (int type, String[] strings) {
+		final int result = gl31.glCreateShaderProgramv(type, strings);
+		check("glCreateShaderProgramv");
+		return result;
+	}
+
+	@Override
+	public void glBindProgramPipeline (int pipeline) {
+		gl31.glBindProgramPipeline(pipeline);
+		check("glBindProgramPipeline");
+	}
+
+	@Override
+	public void glDeleteProgramPipelines (int count, IntBuffer pipelines) {
+		gl31.glDeleteProgramPipelines(count, pipelines);
+		check("glDeleteProgramPipelines");
+	}
+
+	@Override
+	public void glGenProgramPipelines (int count, IntBuffer pipelines) {
+		gl31.glGenProgramPipelines(count, pipelines);
+		check("glGenProgramPipelines");
+	}
+
+	@Override
+	public boolean glIsProgramPipeline (int pipeline) {
+		final boolean result = gl31.glIsProgramPipeline(pipeline);
+		check("glIsProgramPipeline");
+		return result;
+	}
+
+	@Override
+	public void glGetProgramPipelineiv (int pipeline, int pname, IntBuffer params) {
+		gl31.glGetProgramPipelineiv(pipeline, pname, params);
+		check("glGetProgramPipelineiv");
+	}
+
+	@Override
+	public void glProgramUniform1i (int program, int location, int v0) {
+		gl31.glProgramUniform1i(program, location, v0);
+		check("glProgramUniform1i");
+	}
+
+	@Override
+	public void glProgramUniform2i (int program, int location, int v0, int v1) {
+		gl31.glProgramUniform2i(program, location, v0, v1);
+		check("glProgramUniform2i");
+	}
+
+	@Override
+	public void glProgramUniform3i (int program, int location, int v0, int v1, int v2) {
+		gl31.glProgramUniform3i(program, location, v0, v1, v2);
+		check("glProgramUniform3i");
+	}
+
+	@Override
+	public void glProgramUniform4i (int program, int location, int v0, int v1, int v2, int v3) {
+		gl31.glProgramUniform4i(program, location, v0, v1, v2, v3);
+		check("glProgramUniform4i");
+	}
+
+	@Override
+	public void glProgramUniform1ui (int program, int location, int v0) {
+		gl31.glProgramUniform1ui(program, location, v0);
+		check("glProgramUniform1ui");
+	}
+
+	@Override
+	public void glProgramUniform2ui (int program, int location, int v0, int v1) {
+		gl31.glProgramUniform2ui(program, location, v0, v1);
+		check("glProgramUniform2ui");
+	}
+
+	@Override
+	public void glProgramUniform3ui (int program, int location, int v0, int v1, int v2) {
+		gl31.glProgramUniform3ui(program, location, v0, v1, v2);
+		check("glProgramUniform3ui");
+	}
+
+	@Override
+	public void glProgramUniform4ui (int program, int location, int v0, int v1, int v2, int v3) {
+		gl31.glProgramUniform4ui(program, location, v0, v1, v2, v3);
+		check("glProgramUniform4ui");
+	}
+
+	@Override
+	public void glProgramUniform1f (int program, int location, float v0) {
+		gl31.glProgramUniform1f(program, location, v0);
+		check("glProgramUniform1f");
+	}
+
+	@Override
+	public void glProgramUniform2f (int program, int location, float v0, float v1) {
+		gl31.glProgramUniform2f(program, location, v0, v1);
+		check("glProgramUniform2f");
+	}
+
+	@Override
+	public void glProgramUniform3f (int program, int location, float v0, float v1, float v2) {
+		gl31.glProgramUniform3f(program, location, v0, v1, v2);
+		check("glProgramUniform3f");
+	}
+
+	@Override
+	public void glProgramUniform4f (int program, int location, float v0, float v1, float v2, float v3) {
+		gl31.glProgramUniform4f(program, location, v0, v1, v2, v3);
+		check("glProgramUniform4f");
+	}
+
+	@Override
+	public void glProgramUniform1iv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform1iv(program, location, value);
+		check("glProgramUniform1iv");
+	}
+
+	@Override
+	public void glProgramUniform2iv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform2iv(program, location, value);
+		check("glProgramUniform2iv");
+	}
+
+	@Override
+	public void glProgramUniform3iv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform3iv(program, location, value);
+		check("glProgramUniform3iv");
+	}
+
+	@Override
+	public void glProgramUniform4iv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform4iv(program, location, value);
+		check("glProgramUniform4iv");
+	}
+
+	@Override
+	public void glProgramUniform1uiv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform1uiv(program, location, value);
+		check("glProgramUniform1uiv");
+	}
+
+	@Override
+	public void glProgramUniform2uiv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform2uiv(program, location, value);
+		check("glProgramUniform2uiv");
+	}
+
+	@Override
+	public void glProgramUniform3uiv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform3uiv(program, location, value);
+		check("glProgramUniform3uiv");
+	}
+
+	@Override
+	public void glProgramUniform4uiv (int program, int location, IntBuffer value) {
+		gl31.glProgramUniform4uiv(program, location, value);
+		check("glProgramUniform4uiv");
+	}
+
+	@Override
+	public void glProgramUniform1fv (int program, int location, FloatBuffer value) {
+		gl31.glProgramUniform1fv(program, location, value);
+		check("glProgramUniform1fv");
+	}
+
+	@Override
+	public void glProgramUniform2fv (int program, int location, FloatBuffer value) {
+		gl31.glProgramUniform2fv(program, location, value);
+		check("glProgramUniform2fv");
+	}
+
+	@Override
+	public void glProgramUniform3fv (int program, int location, FloatBuffer value) {
+		gl31.glProgramUniform3fv(program, location, value);
+		check("glProgramUniform3fv");
+	}
+
+	@Override
+	public void glProgramUniform4fv (int program, int location, FloatBuffer value) {
+		gl31.glProgramUniform4fv(program, location, value);
+		check("glProgramUniform4fv");
+	}
+
+	@Override
+	public void glProgramUniformMatrix2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix2fv(program, location, transpose, value);
+		check("glProgramUniformMatrix2fv");
+	}
+
+	@Override
+	public void glProgramUniformMatrix3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix3fv(program, location, transpose, value);
+		check("glProgramUniformMatrix3fv");
+	}
+
+	@Override
+	public void glProgramUniformMatrix4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix4fv(program, location, transpose, value);
+		check("glProgramUniformMatrix4fv");
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix2x3fv(program, location, transpose, value);
+		check("glProgramUniformMatrix2x3fv");
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix3x2fv(program, location, transpose, value);
+		check("glProgramUniformMatrix3x2fv");
+	}
+
+	@Override
+	public void glProgramUniformMatrix2x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix2x4fv(program, location, transpose, value);
+		check("glProgramUniformMatrix2x4fv");
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x2fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix4x2fv(program, location, transpose, value);
+		check("glProgramUniformMatrix4x2fv");
+	}
+
+	@Override
+	public void glProgramUniformMatrix3x4fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix3x4fv(program, location, transpose, value);
+		check("glProgramUniformMatrix3x4fv");
+	}
+
+	@Override
+	public void glProgramUniformMatrix4x3fv (int program, int location, boolean transpose, FloatBuffer value) {
+		gl31.glProgramUniformMatrix4x3fv(program, location, transpose, value);
+		check("glProgramUniformMatrix4x3fv");
+	}
+
+	@Override
+	public void glValidateProgramPipeline (int pipeline) {
+		gl31.glValidateProgramPipeline(pipeline);
+		check("glValidateProgramPipeline");
+	}
+
+	@Override
+	public String glGetProgramPipelineInfoLog (int program) {
+		final String result = gl31.glGetProgramPipelineInfoLog(program);
+		check("glGetProgramPipelineInfoLog");
+		return result;
+	}
+
+	@Override
+	public void glBindImageTexture (int unit, int texture, int level, boolean layered, int layer, int access, int format) {
+		gl31.glBindImageTexture(unit, texture, level, layered, layer, access, format);
+		check("glBindImageTexture");
+	}
+
+	@Override
+	public void glGetBooleani_v (int target, int index, IntBuffer data) {
+		gl31.glGetBooleani_v(target, index, data);
+		check("glGetBooleani_v");
+	}
+
+	@Override
+	public void glMemoryBarrier (int barriers) {
+		gl31.glMemoryBarrier(barriers);
+		check("glMemoryBarrier");
+	}
+
+	@Override
+	public void glMemoryBarrierByRegion (int barriers) {
+		gl31.glMemoryBarrierByRegion(barriers);
+		check("glMemoryBarrierByRegion");
+	}
+
+	@Override
+	public void glTexStorage2DMultisample (int target, int samples, int internalformat, int width, int height, boolean fixedsamplelocations) {
+		gl31.glTexStorage2DMultisample(target, samples, internalformat, width, height, fixedsamplelocations);
+		check("glTexStorage2DMultisample");
+	}
+
+	@Override
+	public void glGetMultisamplefv (int pname, int index, FloatBuffer val) {
+		gl31.glGetMultisamplefv(pname, index, val);
+		check("glGetMultisamplefv");
+	}
+
+	@Override
+	public void glSampleMaski (int maskNumber, int mask) {
+		gl31.glSampleMaski(maskNumber, mask);
+		check("glSampleMaski");
+	}
+
+	@Override
+	public void glGetTexLevelParameteriv (int target, int level, int pname, IntBuffer params) {
+		gl31.glGetTexLevelParameteriv(target, level, pname, params);
+		check("glGetTexLevelParameteriv");
+	}
+
+	@Override
+	public void glGetTexLevelParameterfv (int target, int level, int pname, FloatBuffer params) {
+		gl31.glGetTexLevelParameterfv(target, level, pname, params);
+		check("glGetTexLevelParameterfv");
+	}
+
+	@Override
+	public void glBindVertexBuffer (int bindingindex, int buffer, long offset, int stride) {
+		gl31.glBindVertexBuffer(bindingindex, buffer, offset, stride);
+		check("glBindVertexBuffer");
+	}
+
+	@Override
+	public void glVertexAttribFormat (int attribindex, int size, int type, boolean normalized, int relativeoffset) {
+		gl31.glVertexAttribFormat(attribindex, size, type, normalized, relativeoffset);
+		check("glVertexAttribFormat");
+	}
+
+	@Override
+	public void glVertexAttribIFormat (int attribindex, int size, int type, int relativeoffset) {
+		gl31.glVertexAttribIFormat(attribindex, size, type, relativeoffset);
+		check("glVertexAttribIFormat");
+	}
+
+	@Override
+	public void glVertexAttribBinding (int attribindex, int bindingindex) {
+		gl31.glVertexAttribBinding(attribindex, bindingindex);
+		check("glVertexAttribBinding");
+	}
+
+	@Override
+	public void glVertexBindingDivisor (int bindingindex, int divisor) {
+		gl31.glVertexBindingDivisor(bindingindex, divisor);
+		check("glVertexBindingDivisor");
+	}
+
+	@Override
+	public void glBlendBarrier () {
+		gl32.glBlendBarrier();
+		check("glBlendBarrier");
+	}
+
+	@Override
+	public void glCopyImageSubData (int srcName, int srcTarget, int srcLevel, int srcX, int srcY, int srcZ, int dstName, int dstTarget, int dstLevel, int dstX, int dstY, int dstZ, int srcWidth, int srcHeight, int srcDepth) {
+		gl32.glCopyImageSubData(srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, srcWidth, srcHeight, srcDepth);
+		check("glCopyImageSubData");
+	}
+
+	@Override
+	public void glDebugMessageControl (int source, int type, int severity, IntBuffer ids, boolean enabled) {
+		gl32.glDebugMessageControl(source, type, severity, ids, enabled);
+		check("glDebugMessageControl");
+	}
+
+	@Override
+	public void glDebugMessageInsert (int source, int type, int id, int severity, String buf) {
+		gl32.glDebugMessageInsert(source, type, id, severity, buf);
+		check("glDebugMessageInsert");
+	}
+
+	@Override
+	public void glDebugMessageCallback (DebugProc callback) {
+		gl32.glDebugMessageCallback(callback);
+		check("glDebugMessageCallback");
+	}
+
+	@Override
+	public int glGetDebugMessageLog (int count, IntBuffer sources, IntBuffer types, IntBuffer ids, IntBuffer severities, IntBuffer lengths, ByteBuffer messageLog) {
+		final int result = gl32.glGetDebugMessageLog(count, sources, types, ids, severities, lengths, messageLog);
+		check("glGetDebugMessageLog");
+		return result;
+	}
+
+	@Override
+	public void glPushDebugGroup (int source, int id, String message) {
+		gl32.glPushDebugGroup(source, id, message);
+		check("glPushDebugGroup");
+	}
+
+	@Override
+	public void glPopDebugGroup () {
+		gl32.glPopDebugGroup();
+		check("glPopDebugGroup");
+	}
+
+	@Override
+	public void glObjectLabel (int identifier, int name, String label) {
+		gl32.glObjectLabel(identifier, name, label);
+		check("glObjectLabel");
+	}
+
+	@Override
+	public String glGetObjectLabel (int identifier, int name) {
+		final String result = gl32.glGetObjectLabel(identifier, name);
+		check("glGetObjectLabel");
+		return result;
+	}
+
+	@Override
+	public long glGetPointerv (int pname) {
+		final long result = gl32.glGetPointerv(pname);
+		check("glGetPointerv");
+		return result;
+	}
+
+	@Override
+	public void glEnablei (int target, int index) {
+		gl32.glEnablei(target, index);
+		check("glEnablei");
+	}
+
+	@Override
+	public void glDisablei (int target, int index) {
+		gl32.glDisablei(target, index);
+		check("glDisablei");
+	}
+
+	@Override
+	public void glBlendEquationi (int buf, int mode) {
+		gl32.glBlendEquationi(buf, mode);
+		check("glBlendEquationi");
+	}
+
+	@Override
+	public void glBlendEquationSeparatei (int buf, int modeRGB, int modeAlpha) {
+		gl32.glBlendEquationSeparatei(buf, modeRGB, modeAlpha);
+		check("glBlendEquationSeparatei");
+	}
+
+	@Override
+	public void glBlendFunci (int buf, int src, int dst) {
+		gl32.glBlendFunci(buf, src, dst);
+		check("glBlendFunci");
+	}
+
+	@Override
+	public void glBlendFuncSeparatei (int buf, int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		gl32.glBlendFuncSeparatei(buf, srcRGB, dstRGB, srcAlpha, dstAlpha);
+		check("glBlendFuncSeparatei");
+	}
+
+	@Override
+	public void glColorMaski (int index, boolean r, boolean g, boolean b, boolean a) {
+		gl32.glColorMaski(index, r, g, b, a);
+		check("glColorMaski");
+	}
+
+	@Override
+	public boolean glIsEnabledi (int target, int index) {
+		final boolean result = gl32.glIsEnabledi(target, index);
+		check("glIsEnabledi");
+		return result;
+	}
+
+	@Override
+	public void glDrawElementsBaseVertex (int mode, int count, int type, Buffer indices, int basevertex) {
+		gl32.glDrawElementsBaseVertex(mode, count, type, indices, basevertex);
+		check("glDrawElementsBaseVertex");
+	}
+
+	@Override
+	public void glDrawRangeElementsBaseVertex (int mode, int start, int end, int count, int type, Buffer indices, int basevertex) {
+		gl32.glDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, basevertex);
+		check("glDrawRangeElementsBaseVertex");
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, Buffer indices, int instanceCount, int basevertex) {
+		gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indices, instanceCount, basevertex);
+		check("glDrawElementsInstancedBaseVertex");
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, int indicesOffset, int instanceCount, int basevertex) {
+		gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indicesOffset, instanceCount, basevertex);
+		check("glDrawElementsInstancedBaseVertex");
+	}
+
+	@Override
+	public void glFramebufferTexture (int target, int attachment, int texture, int level) {
+		gl32.glFramebufferTexture(target, attachment, texture, level);
+		check("glFramebufferTexture");
+	}
+
+	@Override
+	public int glGetGraphicsResetStatus () {
+		final int result = gl32.glGetGraphicsResetStatus();
+		check("glGetGraphicsResetStatus");
+		return result;
+	}
+
+	@Override
+	public void glReadnPixels (int x, int y, int width, int height, int format, int type, int bufSize, Buffer data) {
+		gl32.glReadnPixels(x, y, width, height, format, type, bufSize, data);
+		check("glReadnPixels");
+	}
+
+	@Override
+	public void glGetnUniformfv (int program, int location, FloatBuffer params) {
+		gl32.glGetnUniformfv(program, location, params);
+		check("glGetnUniformfv");
+	}
+
+	@Override
+	public void glGetnUniformiv (int program, int location, IntBuffer params) {
+		gl32.glGetnUniformiv(program, location, params);
+		check("glGetnUniformiv");
+	}
+
+	@Override
+	public void glGetnUniformuiv (int program, int location, IntBuffer params) {
+		gl32.glGetnUniformuiv(program, location, params);
+		check("glGetnUniformuiv");
+	}
+
+	@Override
+	public void glMinSampleShading (float value) {
+		gl32.glMinSampleShading(value);
+		check("glMinSampleShading");
+	}
+
+	@Override
+	public void glPatchParameteri (int pname, int value) {
+		gl32.glPatchParameteri(pname, value);
+		check("glPatchParameteri");
+	}
+
+	@Override
+	public void glTexParameterIiv (int target, int pname, IntBuffer params) {
+		gl32.glTexParameterIiv(target, pname, params);
+		check("glTexParameterIiv");
+	}
+
+	@Override
+	public void glTexParameterIuiv (int target, int pname, IntBuffer params) {
+		gl32.glTexParameterIuiv(target, pname, params);
+		check("glTexParameterIuiv");
+	}
+
+	@Override
+	public void glGetTexParameterIiv (int target, int pname, IntBuffer params) {
+		gl32.glGetTexParameterIiv(target, pname, params);
+		check("glGetTexParameterIiv");
+	}
+
+	@Override
+	public void glGetTexParameterIuiv (int target, int pname, IntBuffer params) {
+		gl32.glGetTexParameterIuiv(target, pname, params);
+		check("glGetTexParameterIuiv");
+	}
+
+	@Override
+	public void glSamplerParameterIiv (int sampler, int pname, IntBuffer param) {
+		gl32.glSamplerParameterIiv(sampler, pname, param);
+		check("glSamplerParameterIiv");
+	}
+
+	@Override
+	public void glSamplerParameterIuiv (int sampler, int pname, IntBuffer param) {
+		gl32.glSamplerParameterIuiv(sampler, pname, param);
+		check("glSamplerParameterIuiv");
+	}
+
+	@Override
+	public void glGetSamplerParameterIiv (int sampler, int pname, IntBuffer params) {
+		gl32.glGetSamplerParameterIiv(sampler, pname, params);
+		check("glGetSamplerParameterIiv");
+	}
+
+	@Override
+	public void glGetSamplerParameterIuiv (int sampler, int pname, IntBuffer params) {
+		gl32.glGetSamplerParameterIuiv(sampler, pname, params);
+		check("glGetSamplerParameterIuiv");
+	}
+
+	@Override
+	public void glTexBuffer (int target, int internalformat, int buffer) {
+		gl32.glTexBuffer(target, internalformat, buffer);
+		check("glTexBuffer");
+	}
+
+	@Override
+	public void glTexBufferRange (int target, int internalformat, int buffer, int offset, int size) {
+		gl32.glTexBufferRange(target, internalformat, buffer, offset, size);
+		check("glTexBufferRange");
+	}
+
+	@Override
+	public void glTexStorage3DMultisample (int target, int samples, int internalformat, int width, int height, int depth, boolean fixedsamplelocations) {
+		gl32.glTexStorage3DMultisample(target, samples, internalformat, width, height, depth, fixedsamplelocations);
+		check("glTexStorage3DMultisample");
+	}
+}
@@ -0,0 +1,615 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.backends.jogamp;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.graphics.GL30;
+
+/** Puts the vertex attribute layouts the application specifies through glEnableVertexAttribArray and glVertexAttribPointer
+ * into vertex array objects and reuses them, so setting up the attributes of a mesh which has been drawn before costs a single
+ * glBindVertexArray. The attribute calls are only recorded, at the next draw call the layout made of the buffer, format, stride,
+ * offset and divisor of each enabled attribute is looked up and the matching vertex array object is bound, or created if there
+ * is none. The element array buffer binding, which is part of the object, is deferred to the draw call as well, or to the next
+ * call operating on the bound element array buffer. Queries of the vertex attributes bring the bound object up to date first, and
+ * the element array buffer and vertex array object bindings are answered with the ones the application made.
+ * <p>
+ * The number of cached objects is bounded, the least recently used one is deleted when a new one doesn't fit. The objects
+ * referencing a buffer are deleted with it. While the application binds a vertex array object of its own the calls pass
+ * through, attributes sourced from client side arrays are set up on vertex array object 0 without caching. Requires GL30. */
+public class JoglVertexArrayCachingGL extends JoglGLDelegate {
+	/** the maximum number of vertex attributes tracked **/
+	private static final int MAX_ATTRIBUTES = 16;
+	/** the ints describing an attribute in a layout **/
+	private static final int ATTRIBUTE_INTS = 7;
+	private static final int INTEGER = 1 << 16;
+	private static final int NORMALIZED = 1 << 17;
+
+	/** The layout of the enabled attributes, the key of the cache. */
+	static class Layout {
+		int[] data;
+		int length;
+		int hash;
+
+		@Override
+		public int hashCode () {
+			return hash;
+		}
+
+		@Override
+		public boolean equals (Object object) {
+			if (!(object instanceof Layout)) return false;
+			final Layout other = (Layout)object;
+			if (other.length != length || other.hash != hash) return false;
+			for (int i = 0; i < length; i++)
+				if (data[i] != other.data[i]) return false;
+			return true;
+		}
+	}
+
+	static class VertexArray {
+		int handle;
+		/** the element array buffer bound to the object **/
+		int elementBuffer;
+	}
+
+	/** The attribute state the application specified for vertex array object 0. */
+	static class Attribute {
+		boolean enabled;
+		/** the array buffer bound when the pointer was set, -1 for a client side array **/
+		int buffer;
+		int size;
+		int type;
+		int flags;
+		int stride;
+		int offset;
+		Buffer pointer;
+		int divisor;
+	}
+
+	private final Attribute[] attributes = new Attribute[MAX_ATTRIBUTES];
+	private final Layout probe = new Layout();
+	private final LinkedHashMap<Layout, VertexArray> cache;
+	private final int capacity;
+	/** the array buffer the application bound **/
+	private int arrayBuffer;
+	/** the element array buffer the application bound for vertex array object 0 **/
+	private int elementBuffer;
+	/** the vertex array object the application bound, the calls pass through while it's not 0 **/
+	private int applicationArray;
+	/** stands for vertex array object 0 **/
+	private final VertexArray defaultArray = new VertexArray();
+	/** the object bound while the application hasn't bound one of its own, one of the cached ones or the default one **/
+	private VertexArray bound = defaultArray;
+	/** whether the attributes have been changed since the bound object was looked up **/
+	private boolean dirty = true;
+	private final int[] handles = new int[1];
+	private int hits, misses, evictions;
+
+	/** @param capacity the maximum number of vertex array objects kept */
+	public JoglVertexArrayCachingGL (GL30 gl30, int capacity) {
+		super(gl30);
+		if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0: " + capacity);
+		this.capacity = capacity;
+		cache = new LinkedHashMap<Layout, VertexArray>(16, 0.75f, true);
+		for (int i = 0; i < MAX_ATTRIBUTES; i++)
+			attributes[i] = new Attribute();
+		probe.data = new int[MAX_ATTRIBUTES * ATTRIBUTE_INTS];
+	}
+
+	/** Forgets the cached objects without deleting them, to be called after the backend has been bound to a new context. */
+	public void invalidate () {
+		cache.clear();
+		defaultArray.elementBuffer = 0;
+		bound = defaultArray;
+		dirty = true;
+		applicationArray = 0;
+		arrayBuffer = 0;
+		elementBuffer = 0;
+		for (int i = 0; i < MAX_ATTRIBUTES; i++) {
+			attributes[i].enabled = false;
+			attributes[i].pointer = null;
+			attributes[i].divisor = 0;
+		}
+	}
+
+	/** @return the number of draw calls which reused a cached vertex array object */
+	public int getHits () {
+		return hits;
+	}
+
+	/** @return the number of vertex array objects created */
+	public int getMisses () {
+		return misses;
+	}
+
+	/** @return the number of vertex array objects deleted to make room for new ones */
+	public int getEvictions () {
+		return evictions;
+	}
+
+	/** @return the number of vertex array objects cached */
+	public int getSize () {
+		return cache.size();
+	}
+
+	public void resetCounters () {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/** @return whether the calls for vertex array object 0 are only recorded */
+	private boolean recording (int index) {
+		return applicationArray == 0 && index < MAX_ATTRIBUTES;
+	}
+
+	/** Binds the vertex array object for the current layout before a draw call. */
+	private void prepare () {
+		if (applicationArray != 0) return;
+		if (dirty) {
+			final Layout layout = layout();
+			if (layout == null) {
+				setUpClientArrays();
+			} else {
+				VertexArray array = cache.get(layout);
+				if (array != null) {
+					hits++;
+					if (array != bound) gl30.glBindVertexArray(array.handle);
+				} else {
+					misses++;
+					array = create(layout);
+				}
+				bound = array;
+				dirty = false;
+			}
+		}
+		bindElementBuffer();
+	}
+
+	@Override
+	public void prepareDraw () {
+		prepare();
+		super.prepareDraw();
+	}
+
+	/** Binds the element array buffer of the application to the bound object if it isn't yet. */
+	private void bindElementBuffer () {
+		if (bound.elementBuffer == elementBuffer) return;
+		gl20.glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, elementBuffer);
+		bound.elementBuffer = elementBuffer;
+	}
+
+	/** Binds the element array buffer of the application before a call operating on the given target. */
+	private void bindBufferTarget (int target) {
+		if (target == GL_ELEMENT_ARRAY_BUFFER && applicationArray == 0) bindElementBuffer();
+	}
+
+	/** @return the layout of the enabled attributes in the probe, null if one of them is sourced from a client side array */
+	private Layout layout () {
+		final int[] data = probe.data;
+		int length = 0;
+		for (int i = 0; i < MAX_ATTRIBUTES; i++) {
+			final Attribute attribute = attributes[i];
+			if (!attribute.enabled) continue;
+			if (attribute.buffer < 0) return null;
+			data[length++] = i;
+			data[length++] = attribute.buffer;
+			data[length++] = attribute.size | attribute.flags;
+			data[length++] = attribute.type;
+			data[length++] = attribute.stride;
+			data[length++] = attribute.offset;
+			data[length++] = attribute.divisor;
+		}
+		int hash = length;
+		for (int i = 0; i < length; i++)
+			hash = hash * 31 + data[i];
+		probe.length = length;
+		probe.hash = hash;
+		return probe;
+	}
+
+	private VertexArray create (Layout probe) {
+		if (cache.size() >= capacity) {
+			final Iterator<Map.Entry<Layout, VertexArray>> eldest = cache.entrySet().iterator();
+			final VertexArray evicted = eldest.next().getValue();
+			// deleting the bound object binds 0
+			if (evicted == bound) bound = defaultArray;
+			handles[0] = evicted.handle;
+			gl30.glDeleteVertexArrays(1, handles, 0);
+			eldest.remove();
+			evictions++;
+		}
+		final VertexArray array = new VertexArray();
+		gl30.glGenVertexArrays(1, handles, 0);
+		array.handle = handles[0];
+		gl30.glBindVertexArray(array.handle);
+		for (int i = 0; i < MAX_ATTRIBUTES; i++) {
+			final Attribute attribute = attributes[i];
+			if (!attribute.enabled) continue;
+			gl20.glBindBuffer(GL_ARRAY_BUFFER, attribute.buffer);
+			if ((attribute.flags & INTEGER) != 0)
+				gl30.glVertexAttribIPointer(i, attribute.size, attribute.type, attribute.stride, attribute.offset);
+			else
+				gl20.glVertexAttribPointer(i, attribute.size, attribute.type, (attribute.flags & NORMALIZED) != 0, attribute.stride,
+					attribute.offset);
+			if (attribute.divisor != 0) gl30.glVertexAttribDivisor(i, attribute.divisor);
+			gl20.glEnableVertexAttribArray(i);
+		}
+		gl20.glBindBuffer(GL_ARRAY_BUFFER, arrayBuffer);
+		final Layout layout = new Layout();
+		layout.data = Arrays.copyOf(probe.data, probe.length);
+		layout.length = probe.length;
+		layout.hash = probe.hash;
+		cache.put(layout, array);
+		return array;
+	}
+
+	/** Sets up the whole attribute state on vertex array object 0, which is the only one client side arrays can be used with. */
+	private void setUpClientArrays () {
+		if (bound != defaultArray) {
+			gl30.glBindVertexArray(0);
+			bound = defaultArray;
+		}
+		for (int i = 0; i < MAX_ATTRIBUTES; i++) {
+			final Attribute attribute = attributes[i];
+			if (!attribute.enabled) {
+				gl20.glDisableVertexAttribArray(i);
+				continue;
+			}
+			if (attribute.buffer < 0) {
+				gl20.glBindBuffer(GL_ARRAY_BUFFER, 0);
+				gl20.glVertexAttribPointer(i, attribute.size, attribute.type, (attribute.flags & NORMALIZED) != 0, attribute.stride,
+					attribute.pointer);
+			} else {
+				gl20.glBindBuffer(GL_ARRAY_BUFFER, attribute.buffer);
+				gl20.glVertexAttribPointer(i, attribute.size, attribute.type, (attribute.flags & NORMALIZED) != 0, attribute.stride,
+					attribute.offset);
+			}
+			gl30.glVertexAttribDivisor(i, attribute.divisor);
+			gl20.glEnableVertexAttribArray(i);
+		}
+		gl20.glBindBuffer(GL_ARRAY_BUFFER, arrayBuffer);
+	}
+
+	/** Deletes the cached objects sourcing the buffer. */
+	private void bufferDeleted (int buffer) {
+		if (buffer == arrayBuffer) arrayBuffer = 0;
+		if (buffer == elementBuffer) elementBuffer = 0;
+		// deleting a buffer only unbinds it from the bound object
+		if (bound != null && bound.elementBuffer == buffer) bound.elementBuffer = 0;
+		for (int i = 0; i < MAX_ATTRIBUTES; i++)
+			if (attributes[i].buffer == buffer) attributes[i].buffer = 0;
+		final Iterator<Map.Entry<Layout, VertexArray>> entries = cache.entrySet().iterator();
+		while (entries.hasNext()) {
+			final Map.Entry<Layout, VertexArray> entry = entries.next();
+			final int[] data = entry.getKey().data;
+			for (int i = 1; i < data.length; i += ATTRIBUTE_INTS) {
+				if (data[i] != buffer) continue;
+				if (entry.getValue() == bound) bound = defaultArray;
+				handles[0] = entry.getValue().handle;
+				gl30.glDeleteVertexArrays(1, handles, 0);
+				entries.remove();
+				break;
+			}
+		}
+		// the other objects keep referencing it until they're bound to another element array buffer
+		for (VertexArray array : cache.values())
+			if (array.elementBuffer == buffer) array.elementBuffer = -1;
+		if (defaultArray.elementBuffer == buffer) defaultArray.elementBuffer = -1;
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		if (target == GL_ARRAY_BUFFER)
+			arrayBuffer = buffer;
+		else if (target == GL_ELEMENT_ARRAY_BUFFER && applicationArray == 0) {
+			elementBuffer = buffer;
+			return;
+		}
+		gl20.glBindBuffer(target, buffer);
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		bufferDeleted(buffer);
+		gl20.glDeleteBuffer(buffer);
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		for (int i = 0; i < n; i++)
+			bufferDeleted(buffers.get(buffers.position() + i));
+		gl20.glDeleteBuffers(n, buffers);
+	}
+
+	@Override
+	public void glBindVertexArray (int array) {
+		applicationArray = array;
+		bound = array == 0 ? defaultArray : null;
+		dirty = true;
+		gl30.glBindVertexArray(array);
+	}
+
+	/** Goes back to recording once the vertex array object of the application is deleted, which binds 0. */
+	private void vertexArrayDeleted (int array) {
+		if (array == 0 || array != applicationArray) return;
+		applicationArray = 0;
+		bound = defaultArray;
+		dirty = true;
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		for (int i = 0; i < n; i++)
+			vertexArrayDeleted(arrays[offset + i]);
+		gl30.glDeleteVertexArrays(n, arrays, offset);
+	}
+
+	@Override
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		for (int i = 0; i < n; i++)
+			vertexArrayDeleted(arrays.get(arrays.position() + i));
+		gl30.glDeleteVertexArrays(n, arrays);
+	}
+
+	@Override
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		bindBufferTarget(target);
+		gl20.glBufferData(target, size, data, usage);
+	}
+
+	@Override
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		bindBufferTarget(target);
+		gl20.glBufferSubData(target, offset, size, data);
+	}
+
+	@Override
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		bindBufferTarget(target);
+		gl20.glGetBufferParameteriv(target, pname, params);
+	}
+
+	@Override
+	public Buffer glMapBufferRange (int target, int offset, int length, int access) {
+		bindBufferTarget(target);
+		return gl30.glMapBufferRange(target, offset, length, access);
+	}
+
+	@Override
+	public void glFlushMappedBufferRange (int target, int offset, int length) {
+		bindBufferTarget(target);
+		gl30.glFlushMappedBufferRange(target, offset, length);
+	}
+
+	@Override
+	public boolean glUnmapBuffer (int target) {
+		bindBufferTarget(target);
+		return gl30.glUnmapBuffer(target);
+	}
+
+	@Override
+	public void glCopyBufferSubData (int readTarget, int writeTarget, int readOffset, int writeOffset, int size) {
+		bindBufferTarget(readTarget);
+		bindBufferTarget(writeTarget);
+		gl30.glCopyBufferSubData(readTarget, writeTarget, readOffset, writeOffset, size);
+	}
+
+	@Override
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		if (applicationArray == 0 && (pname == GL_ELEMENT_ARRAY_BUFFER_BINDING || pname == GL30.GL_VERTEX_ARRAY_BINDING)) {
+			params.put(params.position(), pname == GL_ELEMENT_ARRAY_BUFFER_BINDING ? elementBuffer : 0);
+			return;
+		}
+		gl20.glGetIntegerv(pname, params);
+	}
+
+	@Override
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		prepare();
+		gl20.glGetVertexAttribfv(index, pname, params);
+	}
+
+	@Override
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		prepare();
+		gl20.glGetVertexAttribiv(index, pname, params);
+	}
+
+	@Override
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		prepare();
+		gl20.glGetVertexAttribPointerv(index, pname, pointer);
+	}
+
+	@Override
+	public void glGetVertexAttribIiv (int index, int pname, IntBuffer params) {
+		prepare();
+		gl30.glGetVertexAttribIiv(index, pname, params);
+	}
+
+	@Override
+	public void glGetVertexAttribIuiv (int index, int pname, IntBuffer params) {
+		prepare();
+		gl30.glGetVertexAttribIuiv(index, pname, params);
+	}
+
+	@Override
+	public void glEnableVertexAttribArray (int index) {
+		if (!recording(index)) {
+			gl20.glEnableVertexAttribArray(index);
+			return;
+		}
+		if (!attributes[index].enabled) dirty = true;
+		attributes[index].enabled = true;
+	}
+
+	@Override
+	public void glDisableVertexAttribArray (int index) {
+		if (!recording(index)) {
+			gl20.glDisableVertexAttribArray(index);
+			return;
+		}
+		if (attributes[index].enabled) dirty = true;
+		attributes[index].enabled = false;
+	}
+
+	private void setPointer (int index, int size, int type, int flags, int stride, int offset) {
+		final Attribute attribute = attributes[index];
+		if (attribute.buffer == arrayBuffer && attribute.size == size && attribute.type == type && attribute.flags == flags
+			&& attribute.stride == stride && attribute.offset == offset) return;
+		attribute.buffer = arrayBuffer;
+		attribute.size = size;
+		attribute.type = type;
+		attribute.flags = flags;
+		attribute.stride = stride;
+		attribute.offset = offset;
+		attribute.pointer = null;
+		if (attribute.enabled) dirty = true;
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		if (!recording(indx)) {
+			gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+			return;
+		}
+		setPointer(indx, size, type, normalized ? NORMALIZED : 0, stride, ptr);
+	}
+
+	@Override
+	public void glVertexAttribIPointer (int index, int size, int type, int stride, int offset) {
+		if (!recording(index)) {
+			gl30.glVertexAttribIPointer(index, size, type, stride, offset);
+			return;
+		}
+		setPointer(index, size, type, INTEGER, stride, offset);
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		if (!recording(indx)) {
+			gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+			return;
+		}
+		final Attribute attribute = attributes[indx];
+		attribute.buffer = -1;
+		attribute.size = size;
+		attribute.type = type;
+		attribute.flags = normalized ? NORMALIZED : 0;
+		attribute.stride = stride;
+		attribute.pointer = ptr;
+		dirty = true;
+	}
+
+	@Override
+	public void glVertexAttribDivisor (int index, int divisor) {
+		if (!recording(index)) {
+			gl30.glVertexAttribDivisor(index, divisor);
+			return;
+		}
+		if (attributes[index].divisor == divisor) return;
+		attributes[index].divisor = divisor;
+		if (attributes[index].enabled) dirty = true;
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		prepare();
+		gl20.glDrawArrays(mode, first, count);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		prepare();
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		prepare();
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
+		prepare();
+		gl30.glDrawRangeElements(mode, start, end, count, type, indices);
+	}
+
+	@Override
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
+		prepare();
+		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+	}
+
+	@Override
+	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
+		prepare();
+		gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
+	}
+
+	@Override
+	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
+		prepare();
+		gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+	}
+
+	@Override
+	public void glDrawArraysIndirect (int mode, long indirect) {
+		prepare();
+		gl31.glDrawArraysIndirect(mode, indirect);
+	}
+
+	@Override
+	public void glDrawElementsIndirect (int mode, int type, long indirect) {
+		prepare();
+		gl31.glDrawElementsIndirect(mode, type, indirect);
+	}
+
+	@Override
+	public void glDrawElementsBaseVertex (int mode, int count, int type, Buffer indices, int basevertex) {
+		prepare();
+		gl32.glDrawElementsBaseVertex(mode, count, type, indices, basevertex);
+	}
+
+	@Override
+	public void glDrawRangeElementsBaseVertex (int mode, int start, int end, int count, int type, Buffer indices, int basevertex) {
+		prepare();
+		gl32.glDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, Buffer indices, int instanceCount,
+		int basevertex) {
+		prepare();
+		gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indices, instanceCount, basevertex);
+	}
+
+	@Override
+	public void glDrawElementsInstancedBaseVertex (int mode, int count, int type, int indicesOffset, int instanceCount,
+		int basevertex) {
+		prepare();
+		gl32.glDrawElementsInstancedBaseVertex(mode, count, type, indicesOffset, instanceCount, basevertex);
+	}
+}
@@ -0,0 +1,94 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglClientArrayEmulationGL;
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.badlogic.gdx.graphics.GL20;
+import com.jogamp.opengl.GL2;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+public class JoglClientArrayEmulationGLTest {
+
+    /** Hands out the internal buffer names from 50 on, the backend answers for a compatibility context. */
+    static RecordingGLMock mock() {
+        return new RecordingGLMock().names(50, "glGenBuffer");
+    }
+
+    static JoglClientArrayEmulationGL emulation(RecordingGLMock mock) {
+        return new JoglClientArrayEmulationGL(mock.gl(GL20.class), new JoglGL20(new RecordingGLMock().gl(GL2.class)));
+    }
+
+    static void pointer(GL20 gl, int index, int vertices) {
+        gl.glEnableVertexAttribArray(index);
+        gl.glVertexAttribPointer(index, 4, GL20.GL_FLOAT, false, 0, FloatBuffer.allocate(vertices * 4));
+    }
+
+    @Test
+    public void testArraysOfOneDrawShareTheReservation() {
+        RecordingGLMock mock = mock();
+        JoglClientArrayEmulationGL gl = emulation(mock);
+        // 16384 of the initial 65536 bytes are taken, the first array of the next draw would still fit but not the second
+        pointer(gl, 0, 1024);
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 1024);
+        pointer(gl, 0, 1600);
+        pointer(gl, 1, 1600);
+        mock.calls.clear();
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 1600);
+
+        Assert.assertEquals("glBufferData(" + GL20.GL_ARRAY_BUFFER + ",262144)", mock.calls.get(1));
+        Assert.assertEquals(1, count(mock, "glBufferData("));
+        Assert.assertTrue(mock.calls.contains("glBufferSubData(" + GL20.GL_ARRAY_BUFFER + ",0,25600)"));
+        Assert.assertTrue(mock.calls.contains("glBufferSubData(" + GL20.GL_ARRAY_BUFFER + ",25600,25600)"));
+        Assert.assertTrue(mock.calls.contains("glVertexAttribPointer(0,4," + GL20.GL_FLOAT + ",false,0,0)"));
+        Assert.assertTrue(mock.calls.contains("glVertexAttribPointer(1,4," + GL20.GL_FLOAT + ",false,0,25600)"));
+        Assert.assertEquals(2, gl.getEmulatedDraws());
+        Assert.assertEquals(67584, gl.getUploadBytes());
+    }
+
+    @Test
+    public void testClientIndicesAreStreamed() {
+        RecordingGLMock mock = mock();
+        JoglClientArrayEmulationGL gl = emulation(mock);
+        pointer(gl, 0, 3);
+        gl.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, ShortBuffer.wrap(new short[] {0, 1, 2, 2, 1, 0}));
+        mock.calls.clear();
+        gl.glDrawElements(GL20.GL_TRIANGLES, 3, GL20.GL_UNSIGNED_SHORT, ShortBuffer.wrap(new short[] {0, 1, 2}));
+
+        // the vertices went into the first buffer, the indices follow the previous ones in the second
+        Assert.assertTrue(mock.calls.contains("glBindBuffer(" + GL20.GL_ELEMENT_ARRAY_BUFFER + ",51)"));
+        Assert.assertTrue(mock.calls.contains("glBufferSubData(" + GL20.GL_ELEMENT_ARRAY_BUFFER + ",16,6)"));
+        Assert.assertTrue(mock.calls.contains("glDrawElements(" + GL20.GL_TRIANGLES + ",3," + GL20.GL_UNSIGNED_SHORT + ",16)"));
+        Assert.assertEquals(0, count(mock, "glBufferData("));
+    }
+
+    @Test
+    public void testBindingsAreRestored() {
+        RecordingGLMock mock = mock();
+        JoglClientArrayEmulationGL gl = emulation(mock);
+        gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 7);
+        gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 8);
+        pointer(gl, 0, 3);
+        mock.calls.clear();
+        gl.glDrawElements(GL20.GL_TRIANGLES, 3, GL20.GL_UNSIGNED_SHORT, ShortBuffer.wrap(new short[] {0, 1, 2}));
+
+        Assert.assertEquals("glBindBuffer(" + GL20.GL_ELEMENT_ARRAY_BUFFER + ",8)", mock.calls.get(mock.calls.size() - 1));
+        Assert.assertEquals("glBindBuffer(" + GL20.GL_ARRAY_BUFFER + ",7)", last(mock, "glBindBuffer(" + GL20.GL_ARRAY_BUFFER));
+    }
+
+    static int count(RecordingGLMock mock, String prefix) {
+        int count = 0;
+        for (String call : mock.calls)
+            if (call.startsWith(prefix)) count++;
+        return count;
+    }
+
+    static String last(RecordingGLMock mock, String prefix) {
+        String last = null;
+        for (String call : mock.calls)
+            if (call.startsWith(prefix)) last = call;
+        return last;
+    }
+}
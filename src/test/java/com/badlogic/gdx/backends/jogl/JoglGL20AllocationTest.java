@@ -0,0 +1,105 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglGL20;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+public class JoglGL20AllocationTest {
+    static final int CALLS = 10000;
+
+    /** Answers the calls JoglGL20 makes, writing a fixed id, length and log into the output buffers. */
+    static class MockGL extends RecordingGLMock {
+        MockGL() {
+            recording = false;
+        }
+
+        @Override
+        protected Object answer(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if (name.startsWith("getGL")) return proxy;
+            if (name.equals("isGL2")) return true;
+            if (method.getReturnType() == boolean.class) return false;
+            if (name.startsWith("glGen")) {
+                ((IntBuffer) args[1]).put(0, 42);
+            } else if (name.endsWith("iv")) {
+                ((IntBuffer) args[2]).put(0, 3);
+            } else if (name.endsWith("InfoLog")) {
+                ((IntBuffer) args[2]).put(0, 2);
+                ((ByteBuffer) args[3]).put(0, (byte) 'o').put(1, (byte) 'k');
+            }
+            return null;
+        }
+    }
+
+    interface Call {
+        void run();
+    }
+
+    static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        return threadBean;
+    }
+
+    /** @return the bytes allocated per call, after warming up */
+    static double allocatedPerCall(Call call) {
+        com.sun.management.ThreadMXBean bean = threadBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < CALLS; i++) call.run();
+        long before = bean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < CALLS; i++) call.run();
+        return (bean.getThreadAllocatedBytes(thread) - before) / (double) CALLS;
+    }
+
+    final GL2 gl = new MockGL().gl(GL2.class);
+    final JoglGL20 jogl = new JoglGL20(gl);
+    final IntBuffer ids = ByteBuffer.allocateDirect(4).asIntBuffer();
+
+    @Test
+    public void testSingleObjectGenDeleteDoesNotAllocate() {
+        // the proxy allocates its argument array on every call, which is the baseline the backend must not add to
+        double baseline = allocatedPerCall(new Call() {
+            @Override
+            public void run() {
+                gl.glGenTextures(1, ids);
+                gl.glDeleteTextures(1, ids);
+            }
+        });
+        double backend = allocatedPerCall(new Call() {
+            @Override
+            public void run() {
+                jogl.glDeleteTexture(jogl.glGenTexture());
+                jogl.glDeleteBuffer(jogl.glGenBuffer());
+                jogl.glDeleteFramebuffer(jogl.glGenFramebuffer());
+                jogl.glDeleteRenderbuffer(jogl.glGenRenderbuffer());
+            }
+        });
+        Assert.assertEquals(42, jogl.glGenTexture());
+        Assert.assertTrue("allocated " + backend + " bytes per call, baseline " + baseline, backend - 4 * baseline < 1);
+    }
+
+    @Test
+    public void testInfoLogOnlyAllocatesTheResult() {
+        Assert.assertEquals("ok", jogl.glGetShaderInfoLog(1));
+        Assert.assertEquals("ok", jogl.glGetProgramInfoLog(1));
+        double backend = allocatedPerCall(new Call() {
+            @Override
+            public void run() {
+                jogl.glGetShaderInfoLog(1);
+            }
+        });
+        // the returned string and the proxy's argument arrays, no buffers
+        Assert.assertTrue("allocated " + backend + " bytes per call", backend < 256);
+    }
+}
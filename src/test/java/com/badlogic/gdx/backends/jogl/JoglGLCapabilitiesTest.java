@@ -0,0 +1,88 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglGLCapabilities;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+public class JoglGLCapabilitiesTest {
+
+    final File folder = createFolder();
+
+    static File createFolder() {
+        try {
+            File folder = File.createTempFile("capabilities", "");
+            folder.delete();
+            folder.mkdir();
+            return folder;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @After
+    public void deleteFolder() {
+        for (File file : folder.listFiles()) file.delete();
+        folder.delete();
+    }
+
+    static final String STORED = "version 4.6.0 NVIDIA 535.54\n"
+        + "vendor NVIDIA Corporation\n"
+        + "renderer NVIDIA GeForce RTX 3060/PCIe/SSE2\n"
+        + "extension GL_ARB_buffer_storage\n"
+        + "extension GL_ARB_sync\n"
+        + "limit " + GL20.GL_MAX_TEXTURE_SIZE + " 32768\n"
+        + "limit " + GL20.GL_MAX_VIEWPORT_DIMS + " 32768 16384\n";
+
+    FileHandle file(String name, String contents) {
+        FileHandle file = new FileHandle(new File(folder, name));
+        file.writeString(contents, false, "UTF-8");
+        return file;
+    }
+
+    @Test
+    public void testSaveLoadRoundTrip() {
+        JoglGLCapabilities loaded = JoglGLCapabilities.load(file("first", STORED));
+        Assert.assertNotNull(loaded);
+        FileHandle copy = new FileHandle(folder).child("second");
+        loaded.save(copy);
+        JoglGLCapabilities reloaded = JoglGLCapabilities.load(copy);
+        Assert.assertNotNull(reloaded);
+
+        Assert.assertTrue(loaded.isSameDevice(reloaded));
+        Assert.assertEquals(2, reloaded.getExtensions().size);
+        Assert.assertTrue(reloaded.supportsExtension("GL_ARB_sync"));
+        Assert.assertFalse(reloaded.supportsExtension("GL_ARB"));
+        Assert.assertEquals(32768, reloaded.getLimit(GL20.GL_MAX_TEXTURE_SIZE, 0));
+        Assert.assertArrayEquals(new int[] {32768, 16384}, reloaded.getLimits(GL20.GL_MAX_VIEWPORT_DIMS));
+        Assert.assertEquals(64, reloaded.getLimit(GL20.GL_MAX_VERTEX_ATTRIBS, 64));
+        // saving is stable, so a file which didn't change isn't rewritten differently
+        Assert.assertEquals(copy.readString("UTF-8"), save(reloaded).readString("UTF-8"));
+    }
+
+    FileHandle save(JoglGLCapabilities capabilities) {
+        FileHandle file = new FileHandle(folder).child("third");
+        capabilities.save(file);
+        return file;
+    }
+
+    @Test
+    public void testOtherDriver() {
+        JoglGLCapabilities stored = JoglGLCapabilities.load(file("first", STORED));
+        JoglGLCapabilities updated = JoglGLCapabilities.load(file("second", STORED.replace("535.54", "545.29")));
+        Assert.assertFalse(stored.isSameDevice(updated));
+        Assert.assertFalse(stored.isSameDevice(null));
+    }
+
+    @Test
+    public void testUnreadableFiles() {
+        Assert.assertNull(JoglGLCapabilities.load(new FileHandle(folder).child("missing")));
+        Assert.assertNull(JoglGLCapabilities.load(file("empty", "")));
+        Assert.assertNull(JoglGLCapabilities.load(file("corrupt", STORED + "limit " + GL20.GL_MAX_TEXTURE_SIZE + " big\n")));
+    }
+}
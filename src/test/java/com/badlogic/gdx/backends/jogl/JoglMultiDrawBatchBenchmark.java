@@ -0,0 +1,144 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.jogamp.JoglGraphicsBase;
+import com.badlogic.gdx.backends.jogamp.JoglMultiDrawBatch;
+import com.badlogic.gdx.backends.jogamp.JoglNewtApplication;
+import com.badlogic.gdx.backends.jogamp.JoglNewtApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Draws a grid of small quads packed into one vertex and index buffer with each mode of {@link JoglMultiDrawBatch} the
+ * context supports and logs the draw commands submitted per second. Needs a display, run it by hand with its main method.
+ */
+public class JoglMultiDrawBatchBenchmark extends ApplicationAdapter {
+    static final int QUADS = 16384;
+    static final int WARMUP_FRAMES = 60;
+    static final int FRAMES = 300;
+    static final int[] MODES = {JoglMultiDrawBatch.MODE_INDIRECT, JoglMultiDrawBatch.MODE_MULTI_DRAW,
+            JoglMultiDrawBatch.MODE_LOOP};
+    static final String[] MODE_NAMES = {"indirect", "multi draw", "loop"};
+
+    static final String VERTEX_SHADER = "#version 330 core\n"
+            + "layout(location = 0) in vec2 a_position;\n"
+            + "void main() { gl_Position = vec4(a_position, 0.0, 1.0); }\n";
+    static final String FRAGMENT_SHADER = "#version 330 core\n"
+            + "out vec4 color;\n"
+            + "void main() { color = vec4(1.0); }\n";
+
+    int program;
+    int vertexArray;
+    int vertexBuffer;
+    int indexBuffer;
+    int modeIndex = -1;
+    JoglMultiDrawBatch batch;
+    int frame;
+    long nanos;
+
+    @Override
+    public void create() {
+        final GL30 gl = Gdx.gl30;
+        if (gl == null) throw new GdxRuntimeException("The benchmark requires GL30");
+        program = gl.glCreateProgram();
+        gl.glAttachShader(program, shader(GL30.GL_VERTEX_SHADER, VERTEX_SHADER));
+        gl.glAttachShader(program, shader(GL30.GL_FRAGMENT_SHADER, FRAGMENT_SHADER));
+        gl.glLinkProgram(program);
+
+        // every quad has its own four vertices and shares the six indices through its base vertex
+        final int columns = (int) Math.sqrt(QUADS);
+        final float size = 2f / columns;
+        final FloatBuffer vertices = BufferUtils.newFloatBuffer(QUADS * 8);
+        for (int i = 0; i < QUADS; i++) {
+            final float x = -1 + (i % columns) * size, y = -1 + (i / columns) * size, s = size * 0.8f;
+            vertices.put(x).put(y).put(x + s).put(y).put(x + s).put(y + s).put(x).put(y + s);
+        }
+        vertices.flip();
+        final ShortBuffer indices = BufferUtils.newShortBuffer(6);
+        indices.put(new short[]{0, 1, 2, 2, 3, 0}).flip();
+
+        final IntBuffer handles = BufferUtils.newIntBuffer(1);
+        gl.glGenVertexArrays(1, handles);
+        vertexArray = handles.get(0);
+        gl.glBindVertexArray(vertexArray);
+        vertexBuffer = gl.glGenBuffer();
+        gl.glBindBuffer(GL30.GL_ARRAY_BUFFER, vertexBuffer);
+        gl.glBufferData(GL30.GL_ARRAY_BUFFER, QUADS * 8 * 4, vertices, GL30.GL_STATIC_DRAW);
+        gl.glEnableVertexAttribArray(0);
+        gl.glVertexAttribPointer(0, 2, GL30.GL_FLOAT, false, 0, 0);
+        indexBuffer = gl.glGenBuffer();
+        gl.glBindBuffer(GL30.GL_ELEMENT_ARRAY_BUFFER, indexBuffer);
+        gl.glBufferData(GL30.GL_ELEMENT_ARRAY_BUFFER, 6 * 2, indices, GL30.GL_STATIC_DRAW);
+        gl.glBindVertexArray(0);
+        nextMode();
+    }
+
+    int shader(int type, String source) {
+        final int shader = Gdx.gl.glCreateShader(type);
+        Gdx.gl.glShaderSource(shader, source);
+        Gdx.gl.glCompileShader(shader);
+        return shader;
+    }
+
+    /** Switches to the next supported mode, exits after the last one. */
+    void nextMode() {
+        if (batch != null) batch.dispose();
+        batch = null;
+        while (batch == null && ++modeIndex < MODES.length) {
+            try {
+                batch = ((JoglGraphicsBase) Gdx.graphics).newMultiDrawBatch(QUADS, MODES[modeIndex]);
+            } catch (GdxRuntimeException e) {
+                Gdx.app.log("Benchmark", MODE_NAMES[modeIndex] + ": not supported");
+            }
+        }
+        if (batch == null) {
+            Gdx.app.exit();
+            return;
+        }
+        for (int i = 0; i < QUADS; i++)
+            batch.add(6, 0, i * 4);
+        frame = 0;
+        nanos = 0;
+    }
+
+    @Override
+    public void render() {
+        if (batch == null) return;
+        final GL30 gl = Gdx.gl30;
+        gl.glClear(GL30.GL_COLOR_BUFFER_BIT);
+        gl.glUseProgram(program);
+        gl.glBindVertexArray(vertexArray);
+        final long start = System.nanoTime();
+        batch.draw(GL30.GL_TRIANGLES, GL30.GL_UNSIGNED_SHORT);
+        gl.glFinish();
+        if (frame >= WARMUP_FRAMES) nanos += System.nanoTime() - start;
+        gl.glBindVertexArray(0);
+
+        if (++frame == WARMUP_FRAMES) batch.resetCounters();
+        if (frame == WARMUP_FRAMES + FRAMES) {
+            final double seconds = nanos / 1e9;
+            Gdx.app.log("Benchmark", MODE_NAMES[modeIndex] + ": " + (long) (batch.getDrawnCommands() / seconds)
+                    + " draw commands/s, " + (long) (batch.getCalls() / seconds) + " GL calls/s");
+            nextMode();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (batch != null) batch.dispose();
+    }
+
+    public static void main(String[] args) {
+        final JoglNewtApplicationConfiguration config = new JoglNewtApplicationConfiguration();
+        config.useGL30 = true;
+        config.vSyncEnabled = false;
+        config.title = "JoglMultiDrawBatch benchmark";
+        new JoglNewtApplication(new JoglMultiDrawBatchBenchmark(), config);
+    }
+}
@@ -0,0 +1,165 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglProgramSharingGL;
+import com.badlogic.gdx.graphics.GL20;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.IntBuffer;
+
+public class JoglProgramSharingGLTest {
+
+    /** Hands out shader and program names from 1 on. */
+    static RecordingGLMock mock() {
+        return new RecordingGLMock().names(1, "glCreateShader", "glCreateProgram");
+    }
+
+    static int shader(GL20 gl, int type, String source) {
+        int shader = gl.glCreateShader(type);
+        gl.glShaderSource(shader, source);
+        gl.glCompileShader(shader);
+        return shader;
+    }
+
+    static int program(GL20 gl, int vertex, int fragment) {
+        int program = gl.glCreateProgram();
+        gl.glAttachShader(program, vertex);
+        gl.glAttachShader(program, fragment);
+        gl.glBindAttribLocation(program, 0, "a_position");
+        gl.glLinkProgram(program);
+        return program;
+    }
+
+    @Test
+    public void testIdenticalProgramsAreShared() {
+        RecordingGLMock mock = mock();
+        JoglProgramSharingGL gl = new JoglProgramSharingGL(mock.gl(GL20.class));
+        int vertex1 = shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), fragment1 = shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment");
+        int program1 = program(gl, vertex1, fragment1);
+        int vertex2 = shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), fragment2 = shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment");
+        int program2 = program(gl, vertex2, fragment2);
+
+        Assert.assertEquals(2, gl.getCompiles());
+        Assert.assertEquals(2, gl.getSharedShaders());
+        Assert.assertEquals(1, gl.getLinks());
+        Assert.assertEquals(1, gl.getSharedPrograms());
+        Assert.assertTrue(mock.calls.contains("glAttachShader(" + program2 + "," + vertex1 + ")"));
+        Assert.assertFalse(mock.calls.contains("glLinkProgram(" + program2 + ")"));
+
+        mock.calls.clear();
+        gl.glUseProgram(program2);
+        Assert.assertEquals("glUseProgram(" + program1 + ")", mock.calls.get(0));
+
+        // another attribute binding makes another program
+        int vertex3 = shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), fragment3 = shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment");
+        int program3 = gl.glCreateProgram();
+        gl.glAttachShader(program3, vertex3);
+        gl.glAttachShader(program3, fragment3);
+        gl.glLinkProgram(program3);
+        Assert.assertEquals(2, gl.getLinks());
+    }
+
+    @Test
+    public void testSharedObjectsAreDeletedWithTheirLastReference() {
+        RecordingGLMock mock = mock();
+        JoglProgramSharingGL gl = new JoglProgramSharingGL(mock.gl(GL20.class));
+        int vertex1 = shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), fragment1 = shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment");
+        int program1 = program(gl, vertex1, fragment1);
+        int vertex2 = shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), fragment2 = shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment");
+        int program2 = program(gl, vertex2, fragment2);
+        Assert.assertEquals(3, gl.getLiveObjects());
+
+        // the first program and its shaders go first, their objects live on for the second program
+        mock.calls.clear();
+        gl.glDeleteShader(vertex1);
+        gl.glDeleteShader(fragment1);
+        gl.glDeleteProgram(program1);
+        Assert.assertTrue(mock.calls.isEmpty());
+        gl.glUseProgram(program2);
+        Assert.assertEquals("glUseProgram(" + program1 + ")", mock.calls.get(0));
+
+        mock.calls.clear();
+        gl.glDeleteShader(vertex2);
+        gl.glDeleteShader(fragment2);
+        Assert.assertEquals("glDeleteShader(" + vertex2 + ")", mock.calls.get(0));
+        Assert.assertEquals("glDeleteShader(" + fragment2 + ")", mock.calls.get(1));
+        gl.glDeleteProgram(program2);
+        Assert.assertTrue(mock.calls.contains("glDeleteProgram(" + program2 + ")"));
+        Assert.assertTrue(mock.calls.contains("glDeleteProgram(" + program1 + ")"));
+        Assert.assertTrue(mock.calls.contains("glDeleteShader(" + vertex1 + ")"));
+        Assert.assertTrue(mock.calls.contains("glDeleteShader(" + fragment1 + ")"));
+        Assert.assertEquals(0, gl.getLiveObjects());
+    }
+
+    @Test
+    public void testRelinkingTheSharedProgramLinksTheOthers() {
+        RecordingGLMock mock = mock();
+        JoglProgramSharingGL gl = new JoglProgramSharingGL(mock.gl(GL20.class));
+        int vertex1 = shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), fragment1 = shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment");
+        int program1 = program(gl, vertex1, fragment1);
+        int program2 = program(gl, shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment"));
+
+        mock.calls.clear();
+        gl.glLinkProgram(program1);
+        Assert.assertTrue(mock.calls.contains("glLinkProgram(" + program2 + ")"));
+        mock.calls.clear();
+        gl.glUseProgram(program2);
+        Assert.assertEquals("glUseProgram(" + program2 + ")", mock.calls.get(0));
+    }
+
+    @Test
+    public void testEachProgramKeepsItsUniformValues() {
+        RecordingGLMock mock = mock();
+        JoglProgramSharingGL gl = new JoglProgramSharingGL(mock.gl(GL20.class));
+        int program1 = program(gl, shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment"));
+        int program2 = program(gl, shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment"));
+
+        // the value the location had after linking is read back before the first value reaches it
+        gl.glUseProgram(program1);
+        mock.calls.clear();
+        gl.glUniform1i(5, 1);
+        Assert.assertEquals("glGetUniformiv(" + program1 + ",5)", mock.calls.get(0));
+        Assert.assertEquals("glUniform1i(5,1)", mock.calls.get(1));
+
+        // the second program never set the location and gets the linked value back
+        mock.calls.clear();
+        gl.glUseProgram(program2);
+        Assert.assertEquals("glUseProgram(" + program1 + ")", mock.calls.get(0));
+        Assert.assertEquals("glUniform1iv(5,1)", mock.calls.get(1));
+        Assert.assertEquals(2, mock.calls.size());
+        gl.glUniform2f(6, 1, 2);
+
+        mock.calls.clear();
+        gl.glUseProgram(program1);
+        Assert.assertTrue(mock.calls.contains("glUniform1iv(5,1)"));
+        Assert.assertTrue(mock.calls.contains("glUniform2fv(6,1)"));
+        Assert.assertEquals(3, mock.calls.size());
+
+        // values equal to the ones the object holds aren't set again
+        gl.glUniform2f(6, 1, 2);
+        gl.glUseProgram(program2);
+        mock.calls.clear();
+        gl.glUseProgram(program1);
+        Assert.assertEquals(2, mock.calls.size());
+    }
+
+    @Test
+    public void testQueriesSeeTheValuesOfTheProgram() {
+        RecordingGLMock mock = mock();
+        JoglProgramSharingGL gl = new JoglProgramSharingGL(mock.gl(GL20.class));
+        int program1 = program(gl, shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment"));
+        int program2 = program(gl, shader(gl, GL20.GL_VERTEX_SHADER, "vertex"), shader(gl, GL20.GL_FRAGMENT_SHADER, "fragment"));
+        gl.glUseProgram(program2);
+        gl.glUniform1i(5, 3);
+        gl.glUseProgram(program1);
+        gl.glUniform1i(5, 4);
+
+        mock.calls.clear();
+        IntBuffer params = IntBuffer.allocate(1);
+        gl.glGetUniformiv(program2, 5, params);
+        Assert.assertEquals(3, params.get(0));
+        Assert.assertTrue(mock.calls.isEmpty());
+        gl.glGetUniformiv(program1, 5, params);
+        Assert.assertEquals("glGetUniformiv(" + program1 + ",5)", mock.calls.get(0));
+    }
+}
@@ -0,0 +1,223 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglGLCommandQueue;
+import com.badlogic.gdx.backends.jogamp.JoglRecordingGL;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class JoglRecordingGLTest {
+
+    /** Records every call with the contents of its buffers and arrays as seen at call time. */
+    static class MockGL extends RecordingGLMock {
+        int results;
+
+        GL30 gl() {
+            return gl(GL30.class);
+        }
+
+        @Override
+        protected String format(Method method, Object[] args) {
+            StringBuilder call = new StringBuilder(method.getName()).append('(');
+            for (int i = 0; args != null && i < args.length; i++) {
+                Object arg = args[i];
+                int offset = 0;
+                // array arguments are followed by their offset
+                if ((arg instanceof int[] || arg instanceof float[]) && i + 1 < args.length && args[i + 1] instanceof Integer) {
+                    offset = (Integer) args[++i];
+                }
+                if (arg instanceof int[]) {
+                    int[] array = (int[]) arg;
+                    arg = Arrays.toString(Arrays.copyOfRange(array, offset, array.length));
+                } else if (arg instanceof float[]) {
+                    float[] array = (float[]) arg;
+                    arg = Arrays.toString(Arrays.copyOfRange(array, offset, array.length));
+                } else if (arg instanceof Object[]) {
+                    arg = Arrays.toString((Object[]) arg);
+                } else if (arg instanceof Buffer) {
+                    arg = contents((Buffer) arg);
+                }
+                call.append(arg).append(',');
+            }
+            return call.append(')').toString();
+        }
+
+        @Override
+        protected Object answer(Object proxy, Method method, Object[] args) {
+            Class<?> type = method.getReturnType();
+            if (type == int.class) return ++results;
+            if (type == boolean.class) return ++results % 2 == 0;
+            if (type == String.class) return "result" + ++results;
+            return null;
+        }
+
+        static String contents(Buffer buffer) {
+            StringBuilder builder = new StringBuilder();
+            if (buffer instanceof ByteBuffer) builder.append("bytes");
+            else if (buffer instanceof ShortBuffer) builder.append("shorts");
+            else if (buffer instanceof IntBuffer) builder.append("ints");
+            else if (buffer instanceof FloatBuffer) builder.append("floats");
+            builder.append('[');
+            for (int i = buffer.position(); i < buffer.limit(); i++) {
+                if (buffer instanceof ByteBuffer) builder.append(((ByteBuffer) buffer).get(i));
+                else if (buffer instanceof ShortBuffer) builder.append(((ShortBuffer) buffer).get(i));
+                else if (buffer instanceof IntBuffer) builder.append(((IntBuffer) buffer).get(i));
+                else if (buffer instanceof FloatBuffer) builder.append(((FloatBuffer) buffer).get(i));
+                builder.append(' ');
+            }
+            return builder.append(']').toString();
+        }
+    }
+
+    /** Issues a frame worth of calls, reusing and modifying the client side data right after passing it on. */
+    static List<Object> frame(GL30 gl, int frame) {
+        List<Object> results = new ArrayList<Object>();
+        float[] color = {0, 0, 1, 0.5f, 0.25f, frame};
+        FloatBuffer matrix = ByteBuffer.allocateDirect(64).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        for (int i = 0; i < 16; i++) matrix.put(i, i * frame);
+        FloatBuffer vertices = FloatBuffer.wrap(new float[]{1, 2, 3, 4, 5, 6});
+        ShortBuffer indices = ShortBuffer.wrap(new short[]{0, 1, 2, 2, 1, 0});
+        ByteBuffer pixels = ByteBuffer.allocate(16);
+        pixels.put(3, (byte) frame);
+
+        gl.glClearColor(0.1f, 0.2f, 0.3f, 1f);
+        gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+        results.add(gl.glCreateProgram());
+        gl.glBindAttribLocation(1, 0, "a_position");
+        gl.glUseProgram(1);
+        gl.glUniform4fv(2, 1, color, 2);
+        color[3] = -1;
+        gl.glUniformMatrix4fv(3, 1, false, matrix);
+        matrix.put(0, -1);
+        gl.glDepthMask(false);
+        vertices.position(2);
+        gl.glBufferData(GL20.GL_ARRAY_BUFFER, 16, vertices, GL20.GL_STREAM_DRAW);
+        vertices.put(2, -1);
+        results.add(vertices.position());
+        results.add(gl.glGetError());
+        int texture = gl.glGenTexture();
+        results.add(texture);
+        gl.glBindTexture(GL20.GL_TEXTURE_2D, texture);
+        gl.glTexImage2D(GL20.GL_TEXTURE_2D, 0, GL20.GL_RGBA, 2, 2, 0, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixels);
+        gl.glTexImage2D(GL20.GL_TEXTURE_2D, 1, GL20.GL_RGBA, 1, 1, 0, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, null);
+        pixels.put(3, (byte) -1);
+        gl.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, indices);
+        gl.glDrawBuffers(1, IntBuffer.wrap(new int[]{GL30.GL_COLOR_ATTACHMENT0}));
+        gl.glTransformFeedbackVaryings(1, new String[]{"out_position"}, GL30.GL_INTERLEAVED_ATTRIBS);
+        results.add(gl.glIsEnabled(GL20.GL_BLEND));
+        results.add(gl.glGetString(GL20.GL_VERSION));
+        gl.glDeleteVertexArrays(2, new int[]{7, 8, 9}, 1);
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+        return results;
+    }
+
+    @Test
+    public void testReplayMatchesDirectCalls() {
+        MockGL direct = new MockGL();
+        List<Object> directResults = frame(direct.gl(), 1);
+
+        MockGL replayed = new MockGL();
+        JoglRecordingGL recorder = new JoglRecordingGL(replayed.gl(), null);
+        recorder.setRecordingThread(Thread.currentThread());
+        List<Object> recordedResults = frame(recorder, 1);
+        recorder.flush();
+
+        Assert.assertEquals(direct.calls, replayed.calls);
+        Assert.assertEquals(directResults, recordedResults);
+    }
+
+    @Test
+    public void testArraysAreCopiedAsFarAsTheCallReads() {
+        MockGL replayed = new MockGL();
+        JoglRecordingGL recorder = new JoglRecordingGL(replayed.gl(), null);
+        recorder.setRecordingThread(Thread.currentThread());
+        float[] scratch = new float[1024];
+        scratch[4] = 1;
+        recorder.glUniform2fv(0, 1, scratch, 3);
+        recorder.glDeleteVertexArrays(1, new int[]{7, 8, 9}, 1);
+        recorder.flush();
+
+        Assert.assertEquals("glUniform2fv(0,1,[0.0, 1.0],)", replayed.calls.get(0));
+        Assert.assertEquals("glDeleteVertexArrays(1,[8],)", replayed.calls.get(1));
+    }
+
+    @Test
+    public void testCallsAreDeferredUntilFlush() {
+        MockGL replayed = new MockGL();
+        JoglRecordingGL recorder = new JoglRecordingGL(replayed.gl(), null);
+        recorder.setRecordingThread(Thread.currentThread());
+        recorder.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        recorder.glEnable(GL20.GL_BLEND);
+        Assert.assertTrue(replayed.calls.isEmpty());
+        Assert.assertEquals(2, recorder.getCommands().getCommandCount());
+
+        // synchronous calls replay everything recorded before them
+        recorder.glGetError();
+        Assert.assertEquals(3, replayed.calls.size());
+        recorder.glDisable(GL20.GL_BLEND);
+        Assert.assertEquals(3, replayed.calls.size());
+        recorder.flush();
+        Assert.assertEquals(4, replayed.calls.size());
+    }
+
+    @Test
+    public void testOtherThreadsCallDirectly() throws InterruptedException {
+        MockGL replayed = new MockGL();
+        final JoglRecordingGL recorder = new JoglRecordingGL(replayed.gl(), null);
+        recorder.setRecordingThread(new Thread());
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                recorder.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            }
+        });
+        thread.start();
+        thread.join();
+        Assert.assertEquals(1, replayed.calls.size());
+        Assert.assertTrue(recorder.getCommands().isEmpty());
+    }
+
+    @Test(timeout = 10000)
+    public void testPipelinedFrames() throws InterruptedException {
+        final int frames = 5;
+        MockGL direct = new MockGL();
+        List<Object> directResults = new ArrayList<Object>();
+        for (int i = 0; i < frames; i++) directResults.addAll(frame(direct.gl(), i));
+
+        final MockGL replayed = new MockGL();
+        final GL30 target = replayed.gl();
+        final JoglGLCommandQueue queue = new JoglGLCommandQueue(64);
+        JoglRecordingGL recorder = new JoglRecordingGL(target, queue);
+        recorder.setRecordingThread(Thread.currentThread());
+        Thread glThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (queue.getReplayedFrames() < frames) queue.replay(target, 10);
+            }
+        });
+        glThread.start();
+
+        List<Object> recordedResults = new ArrayList<Object>();
+        for (int i = 0; i < frames; i++) {
+            recordedResults.addAll(frame(recorder, i));
+            recorder.submit();
+        }
+        glThread.join();
+
+        Assert.assertEquals(direct.calls, replayed.calls);
+        Assert.assertEquals(directResults, recordedResults);
+        Assert.assertTrue(queue.getSyncs() > 0);
+    }
+}
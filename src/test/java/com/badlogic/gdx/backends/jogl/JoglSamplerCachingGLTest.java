@@ -0,0 +1,91 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglSamplerCachingGL;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.IntBuffer;
+
+public class JoglSamplerCachingGLTest {
+
+    /** Hands out sampler names from 100 on. */
+    static RecordingGLMock mock() {
+        return new RecordingGLMock().names(100, "glGenSamplers");
+    }
+
+    static String texParameter(int target, int pname, int param) {
+        return "glTexParameteri(" + target + "," + pname + "," + param + ")";
+    }
+
+    @Test
+    public void testParametersMoveIntoSamplers() {
+        RecordingGLMock mock = mock();
+        JoglSamplerCachingGL gl = new JoglSamplerCachingGL(mock.gl(GL30.class), 4);
+        gl.glActiveTexture(GL20.GL_TEXTURE0);
+        gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+        gl.glTexParameteri(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_MIN_FILTER, GL20.GL_LINEAR);
+        gl.glBindTexture(GL20.GL_TEXTURE_2D, 2);
+        gl.glTexParameteri(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_MIN_FILTER, GL20.GL_LINEAR);
+        gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+
+        Assert.assertFalse(mock.calls.contains(texParameter(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_MIN_FILTER, GL20.GL_LINEAR)));
+        // both textures share one sampler, which the unit keeps while they're switched
+        Assert.assertEquals(1, gl.getSamplerCount());
+        Assert.assertEquals(1, gl.getSkippedSamplerBinds());
+        Assert.assertEquals("glBindTexture(" + GL20.GL_TEXTURE_2D + ",1)", mock.calls.get(mock.calls.size() - 1));
+        Assert.assertEquals(2, gl.getAvoidedTexParameters());
+
+        IntBuffer params = IntBuffer.allocate(1);
+        gl.glGetTexParameteriv(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_MIN_FILTER, params);
+        Assert.assertEquals(GL20.GL_LINEAR, params.get(0));
+    }
+
+    /** Loading a cube map binds it to the unit a 2D texture is bound to and unbinds it afterwards, as libgdx does. */
+    @Test
+    public void testTargetsOfOneUnit() {
+        RecordingGLMock mock = mock();
+        JoglSamplerCachingGL gl = new JoglSamplerCachingGL(mock.gl(GL30.class), 4);
+        gl.glActiveTexture(GL20.GL_TEXTURE0);
+        gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+        gl.glTexParameteri(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_MIN_FILTER, GL20.GL_LINEAR);
+
+        // with two targets bound the unit has no sampler and the 2D texture gets its own parameters
+        mock.calls.clear();
+        gl.glBindTexture(GL20.GL_TEXTURE_CUBE_MAP, 2);
+        Assert.assertTrue(mock.calls.contains("glBindSampler(0,0)"));
+        Assert.assertTrue(mock.calls.contains(texParameter(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_MIN_FILTER, GL20.GL_LINEAR)));
+
+        // the parameters go to the texture of their target, not to the one bound last
+        mock.calls.clear();
+        gl.glTexParameteri(GL20.GL_TEXTURE_CUBE_MAP, GL20.GL_TEXTURE_MAG_FILTER, GL20.GL_NEAREST);
+        Assert.assertEquals(1, mock.calls.size());
+        Assert.assertEquals(texParameter(GL20.GL_TEXTURE_CUBE_MAP, GL20.GL_TEXTURE_MAG_FILTER, GL20.GL_NEAREST), mock.calls.get(0));
+        IntBuffer params = IntBuffer.allocate(1);
+        gl.glGetTexParameteriv(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_MAG_FILTER, params);
+        Assert.assertEquals(GL20.GL_LINEAR, params.get(0));
+        gl.glGetTexParameteriv(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_MIN_FILTER, params);
+        Assert.assertEquals(GL20.GL_LINEAR, params.get(0));
+
+        // unbinding the cube map leaves the 2D texture with its sampler
+        mock.calls.clear();
+        gl.glBindTexture(GL20.GL_TEXTURE_CUBE_MAP, 0);
+        Assert.assertEquals("glBindSampler(0,100)", mock.calls.get(mock.calls.size() - 1));
+    }
+
+    @Test
+    public void testDeletedTextureUnbindsItsSampler() {
+        RecordingGLMock mock = mock();
+        JoglSamplerCachingGL gl = new JoglSamplerCachingGL(mock.gl(GL30.class), 4);
+        gl.glActiveTexture(GL20.GL_TEXTURE0);
+        gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+        gl.glTexParameteri(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_WRAP_S, GL20.GL_CLAMP_TO_EDGE);
+        mock.calls.clear();
+        gl.glDeleteTexture(1);
+        Assert.assertEquals("glBindSampler(0,0)", mock.calls.get(0));
+        mock.calls.clear();
+        gl.glTexParameteri(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_WRAP_S, GL20.GL_REPEAT);
+        Assert.assertEquals(texParameter(GL20.GL_TEXTURE_2D, GL20.GL_TEXTURE_WRAP_S, GL20.GL_REPEAT), mock.calls.get(0));
+    }
+}
@@ -0,0 +1,116 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglUniformCachingGL;
+import com.badlogic.gdx.graphics.GL31;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+public class JoglUniformCachingGLTest {
+
+    @Test
+    public void testEqualValuesAreDropped() {
+        RecordingGLMock mock = new RecordingGLMock();
+        JoglUniformCachingGL gl = new JoglUniformCachingGL(mock.gl(GL31.class));
+        gl.glUseProgram(1);
+        gl.glUniform4f(0, 1, 2, 3, 4);
+        gl.glUniform4fv(0, 1, new float[] {1, 2, 3, 4}, 0);
+        gl.glUniform4f(0, 1, 2, 3, 5);
+        Assert.assertEquals(1, gl.getSkippedUploads());
+
+        // another program has its own values, linking forgets them
+        gl.glUseProgram(2);
+        gl.glUniform4f(0, 1, 2, 3, 5);
+        gl.glLinkProgram(2);
+        gl.glUniform4f(0, 1, 2, 3, 5);
+        Assert.assertEquals(1, gl.getSkippedUploads());
+    }
+
+    @Test
+    public void testProgramUniformsUpdateTheCache() {
+        RecordingGLMock mock = new RecordingGLMock();
+        JoglUniformCachingGL gl = new JoglUniformCachingGL(mock.gl(GL31.class));
+        gl.glUseProgram(1);
+        gl.glUniform1i(3, 0);
+        gl.glUseProgram(2);
+
+        // the value of the program not in use changes behind the current one
+        gl.glProgramUniform1i(1, 3, 1);
+        gl.glUseProgram(1);
+        mock.calls.clear();
+        gl.glUniform1i(3, 0);
+        Assert.assertEquals("glUniform1i(3,0)", mock.calls.get(0));
+        gl.glProgramUniform1i(1, 3, 0);
+        Assert.assertEquals(1, mock.calls.size());
+
+        FloatBuffer matrix = FloatBuffer.allocate(16);
+        gl.glProgramUniformMatrix4fv(2, 0, false, matrix);
+        gl.glUseProgram(2);
+        gl.glUniformMatrix4fv(0, 1, false, matrix);
+        Assert.assertEquals(2, gl.getSkippedUploads());
+    }
+
+    @Test
+    public void testArrayElementsInvalidateTheArray() {
+        RecordingGLMock mock = new RecordingGLMock();
+        JoglUniformCachingGL gl = new JoglUniformCachingGL(mock.gl(GL31.class));
+        gl.glUseProgram(1);
+        gl.glUniform1fv(0, 2, new float[] {1, 2}, 0);
+        gl.glUniform1f(1, 3);
+        mock.calls.clear();
+        gl.glUniform1fv(0, 2, new float[] {1, 2}, 0);
+        Assert.assertEquals(1, mock.calls.size());
+    }
+
+    @Test
+    public void testArrayAndBufferVariantsShareValues() {
+        RecordingGLMock mock = new RecordingGLMock();
+        JoglUniformCachingGL gl = new JoglUniformCachingGL(mock.gl(GL31.class));
+        gl.glUseProgram(1);
+        gl.glUniform2fv(0, 2, new float[] {0, 1, 2, 3, 4}, 1);
+        gl.glUniform2fv(0, 2, FloatBuffer.wrap(new float[] {1, 2, 3, 4}));
+        gl.glUniform3iv(4, 1, IntBuffer.wrap(new int[] {5, 6, 7}));
+        gl.glUniform3i(4, 5, 6, 7);
+        Assert.assertEquals(2, gl.getSkippedUploads());
+
+        // the same values with another count or through another entry point family are uploaded
+        gl.glUniform2fv(0, 1, new float[] {1, 2}, 0);
+        gl.glUniform3fv(4, 1, new float[] {5, 6, 7}, 0);
+        Assert.assertEquals(2, gl.getSkippedUploads());
+    }
+
+    @Test
+    public void testMatricesCompareTheirTranspose() {
+        RecordingGLMock mock = new RecordingGLMock();
+        JoglUniformCachingGL gl = new JoglUniformCachingGL(mock.gl(GL31.class));
+        float[] matrix = new float[16];
+        gl.glUseProgram(1);
+        gl.glUniformMatrix4fv(0, 1, false, matrix, 0);
+        gl.glUniformMatrix4fv(0, 1, true, matrix, 0);
+        Assert.assertEquals(0, gl.getSkippedUploads());
+        gl.glUniformMatrix4fv(0, 1, true, FloatBuffer.wrap(matrix));
+        Assert.assertEquals(1, gl.getSkippedUploads());
+
+        // an unsigned vector with the same bits as a 2x2 matrix isn't the same value
+        gl.glUniformMatrix2fv(1, 1, false, new float[4], 0);
+        gl.glUniform4uiv(1, 1, IntBuffer.wrap(new int[4]));
+        Assert.assertEquals(1, gl.getSkippedUploads());
+    }
+
+    @Test
+    public void testDeletedProgramForgetsItsValues() {
+        RecordingGLMock mock = new RecordingGLMock();
+        JoglUniformCachingGL gl = new JoglUniformCachingGL(mock.gl(GL31.class));
+        gl.glUseProgram(1);
+        gl.glUniform1f(0, 1);
+        gl.glDeleteProgram(1);
+        // the name may be handed out again for a new program
+        gl.glUseProgram(1);
+        mock.calls.clear();
+        gl.glUniform1f(0, 1);
+        Assert.assertEquals("glUniform1f(0,1.0)", mock.calls.get(0));
+        Assert.assertEquals(0, gl.getSkippedUploads());
+    }
+}
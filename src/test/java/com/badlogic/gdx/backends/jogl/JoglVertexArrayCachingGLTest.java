@@ -0,0 +1,101 @@
+package com.badlogic.gdx.backends.jogl;
+
+import com.badlogic.gdx.backends.jogamp.JoglVertexArrayCachingGL;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.IntBuffer;
+
+public class JoglVertexArrayCachingGLTest {
+
+    /** Hands out vertex array names from 10 on. */
+    static RecordingGLMock mock() {
+        return new RecordingGLMock().names(10, "glGenVertexArrays");
+    }
+
+    static void setUpMesh(GL30 gl, int buffer) {
+        gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, buffer);
+        gl.glEnableVertexAttribArray(0);
+        gl.glVertexAttribPointer(0, 3, GL20.GL_FLOAT, false, 12, 0);
+    }
+
+    @Test
+    public void testLayoutsAreReused() {
+        RecordingGLMock mock = mock();
+        JoglVertexArrayCachingGL gl = new JoglVertexArrayCachingGL(mock.gl(GL30.class), 4);
+        setUpMesh(gl, 1);
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+        setUpMesh(gl, 2);
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+        setUpMesh(gl, 1);
+        mock.calls.clear();
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+
+        Assert.assertEquals(2, gl.getMisses());
+        Assert.assertEquals(1, gl.getHits());
+        Assert.assertEquals("glBindVertexArray(10)", mock.calls.get(0));
+        Assert.assertFalse(mock.calls.contains("glVertexAttribPointer(0,3,5126,false,12,0)"));
+    }
+
+    @Test
+    public void testDeletedApplicationArrayResumesCaching() {
+        RecordingGLMock mock = mock();
+        JoglVertexArrayCachingGL gl = new JoglVertexArrayCachingGL(mock.gl(GL30.class), 4);
+        gl.glBindVertexArray(5);
+        setUpMesh(gl, 1);
+        Assert.assertTrue(mock.calls.contains("glVertexAttribPointer(0,3,5126,false,12,0)"));
+
+        gl.glDeleteVertexArrays(1, new int[] {5}, 0);
+        mock.calls.clear();
+        setUpMesh(gl, 1);
+        gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+        Assert.assertEquals(1, gl.getMisses());
+        Assert.assertEquals("glGenVertexArrays(1)", mock.calls.get(1));
+    }
+
+    @Test
+    public void testDeferredElementBuffer() {
+        RecordingGLMock mock = mock();
+        JoglVertexArrayCachingGL gl = new JoglVertexArrayCachingGL(mock.gl(GL30.class), 4);
+        gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 7);
+        Assert.assertTrue(mock.calls.isEmpty());
+
+        // the bindings are answered without reaching the driver
+        IntBuffer params = IntBuffer.allocate(1);
+        gl.glGetIntegerv(GL20.GL_ELEMENT_ARRAY_BUFFER_BINDING, params);
+        Assert.assertEquals(7, params.get(0));
+        gl.glGetIntegerv(GL30.GL_VERTEX_ARRAY_BINDING, params);
+        Assert.assertEquals(0, params.get(0));
+        Assert.assertTrue(mock.calls.isEmpty());
+
+        gl.glCopyBufferSubData(GL30.GL_COPY_READ_BUFFER, GL20.GL_ELEMENT_ARRAY_BUFFER, 0, 0, 4);
+        Assert.assertEquals("glBindBuffer(" + GL20.GL_ELEMENT_ARRAY_BUFFER + ",7)", mock.calls.get(0));
+    }
+
+    @Test
+    public void testPrepareDrawAppliesTheDeferredState() {
+        RecordingGLMock mock = mock();
+        JoglVertexArrayCachingGL gl = new JoglVertexArrayCachingGL(mock.gl(GL30.class), 4);
+        setUpMesh(gl, 1);
+        gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 7);
+        mock.calls.clear();
+        // a multi draw call issued on the backend directly needs the object and its element buffer bound beforehand
+        gl.prepareDraw();
+        Assert.assertEquals("glGenVertexArrays(1)", mock.calls.get(0));
+        Assert.assertTrue(mock.calls.contains("glBindBuffer(" + GL20.GL_ELEMENT_ARRAY_BUFFER + ",7)"));
+        Assert.assertEquals(1, gl.getMisses());
+    }
+
+    @Test
+    public void testAttributeQueriesSeeTheLayout() {
+        RecordingGLMock mock = mock();
+        JoglVertexArrayCachingGL gl = new JoglVertexArrayCachingGL(mock.gl(GL30.class), 4);
+        setUpMesh(gl, 1);
+        mock.calls.clear();
+        gl.glGetVertexAttribiv(0, GL20.GL_VERTEX_ATTRIB_ARRAY_ENABLED, IntBuffer.allocate(1));
+        Assert.assertEquals("glGenVertexArrays(1)", mock.calls.get(0));
+        Assert.assertTrue(mock.calls.get(mock.calls.size() - 1).startsWith("glGetVertexAttribiv("));
+    }
+}
@@ -0,0 +1,70 @@
+package com.badlogic.gdx.backends.jogl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A GL interface backed by a proxy which records the calls reaching it as {@code name(arg,arg)}, with the leading number and
+ * boolean arguments, and answers false, 0 or null. Object names can be handed out by the glGen* and glCreate* calls
+ * registered with {@link #names(int, String...)}. Subclasses change how calls are recorded through {@link #format} and what
+ * they return through {@link #answer}.
+ */
+class RecordingGLMock implements InvocationHandler {
+    final List<String> calls = Collections.synchronizedList(new ArrayList<String>());
+    /** whether calls are added to {@link #calls}, off for tests measuring allocations */
+    boolean recording = true;
+    private final Map<String, int[]> names = new HashMap<String, int[]>();
+
+    /** Makes the methods hand out names counting up from first, shared between them. */
+    RecordingGLMock names(int first, String... methods) {
+        int[] next = {first};
+        for (String method : methods) names.put(method, next);
+        return this;
+    }
+
+    <T> T gl(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, this));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        if (recording) calls.add(format(method, args));
+        int[] next = names.get(method.getName());
+        if (next != null) {
+            if (method.getReturnType() == int.class) return next[0]++;
+            // glGen*(n, int[], offset) or glGen*(n, IntBuffer)
+            int n = (Integer) args[0];
+            for (int i = 0; i < n; i++) {
+                if (args[1] instanceof int[]) ((int[]) args[1])[(Integer) args[2] + i] = next[0]++;
+                else ((IntBuffer) args[1]).put(((IntBuffer) args[1]).position() + i, next[0]++);
+            }
+            return null;
+        }
+        return answer(proxy, method, args);
+    }
+
+    protected String format(Method method, Object[] args) {
+        StringBuilder call = new StringBuilder(method.getName()).append('(');
+        for (int i = 0; args != null && i < args.length; i++) {
+            if (!(args[i] instanceof Number || args[i] instanceof Boolean)) break;
+            call.append(i > 0 ? "," : "").append(args[i]);
+        }
+        return call.append(')').toString();
+    }
+
+    protected Object answer(Object proxy, Method method, Object[] args) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        return null;
+    }
+}